@@ -0,0 +1,47 @@
+package com.gearfirst.warehouse.bench;
+
+import com.gearfirst.warehouse.api.shipping.domain.LineStatus;
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+import com.gearfirst.warehouse.api.shipping.domain.ShippingNote;
+import com.gearfirst.warehouse.api.shipping.domain.ShippingNoteLine;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/** 벤치마크 공통 데이터 생성 */
+final class BenchData {
+
+    private BenchData() {
+    }
+
+    static ShippingNote note(long noteId, int lineCount) {
+        List<ShippingNoteLine> lines = new ArrayList<>(lineCount);
+        for (int i = 1; i <= lineCount; i++) {
+            lines.add(ShippingNoteLine.builder()
+                    .lineId((long) i)
+                    .productId(1000L + i)
+                    .productLot("ACM-20261016-P-" + i)
+                    .productCode("P-" + i)
+                    .productName("부품-" + i)
+                    .productImgUrl("/img/p" + i)
+                    .orderedQty(10)
+                    .pickedQty(0)
+                    .status(LineStatus.PENDING)
+                    .build());
+        }
+        return ShippingNote.builder()
+                .noteId(noteId)
+                .branchName("서울지점")
+                .itemKindsNumber(lineCount)
+                .totalQty(lineCount * 10)
+                .warehouseCode("WH1")
+                .shippingNo("OUT-WH1-20261019-" + noteId)
+                .orderId(noteId)
+                .requestedAt(OffsetDateTime.of(2026, 10, 19, 0, 0, 0, 0, ZoneOffset.UTC))
+                .expectedShipDate(OffsetDateTime.of(2026, 10, 21, 0, 0, 0, 0, ZoneOffset.UTC))
+                .status(NoteStatus.IN_PROGRESS)
+                .lines(lines)
+                .build();
+    }
+}
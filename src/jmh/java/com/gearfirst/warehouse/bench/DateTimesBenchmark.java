@@ -0,0 +1,68 @@
+package com.gearfirst.warehouse.bench;
+
+import com.gearfirst.warehouse.common.util.DateTimes;
+import com.gearfirst.warehouse.common.util.DateTimes.DayBounds;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * DateTimes.toKstString / kstDayBounds: 목록/상세 응답마다 시각 필드 수만큼 호출되는 경로.
+ * zoneRules* 는 fast path 도입 전 구현(ZoneId + ISO_OFFSET_DATE_TIME)으로, 비교 기준이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateTimesBenchmark {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private OffsetDateTime utc;
+    private OffsetDateTime kst;
+    private LocalDate day;
+
+    @Setup
+    public void setUp() {
+        utc = OffsetDateTime.of(2026, 10, 19, 3, 15, 30, 123_000_000, ZoneOffset.UTC);
+        kst = utc.withOffsetSameInstant(ZoneOffset.ofHours(9));
+        day = LocalDate.of(2026, 10, 19);
+    }
+
+    @Benchmark
+    public String toKstStringFromUtc() {
+        return DateTimes.toKstString(utc);
+    }
+
+    @Benchmark
+    public String toKstStringFromKst() {
+        return DateTimes.toKstString(kst);
+    }
+
+    @Benchmark
+    public String zoneRulesToKstString() {
+        return utc.atZoneSameInstant(SEOUL).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    @Benchmark
+    public DayBounds kstDayBounds() {
+        return DateTimes.kstDayBounds(day);
+    }
+
+    @Benchmark
+    public DayBounds zoneRulesDayBounds() {
+        var from = day.atStartOfDay(SEOUL).withZoneSameInstant(ZoneOffset.UTC).toOffsetDateTime();
+        var to = day.plusDays(1).atStartOfDay(SEOUL).minusNanos(1).withZoneSameInstant(ZoneOffset.UTC)
+                .toOffsetDateTime();
+        return new DayBounds(from, to);
+    }
+}
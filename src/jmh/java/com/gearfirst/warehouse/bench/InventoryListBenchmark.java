@@ -0,0 +1,105 @@
+package com.gearfirst.warehouse.bench;
+
+import com.gearfirst.warehouse.api.inventory.dto.OnHandDtos.OnHandSummary;
+import com.gearfirst.warehouse.api.inventory.persistence.InventoryOnHandJpaRepository;
+import com.gearfirst.warehouse.api.inventory.persistence.entity.InventoryOnHandEntity;
+import com.gearfirst.warehouse.api.inventory.service.InventoryServiceImpl;
+import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
+import com.gearfirst.warehouse.common.response.PageEnvelope;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * InventoryServiceImpl.listOnHandAdvanced: 전체 로드 → 부품 enrich → 메모리 필터/정렬/페이지 비용.
+ * 부품 5,000종 × 창고(rows/5,000)개. DB 대신 리포지토리 가짜가 미리 만든 목록을 돌려준다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InventoryListBenchmark {
+
+    private static final int PARTS = 5_000;
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private InventoryServiceImpl service;
+
+    @Setup
+    public void setUp() {
+        List<PartEntity> parts = new ArrayList<>(PARTS);
+        for (int i = 1; i <= PARTS; i++) {
+            parts.add(PartEntity.builder()
+                    .id((long) i)
+                    .code("P-" + i)
+                    .name("부품-" + (i % 997) + "-" + i)
+                    .price(1_000 + i)
+                    .safetyStockQty(i % 50)
+                    .build());
+        }
+        Map<Long, PartEntity> partById = new HashMap<>();
+        parts.forEach(p -> partById.put(p.getId(), p));
+
+        var base = OffsetDateTime.of(2026, 10, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        List<InventoryOnHandEntity> onHand = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            onHand.add(InventoryOnHandEntity.builder()
+                    .id((long) i + 1)
+                    .warehouseCode("WH" + (i / PARTS + 1))
+                    .partId((long) (i % PARTS) + 1)
+                    .onHandQty(i % 300)
+                    .supplierName("공급사-" + (i % 40))
+                    .lastUpdatedAt(base.plusMinutes(i))
+                    .build());
+        }
+
+        InventoryOnHandJpaRepository repo = JpaFakes.fake(InventoryOnHandJpaRepository.class, Map.of(
+                "findAll", args -> onHand,
+                "findAllByWarehouseCode", args -> onHand.stream()
+                        .filter(e -> Objects.equals(e.getWarehouseCode(), args[0]))
+                        .toList()));
+        PartJpaRepository partRepo = JpaFakes.fake(PartJpaRepository.class, Map.of(
+                "findAllById", args -> {
+                    List<PartEntity> out = new ArrayList<>();
+                    for (Object id : (Iterable<?>) args[0]) {
+                        var p = partById.get(id);
+                        if (p != null) {
+                            out.add(p);
+                        }
+                    }
+                    return out;
+                }));
+        service = new InventoryServiceImpl(repo, partRepo);
+    }
+
+    @Benchmark
+    public PageEnvelope<OnHandSummary> allDefaultSort() {
+        return service.listOnHandAdvanced(null, null, null, null, null, null, null, null, 0, 50, null);
+    }
+
+    @Benchmark
+    public PageEnvelope<OnHandSummary> keywordFilter() {
+        return service.listOnHandAdvanced("P-12", null, null, null, null, null, null, null, 0, 50, null);
+    }
+
+    @Benchmark
+    public PageEnvelope<OnHandSummary> warehouseQtyRangeSortByQty() {
+        return service.listOnHandAdvanced(null, null, null, null, "WH2", null, 10, 200, 0, 50,
+                List.of("onHandQty,desc", "partCode,asc"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.gearfirst.warehouse.bench;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Spring Data 리포지토리 인터페이스의 최소 가짜 구현 (벤치마크 전용).
+ * handlers에 등록한 메서드 이름만 응답하고 나머지는 UnsupportedOperationException.
+ */
+final class JpaFakes {
+
+    private JpaFakes() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T fake(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            var h = handlers.get(method.getName());
+            if (h != null) {
+                return h.apply(args == null ? new Object[0] : args);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Fake";
+                };
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
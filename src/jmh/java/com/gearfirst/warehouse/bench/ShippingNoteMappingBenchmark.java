@@ -0,0 +1,61 @@
+package com.gearfirst.warehouse.bench;
+
+import com.gearfirst.warehouse.api.shipping.domain.ShippingNote;
+import com.gearfirst.warehouse.api.shipping.persistence.ShippingNoteJpaRepository;
+import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingNoteEntity;
+import com.gearfirst.warehouse.api.shipping.repository.ShippingNoteJpaRepositoryAdapter;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ShippingNoteJpaRepositoryAdapter 매핑 비용.
+ * - findById: toDomain (entity → domain)
+ * - save: toEntity + toDomain 왕복. JPA save는 입력을 그대로 돌려주는 가짜.
+ * 시각 필드는 OffsetDateTime 그대로 전달되므로 매핑 구간에서 문자열 포맷/파싱이 없다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShippingNoteMappingBenchmark {
+
+    private static final long NOTE_ID = 900_002L;
+
+    @Param({"10", "100", "1000"})
+    public int lines;
+
+    private ShippingNoteJpaRepositoryAdapter adapter;
+    private ShippingNote domain;
+
+    @Setup
+    public void setUp() {
+        ShippingNoteEntity[] stored = new ShippingNoteEntity[1];
+        ShippingNoteJpaRepository jpa = JpaFakes.fake(ShippingNoteJpaRepository.class, Map.of(
+                "save", args -> args[0],
+                "findById", args -> Optional.ofNullable(stored[0])));
+        adapter = new ShippingNoteJpaRepositoryAdapter(jpa);
+        domain = BenchData.note(NOTE_ID, lines);
+        // findById가 돌려줄 엔티티는 adapter의 toEntity 경로로 한 번 만들어 둔다
+        ShippingNoteJpaRepository capture = JpaFakes.fake(ShippingNoteJpaRepository.class, Map.of(
+                "save", args -> stored[0] = (ShippingNoteEntity) args[0]));
+        new ShippingNoteJpaRepositoryAdapter(capture).save(domain);
+    }
+
+    @Benchmark
+    public Optional<ShippingNote> toDomain() {
+        return adapter.findById(NOTE_ID);
+    }
+
+    @Benchmark
+    public ShippingNote toEntityAndBack() {
+        return adapter.save(domain);
+    }
+}
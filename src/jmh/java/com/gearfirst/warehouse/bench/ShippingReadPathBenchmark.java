@@ -0,0 +1,72 @@
+package com.gearfirst.warehouse.bench;
+
+import com.gearfirst.warehouse.api.shipping.dto.ShippingNoteDetailResponse;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingNoteSummaryResponse;
+import com.gearfirst.warehouse.api.shipping.persistence.ShippingNoteJpaRepository;
+import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingNoteEntity;
+import com.gearfirst.warehouse.api.shipping.repository.ShippingNoteJpaRepositoryAdapter;
+import com.gearfirst.warehouse.api.shipping.service.ShippingServiceImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 출고 조회 경로 (entity → domain → 응답 DTO). KST 문자열 변환은 DTO 생성 시 1회만 일어난다.
+ * 할당량 비교: ./gradlew jmh -PjmhIncludes=ShippingReadPath -PjmhProfilers=gc (gc.alloc.rate.norm = B/op)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShippingReadPathBenchmark {
+
+    private static final long DETAIL_NOTE_ID = 900_003L;
+
+    @Param({"100", "1000"})
+    public int notes;
+
+    private ShippingServiceImpl service;
+
+    @Setup
+    public void setUp() {
+        List<ShippingNoteEntity> stored = new ArrayList<>(notes);
+        ShippingNoteJpaRepository capture = JpaFakes.fake(ShippingNoteJpaRepository.class, Map.of(
+                "save", args -> {
+                    stored.add((ShippingNoteEntity) args[0]);
+                    return args[0];
+                }));
+        var captureAdapter = new ShippingNoteJpaRepositoryAdapter(capture);
+        captureAdapter.save(BenchData.note(DETAIL_NOTE_ID, 100));
+        ShippingNoteEntity detail = stored.get(0);
+        for (int i = 1; i <= notes; i++) {
+            captureAdapter.save(BenchData.note(DETAIL_NOTE_ID + i, 3));
+        }
+        List<ShippingNoteEntity> notDone = List.copyOf(stored.subList(1, stored.size()));
+
+        ShippingNoteJpaRepository jpa = JpaFakes.fake(ShippingNoteJpaRepository.class, Map.of(
+                "findById", args -> Optional.of(detail),
+                "findAllByStatusNotIn", args -> notDone));
+        // 읽기 경로만 측정하므로 재고/ATP/예약 협력자는 쓰지 않는다
+        service = new ShippingServiceImpl(new ShippingNoteJpaRepositoryAdapter(jpa), null, null, null, null, null,
+                null, null);
+    }
+
+    @Benchmark
+    public ShippingNoteDetailResponse getDetail() {
+        return service.getDetail(DETAIL_NOTE_ID);
+    }
+
+    @Benchmark
+    public List<ShippingNoteSummaryResponse> getNotDone() {
+        return service.getNotDone(null);
+    }
+}
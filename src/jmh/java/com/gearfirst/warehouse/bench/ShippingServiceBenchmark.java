@@ -0,0 +1,129 @@
+package com.gearfirst.warehouse.bench;
+
+import com.gearfirst.warehouse.api.inventory.dto.AtpDtos.AtpItem;
+import com.gearfirst.warehouse.api.inventory.dto.OnHandDtos.OnHandSummary;
+import com.gearfirst.warehouse.api.inventory.service.AtpService;
+import com.gearfirst.warehouse.api.inventory.service.InventoryService;
+import com.gearfirst.warehouse.api.inventory.service.ReservationService;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingNoteDetailResponse;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingRecalcResponse;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingUpdateLineRequest;
+import com.gearfirst.warehouse.api.shipping.repository.InMemoryShippingNoteRepository;
+import com.gearfirst.warehouse.api.shipping.service.OnHandProvider;
+import com.gearfirst.warehouse.api.shipping.service.ShippingServiceImpl;
+import com.gearfirst.warehouse.common.response.PageEnvelope;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** ShippingServiceImpl.updateLine / checkShippable: 전표 라인 수별 비용 */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShippingServiceBenchmark {
+
+    private static final long NOTE_ID = 900_001L;
+
+    @Param({"10", "100", "1000"})
+    public int lines;
+
+    private InMemoryShippingNoteRepository repo;
+    private ShippingServiceImpl service;
+    private long targetLineId;
+    private ShippingUpdateLineRequest request;
+
+    @Setup
+    public void setUp() {
+        repo = new InMemoryShippingNoteRepository();
+        OnHandProvider onHand = (warehouseCode, productId) -> 1_000;
+        service = new ShippingServiceImpl(repo, onHand, new NoOpInventory(), null, null, null,
+                new OnHandAtp(onHand), new GrantAllReservations());
+        targetLineId = lines / 2 + 1; // 중간 라인 (선형 탐색 평균 비용)
+        request = new ShippingUpdateLineRequest(5);
+        // on-hand가 충분하므로 반복 호출해도 상태가 IN_PROGRESS로 유지된다 (매 호출 동일 경로)
+        repo.save(BenchData.note(NOTE_ID, lines));
+    }
+
+    @Benchmark
+    public ShippingNoteDetailResponse updateLine() {
+        return service.updateLine(NOTE_ID, targetLineId, request);
+    }
+
+    @Benchmark
+    public ShippingRecalcResponse checkShippable() {
+        return service.checkShippable(NOTE_ID, false, null);
+    }
+
+    private static final class NoOpInventory implements InventoryService {
+        @Override
+        public PageEnvelope<OnHandSummary> listOnHand(String warehouseCode, String partKeyword, String supplierName,
+                                                      Integer minQty, Integer maxQty, int page, int size,
+                                                      List<String> sort) {
+            return PageEnvelope.of(List.of(), page, size, 0);
+        }
+
+        @Override
+        public void increase(String warehouseCode, Long partId, int qty) {
+        }
+
+        @Override
+        public void decrease(String warehouseCode, Long partId, int qty) {
+        }
+    }
+
+    /** 수요 0, on-hand만으로 ATP (DB 조회 비용 제외) */
+    private record OnHandAtp(OnHandProvider onHand) implements AtpService {
+        @Override
+        public List<AtpItem> getAtp(String warehouseCode, Collection<Long> partIds) {
+            return List.copyOf(getAtpByPart(warehouseCode, partIds).values());
+        }
+
+        @Override
+        public Map<Long, AtpItem> getAtpByPart(String warehouseCode, Collection<Long> partIds) {
+            Map<Long, AtpItem> out = new LinkedHashMap<>();
+            for (Long id : partIds) {
+                int qty = onHand.getOnHandQty(warehouseCode, id);
+                out.put(id, new AtpItem(warehouseCode, id, qty, 0, qty));
+            }
+            return out;
+        }
+
+        @Override
+        public void adjustOpenDemand(String warehouseCode, Map<Long, Integer> deltaByPart) {
+        }
+    }
+
+    private static final class GrantAllReservations implements ReservationService {
+        @Override
+        public boolean reserve(String warehouseCode, Long partId, Long noteId, Long lineId, int qty) {
+            return true;
+        }
+
+        @Override
+        public void releaseLine(Long noteId, Long lineId) {
+        }
+
+        @Override
+        public void releaseNote(Long noteId) {
+        }
+
+        @Override
+        public void consumeNote(Long noteId) {
+        }
+
+        @Override
+        public int releaseExpired() {
+            return 0;
+        }
+    }
+}
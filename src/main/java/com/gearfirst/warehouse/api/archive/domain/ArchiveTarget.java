@@ -0,0 +1,69 @@
+package com.gearfirst.warehouse.api.archive.domain;
+
+import java.util.List;
+
+/**
+ * 보관 대상 전표 종류. 원본/보관 테이블과 옮길 컬럼 목록(원본과 보관이 같은 이름)을 가진다.
+ * 컬럼 순서가 환경(Flyway/ddl-auto)마다 다를 수 있으므로 insert-select는 항상 이름으로 나열한다.
+ */
+public enum ArchiveTarget {
+    SHIPPING(
+            "shipping_note", "shipping_note_line",
+            "note_id, branch_name, item_kinds_number, total_qty, warehouse_code, shipping_no, order_id, requested_at, "
+                    + "expected_ship_date, shipped_at, assignee_name, assignee_dept, assignee_phone, remark, status, "
+                    + "completed_at, created_at, updated_at",
+            "line_id, note_id, product_id, product_lot, product_code, product_name, product_img_url, ordered_qty, "
+                    + "picked_qty, status, remark",
+            List.of("COMPLETED", "DELAYED")),
+    RECEIVING(
+            "receiving_note", "receiving_note_line",
+            "note_id, supplier_name, item_kinds_number, total_qty, warehouse_code, receiving_no, requested_at, "
+                    + "expected_receive_date, received_at, inspector_name, inspector_dept, inspector_phone, remark, "
+                    + "status, completed_at, created_at, updated_at",
+            "line_id, note_id, product_id, product_lot, product_code, product_name, product_img_url, ordered_qty, "
+                    + "inspected_qty, status, remark, created_at, updated_at",
+            List.of("COMPLETED_OK", "COMPLETED_ISSUE"));
+
+    private final String noteTable;
+    private final String lineTable;
+    private final String noteColumns;
+    private final String lineColumns;
+    private final List<String> doneStatuses;
+
+    ArchiveTarget(String noteTable, String lineTable, String noteColumns, String lineColumns,
+                  List<String> doneStatuses) {
+        this.noteTable = noteTable;
+        this.lineTable = lineTable;
+        this.noteColumns = noteColumns;
+        this.lineColumns = lineColumns;
+        this.doneStatuses = doneStatuses;
+    }
+
+    public String noteTable() {
+        return noteTable;
+    }
+
+    public String lineTable() {
+        return lineTable;
+    }
+
+    public String noteArchiveTable() {
+        return noteTable + "_archive";
+    }
+
+    public String lineArchiveTable() {
+        return lineTable + "_archive";
+    }
+
+    public String noteColumns() {
+        return noteColumns;
+    }
+
+    public String lineColumns() {
+        return lineColumns;
+    }
+
+    public List<String> doneStatuses() {
+        return doneStatuses;
+    }
+}
@@ -0,0 +1,63 @@
+package com.gearfirst.warehouse.api.archive.persistence;
+
+import com.gearfirst.warehouse.api.archive.domain.ArchiveTarget;
+import java.time.OffsetDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 완료 전표를 원본 → 보관 테이블로 옮기는 JDBC 경로 (JPA 리스너/영속성 컨텍스트를 거치지 않는다).
+ * daily_ops_rollup은 JPA insert/update 리스너로만 갱신되므로 여기서의 delete는 리포트 수치에 영향이 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoteArchiveJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * cutoff 이전에 완료된 전표를 최대 limit건 옮긴다. 호출자 트랜잭션 안에서 실행해야 한다.
+     * 선택한 전표는 FOR UPDATE SKIP LOCKED로 잠가 다른 인스턴스의 같은 작업/동시 수정과 겹치지 않는다.
+     *
+     * @return 옮긴 전표 수
+     */
+    public int moveCompletedBefore(ArchiveTarget target, OffsetDateTime cutoff, int limit, OffsetDateTime now) {
+        List<Long> ids = jdbc.queryForList("""
+                select note_id from %s
+                 where status in (:statuses) and completed_at < :cutoff
+                 order by completed_at, note_id
+                 limit :limit
+                 for update skip locked
+                """.formatted(target.noteTable()),
+                new MapSqlParameterSource()
+                        .addValue("statuses", target.doneStatuses())
+                        .addValue("cutoff", cutoff)
+                        .addValue("limit", limit),
+                Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        var params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("now", now);
+        jdbc.update("insert into %s (%s, archived_at) select %s, :now from %s where note_id in (:ids)"
+                .formatted(target.noteArchiveTable(), target.noteColumns(), target.noteColumns(), target.noteTable()),
+                params);
+        jdbc.update("insert into %s (%s) select %s from %s where note_id in (:ids)"
+                .formatted(target.lineArchiveTable(), target.lineColumns(), target.lineColumns(), target.lineTable()),
+                params);
+        jdbc.update("delete from %s where note_id in (:ids)".formatted(target.lineTable()), params);
+        jdbc.update("delete from %s where note_id in (:ids)".formatted(target.noteTable()), params);
+        return ids.size();
+    }
+
+    /** 보관 테이블의 가장 늦은 requested_at. 비어 있으면 null */
+    public OffsetDateTime findLatestArchivedRequestedAt(ArchiveTarget target) {
+        return jdbc.getJdbcTemplate().query(
+                "select max(requested_at) from %s".formatted(target.noteArchiveTable()),
+                rs -> rs.next() ? rs.getObject(1, OffsetDateTime.class) : null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.gearfirst.warehouse.api.archive.service;
+
+import com.gearfirst.warehouse.api.archive.domain.ArchiveTarget;
+import com.gearfirst.warehouse.api.archive.persistence.NoteArchiveJdbcRepository;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 조회가 보관 테이블까지 봐야 하는지 판단한다.
+ * 보관 테이블의 최대 requested_at을 TTL 동안 캐시하고, 조회 하한이 그 이하일 때만 보관 구간에 걸친 것으로 본다.
+ * 다른 인스턴스가 보관한 결과는 TTL 안에 반영된다 (이 인스턴스의 보관 작업은 즉시 {@link #invalidate}).
+ */
+@Component
+public class NoteArchiveHorizon {
+
+    private record Snapshot(OffsetDateTime latestRequestedAt, long loadedAtMs) {
+    }
+
+    private final NoteArchiveJdbcRepository repository;
+    private final long ttlMs;
+    private final Map<ArchiveTarget, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public NoteArchiveHorizon(NoteArchiveJdbcRepository repository,
+                              @Value("${warehouse.archive.horizon-cache-ttl-ms:60000}") long ttlMs) {
+        this.repository = repository;
+        this.ttlMs = Math.max(0, ttlMs);
+    }
+
+    /** 요청일 하한이 fromInclusive인 조회에 보관 전표가 포함될 수 있으면 true */
+    public boolean reaches(ArchiveTarget target, OffsetDateTime fromInclusive) {
+        OffsetDateTime latest = latestArchivedRequestedAt(target);
+        return latest != null && (fromInclusive == null || !fromInclusive.isAfter(latest));
+    }
+
+    public void invalidate(ArchiveTarget target) {
+        snapshots.remove(target);
+    }
+
+    private OffsetDateTime latestArchivedRequestedAt(ArchiveTarget target) {
+        long now = System.currentTimeMillis();
+        Snapshot s = snapshots.get(target);
+        if (s == null || now - s.loadedAtMs() >= ttlMs) {
+            s = new Snapshot(repository.findLatestArchivedRequestedAt(target), now);
+            snapshots.put(target, s);
+        }
+        return s.latestRequestedAt();
+    }
+}
@@ -0,0 +1,75 @@
+package com.gearfirst.warehouse.api.archive.service;
+
+import com.gearfirst.warehouse.api.archive.domain.ArchiveTarget;
+import com.gearfirst.warehouse.api.archive.persistence.NoteArchiveJdbcRepository;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 완료 전표 보관 작업.
+ * - 완료(completedAt) 후 retention-days가 지난 출고/입고 전표와 라인을 보관 테이블로 옮긴다.
+ * - batch-size 단위로 각자 트랜잭션에서 처리하므로 원본 테이블 잠금이 짧고, 중간에 실패해도 앞선 batch는 유지된다.
+ * - 가득 찬 batch면 이어서 처리하고, 대상이 없으면 종료한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "warehouse.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NoteArchiveJob {
+
+    private final NoteArchiveJdbcRepository repository;
+    private final NoteArchiveHorizon horizon;
+    private final TransactionTemplate txTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public NoteArchiveJob(NoteArchiveJdbcRepository repository,
+                          NoteArchiveHorizon horizon,
+                          PlatformTransactionManager txManager,
+                          @Value("${warehouse.archive.retention-days:90}") long retentionDays,
+                          @Value("${warehouse.archive.batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.horizon = horizon;
+        this.txTemplate = new TransactionTemplate(txManager);
+        this.retention = Duration.ofDays(Math.max(1, retentionDays));
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(cron = "${warehouse.archive.cron:0 30 3 * * *}")
+    public void run() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        for (ArchiveTarget target : ArchiveTarget.values()) {
+            archive(target, now);
+        }
+    }
+
+    /** @return 옮긴 전표 수 */
+    public long archive(ArchiveTarget target, OffsetDateTime now) {
+        var cutoff = now.minus(retention);
+        long total = 0;
+        int moved;
+        try {
+            do {
+                Integer n = txTemplate.execute(status ->
+                        repository.moveCompletedBefore(target, cutoff, batchSize, now));
+                moved = n == null ? 0 : n;
+                total += moved;
+            } while (moved >= batchSize);
+        } finally {
+            if (total > 0) {
+                horizon.invalidate(target);
+            }
+        }
+        if (total > 0) {
+            log.info("Note archive: {} {} notes completed before {}", total, target, cutoff);
+        }
+        return total;
+    }
+}
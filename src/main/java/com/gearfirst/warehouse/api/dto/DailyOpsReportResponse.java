@@ -0,0 +1,34 @@
+package com.gearfirst.warehouse.api.dto;
+
+import java.util.List;
+
+/**
+ * 기간(KST 로컬일 from..to) 일자별 운영 리포트 (daily_ops_rollup 기준).
+ * requested/pending/inProgress/doneOk/doneIssue는 요청일 기준 현재 상태별 전표 수,
+ * completed/unitsCompleted/delayed는 해당 일자에 발생한 완료·지연 건수와 완료 수량이다.
+ */
+public record DailyOpsReportResponse(
+    String from,
+    String to,
+    String warehouseCode,
+    List<Day> days
+) {
+    public record Day(
+        String date,
+        Ops receiving,
+        Ops shipping
+    ) {}
+
+    public record Ops(
+        long requested,
+        long pending,
+        long inProgress,
+        long doneOk,
+        long doneIssue,
+        long completed,
+        long unitsCompleted,
+        long delayed
+    ) {
+        public static final Ops EMPTY = new Ops(0, 0, 0, 0, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.gearfirst.warehouse.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기간(KST 로컬일 from..to) 동안 일자별 입/출고 전표 건수 (requestedAt 기준).
+ * days는 기간 내 모든 날짜를 포함하며(건수 0 포함), byStatus는 각 상태 enum 순서로 모든 키를 가진다.
+ */
+public record NoteCountsRangeResponse(
+    String from,
+    String to,
+    String warehouseCode,
+    List<Day> days
+) {
+    public record Day(
+        String date,
+        long receivingCount,
+        long shippingCount,
+        Map<String, Long> receivingByStatus,
+        Map<String, Long> shippingByStatus
+    ) {}
+}
@@ -1,10 +1,16 @@
 package com.gearfirst.warehouse.api.dto;
 
+import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+// outbox relay가 JSON에서 복원할 수 있도록 기본 생성자 제공
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class NotificationDto {
     private Long id;
     private String eventId;
@@ -12,4 +18,8 @@ public class NotificationDto {
     private String message;
     private String receiver;
     private boolean read = false;
+    private String warehouseCode;
+    // 묶음 알림일 때만 채워짐 (count건, 대상 noteIds)
+    private Integer count;
+    private List<Long> noteIds;
 }
@@ -0,0 +1,47 @@
+package com.gearfirst.warehouse.api.inbound;
+
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.IngestResult;
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.OrderEvent;
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.PurchaseOrderEvent;
+import com.gearfirst.warehouse.api.inbound.service.InboundIngestService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문/발주 이벤트 batch 리스너.
+ * 불량 레코드는 BatchListenerFailedException(index)로 알려 KafkaConfig의 DefaultErrorHandler가
+ * 앞선 offset은 커밋하고, 해당 레코드만 재시도 후 DLT(원본토픽.DLT)로 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "warehouse.inbound", name = "enabled", havingValue = "true")
+public class InboundEventListener {
+
+    private final InboundIngestService ingestService;
+
+    @KafkaListener(
+            id = "inbound-orders",
+            topics = "${warehouse.inbound.order-topic:order-created}",
+            containerFactory = "inboundBatchListenerContainerFactory")
+    public void onOrders(List<OrderEvent> events) {
+        raiseIfFailed(ingestService.ingestOrders(events));
+    }
+
+    @KafkaListener(
+            id = "inbound-purchase-orders",
+            topics = "${warehouse.inbound.purchase-order-topic:purchase-order-created}",
+            containerFactory = "inboundBatchListenerContainerFactory")
+    public void onPurchaseOrders(List<PurchaseOrderEvent> events) {
+        raiseIfFailed(ingestService.ingestPurchaseOrders(events));
+    }
+
+    private static void raiseIfFailed(IngestResult result) {
+        if (result.failed()) {
+            throw new BatchListenerFailedException(result.failureReason(), result.failedIndex());
+        }
+    }
+}
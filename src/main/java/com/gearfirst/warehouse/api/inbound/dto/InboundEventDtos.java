@@ -0,0 +1,52 @@
+package com.gearfirst.warehouse.api.inbound.dto;
+
+import java.util.List;
+
+public class InboundEventDtos {
+
+    /** 주문 이벤트 → 출고 전표. requestedAt은 ISO-8601 offset 문자열 */
+    public record OrderEvent(
+            String eventId,
+            String warehouseCode,
+            String branchName,
+            Long orderId,
+            String requestedAt,
+            String expectedShipDate,
+            String remark,
+            List<Line> lines
+    ) {
+    }
+
+    /** 발주 이벤트 → 입고 전표 */
+    public record PurchaseOrderEvent(
+            String eventId,
+            String warehouseCode,
+            String supplierName,
+            String purchaseOrderNo,
+            String requestedAt,
+            String expectedReceiveDate,
+            String remark,
+            List<Line> lines
+    ) {
+    }
+
+    // lotNo는 발주 이벤트에서만 사용 (없으면 서버 생성)
+    public record Line(Long productId, Integer qty, String lotNo, String remark) {
+    }
+
+    /**
+     * 배치 처리 결과.
+     * failedIndex >= 0 이면 그 앞까지만 처리되었고, 해당 레코드부터 재전달/DLT 대상이다.
+     */
+    public record IngestResult(
+            int received,
+            int duplicates,
+            int created,
+            int failedIndex,
+            String failureReason
+    ) {
+        public boolean failed() {
+            return failedIndex >= 0;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.gearfirst.warehouse.api.inbound.persistence;
+
+import com.gearfirst.warehouse.api.inbound.repository.ProcessedEventRepository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventJdbcRepository implements ProcessedEventRepository {
+
+    private static final String INSERT_SQL =
+            "insert into processed_event (event_id, source, processed_at) values (?, ?, ?)";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @Override
+    public Set<String> findProcessed(String source, Collection<String> eventIds) {
+        Set<String> out = new HashSet<>();
+        if (eventIds.isEmpty()) {
+            return out;
+        }
+        jdbc.query("select event_id from processed_event where source = :source and event_id in (:ids)",
+                new MapSqlParameterSource("source", source).addValue("ids", eventIds),
+                rs -> {
+                    out.add(rs.getString(1));
+                });
+        return out;
+    }
+
+    @Override
+    public void markProcessed(Collection<String> eventIds, String source) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<String> ids = List.copyOf(eventIds);
+        jdbc.getJdbcTemplate().batchUpdate(INSERT_SQL, ids, ids.size(), (ps, id) -> {
+            ps.setString(1, id);
+            ps.setString(2, source);
+            ps.setTimestamp(3, now);
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.gearfirst.warehouse.api.inbound.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * inbound 이벤트 중복 방지 테이블 (스키마 정의용). 쓰기/조회는 {@code ProcessedEventJdbcRepository}가 배치로 수행한다.
+ * 키는 (source, eventId): 출처가 다르면 같은 eventId라도 별개 이벤트다.
+ */
+@Entity
+@Table(name = "processed_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedEventEntity {
+
+    @EmbeddedId
+    private ProcessedEventId id;
+
+    @Column(nullable = false)
+    private OffsetDateTime processedAt;
+}
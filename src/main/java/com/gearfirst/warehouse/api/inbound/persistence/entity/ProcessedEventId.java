@@ -0,0 +1,24 @@
+package com.gearfirst.warehouse.api.inbound.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ProcessedEventId implements Serializable {
+
+    // 이벤트 출처 (order | purchase-order)
+    @Column(nullable = false, length = 50)
+    private String source;
+
+    @Column(nullable = false, length = 100)
+    private String eventId;
+}
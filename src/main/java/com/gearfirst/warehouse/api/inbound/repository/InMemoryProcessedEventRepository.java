@@ -0,0 +1,40 @@
+package com.gearfirst.warehouse.api.inbound.repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryProcessedEventRepository implements ProcessedEventRepository {
+
+    private final Map<String, Boolean> processed = new ConcurrentHashMap<>();
+
+    private static String key(String source, String eventId) {
+        return source + "|" + eventId;
+    }
+
+    @Override
+    public Set<String> findProcessed(String source, Collection<String> eventIds) {
+        Set<String> out = new HashSet<>();
+        for (String id : eventIds) {
+            if (processed.containsKey(key(source, id))) {
+                out.add(id);
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public void markProcessed(Collection<String> eventIds, String source) {
+        for (String id : eventIds) {
+            if (processed.putIfAbsent(key(source, id), Boolean.TRUE) != null) {
+                throw new IllegalStateException("duplicate event id: " + source + "/" + id);
+            }
+        }
+    }
+
+    public int size() {
+        return processed.size();
+    }
+}
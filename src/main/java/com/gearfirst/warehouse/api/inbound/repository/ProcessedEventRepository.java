@@ -0,0 +1,14 @@
+package com.gearfirst.warehouse.api.inbound.repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+/** 처리 완료된 inbound 이벤트 id 기록 (중복 소비 방지). 중복 판단은 출처(source)별로 한다 */
+public interface ProcessedEventRepository {
+
+    // source의 ids 중 이미 처리된 것
+    Set<String> findProcessed(String source, Collection<String> eventIds);
+
+    // 호출측 트랜잭션 안에서 기록. 같은 source에 이미 있는 id면 PK 위반으로 트랜잭션이 롤백된다
+    void markProcessed(Collection<String> eventIds, String source);
+}
@@ -0,0 +1,15 @@
+package com.gearfirst.warehouse.api.inbound.service;
+
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.IngestResult;
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.OrderEvent;
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.PurchaseOrderEvent;
+import java.util.List;
+
+public interface InboundIngestService {
+
+    // 주문 이벤트 배치 → 출고 전표 일괄 생성 (배치당 트랜잭션 1개)
+    IngestResult ingestOrders(List<OrderEvent> events);
+
+    // 발주 이벤트 배치 → 입고 전표 일괄 생성 (배치당 트랜잭션 1개)
+    IngestResult ingestPurchaseOrders(List<PurchaseOrderEvent> events);
+}
@@ -0,0 +1,206 @@
+package com.gearfirst.warehouse.api.inbound.service;
+
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.IngestResult;
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.Line;
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.OrderEvent;
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.PurchaseOrderEvent;
+import com.gearfirst.warehouse.api.inbound.repository.ProcessedEventRepository;
+import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
+import com.gearfirst.warehouse.api.receiving.dto.ReceivingCreateNoteRequest;
+import com.gearfirst.warehouse.api.receiving.service.ReceivingService;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCreateNoteRequest;
+import com.gearfirst.warehouse.api.shipping.service.ShippingService;
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * inbound 이벤트 배치 처리.
+ * 1) 앞에서부터 검증해 첫 불량 레코드 위치를 찾고, 그 앞까지만 처리한다 (불량 레코드는 리스너가 DLT로 보낸다).
+ * 2) (출처, eventId)로 배치 내/기처리 중복 제거 → warehouseCode별로 묶어 순서대로 일괄 생성 + processed_event 기록 (트랜잭션 1개).
+ */
+@Slf4j
+@Service
+public class InboundIngestServiceImpl implements InboundIngestService {
+
+    static final String SOURCE_ORDER = "order";
+    static final String SOURCE_PURCHASE_ORDER = "purchase-order";
+
+    private final ShippingService shippingService;
+    private final ReceivingService receivingService;
+    private final ProcessedEventRepository processedEventRepository;
+    private final PartJpaRepository partRepository;
+    private final TransactionTemplate txTemplate;
+
+    public InboundIngestServiceImpl(ShippingService shippingService,
+                                    ReceivingService receivingService,
+                                    ProcessedEventRepository processedEventRepository,
+                                    PartJpaRepository partRepository,
+                                    PlatformTransactionManager txManager) {
+        this.shippingService = shippingService;
+        this.receivingService = receivingService;
+        this.processedEventRepository = processedEventRepository;
+        this.partRepository = partRepository;
+        this.txTemplate = new TransactionTemplate(txManager);
+    }
+
+    @Override
+    public IngestResult ingestOrders(List<OrderEvent> events) {
+        Set<Long> knownParts = knownParts(events, OrderEvent::lines);
+        return ingest(SOURCE_ORDER, events, OrderEvent::eventId, OrderEvent::warehouseCode,
+                e -> validate(e.eventId(), e.warehouseCode(), e.requestedAt(), e.lines(), knownParts,
+                        ErrorStatus.SHIPPING_REQUESTED_AT_INVALID),
+                batch -> shippingService.createAll(batch.stream().map(this::toShippingRequest).toList()));
+    }
+
+    @Override
+    public IngestResult ingestPurchaseOrders(List<PurchaseOrderEvent> events) {
+        Set<Long> knownParts = knownParts(events, PurchaseOrderEvent::lines);
+        return ingest(SOURCE_PURCHASE_ORDER, events, PurchaseOrderEvent::eventId, PurchaseOrderEvent::warehouseCode,
+                e -> validate(e.eventId(), e.warehouseCode(), e.requestedAt(), e.lines(), knownParts,
+                        ErrorStatus.RECEIVING_REQUESTED_AT_INVALID),
+                batch -> receivingService.createAll(batch.stream().map(this::toReceivingRequest).toList()));
+    }
+
+    private <E> IngestResult ingest(String source, List<E> events, Function<E, String> idOf,
+                                    Function<E, String> warehouseOf, Function<E, String> validator,
+                                    Consumer<List<E>> creator) {
+        int failedIndex = -1;
+        String failureReason = null;
+        for (int i = 0; i < events.size(); i++) {
+            E e = events.get(i);
+            String reason = e == null ? "이벤트 역직렬화 실패" : validator.apply(e);
+            if (reason != null) {
+                failedIndex = i;
+                failureReason = reason;
+                break;
+            }
+        }
+        List<E> valid = failedIndex < 0 ? events : events.subList(0, failedIndex);
+
+        Map<String, E> unique = new LinkedHashMap<>();
+        for (E e : valid) {
+            unique.putIfAbsent(idOf.apply(e), e);
+        }
+        int duplicates = valid.size() - unique.size();
+
+        Integer created = unique.isEmpty() ? Integer.valueOf(0) : txTemplate.execute(status -> {
+            Set<String> processed = processedEventRepository.findProcessed(source, unique.keySet());
+            // warehouse별 묶음 (창고 코드 순, 묶음 안에서는 수신 순서 유지)
+            Map<String, List<E>> byWarehouse = new TreeMap<>();
+            List<String> freshIds = new ArrayList<>();
+            for (var entry : unique.entrySet()) {
+                if (processed.contains(entry.getKey())) {
+                    continue;
+                }
+                freshIds.add(entry.getKey());
+                byWarehouse.computeIfAbsent(warehouseOf.apply(entry.getValue()), k -> new ArrayList<>())
+                        .add(entry.getValue());
+            }
+            if (freshIds.isEmpty()) {
+                return 0;
+            }
+            List<E> ordered = new ArrayList<>(freshIds.size());
+            byWarehouse.values().forEach(ordered::addAll);
+            creator.accept(ordered);
+            processedEventRepository.markProcessed(freshIds, source);
+            return freshIds.size();
+        });
+        int createdCount = created == null ? 0 : created;
+        duplicates += unique.size() - createdCount;
+
+        log.info("Inbound {} batch: received={}, created={}, duplicates={}, failedIndex={}", source, events.size(),
+                createdCount, duplicates, failedIndex);
+        return new IngestResult(events.size(), duplicates, createdCount, failedIndex, failureReason);
+    }
+
+    private <E> Set<Long> knownParts(List<E> events, Function<E, List<Line>> linesOf) {
+        Set<Long> ids = new HashSet<>();
+        for (E e : events) {
+            if (e != null && linesOf.apply(e) != null) {
+                for (Line l : linesOf.apply(e)) {
+                    if (l != null && l.productId() != null) {
+                        ids.add(l.productId());
+                    }
+                }
+            }
+        }
+        Set<Long> known = new HashSet<>();
+        if (!ids.isEmpty()) {
+            partRepository.findAllById(ids).forEach(p -> known.add(p.getId()));
+        }
+        return known;
+    }
+
+    /** 통과 시 null, 실패 시 사유 */
+    private String validate(String eventId, String warehouseCode, String requestedAt, List<Line> lines,
+                            Set<Long> knownParts, ErrorStatus requestedAtInvalid) {
+        if (eventId == null || eventId.isBlank()) {
+            return "eventId 누락";
+        }
+        if (warehouseCode == null || warehouseCode.isBlank()) {
+            return "warehouseCode 누락";
+        }
+        try {
+            if (requestedAt == null) {
+                return requestedAtInvalid.getMessage();
+            }
+            OffsetDateTime.parse(requestedAt);
+        } catch (DateTimeParseException ex) {
+            return requestedAtInvalid.getMessage();
+        }
+        if (lines == null || lines.isEmpty()) {
+            return "라인이 비어 있습니다.";
+        }
+        for (Line l : lines) {
+            if (l == null || l.productId() == null || !knownParts.contains(l.productId())) {
+                return ErrorStatus.PART_CODE_INVALID.getMessage();
+            }
+            if (l.qty() == null || l.qty() <= 0) {
+                return "수량은 1 이상이어야 합니다.";
+            }
+        }
+        return null;
+    }
+
+    private ShippingCreateNoteRequest toShippingRequest(OrderEvent e) {
+        return new ShippingCreateNoteRequest(
+                e.branchName(),
+                e.warehouseCode(),
+                e.orderId(),
+                e.requestedAt(),
+                e.expectedShipDate(),
+                e.remark(),
+                e.lines().stream()
+                        .map(l -> new ShippingCreateNoteRequest.Line(l.productId(), l.qty(), l.remark()))
+                        .toList()
+        );
+    }
+
+    private ReceivingCreateNoteRequest toReceivingRequest(PurchaseOrderEvent e) {
+        return new ReceivingCreateNoteRequest(
+                e.supplierName(),
+                e.warehouseCode(),
+                null, // receivingNo는 서버 생성
+                e.requestedAt(),
+                e.expectedReceiveDate(),
+                e.remark() != null ? e.remark() : e.purchaseOrderNo(),
+                e.lines().stream()
+                        .map(l -> new ReceivingCreateNoteRequest.Line(l.productId(), l.qty(), l.lotNo(), l.remark()))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.gearfirst.warehouse.api.inventory;
+
+import com.gearfirst.warehouse.api.inventory.dto.CycleCountDtos.CycleCountResult;
+import com.gearfirst.warehouse.api.inventory.service.CycleCountService;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Format;
+import com.gearfirst.warehouse.common.exception.BadRequestException;
+import com.gearfirst.warehouse.common.response.CommonApiResponse;
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import com.gearfirst.warehouse.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.multipart.MultipartFile;
+
+@Controller
+@RequestMapping("/api/v1/inventory")
+@RequiredArgsConstructor
+@Tag(name = "Inventory Cycle Count", description = "재고 실사 일괄 조정 API (CSV/NDJSON 스트리밍)")
+public class CycleCountController {
+
+    private final CycleCountService cycleCountService;
+
+    @Operation(summary = "재고 실사 일괄 조정(본문 스트림)",
+            description = "Content-Type: text/csv 또는 application/x-ndjson. CSV 헤더: warehouseCode,partCode,countedQty. 현재고와의 차이만 on-hand에 반영하고 재고 원장(CYCLE_COUNT)에 기록합니다. 응답의 countId가 원장 refId입니다.")
+    @PostMapping(value = "/cycle-counts", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<CommonApiResponse<CycleCountResult>> applyStream(
+            HttpServletRequest request,
+            @RequestParam(required = false) String format
+    ) throws IOException {
+        Format f = Format.resolve(format, request.getContentType(), null);
+        try (InputStream in = request.getInputStream()) {
+            return CommonApiResponse.success(SuccessStatus.SEND_INVENTORY_CYCLE_COUNT_SUCCESS,
+                    cycleCountService.applyCounts(in, f));
+        }
+    }
+
+    @Operation(summary = "재고 실사 일괄 조정(파일 업로드)",
+            description = "multipart/form-data의 file 파트. 형식은 format 파라미터 또는 확장자(.csv, .ndjson, .jsonl)로 판별합니다.")
+    @PostMapping(value = "/cycle-counts", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CommonApiResponse<CycleCountResult>> applyFile(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String format
+    ) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.PART_IMPORT_FORMAT_INVALID);
+        }
+        Format f = Format.resolve(format, file.getContentType(), file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            return CommonApiResponse.success(SuccessStatus.SEND_INVENTORY_CYCLE_COUNT_SUCCESS,
+                    cycleCountService.applyCounts(in, f));
+        }
+    }
+}
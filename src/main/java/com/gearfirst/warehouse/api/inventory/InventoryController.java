@@ -1,6 +1,8 @@
 package com.gearfirst.warehouse.api.inventory;
 
+import com.gearfirst.warehouse.api.inventory.dto.AtpDtos.AtpItem;
 import com.gearfirst.warehouse.api.inventory.dto.OnHandDtos.OnHandSummary;
+import com.gearfirst.warehouse.api.inventory.service.AtpService;
 import com.gearfirst.warehouse.api.inventory.service.InventoryService;
 import com.gearfirst.warehouse.common.exception.BadRequestException;
 import com.gearfirst.warehouse.common.response.CommonApiResponse;
@@ -29,6 +31,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class InventoryController {
 
     private final InventoryService service;
+    private final AtpService atpService;
 
     @Operation(summary = "OLD - 재고 현황(On-hand) 목록", description = "창고/부품 키워드로 On-hand 목록을 조회합니다. 필터는 AND로 결합됩니다. partKeyword/supplierName은 대소문자 무시 contains. 수량 범위는 minQty ≤ onHandQty ≤ maxQty. 페이지/사이즈 기본값: page=0, size=20. 정렬 허용 필드: partName, partCode, onHandQty, lastUpdatedAt. 잘못된 정렬 키 또는 잘못된 범위는 400.")
     @Parameters({
@@ -132,4 +135,25 @@ public class InventoryController {
                 q, partId, partCode, partName, warehouseCode, supplierName, minQty, maxQty, p, s, sort);
         return CommonApiResponse.success(SuccessStatus.SEND_INVENTORY_ONHAND_LIST_SUCCESS, envelope);
     }
+
+    @Operation(summary = "가용 재고(ATP) 조회", description = "창고의 부품별 on-hand, 미출고 수요(진행 중 출고 전표 라인의 Σ orderedQty. 피킹했더라도 완료 전까지 포함), ATP(= on-hand − 미출고 수요)를 반환합니다. 미출고 수요는 전표 변경 시 증분 유지되어 부품당 키 조회 1회로 계산됩니다. partId는 1..200개.")
+    @Parameters({
+            @Parameter(name = "warehouseCode", description = "창고 코드 exact", required = true),
+            @Parameter(name = "partId", description = "부품 ID (반복 지정 가능, 최대 200)", required = true)
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "ATP 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "창고 코드 누락 또는 partId 개수 오류")
+    })
+    @GetMapping("/atp")
+    public ResponseEntity<CommonApiResponse<List<AtpItem>>> getAtp(
+            @RequestParam String warehouseCode,
+            @RequestParam List<Long> partId
+    ) {
+        if (warehouseCode.isBlank() || partId.isEmpty() || partId.size() > 200) {
+            throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION);
+        }
+        return CommonApiResponse.success(SuccessStatus.SEND_INVENTORY_ATP_SUCCESS,
+                atpService.getAtp(warehouseCode.trim(), partId));
+    }
 }
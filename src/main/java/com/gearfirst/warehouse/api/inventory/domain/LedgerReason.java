@@ -0,0 +1,6 @@
+package com.gearfirst.warehouse.api.inventory.domain;
+
+/** 재고 원장(inventory_ledger) 변동 사유 */
+public enum LedgerReason {
+    CYCLE_COUNT
+}
@@ -0,0 +1,7 @@
+package com.gearfirst.warehouse.api.inventory.domain;
+
+public enum ReservationStatus {
+    RESERVED,  // 라인 READY 시점에 재고를 잡아 둔 상태
+    CONSUMED,  // 출고 완료로 실제 차감됨
+    RELEASED   // 라인 해제/전표 지연/만료로 반납됨
+}
@@ -0,0 +1,18 @@
+package com.gearfirst.warehouse.api.inventory.dto;
+
+public class AtpDtos {
+
+    /**
+     * 가용 재고(ATP) = onHandQty − openDemandQty (음수 가능: 이미 약속한 수요가 재고를 넘은 상태).
+     * openDemandQty는 진행 중(PENDING/IN_PROGRESS/COMPLETING) 출고 전표 라인의 Σ orderedQty.
+     * on-hand는 출고 완료 시에만 차감되므로 피킹/READY 라인도 완료 전까지 수요로 남는다 (예약 포함).
+     */
+    public record AtpItem(
+            String warehouseCode,
+            Long partId,
+            int onHandQty,
+            int openDemandQty,
+            int atpQty
+    ) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.gearfirst.warehouse.api.inventory.dto;
+
+import java.util.List;
+
+public class CycleCountDtos {
+
+    /** 실사 1행. CSV 헤더/NDJSON 키 이름과 동일하다. countedQty는 실제 센 수량(0 이상) */
+    public record CycleCountRow(
+            String warehouseCode,
+            String partCode,
+            Integer countedQty
+    ) {
+    }
+
+    // line: 1-based 원본 줄 번호 (CSV 헤더 포함)
+    public record RowError(long line, String warehouseCode, String partCode, String reason) {
+    }
+
+    /**
+     * countId: 이번 실사로 기록된 원장 행의 refId.
+     * counted = 반영 대상 행(중복 키는 마지막 행 기준), adjusted = 수량이 실제로 바뀐 (창고, 부품) 수.
+     * increasedQty/decreasedQty: 변동분 합계(각각 양수로 표기).
+     */
+    public record CycleCountResult(
+            String countId,
+            long totalRows,
+            long counted,
+            long adjusted,
+            long failed,
+            long increasedQty,
+            long decreasedQty,
+            List<RowError> errors,
+            boolean errorsTruncated
+    ) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.gearfirst.warehouse.api.inventory.persistence;
+
+import com.gearfirst.warehouse.api.inventory.domain.LedgerReason;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 실사(cycle count) 반영 전용 JDBC 경로.
+ * chunk 하나를 문장 3개로 처리한다: 현재 수량 잠금 조회 → 변동분 unnest upsert → 원장 unnest insert.
+ * 행 수와 관계없이 왕복 횟수가 고정이고 JPA 영속성 컨텍스트를 거치지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CycleCountJdbcRepository {
+
+    private static final String LOCK_SQL = """
+            select o.warehouse_code, o.part_id, o.on_hand_qty
+              from inventory_onhand o
+              join unnest(?::varchar[], ?::bigint[]) as t(warehouse_code, part_id)
+                on t.warehouse_code = o.warehouse_code and t.part_id = o.part_id
+             order by o.warehouse_code, o.part_id
+               for update of o
+            """;
+
+    private static final String UPSERT_SQL = """
+            insert into inventory_onhand (warehouse_code, part_id, on_hand_qty, last_updated_at, created_at, updated_at)
+            select t.warehouse_code, t.part_id, t.qty, ?, ?, ?
+              from unnest(?::varchar[], ?::bigint[], ?::integer[]) as t(warehouse_code, part_id, qty)
+            on conflict (warehouse_code, part_id) do update set
+                on_hand_qty = excluded.on_hand_qty,
+                last_updated_at = excluded.last_updated_at,
+                updated_at = excluded.updated_at
+            """;
+
+    private static final String LEDGER_SQL = """
+            insert into inventory_ledger (warehouse_code, part_id, before_qty, after_qty, delta_qty, reason, ref_id,
+                                          created_at)
+            select t.warehouse_code, t.part_id, t.before_qty, t.after_qty, t.after_qty - t.before_qty, ?, ?, ?
+              from unnest(?::varchar[], ?::bigint[], ?::integer[], ?::integer[])
+                   as t(warehouse_code, part_id, before_qty, after_qty)
+            """;
+
+    public record Count(String warehouseCode, long partId, int countedQty) {
+    }
+
+    public record Variance(String warehouseCode, long partId, int beforeQty, int afterQty) {
+        public int delta() {
+            return afterQty - beforeQty;
+        }
+    }
+
+    private record Key(String warehouseCode, long partId) {
+    }
+
+    private final JdbcTemplate jdbc;
+
+    /**
+     * 실사 수량을 현재고로 반영하고 변동분만 원장에 남긴다. 호출자 트랜잭션 안에서 실행해야 한다.
+     * counts는 (창고, 부품) 중복이 없어야 한다. 수량이 같거나 (행 없음 + 0개)인 항목은 건너뛴다.
+     *
+     * @return 실제로 바뀐 항목의 변동 내역
+     */
+    public List<Variance> apply(List<Count> counts, LedgerReason reason, String refId, OffsetDateTime now) {
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+        // 잠금 순서 고정 (동시 출고 차감/다른 실사와의 교착 방지)
+        List<Count> sorted = new ArrayList<>(counts);
+        sorted.sort(Comparator.comparing(Count::warehouseCode).thenComparingLong(Count::partId));
+
+        Map<Key, Integer> before = new HashMap<>(sorted.size() * 2);
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LOCK_SQL);
+            ps.setArray(1, con.createArrayOf("varchar", sorted.stream().map(Count::warehouseCode).toArray()));
+            ps.setArray(2, con.createArrayOf("bigint", sorted.stream().map(Count::partId).toArray()));
+            return ps;
+        }, rs -> {
+            before.put(new Key(rs.getString(1), rs.getLong(2)), rs.getInt(3));
+        });
+
+        List<Variance> changed = new ArrayList<>();
+        for (Count c : sorted) {
+            int prev = before.getOrDefault(new Key(c.warehouseCode(), c.partId()), 0);
+            if (prev != c.countedQty()) {
+                changed.add(new Variance(c.warehouseCode(), c.partId(), prev, c.countedQty()));
+            }
+        }
+        if (changed.isEmpty()) {
+            return changed;
+        }
+
+        Timestamp nowTs = Timestamp.from(now.toInstant());
+        Timestamp localTs = Timestamp.valueOf(LocalDateTime.now());
+        jdbc.update(con -> {
+            PreparedStatement ps = con.prepareStatement(UPSERT_SQL);
+            ps.setTimestamp(1, nowTs);
+            ps.setTimestamp(2, localTs);
+            ps.setTimestamp(3, localTs);
+            setKeys(con, ps, 4, changed);
+            ps.setArray(6, con.createArrayOf("integer", changed.stream().map(Variance::afterQty).toArray()));
+            return ps;
+        });
+        jdbc.update(con -> {
+            PreparedStatement ps = con.prepareStatement(LEDGER_SQL);
+            ps.setString(1, reason.name());
+            ps.setString(2, refId);
+            ps.setTimestamp(3, nowTs);
+            setKeys(con, ps, 4, changed);
+            ps.setArray(6, con.createArrayOf("integer", changed.stream().map(Variance::beforeQty).toArray()));
+            ps.setArray(7, con.createArrayOf("integer", changed.stream().map(Variance::afterQty).toArray()));
+            return ps;
+        });
+        return changed;
+    }
+
+    private static void setKeys(Connection con, PreparedStatement ps, int index, List<Variance> rows)
+            throws SQLException {
+        ps.setArray(index, con.createArrayOf("varchar", rows.stream().map(Variance::warehouseCode).toArray()));
+        ps.setArray(index + 1, con.createArrayOf("bigint", rows.stream().map(Variance::partId).toArray()));
+    }
+}
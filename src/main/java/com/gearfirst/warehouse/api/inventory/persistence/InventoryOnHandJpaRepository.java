@@ -1,9 +1,13 @@
 package com.gearfirst.warehouse.api.inventory.persistence;
 
 import com.gearfirst.warehouse.api.inventory.persistence.entity.InventoryOnHandEntity;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,4 +15,13 @@ public interface InventoryOnHandJpaRepository extends JpaRepository<InventoryOnH
     Optional<InventoryOnHandEntity> findByWarehouseCodeAndPartId(String warehouseCode, Long partId);
 
     List<InventoryOnHandEntity> findAllByWarehouseCode(String warehouseCode);
+
+    /** 조건부 원자 차감 (on_hand ≥ qty일 때만). 0이면 재고 부족 또는 행 없음 */
+    @Modifying(flushAutomatically = true)
+    @Query("update InventoryOnHandEntity e set e.onHandQty = e.onHandQty - :qty, e.lastUpdatedAt = :now "
+            + "where e.warehouseCode = :warehouseCode and e.partId = :partId and e.onHandQty >= :qty")
+    int decreaseIfAvailable(@Param("warehouseCode") String warehouseCode,
+                            @Param("partId") Long partId,
+                            @Param("qty") int qty,
+                            @Param("now") OffsetDateTime now);
 }
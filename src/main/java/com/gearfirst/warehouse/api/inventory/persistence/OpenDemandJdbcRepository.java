@@ -0,0 +1,84 @@
+package com.gearfirst.warehouse.api.inventory.persistence;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * inventory_open_demand 증감/조회.
+ * 증감은 on conflict 누적 upsert라 동시 전표 변경끼리 덮어쓰지 않는다. 조회는 (warehouse_code, part_id) 유니크 키 lookup.
+ * 값을 0으로 자르지 않는다: 음수는 증감 누락(drift)의 신호이므로 그대로 두고 조회 측({@code AtpServiceImpl})에서 경고/집계한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OpenDemandJdbcRepository {
+
+    private static final String ADJUST_SQL = """
+            insert into inventory_open_demand (warehouse_code, part_id, open_qty, updated_at)
+            values (?, ?, ?, ?)
+            on conflict (warehouse_code, part_id) do update set
+                open_qty = inventory_open_demand.open_qty + ?,
+                updated_at = excluded.updated_at
+            """;
+
+    /** part_id → (onHand, openDemand) */
+    public record Snapshot(long partId, int onHandQty, int openDemandQty) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** deltaByPart: partId → 수요 증감(음수 가능). 0은 건너뛴다 */
+    public void adjust(String warehouseCode, Map<Long, Integer> deltaByPart, OffsetDateTime now) {
+        List<Map.Entry<Long, Integer>> rows = new ArrayList<>();
+        for (var e : deltaByPart.entrySet()) {
+            if (e.getKey() != null && e.getValue() != null && e.getValue() != 0) {
+                rows.add(e);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        // 같은 (창고, 부품) 행 잠금 순서를 고정해 교착을 피한다
+        rows.sort(Map.Entry.comparingByKey());
+        Timestamp ts = Timestamp.from(now.toInstant());
+        jdbc.getJdbcTemplate().batchUpdate(ADJUST_SQL, rows, rows.size(), (ps, r) -> {
+            ps.setString(1, warehouseCode);
+            ps.setLong(2, r.getKey());
+            ps.setInt(3, r.getValue());
+            ps.setTimestamp(4, ts);
+            ps.setInt(5, r.getValue());
+        });
+    }
+
+    /** 요청한 부품 각각의 on-hand/미출고 수요. 두 테이블 모두 행이 없는 부품은 결과에서 빠진다 */
+    public Map<Long, Snapshot> findSnapshots(String warehouseCode, Collection<Long> partIds) {
+        Map<Long, Snapshot> out = new HashMap<>();
+        if (partIds.isEmpty()) {
+            return out;
+        }
+        var params = new MapSqlParameterSource()
+                .addValue("wh", warehouseCode)
+                .addValue("ids", partIds);
+        jdbc.query("""
+                select coalesce(o.part_id, d.part_id) as part_id,
+                       coalesce(o.on_hand_qty, 0) as on_hand, coalesce(d.open_qty, 0) as open_qty
+                  from (select part_id, on_hand_qty from inventory_onhand
+                         where warehouse_code = :wh and part_id in (:ids)) o
+                  full join (select part_id, open_qty from inventory_open_demand
+                              where warehouse_code = :wh and part_id in (:ids)) d
+                    on d.part_id = o.part_id
+                """, params, rs -> {
+            long partId = rs.getLong("part_id");
+            out.put(partId, new Snapshot(partId, rs.getInt("on_hand"), rs.getInt("open_qty")));
+        });
+        return out;
+    }
+}
@@ -0,0 +1,123 @@
+package com.gearfirst.warehouse.api.inventory.persistence;
+
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * inventory_reservation 상태 전이. 해제/소비는 update ... returning 으로 바뀐 행의 (창고, 부품, 수량)을 돌려줘
+ * 서비스가 인메모리 예약 카운터를 맞출 수 있게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationJdbcRepository {
+
+    public record Changed(String warehouseCode, long partId, int qty) {
+    }
+
+    private static final RowMapper<Changed> CHANGED = (rs, i) -> new Changed(
+            rs.getString("warehouse_code"), rs.getLong("part_id"), rs.getInt("qty"));
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public Optional<Integer> findActiveQty(long noteId, long lineId) {
+        var rows = jdbc.queryForList("""
+                select qty from inventory_reservation
+                 where note_id = :noteId and line_id = :lineId and status = 'RESERVED'
+                """, new MapSqlParameterSource().addValue("noteId", noteId).addValue("lineId", lineId), Integer.class);
+        return rows.stream().findFirst();
+    }
+
+    /** 라인 예약 기록 (이전에 해제/소비된 행이 있으면 RESERVED로 되살린다) */
+    public void upsertReserved(String warehouseCode, long partId, long noteId, long lineId, int qty,
+                               OffsetDateTime expiresAt, OffsetDateTime now) {
+        jdbc.update("""
+                insert into inventory_reservation (warehouse_code, part_id, note_id, line_id, qty, status,
+                                                   expires_at, created_at, updated_at)
+                values (:wh, :partId, :noteId, :lineId, :qty, 'RESERVED', :expiresAt, :now, :now)
+                on conflict (note_id, line_id) do update set
+                    warehouse_code = excluded.warehouse_code,
+                    part_id = excluded.part_id,
+                    qty = excluded.qty,
+                    status = 'RESERVED',
+                    expires_at = excluded.expires_at,
+                    updated_at = excluded.updated_at
+                """, new MapSqlParameterSource()
+                .addValue("wh", warehouseCode)
+                .addValue("partId", partId)
+                .addValue("noteId", noteId)
+                .addValue("lineId", lineId)
+                .addValue("qty", qty)
+                .addValue("expiresAt", Timestamp.from(expiresAt.toInstant()))
+                .addValue("now", Timestamp.from(now.toInstant())));
+    }
+
+    public void touch(long noteId, long lineId, OffsetDateTime expiresAt) {
+        jdbc.update("""
+                update inventory_reservation set expires_at = :expiresAt
+                 where note_id = :noteId and line_id = :lineId and status = 'RESERVED'
+                """, new MapSqlParameterSource()
+                .addValue("noteId", noteId)
+                .addValue("lineId", lineId)
+                .addValue("expiresAt", Timestamp.from(expiresAt.toInstant())));
+    }
+
+    public List<Changed> releaseLine(long noteId, long lineId, OffsetDateTime now) {
+        return jdbc.query("""
+                update inventory_reservation set status = 'RELEASED', updated_at = :now
+                 where note_id = :noteId and line_id = :lineId and status = 'RESERVED'
+                returning warehouse_code, part_id, qty
+                """, new MapSqlParameterSource()
+                .addValue("noteId", noteId)
+                .addValue("lineId", lineId)
+                .addValue("now", Timestamp.from(now.toInstant())), CHANGED);
+    }
+
+    /** to: RELEASED | CONSUMED */
+    public List<Changed> transitionNote(long noteId, String to, OffsetDateTime now) {
+        return jdbc.query("""
+                update inventory_reservation set status = :to, updated_at = :now
+                 where note_id = :noteId and status = 'RESERVED'
+                returning warehouse_code, part_id, qty
+                """, new MapSqlParameterSource()
+                .addValue("noteId", noteId)
+                .addValue("to", to)
+                .addValue("now", Timestamp.from(now.toInstant())), CHANGED);
+    }
+
+    /** 만료된 예약을 최대 limit건 해제 (여러 인스턴스가 동시에 돌아도 SKIP LOCKED로 나눠 가진다) */
+    public List<Changed> releaseExpired(OffsetDateTime now, int limit) {
+        return jdbc.query("""
+                update inventory_reservation set status = 'RELEASED', updated_at = :now
+                 where id in (select id from inventory_reservation
+                               where status = 'RESERVED' and expires_at < :now
+                               order by id limit :limit
+                               for update skip locked)
+                returning warehouse_code, part_id, qty
+                """, new MapSqlParameterSource()
+                .addValue("now", Timestamp.from(now.toInstant()))
+                .addValue("limit", limit), CHANGED);
+    }
+
+    public long sumReserved(String warehouseCode, long partId) {
+        Long sum = jdbc.queryForObject("""
+                select coalesce(sum(qty), 0) from inventory_reservation
+                 where warehouse_code = :wh and part_id = :partId and status = 'RESERVED'
+                """, new MapSqlParameterSource().addValue("wh", warehouseCode).addValue("partId", partId), Long.class);
+        return sum == null ? 0 : sum;
+    }
+
+    /** 현재 on-hand (행 잠금 없는 단순 조회, 영속성 컨텍스트를 거치지 않는다) */
+    public int findOnHand(String warehouseCode, long partId) {
+        var rows = jdbc.queryForList("""
+                select on_hand_qty from inventory_onhand where warehouse_code = :wh and part_id = :partId
+                """, new MapSqlParameterSource().addValue("wh", warehouseCode).addValue("partId", partId), Integer.class);
+        return rows.isEmpty() || rows.get(0) == null ? 0 : rows.get(0);
+    }
+}
@@ -0,0 +1,59 @@
+package com.gearfirst.warehouse.api.inventory.persistence.entity;
+
+import com.gearfirst.warehouse.api.inventory.domain.LedgerReason;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 변동 원장 (append-only). 쓰기는 {@code CycleCountJdbcRepository}만 한다 (JPA로 수정하지 않음).
+ * refId: 같은 작업(예: 실사 1회)에서 기록된 행을 묶는 식별자.
+ */
+@Entity
+@Table(name = "inventory_ledger",
+        indexes = {
+                @Index(name = "IDX_ledger_wh_part", columnList = "warehouseCode,partId,id"),
+                @Index(name = "IDX_ledger_ref", columnList = "refId")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryLedgerEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String warehouseCode;
+
+    @Column(nullable = false)
+    private Long partId;
+
+    @Column(nullable = false)
+    private Integer beforeQty;
+
+    @Column(nullable = false)
+    private Integer afterQty;
+
+    @Column(nullable = false)
+    private Integer deltaQty;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private LedgerReason reason;
+
+    @Column(length = 64)
+    private String refId;
+
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,42 @@
+package com.gearfirst.warehouse.api.inventory.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (창고, 부품)별 미출고 수요 = Σ orderedQty, 진행 중(PENDING/IN_PROGRESS/COMPLETING) 출고 전표 라인 기준 (피킹 여부 무관, 완료 시 해소).
+ * 출고 전표 생성/수정/완료 시 {@code OpenDemandJdbcRepository}가 증감 upsert로만 갱신한다 (JPA로 수정하지 않음).
+ */
+@Entity
+@Table(name = "inventory_open_demand",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UQ_open_demand_wh_part", columnNames = {"warehouseCode", "partId"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryOpenDemandEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String warehouseCode;
+
+    @Column(nullable = false)
+    private Long partId;
+
+    @Column(nullable = false)
+    private Integer openQty;
+
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,61 @@
+package com.gearfirst.warehouse.api.inventory.persistence.entity;
+
+import com.gearfirst.warehouse.api.inventory.domain.ReservationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 출고 라인 단위 재고 예약. 쓰기는 {@code ReservationJdbcRepository}만 한다 (JPA로 수정하지 않음).
+ */
+@Entity
+@Table(name = "inventory_reservation",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "UQ_reservation_note_line", columnNames = {"noteId", "lineId"})
+        },
+        indexes = {
+                @Index(name = "IDX_reservation_wh_part_status", columnList = "warehouseCode,partId,status"),
+                @Index(name = "IDX_reservation_status_expires", columnList = "status,expiresAt")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryReservationEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String warehouseCode;
+
+    @Column(nullable = false)
+    private Long partId;
+
+    @Column(nullable = false)
+    private Long noteId;
+
+    @Column(nullable = false)
+    private Long lineId;
+
+    @Column(nullable = false)
+    private Integer qty;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    private OffsetDateTime expiresAt;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+}
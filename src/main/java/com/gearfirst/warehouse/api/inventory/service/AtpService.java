@@ -0,0 +1,18 @@
+package com.gearfirst.warehouse.api.inventory.service;
+
+import com.gearfirst.warehouse.api.inventory.dto.AtpDtos.AtpItem;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface AtpService {
+
+    /** 요청한 부품 순서대로 ATP를 반환한다 (행이 없는 부품은 0). */
+    List<AtpItem> getAtp(String warehouseCode, Collection<Long> partIds);
+
+    /** 같은 결과를 partId로 색인해 반환한다. */
+    Map<Long, AtpItem> getAtpByPart(String warehouseCode, Collection<Long> partIds);
+
+    /** 미출고 수요 증감(partId → delta). 호출측 트랜잭션에 함께 기록된다. */
+    void adjustOpenDemand(String warehouseCode, Map<Long, Integer> deltaByPart);
+}
@@ -0,0 +1,77 @@
+package com.gearfirst.warehouse.api.inventory.service;
+
+import com.gearfirst.warehouse.api.inventory.dto.AtpDtos.AtpItem;
+import com.gearfirst.warehouse.api.inventory.persistence.OpenDemandJdbcRepository;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 가용 재고(ATP). 미출고 수요는 전표 변경 시 증분 유지되므로 조회는 부품당 키 lookup 한 번이다 (라인 합산 없음).
+ * 수요는 진행 중 전표 라인의 orderedQty 전체라 READY 라인의 재고 예약도 이미 포함된다 (예약을 따로 빼면 이중 차감).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AtpServiceImpl implements AtpService {
+
+    static final String NEGATIVE_DEMAND = "warehouse.atp.open_demand.negative";
+
+    private final OpenDemandJdbcRepository openDemandRepository;
+    private final MeterRegistry registry;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AtpItem> getAtp(String warehouseCode, Collection<Long> partIds) {
+        return new ArrayList<>(getAtpByPart(warehouseCode, partIds).values());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, AtpItem> getAtpByPart(String warehouseCode, Collection<Long> partIds) {
+        var ids = new LinkedHashSet<Long>();
+        for (Long id : partIds) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        Map<Long, AtpItem> out = new LinkedHashMap<>();
+        // 창고 미지정이면 재고를 특정할 수 없으므로 0으로 본다 (InventoryOnHandProvider와 같은 보수적 처리)
+        boolean noWarehouse = warehouseCode == null || warehouseCode.isBlank();
+        var snapshots = noWarehouse ? Map.<Long, OpenDemandJdbcRepository.Snapshot>of()
+                : openDemandRepository.findSnapshots(warehouseCode, ids);
+        for (Long id : ids) {
+            var s = snapshots.get(id);
+            int onHand = s == null ? 0 : s.onHandQty();
+            int demand = s == null ? 0 : s.openDemandQty();
+            if (demand < 0) {
+                // 음수 수요는 증감 누락(drift). 재고보다 많이 약속하지 않도록 0으로 보고 드러낸다
+                log.warn("Negative open demand (warehouse={}, partId={}, openQty={})", warehouseCode, id, demand);
+                Counter.builder(NEGATIVE_DEMAND).tag("warehouse", warehouseCode).register(registry).increment();
+                demand = 0;
+            }
+            out.put(id, new AtpItem(warehouseCode, id, onHand, demand, onHand - demand));
+        }
+        return out;
+    }
+
+    @Override
+    @Transactional
+    public void adjustOpenDemand(String warehouseCode, Map<Long, Integer> deltaByPart) {
+        if (warehouseCode == null || warehouseCode.isBlank() || deltaByPart.isEmpty()) {
+            return;
+        }
+        openDemandRepository.adjust(warehouseCode, deltaByPart, OffsetDateTime.now(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,125 @@
+package com.gearfirst.warehouse.api.inventory.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.inventory.dto.CycleCountDtos.CycleCountRow;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Format;
+import com.gearfirst.warehouse.common.exception.BadRequestException;
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 실사 입력을 한 줄씩 읽는 스트리밍 파서 (CSV | NDJSON). 형식/CSV 분리 규칙은 {@link PartImportRowReader}와 같다.
+ * CSV 헤더: warehouseCode,partCode,countedQty (대소문자/밑줄 무시, 열 순서 무관).
+ */
+public class CycleCountRowReader implements Closeable {
+
+    public record Parsed(long line, CycleCountRow row, String error) {
+    }
+
+    private static final List<String> COLUMNS = List.of("warehousecode", "partcode", "countedqty");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> header = new HashMap<>();
+    private long lineNo;
+
+    public CycleCountRowReader(InputStream in, Format format, ObjectMapper objectMapper) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == Format.CSV) {
+            readHeader();
+        }
+    }
+
+    private void readHeader() throws IOException {
+        String line = nextNonBlankLine();
+        List<String> cols = line == null ? null : PartImportRowReader.splitCsv(line);
+        if (cols == null) {
+            throw new BadRequestException(ErrorStatus.PART_IMPORT_FORMAT_INVALID);
+        }
+        for (int i = 0; i < cols.size(); i++) {
+            String key = cols.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "");
+            if (COLUMNS.contains(key)) {
+                header.putIfAbsent(key, i);
+            }
+        }
+        if (!header.keySet().containsAll(COLUMNS)) {
+            throw new BadRequestException(ErrorStatus.PART_IMPORT_FORMAT_INVALID);
+        }
+    }
+
+    /** 다음 행. 입력 끝이면 null */
+    public Parsed next() throws IOException {
+        String line = nextNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+        return format == Format.CSV ? parseCsvRow(line) : parseJsonRow(line);
+    }
+
+    private String nextNonBlankLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (lineNo == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private Parsed parseJsonRow(String line) {
+        try {
+            return new Parsed(lineNo, objectMapper.readValue(line, CycleCountRow.class), null);
+        } catch (Exception e) {
+            return new Parsed(lineNo, null, "JSON 형식 오류");
+        }
+    }
+
+    private Parsed parseCsvRow(String line) {
+        List<String> cells = PartImportRowReader.splitCsv(line);
+        if (cells == null) {
+            return new Parsed(lineNo, null, "CSV 인용부호가 닫히지 않았습니다.");
+        }
+        try {
+            String qty = cell(cells, "countedqty");
+            var row = new CycleCountRow(
+                    cell(cells, "warehousecode"),
+                    cell(cells, "partcode"),
+                    qty == null ? null : Integer.valueOf(qty)
+            );
+            return new Parsed(lineNo, row, null);
+        } catch (NumberFormatException e) {
+            return new Parsed(lineNo, null, "숫자 형식 오류");
+        }
+    }
+
+    private String cell(List<String> cells, String column) {
+        Integer idx = header.get(column);
+        if (idx == null || idx >= cells.size()) {
+            return null;
+        }
+        String v = cells.get(idx).trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
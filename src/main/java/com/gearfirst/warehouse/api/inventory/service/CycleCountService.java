@@ -0,0 +1,9 @@
+package com.gearfirst.warehouse.api.inventory.service;
+
+import com.gearfirst.warehouse.api.inventory.dto.CycleCountDtos.CycleCountResult;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Format;
+import java.io.InputStream;
+
+public interface CycleCountService {
+    CycleCountResult applyCounts(InputStream in, Format format);
+}
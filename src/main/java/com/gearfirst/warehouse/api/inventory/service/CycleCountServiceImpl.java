@@ -0,0 +1,180 @@
+package com.gearfirst.warehouse.api.inventory.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.inventory.domain.LedgerReason;
+import com.gearfirst.warehouse.api.inventory.dto.CycleCountDtos.CycleCountResult;
+import com.gearfirst.warehouse.api.inventory.dto.CycleCountDtos.CycleCountRow;
+import com.gearfirst.warehouse.api.inventory.dto.CycleCountDtos.RowError;
+import com.gearfirst.warehouse.api.inventory.persistence.CycleCountJdbcRepository;
+import com.gearfirst.warehouse.api.inventory.persistence.CycleCountJdbcRepository.Count;
+import com.gearfirst.warehouse.api.inventory.persistence.CycleCountJdbcRepository.Variance;
+import com.gearfirst.warehouse.api.inventory.service.CycleCountRowReader.Parsed;
+import com.gearfirst.warehouse.api.parts.persistence.PartJdbcRepository;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Format;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 실사(cycle count) 일괄 조정.
+ * - 입력은 스트리밍으로 읽고 chunk 단위(기본 1000행)로 검증 → 현재고 대비 변동 계산 → 배치 upsert + 원장 기록 → 커밋.
+ * - 부품 code → id는 시작 시 1회 preload. 메모리는 부품 수 + chunk 크기에 비례하고 입력 행 수와 무관하다.
+ * - chunk마다 독립 트랜잭션이므로 실패한 chunk만 오류로 보고되고 앞선 chunk는 유지된다.
+ */
+@Slf4j
+@Service
+public class CycleCountServiceImpl implements CycleCountService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final PartJdbcRepository partJdbcRepo;
+    private final CycleCountJdbcRepository cycleCountRepo;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate txTemplate;
+    private final int chunkSize;
+
+    public CycleCountServiceImpl(PartJdbcRepository partJdbcRepo,
+                                 CycleCountJdbcRepository cycleCountRepo,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager txManager,
+                                 @Value("${warehouse.inventory.cycle-count.chunk-size:1000}") int chunkSize) {
+        this.partJdbcRepo = partJdbcRepo;
+        this.cycleCountRepo = cycleCountRepo;
+        this.objectMapper = objectMapper;
+        this.txTemplate = new TransactionTemplate(txManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    private record Key(String warehouseCode, long partId) {
+    }
+
+    private record ValidRow(long line, CycleCountRow row, Count count) {
+    }
+
+    private static final class Report {
+        final String countId = UUID.randomUUID().toString();
+        long total;
+        long counted;
+        long adjusted;
+        long failed;
+        long increased;
+        long decreased;
+        final List<RowError> errors = new ArrayList<>();
+
+        void fail(long line, CycleCountRow row, String reason) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, row == null ? null : row.warehouseCode(),
+                        row == null ? null : row.partCode(), reason));
+            }
+        }
+
+        CycleCountResult toResult() {
+            return new CycleCountResult(countId, total, counted, adjusted, failed, increased, decreased,
+                    List.copyOf(errors), failed > errors.size());
+        }
+    }
+
+    @Override
+    public CycleCountResult applyCounts(InputStream in, Format format) {
+        Map<String, Long> partIdByCode = partJdbcRepo.findIdsByCodeLowerCase();
+
+        Report report = new Report();
+        // 같은 chunk 안의 중복 (창고, 부품)은 마지막 행이 이긴다 (뒤 chunk는 앞 chunk 결과를 다시 덮어쓴다)
+        Map<Key, ValidRow> chunk = new LinkedHashMap<>();
+        try (var reader = new CycleCountRowReader(in, format, objectMapper)) {
+            Parsed parsed;
+            while ((parsed = reader.next()) != null) {
+                report.total++;
+                if (parsed.error() != null) {
+                    report.fail(parsed.line(), null, parsed.error());
+                    continue;
+                }
+                CycleCountRow row = parsed.row();
+                Long partId = row == null || row.partCode() == null
+                        ? null : partIdByCode.get(row.partCode().trim().toLowerCase(Locale.ROOT));
+                String reason = validate(row, partId);
+                if (reason != null) {
+                    report.fail(parsed.line(), row, reason);
+                    continue;
+                }
+                String wh = row.warehouseCode().trim();
+                var count = new Count(wh, partId, row.countedQty());
+                chunk.remove(new Key(wh, partId));
+                chunk.put(new Key(wh, partId), new ValidRow(parsed.line(), row, count));
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, report);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, report);
+        }
+        log.info("Cycle count {} finished: total={}, counted={}, adjusted={}, failed={}, +{} / -{}",
+                report.countId, report.total, report.counted, report.adjusted, report.failed, report.increased,
+                report.decreased);
+        return report.toResult();
+    }
+
+    /** 통과 시 null, 실패 시 사유 메시지 */
+    private String validate(CycleCountRow r, Long partId) {
+        if (r == null || r.warehouseCode() == null || r.warehouseCode().isBlank()) {
+            return "창고 코드가 없습니다.";
+        }
+        if (r.partCode() == null || r.partCode().isBlank()) {
+            return "부품 코드가 없습니다.";
+        }
+        if (partId == null) {
+            return "존재하지 않는 부품 코드입니다.";
+        }
+        if (r.countedQty() == null || r.countedQty() < 0) {
+            return "실사 수량은 0 이상이어야 합니다.";
+        }
+        return null;
+    }
+
+    private void flush(Map<Key, ValidRow> chunk, Report report) {
+        List<Count> counts = chunk.values().stream().map(ValidRow::count).toList();
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<Variance> changed;
+        try {
+            changed = txTemplate.execute(status ->
+                    cycleCountRepo.apply(counts, LedgerReason.CYCLE_COUNT, report.countId, now));
+        } catch (DataAccessException e) {
+            log.warn("Cycle count chunk failed ({} rows): {}", counts.size(), e.getMostSpecificCause().getMessage());
+            for (ValidRow v : chunk.values()) {
+                report.fail(v.line(), v.row(), "저장 실패: " + e.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+        report.counted += counts.size();
+        if (changed == null) {
+            return;
+        }
+        report.adjusted += changed.size();
+        for (Variance v : changed) {
+            if (v.delta() > 0) {
+                report.increased += v.delta();
+            } else {
+                report.decreased -= v.delta();
+            }
+        }
+    }
+}
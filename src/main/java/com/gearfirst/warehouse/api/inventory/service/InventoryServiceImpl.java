@@ -247,19 +247,10 @@ public class InventoryServiceImpl implements InventoryService {
         if (qty <= 0 || partId == null) {
             return;
         }
-        var entity = repo.findByWarehouseCodeAndPartId(warehouseCode, partId)
-                .orElseGet(() -> InventoryOnHandEntity.builder()
-                        .warehouseCode(warehouseCode)
-                        .partId(partId)
-                        .onHandQty(0)
-                        .lastUpdatedAt(OffsetDateTime.now(ZoneOffset.UTC))
-                        .build());
-        int current = entity.getOnHandQty() == null ? 0 : entity.getOnHandQty();
-        if (current < qty) {
+        // 읽고-저장하기 대신 조건부 update 한 문장: 동시 출고 완료끼리 갱신을 잃거나 음수로 내려가지 않는다
+        if (repo.decreaseIfAvailable(warehouseCode, partId, qty, OffsetDateTime.now(ZoneOffset.UTC)) == 0) {
             throw new ConflictException(ErrorStatus.CONFLICT_INVENTORY_INSUFFICIENT);
         }
-        entity.decrease(qty, OffsetDateTime.now(ZoneOffset.UTC));
-        repo.save(entity);
     }
 
     private boolean containsIgnoreCase(String text, String kw) {
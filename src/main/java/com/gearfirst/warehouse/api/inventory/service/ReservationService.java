@@ -0,0 +1,24 @@
+package com.gearfirst.warehouse.api.inventory.service;
+
+/**
+ * 출고 라인 단위 재고 예약 (READY 시 예약 → 해제/만료 시 반납 → 출고 완료 시 소비).
+ * 모든 메서드는 호출측 트랜잭션에 참여하며, 롤백되면 예약도 함께 취소된다.
+ */
+public interface ReservationService {
+
+    /**
+     * 라인 수량을 예약한다. 이미 예약된 라인이면 만료만 연장하고 true.
+     * 가용량(on-hand − 다른 예약) 부족이면 false.
+     */
+    boolean reserve(String warehouseCode, Long partId, Long noteId, Long lineId, int qty);
+
+    void releaseLine(Long noteId, Long lineId);
+
+    void releaseNote(Long noteId);
+
+    /** 출고 완료: 전표의 예약을 소비 처리한다 (재고 차감은 InventoryService가 한다) */
+    void consumeNote(Long noteId);
+
+    /** 만료된 예약 해제. 해제 건수 */
+    int releaseExpired();
+}
@@ -0,0 +1,197 @@
+package com.gearfirst.warehouse.api.inventory.service;
+
+import com.gearfirst.warehouse.api.inventory.domain.ReservationStatus;
+import com.gearfirst.warehouse.api.inventory.persistence.ReservationJdbcRepository;
+import com.gearfirst.warehouse.api.inventory.persistence.ReservationJdbcRepository.Changed;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 재고 예약. 가용량 검사는 (창고, 부품)별 인메모리 예약 합계 + striped lock으로 하고,
+ * inventory_onhand 행은 읽기만 한다 (행 잠금/갱신 경합 없음). 테이블은 예약의 원본 기록이다.
+ * - 카운터 증가는 검사와 함께 lock 안에서 즉시, 롤백 시 되돌린다.
+ * - 카운터 감소(해제/소비)는 커밋 이후에만 한다. 커밋 전 감소는 아직 차감되지 않은 on-hand와 만나 과대 판정이 된다.
+ * - 단일 인스턴스 기준 최적화다. 최종 보호선은 InventoryService.decrease의 조건부 차감(on_hand ≥ qty)이다.
+ */
+@Slf4j
+@Service
+public class ReservationServiceImpl implements ReservationService {
+
+    private record Key(String warehouseCode, long partId) {
+    }
+
+    private final ReservationJdbcRepository repository;
+    private final TransactionTemplate txTemplate;
+    private final Duration ttl;
+    private final int sweepBatchSize;
+    private final ReentrantLock[] stripes;
+    private final ConcurrentHashMap<Key, AtomicLong> reserved = new ConcurrentHashMap<>();
+
+    public ReservationServiceImpl(ReservationJdbcRepository repository,
+                                  PlatformTransactionManager txManager,
+                                  @Value("${warehouse.inventory.reservation.ttl-ms:1800000}") long ttlMs,
+                                  @Value("${warehouse.inventory.reservation.stripes:64}") int stripes,
+                                  @Value("${warehouse.inventory.reservation.sweep-batch-size:500}") int sweepBatchSize) {
+        this.repository = repository;
+        this.txTemplate = new TransactionTemplate(txManager);
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.sweepBatchSize = Math.max(1, sweepBatchSize);
+        this.stripes = new ReentrantLock[Math.max(1, stripes)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean reserve(String warehouseCode, Long partId, Long noteId, Long lineId, int qty) {
+        if (qty <= 0 || partId == null || noteId == null || lineId == null) {
+            return true;
+        }
+        if (warehouseCode == null || warehouseCode.isBlank()) {
+            return false;
+        }
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        if (repository.findActiveQty(noteId, lineId).isPresent()) {
+            repository.touch(noteId, lineId, now.plus(ttl));
+            return true;
+        }
+        Key key = new Key(warehouseCode, partId);
+        AtomicLong counter;
+        ReentrantLock lock = stripe(key);
+        lock.lock();
+        try {
+            counter = counter(key);
+            // 예약 합계를 on-hand보다 먼저 읽는다: 그 사이 다른 전표가 커밋(차감)+해제해도 과소 판정만 생긴다
+            long held = counter.get();
+            int onHand = repository.findOnHand(warehouseCode, partId);
+            if (onHand - held < qty) {
+                log.debug("Reservation rejected: wh={}, part={}, onHand={}, reserved={}, qty={}",
+                        warehouseCode, partId, onHand, held, qty);
+                return false;
+            }
+            counter.addAndGet(qty);
+        } finally {
+            lock.unlock();
+        }
+        onCompletion(committed -> {
+            if (!committed) {
+                counter.addAndGet(-qty);
+            }
+        });
+        repository.upsertReserved(warehouseCode, partId, noteId, lineId, qty, now.plus(ttl), now);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void releaseLine(Long noteId, Long lineId) {
+        if (noteId == null || lineId == null) {
+            return;
+        }
+        releaseAfterCommit(repository.releaseLine(noteId, lineId, OffsetDateTime.now(ZoneOffset.UTC)));
+    }
+
+    @Override
+    @Transactional
+    public void releaseNote(Long noteId) {
+        if (noteId == null) {
+            return;
+        }
+        releaseAfterCommit(repository.transitionNote(noteId, ReservationStatus.RELEASED.name(),
+                OffsetDateTime.now(ZoneOffset.UTC)));
+    }
+
+    @Override
+    @Transactional
+    public void consumeNote(Long noteId) {
+        if (noteId == null) {
+            return;
+        }
+        releaseAfterCommit(repository.transitionNote(noteId, ReservationStatus.CONSUMED.name(),
+                OffsetDateTime.now(ZoneOffset.UTC)));
+    }
+
+    @Override
+    public int releaseExpired() {
+        Integer released = txTemplate.execute(status -> {
+            var rows = repository.releaseExpired(OffsetDateTime.now(ZoneOffset.UTC), sweepBatchSize);
+            releaseAfterCommit(rows);
+            return rows.size();
+        });
+        return released == null ? 0 : released;
+    }
+
+    @Scheduled(fixedDelayString = "${warehouse.inventory.reservation.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        int released;
+        int total = 0;
+        do {
+            released = releaseExpired();
+            total += released;
+        } while (released >= sweepBatchSize);
+        if (total > 0) {
+            log.info("Released {} expired stock reservations", total);
+        }
+    }
+
+    private void releaseAfterCommit(List<Changed> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        onCompletion(committed -> {
+            if (!committed) {
+                return;
+            }
+            for (Changed c : rows) {
+                // 아직 로드되지 않은 키는 다음 예약 때 DB 합계로 로드된다
+                var counter = reserved.get(new Key(c.warehouseCode(), c.partId()));
+                if (counter != null) {
+                    counter.addAndGet(-c.qty());
+                }
+            }
+        });
+    }
+
+    private AtomicLong counter(Key key) {
+        // stripe lock 안에서 호출: 키당 최초 1회만 DB 합계를 읽는다
+        AtomicLong counter = reserved.get(key);
+        if (counter == null) {
+            counter = new AtomicLong(repository.sumReserved(key.warehouseCode(), key.partId()));
+            reserved.put(key, counter);
+        }
+        return counter;
+    }
+
+    private ReentrantLock stripe(Key key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    private static void onCompletion(Consumer<Boolean> callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.gearfirst.warehouse.api.live;
+
+import com.gearfirst.warehouse.api.live.service.NoteEventHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Controller
+@RequestMapping("/api/v1/warehouses")
+@RequiredArgsConstructor
+@Tag(name = "Live Feed", description = "창고별 전표 변경 실시간 알림(SSE) API")
+public class NoteEventStreamController {
+
+    private final NoteEventHub hub;
+
+    @Operation(summary = "창고 전표 변경 구독 (SSE)",
+            description = """
+                    출고/입고 전표의 생성·상태 변경·라인 변경을 커밋 후 text/event-stream으로 보냅니다.
+                    이벤트: ready(연결, data.lastEventId) | note-change(NoteChangeEvent, id 포함) | reset(replay 범위 초과 → 목록 재조회).
+                    화면은 목록을 한 번 조회한 뒤 note-change로 갱신하고, 재연결 시 Last-Event-ID(또는 lastEventId 파라미터)로 놓친 이벤트를 받습니다.
+                    15초마다 주석(ping)을 보냅니다.""")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 시작"),
+            @ApiResponse(responseCode = "503", description = "구독 연결 수 한도 초과 — 잠시 후 재시도")
+    })
+    @GetMapping(value = "/{warehouseCode}/note-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @PathVariable String warehouseCode,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @Parameter(description = "Last-Event-ID 헤더를 보낼 수 없는 클라이언트용 (헤더가 우선)")
+            @RequestParam(value = "lastEventId", required = false) String lastEventId
+    ) {
+        return hub.subscribe(warehouseCode, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
@@ -0,0 +1,44 @@
+package com.gearfirst.warehouse.api.live.dto;
+
+import com.gearfirst.warehouse.common.util.DateTimes;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 전표 변경 알림 (출고/입고 서비스 → 커밋 후 창고별 SSE 구독자).
+ * 화면은 목록을 한 번 읽은 뒤 이 delta로 행을 갱신한다. 상세가 더 필요하면 noteId로 상세를 다시 조회한다.
+ *
+ * @param noteType       SHIPPING | RECEIVING
+ * @param changeType     CREATED | STATUS_CHANGED | LINE_CHANGED
+ * @param previousStatus 생성 시 null
+ * @param lines          바뀐 라인만 (qty: 출고=pickedQty, 입고=inspectedQty). 생성 시 비어 있음
+ */
+public record NoteChangeEvent(
+        String noteType,
+        String changeType,
+        Long noteId,
+        String noteNo,
+        String warehouseCode,
+        String status,
+        String previousStatus,
+        List<LineChange> lines,
+        String occurredAt
+) {
+
+    public static final String SHIPPING = "SHIPPING";
+    public static final String RECEIVING = "RECEIVING";
+
+    public record LineChange(Long lineId, String status, int qty) {
+    }
+
+    public static NoteChangeEvent of(String noteType, Long noteId, String noteNo, String warehouseCode,
+                                     String previousStatus, String status, boolean created, List<LineChange> lines) {
+        String changeType = created ? "CREATED"
+                : !Objects.equals(previousStatus, status) ? "STATUS_CHANGED" : "LINE_CHANGED";
+        return new NoteChangeEvent(noteType, changeType, noteId, noteNo, warehouseCode, status,
+                created ? null : previousStatus, lines == null ? List.of() : List.copyOf(lines),
+                DateTimes.toKstString(OffsetDateTime.now(ZoneOffset.UTC)));
+    }
+}
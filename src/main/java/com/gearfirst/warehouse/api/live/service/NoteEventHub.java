@@ -0,0 +1,290 @@
+package com.gearfirst.warehouse.api.live.service;
+
+import com.gearfirst.warehouse.api.live.dto.NoteChangeEvent;
+import com.gearfirst.warehouse.common.exception.ServiceUnavailableException;
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 창고별 전표 변경 SSE 허브.
+ * - 서비스가 발행한 {@link NoteChangeEvent}를 커밋 후 받아 창고 채널에 id를 붙여 기록(replay-size건)하고 구독자에게 보낸다.
+ * - 구독자마다 bounded 버퍼(buffer-size)와 전송 작업 1개(virtual thread)를 둔다. 느린 클라이언트가 버퍼를 넘기면 끊고,
+ *   클라이언트는 Last-Event-ID로 다시 붙어 replay로 따라잡는다. replay 범위를 벗어나면 reset 이벤트로 목록 재조회를 요청한다.
+ * - id는 기동 시각(ms)에서 시작해 증가하므로 재시작 전 id로 다시 붙으면 reset을 받는다.
+ * - 이 인스턴스에서 처리된 변경만 전달한다 (여러 인스턴스면 창고별로 같은 인스턴스에 붙도록 라우팅).
+ */
+@Slf4j
+@Component
+public class NoteEventHub {
+
+    static final String READY = "ready";
+    static final String RESET = "reset";
+    static final String CHANGE = "note-change";
+
+    private record Outgoing(Long id, String name, Object data) {
+    }
+
+    private record Recorded(long id, NoteChangeEvent event) {
+    }
+
+    private static final Outgoing PING = new Outgoing(null, null, null);
+
+    private final class Channel {
+        final ArrayDeque<Recorded> replay = new ArrayDeque<>();
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        // 이 id 이후의 이벤트는 replay에 모두 남아 있다
+        long floor = bootSequence;
+    }
+
+    private final class Subscriber {
+        final String warehouse;
+        final SseEmitter emitter;
+        final ArrayDeque<Outgoing> queue = new ArrayDeque<>();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(String warehouse, SseEmitter emitter) {
+            this.warehouse = warehouse;
+            this.emitter = emitter;
+        }
+
+        synchronized boolean offer(Outgoing o) {
+            if (queue.size() >= bufferSize) {
+                return false;
+            }
+            queue.add(o);
+            return true;
+        }
+
+        synchronized Outgoing poll() {
+            return queue.poll();
+        }
+
+        synchronized boolean isEmpty() {
+            return queue.isEmpty();
+        }
+    }
+
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int replaySize;
+    private final int maxSubscribers;
+    private final long bootSequence;
+    private final AtomicLong sequence;
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+
+    public NoteEventHub(MeterRegistry registry,
+                        @Value("${warehouse.live.timeout-ms:1800000}") long timeoutMs,
+                        @Value("${warehouse.live.buffer-size:256}") int bufferSize,
+                        @Value("${warehouse.live.replay-size:1000}") int replaySize,
+                        @Value("${warehouse.live.max-subscribers:500}") int maxSubscribers) {
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.replaySize = Math.max(0, replaySize);
+        this.maxSubscribers = Math.max(1, maxSubscribers);
+        this.bootSequence = System.currentTimeMillis();
+        this.sequence = new AtomicLong(bootSequence);
+        // 전송은 소켓 쓰기에서 막힐 수 있으므로 구독자별로 virtual thread에서 한다
+        this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("note-sse-", 0).factory());
+        Gauge.builder("warehouse.live.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Connected note change SSE subscribers")
+                .register(registry);
+    }
+
+    /**
+     * 창고 구독. lastEventId가 replay 범위 안이면 놓친 이벤트를 먼저 보내고, 없으면 ready, 범위를 벗어났으면 reset을 보낸다.
+     */
+    public SseEmitter subscribe(String warehouseCode, String lastEventId) {
+        if (subscriberCount.get() >= maxSubscribers) {
+            throw new ServiceUnavailableException(ErrorStatus.LIVE_FEED_SUBSCRIBERS_FULL);
+        }
+        String key = key(warehouseCode);
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber s = new Subscriber(key, emitter);
+        emitter.onCompletion(() -> remove(s));
+        emitter.onTimeout(() -> remove(s));
+        emitter.onError(e -> remove(s));
+
+        Long last = parseId(lastEventId);
+        Channel ch = channels.computeIfAbsent(key, k -> new Channel());
+        synchronized (ch) {
+            long latest = sequence.get();
+            if (last != null && last >= ch.floor && last <= latest) {
+                List<Recorded> missed = ch.replay.stream().filter(r -> r.id() > last).toList();
+                // replay는 버퍼 상한과 별개로 모두 넣는다 (replay-size로 이미 제한됨)
+                synchronized (s) {
+                    s.queue.add(new Outgoing(missed.isEmpty() ? latest : null, READY,
+                            Map.of("lastEventId", latest, "replayed", missed.size())));
+                    missed.forEach(r -> s.queue.add(new Outgoing(r.id(), CHANGE, r.event())));
+                }
+            } else {
+                s.offer(new Outgoing(latest, last == null ? READY : RESET, Map.of("lastEventId", latest)));
+            }
+            if (!s.closed.get()) {
+                ch.subscribers.add(s);
+                subscriberCount.incrementAndGet();
+            }
+        }
+        schedule(s);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(NoteChangeEvent event) {
+        if (event.warehouseCode() == null || event.warehouseCode().isBlank()) {
+            return;
+        }
+        Channel ch = channels.computeIfAbsent(key(event.warehouseCode()), k -> new Channel());
+        List<Subscriber> targets = new ArrayList<>();
+        List<Subscriber> overflowed = new ArrayList<>();
+        synchronized (ch) {
+            long id = sequence.incrementAndGet();
+            ch.replay.addLast(new Recorded(id, event));
+            while (ch.replay.size() > replaySize) {
+                ch.floor = ch.replay.removeFirst().id();
+            }
+            Outgoing out = new Outgoing(id, CHANGE, event);
+            for (Subscriber s : ch.subscribers) {
+                (s.offer(out) ? targets : overflowed).add(s);
+            }
+        }
+        targets.forEach(this::schedule);
+        for (Subscriber s : overflowed) {
+            log.debug("Note SSE subscriber for {} exceeded buffer ({}), disconnecting", s.warehouse, bufferSize);
+            close(s);
+        }
+    }
+
+    /** 프록시/로드밸런서 idle timeout과 끊긴 연결 감지용 주석 이벤트 */
+    @Scheduled(fixedDelayString = "${warehouse.live.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Channel ch : channels.values()) {
+            for (Subscriber s : ch.subscribers) {
+                if (s.offer(PING)) {
+                    schedule(s);
+                }
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /** graceful shutdown이 SSE 요청 종료를 기다리지 않도록 종료 시작 시 먼저 닫는다 */
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        for (Channel ch : channels.values()) {
+            for (Subscriber s : List.copyOf(ch.subscribers)) {
+                close(s);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private void schedule(Subscriber s) {
+        if (!s.closed.get() && s.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(s));
+        }
+    }
+
+    private void drain(Subscriber s) {
+        boolean alive = true;
+        try {
+            Outgoing o;
+            while ((o = s.poll()) != null) {
+                s.emitter.send(toEvent(o));
+            }
+        } catch (Exception e) {
+            // 클라이언트가 끊김(IOException) 또는 이미 종료된 emitter. 컨테이너가 onError/onCompletion도 호출한다
+            log.debug("Note SSE send failed for {}: {}", s.warehouse, e.toString());
+            alive = false;
+            remove(s);
+        } finally {
+            s.draining.set(false);
+        }
+        if (alive && !s.isEmpty()) {
+            schedule(s);
+        }
+    }
+
+    private SseEventBuilder toEvent(Outgoing o) {
+        if (o.name() == null) {
+            return SseEmitter.event().comment("ping");
+        }
+        SseEventBuilder b = SseEmitter.event().name(o.name()).data(o.data(), MediaType.APPLICATION_JSON);
+        if (o.id() != null) {
+            b.id(String.valueOf(o.id()));
+        }
+        return b;
+    }
+
+    private void close(Subscriber s) {
+        remove(s);
+        try {
+            s.emitter.complete();
+        } catch (Exception ignored) {
+            // 이미 종료됨
+        }
+    }
+
+    private void remove(Subscriber s) {
+        if (!s.closed.compareAndSet(false, true)) {
+            return;
+        }
+        Channel ch = channels.get(s.warehouse);
+        if (ch == null) {
+            return;
+        }
+        synchronized (ch) {
+            if (ch.subscribers.remove(s)) {
+                subscriberCount.decrementAndGet();
+            }
+        }
+    }
+
+    private static String key(String warehouseCode) {
+        return warehouseCode == null ? "" : warehouseCode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static Long parseId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.gearfirst.warehouse.api.parts;
+
+import com.gearfirst.warehouse.api.parts.dto.PartImportDtos.PartImportResult;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Format;
+import com.gearfirst.warehouse.api.parts.service.PartImportService;
+import com.gearfirst.warehouse.common.exception.BadRequestException;
+import com.gearfirst.warehouse.common.response.CommonApiResponse;
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import com.gearfirst.warehouse.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.multipart.MultipartFile;
+
+@Controller
+@RequestMapping("/api/v1/parts")
+@RequiredArgsConstructor
+@Tag(name = "Parts Import", description = "부품 대량 가져오기 API (CSV/NDJSON 스트리밍)")
+public class PartImportController {
+
+    private final PartImportService partImportService;
+
+    @Operation(summary = "부품 대량 가져오기(본문 스트림)",
+            description = "Content-Type: text/csv 또는 application/x-ndjson. CSV 헤더: code,name,price,categoryId|categoryName[,imageUrl,safetyStockQty,supplierName]. 청크 단위 검증/배치 저장 후 행별 오류 리포트를 반환합니다.")
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<CommonApiResponse<PartImportResult>> importStream(
+            HttpServletRequest request,
+            @RequestParam(required = false) String format
+    ) throws IOException {
+        Format f = Format.resolve(format, request.getContentType(), null);
+        try (InputStream in = request.getInputStream()) {
+            return CommonApiResponse.success(SuccessStatus.SEND_PART_IMPORT_SUCCESS, partImportService.importParts(in, f));
+        }
+    }
+
+    @Operation(summary = "부품 대량 가져오기(파일 업로드)",
+            description = "multipart/form-data의 file 파트. 형식은 format 파라미터 또는 확장자(.csv, .ndjson, .jsonl)로 판별합니다.")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CommonApiResponse<PartImportResult>> importFile(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String format
+    ) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.PART_IMPORT_FORMAT_INVALID);
+        }
+        Format f = Format.resolve(format, file.getContentType(), file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            return CommonApiResponse.success(SuccessStatus.SEND_PART_IMPORT_SUCCESS, partImportService.importParts(in, f));
+        }
+    }
+}
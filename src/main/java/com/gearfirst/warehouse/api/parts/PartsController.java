@@ -6,6 +6,7 @@ import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.CreateCategoryRequest;
 import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.UpdateCategoryRequest;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.CreatePartRequest;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartDetailResponse;
+import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSuggestItem;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSummaryResponse;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.UpdatePartRequest;
 import com.gearfirst.warehouse.api.parts.dto.PartIntegratedItem;
@@ -16,6 +17,7 @@ import com.gearfirst.warehouse.api.parts.service.PartService;
 import com.gearfirst.warehouse.common.response.CommonApiResponse;
 import com.gearfirst.warehouse.common.response.PageEnvelope;
 import com.gearfirst.warehouse.common.response.SuccessStatus;
+import com.gearfirst.warehouse.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -35,6 +37,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 @Controller
 @RequestMapping("/api/v1/parts")
@@ -47,17 +50,24 @@ public class PartsController {
     private final PartQueryService partQueryService;
 
     // Categories
-    @Operation(summary = "부품 카테고리 목록", description = "키워드로 카테고리를 검색합니다. (임시) 전체 리스트 반환 후 필터 적용")
+    @Operation(summary = "부품 카테고리 목록", description = "키워드로 카테고리를 검색합니다. (임시) 전체 리스트 반환 후 필터 적용. ETag 제공, If-None-Match 일치 시 304")
     @GetMapping("/categories")
     public ResponseEntity<CommonApiResponse<List<CategorySummaryResponse>>> listCategories(
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword, WebRequest request) {
+        if (ETags.notModified(request, categoryService.listVersion())) {
+            return null;
+        }
         String kw = (keyword == null) ? "" : keyword;
         return CommonApiResponse.success(SuccessStatus.SEND_PART_CATEGORY_LIST_SUCCESS, categoryService.list(kw));
     }
 
-    @Operation(summary = "부품 카테고리 상세", description = "카테고리 ID로 상세를 조회합니다.")
+    @Operation(summary = "부품 카테고리 상세", description = "카테고리 ID로 상세를 조회합니다. ETag 제공, If-None-Match 일치 시 304")
     @GetMapping("/categories/{id}")
-    public ResponseEntity<CommonApiResponse<CategoryDetailResponse>> getCategory(@PathVariable Long id) {
+    public ResponseEntity<CommonApiResponse<CategoryDetailResponse>> getCategory(@PathVariable Long id,
+                                                                                 WebRequest request) {
+        if (ETags.notModified(request, categoryService.getVersion(id))) {
+            return null;
+        }
         return CommonApiResponse.success(SuccessStatus.SEND_PART_CATEGORY_DETAIL_SUCCESS, categoryService.get(id));
     }
 
@@ -83,7 +93,7 @@ public class PartsController {
     }
 
     // Parts
-    @Operation(summary = "부품 목록", description = "code/name/categoryId로 필터하고 서버사이드 페이지네이션/정렬로 조회합니다. 기본 정렬: name,asc → code,asc")
+    @Operation(summary = "부품 목록", description = "code/name/categoryId로 필터하고 서버사이드 페이지네이션/정렬로 조회합니다. 기본 정렬: name,asc → code,asc. ETag 제공, If-None-Match 일치 시 304")
     @GetMapping
     public ResponseEntity<CommonApiResponse<PageEnvelope<PartSummaryResponse>>> listParts(
             @RequestParam(required = false) String code,
@@ -91,15 +101,19 @@ public class PartsController {
             @RequestParam(required = false) Long categoryId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) List<String> sort
+            @RequestParam(required = false) List<String> sort,
+            WebRequest request
     ) {
+        if (ETags.notModified(request, partService.listVersion())) {
+            return null;
+        }
         int p = Math.max(0, page);
         int s = Math.max(1, Math.min(size, 100));
         PageEnvelope<PartSummaryResponse> envelope = partService.list(code, name, categoryId, p, s, sort);
         return CommonApiResponse.success(SuccessStatus.SEND_PART_LIST_SUCCESS, envelope);
     }
 
-    @Operation(summary = "부품 통합 조회", description = "Querydsl 기반 통합 검색: q(code | name | category.name | carModel.name), categoryId|categoryName, carModelId|carModelName, enabled. 정렬 화이트리스트(code,name,price,createdAt,updatedAt)")
+    @Operation(summary = "부품 통합 조회", description = "Querydsl 기반 통합 검색: q(code | name | category.name | carModel.name), categoryId|categoryName, carModelId|carModelName, enabled. 정렬 화이트리스트(code,name,price,createdAt,updatedAt). ETag 제공, If-None-Match 일치 시 304")
     @GetMapping("/integrated")
     public ResponseEntity<CommonApiResponse<PageEnvelope<PartIntegratedItem>>> searchIntegrated(
             @RequestParam(required = false) String q,
@@ -111,8 +125,12 @@ public class PartsController {
             @RequestParam(required = false) Boolean enabled,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) List<String> sort
+            @RequestParam(required = false) List<String> sort,
+            WebRequest request
     ) {
+        if (ETags.notModified(request, partQueryService.searchVersion())) {
+            return null;
+        }
         int p = Math.max(0, page);
         int s = Math.max(1, Math.min(size, 100));
         Pageable pageable = PageRequest.of(p, s, parseSort(sort));
@@ -129,6 +147,16 @@ public class PartsController {
         return CommonApiResponse.success(SuccessStatus.SEND_PART_LIST_SUCCESS, envelope);
     }
 
+    @Operation(summary = "부품 자동완성", description = "활성 부품의 code/name 접두어로 상위 N건(id, code, name)을 반환합니다. 메모리 인덱스에서 응답하며 DB를 조회하지 않습니다. 한글 조합 중 입력(예: 브레잌) 및 초성(예: ㅂㄹㅇㅋ) 검색 지원. limit 기본 10, 최대 50")
+    @GetMapping("/suggest")
+    public ResponseEntity<CommonApiResponse<List<PartSuggestItem>>> suggest(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        int l = Math.max(1, Math.min(limit, 50));
+        return CommonApiResponse.success(SuccessStatus.SEND_PART_SUGGEST_SUCCESS, partQueryService.suggest(prefix, l));
+    }
+
     private Sort parseSort(List<String> sortParams) {
         if (sortParams == null || sortParams.isEmpty()) {
             return Sort.unsorted();
@@ -151,9 +179,12 @@ public class PartsController {
         }
     }
 
-    @Operation(summary = "부품 상세", description = "부품 ID로 상세를 조회합니다.")
+    @Operation(summary = "부품 상세", description = "부품 ID로 상세를 조회합니다. ETag 제공, If-None-Match 일치 시 304")
     @GetMapping("/{id}")
-    public ResponseEntity<CommonApiResponse<PartDetailResponse>> getPart(@PathVariable Long id) {
+    public ResponseEntity<CommonApiResponse<PartDetailResponse>> getPart(@PathVariable Long id, WebRequest request) {
+        if (ETags.notModified(request, partService.getVersion(id))) {
+            return null;
+        }
         return CommonApiResponse.success(SuccessStatus.SEND_PART_DETAIL_SUCCESS, partService.get(id));
     }
 
@@ -17,6 +17,7 @@ import com.gearfirst.warehouse.common.response.CommonApiResponse;
 import com.gearfirst.warehouse.common.response.PageEnvelope;
 import com.gearfirst.warehouse.common.response.SuccessStatus;
 import com.gearfirst.warehouse.common.response.ErrorStatus;
+import com.gearfirst.warehouse.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -41,6 +42,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 @Controller
 @RequestMapping("/api/v1")
@@ -63,7 +65,8 @@ public class PcmController {
                     + "- 정렬 화이트리스트: name, createdAt, updatedAt (무효 키는 name ASC, id DESC로 폴백)\n"
                     + "\n예시:\n"
                     + "GET /api/v1/car-models?q=avan&sort=name,asc&page=0&size=10\n"
-                    + "GET /api/v1/car-models?q=son&enabled=true&sort=createdAt,desc&sort=name,asc"
+                    + "GET /api/v1/car-models?q=son&enabled=true&sort=createdAt,desc&sort=name,asc\n"
+                    + "\nETag 제공, If-None-Match 일치 시 304"
     )
     @Parameters({
             @Parameter(name = "q", description = "모델명 부분 일치(대소문자 무시)", example = "avan"),
@@ -78,8 +81,12 @@ public class PcmController {
             @RequestParam(required = false) Boolean enabled,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) List<String> sort
+            @RequestParam(required = false) List<String> sort,
+            WebRequest request
     ) {
+        if (ETags.notModified(request, pcmService.carModelListVersion())) {
+            return null;
+        }
         int p = Math.max(0, page);
         int s = Math.max(1, Math.min(size, 100));
         String name = (q == null ? "" : q.trim());
@@ -144,15 +151,19 @@ public class PcmController {
         }
     }
 
-    @Operation(summary = "특정 부품을 사용하는 차량 모델 목록", description = "부품 ID로 차량 모델(CarModel) 목록을 조회합니다. 페이지/사이즈/정렬은 컨트롤러에서 래핑합니다.")
+    @Operation(summary = "특정 부품을 사용하는 차량 모델 목록", description = "부품 ID로 차량 모델(CarModel) 목록을 조회합니다. 페이지/사이즈/정렬은 컨트롤러에서 래핑합니다. ETag 제공, If-None-Match 일치 시 304")
     @GetMapping("/parts/{partId}/car-models")
     public ResponseEntity<CommonApiResponse<PageEnvelope<CarModelSummary>>> listCarModelsByPart(
             @PathVariable Long partId,
             @RequestParam(required = false) String name,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) List<String> sort
+            @RequestParam(required = false) List<String> sort,
+            WebRequest request
     ) {
+        if (ETags.notModified(request, pcmService.carModelsByPartVersion())) {
+            return null;
+        }
         int p = Math.max(0, page);
         int s = Math.max(1, Math.min(size, 100));
         List<CarModelSummary> all = pcmService.listCarModelsByPart(partId, name);
@@ -167,7 +178,7 @@ public class PcmController {
         return CommonApiResponse.success(SuccessStatus.SEND_PCM_CARMODEL_LIST_SUCCESS, envelope);
     }
 
-    @Operation(summary = "차량 모델에 적용 가능한 부품 목록", description = "차량 모델 ID로 부품(Part) 목록을 조회합니다. 페이지/사이즈/정렬은 컨트롤러에서 래핑합니다.")
+    @Operation(summary = "차량 모델에 적용 가능한 부품 목록", description = "차량 모델 ID로 부품(Part) 목록을 조회합니다. 정렬은 name,asc → code,asc 고정이며, 호환 비트맵 인덱스(차량 모델 ∩ 활성 ∩ 카테고리) 교집합 후 한 페이지만 조회합니다. ETag 제공, If-None-Match 일치 시 304")
     @GetMapping("/car-models/{carModelId}/parts")
     public ResponseEntity<CommonApiResponse<PageEnvelope<PartSummaryResponse>>> listPartsByCarModel(
             @PathVariable Long carModelId,
@@ -176,21 +187,17 @@ public class PcmController {
             @RequestParam(required = false) Long categoryId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) List<String> sort
+            @RequestParam(required = false) List<String> sort,
+            WebRequest request
     ) {
+        if (ETags.notModified(request, pcmService.partsByCarModelVersion())) {
+            return null;
+        }
         int p = Math.max(0, page);
         int s = Math.max(1, Math.min(size, 100));
-        List<PartSummaryResponse> all = pcmService.listPartsByCarModel(carModelId, code, name, categoryId);
-
-        Comparator<PartSummaryResponse> comp = Comparator
-                .comparing(PartSummaryResponse::name, String.CASE_INSENSITIVE_ORDER)
-                .thenComparing(PartSummaryResponse::code, String.CASE_INSENSITIVE_ORDER);
-        List<PartSummaryResponse> sorted = all.stream().sorted(comp).collect(Collectors.toList());
-
-        long total = sorted.size();
-        int from = Math.min(p * s, (int) total);
-        int to = Math.min(from + s, (int) total);
-        PageEnvelope<PartSummaryResponse> envelope = PageEnvelope.of(sorted.subList(from, to), p, s, total);
+        // name,asc → code,asc 고정 정렬로 서비스에서 페이지 조회 (호환 비트맵 교집합 + page fetch)
+        PageEnvelope<PartSummaryResponse> envelope =
+                pcmService.pagePartsByCarModel(carModelId, code, name, categoryId, p, s);
         return CommonApiResponse.success(SuccessStatus.SEND_PCM_PART_LIST_SUCCESS, envelope);
     }
 
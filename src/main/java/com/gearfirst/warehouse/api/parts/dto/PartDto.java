@@ -1,10 +1,14 @@
 package com.gearfirst.warehouse.api.parts.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PartDto {
     private Long id;
     private String partName;
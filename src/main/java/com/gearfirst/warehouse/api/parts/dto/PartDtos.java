@@ -52,4 +52,8 @@ public class PartDtos {
 
     public record CategoryRef(Long id, String name) {
     }
+
+    // 자동완성(typeahead) 항목
+    public record PartSuggestItem(Long id, String code, String name) {
+    }
 }
@@ -0,0 +1,35 @@
+package com.gearfirst.warehouse.api.parts.dto;
+
+import java.util.List;
+
+public class PartImportDtos {
+
+    /**
+     * 가져오기 1행. CSV 헤더/NDJSON 키 이름과 동일하다.
+     * 카테고리는 categoryId 또는 categoryName(대소문자 무시) 중 하나로 지정한다.
+     */
+    public record PartImportRow(
+            String code,
+            String name,
+            Integer price,
+            Long categoryId,
+            String categoryName,
+            String imageUrl,
+            Integer safetyStockQty,
+            String supplierName
+    ) {
+    }
+
+    // line: 1-based 원본 줄 번호 (CSV 헤더 포함)
+    public record RowError(long line, String code, String reason) {
+    }
+
+    public record PartImportResult(
+            long totalRows,
+            long imported,
+            long failed,
+            List<RowError> errors,
+            boolean errorsTruncated
+    ) {
+    }
+}
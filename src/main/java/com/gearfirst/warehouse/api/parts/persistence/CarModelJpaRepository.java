@@ -1,10 +1,13 @@
 package com.gearfirst.warehouse.api.parts.persistence;
 
 import com.gearfirst.warehouse.api.parts.persistence.entity.CarModelEntity;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface CarModelJpaRepository extends JpaRepository<CarModelEntity, Long> {
     boolean existsByNameIgnoreCase(String name);
@@ -14,4 +17,9 @@ public interface CarModelJpaRepository extends JpaRepository<CarModelEntity, Lon
     Page<CarModelEntity> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Page<CarModelEntity> findByEnabledAndNameContainingIgnoreCase(boolean enabled, String name, Pageable pageable);
+
+    // 부품별 차량 모델 이름 조회 (쿼리 캐시, car_model 쓰기 시 무효화)
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<CarModelEntity> findAllById(Iterable<Long> ids);
 }
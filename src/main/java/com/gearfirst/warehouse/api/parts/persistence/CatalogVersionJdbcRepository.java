@@ -0,0 +1,68 @@
+package com.gearfirst.warehouse.api.parts.persistence;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 카탈로그 조회 ETag용 버전 조회. 엔티티를 로드하지 않고 updated_at만 읽는다.
+ * 부품/카테고리/차량 모델/매핑은 모두 soft delete(enabled=false)라 행이 사라지지 않으므로
+ * 목록 버전은 관련 테이블의 max(updated_at)으로 충분하다 (생성 시에도 updated_at이 기록됨).
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogVersionJdbcRepository {
+
+    public enum CatalogTable {
+        PART("part"),
+        CATEGORY("part_category"),
+        CAR_MODEL("car_model"),
+        PART_CAR_MODEL("part_car_model");
+
+        private final String table;
+
+        CatalogTable(String table) {
+            this.table = table;
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** 부품 + 소속 카테고리(이름이 응답에 포함됨). 부품이 없으면 null */
+    public String findPartVersion(Long partId) {
+        return jdbc.query("""
+                select p.updated_at, c.updated_at
+                  from part p
+                  left join part_category c on c.id = p.category_id
+                 where p.id = :id
+                """, new MapSqlParameterSource("id", partId),
+                rs -> rs.next() ? "part:" + partId + ":" + rs.getTimestamp(1) + ":" + rs.getTimestamp(2) : null);
+    }
+
+    /** 카테고리가 없으면 null */
+    public String findCategoryVersion(Long categoryId) {
+        return jdbc.query("select updated_at from part_category where id = :id",
+                new MapSqlParameterSource("id", categoryId),
+                rs -> rs.next() ? "category:" + categoryId + ":" + rs.getTimestamp(1) : null);
+    }
+
+    /** 테이블별 max(updated_at)을 한 번의 쿼리로 묶는다 (part.updated_at은 인덱스 사용) */
+    public String findLatestVersion(CatalogTable... tables) {
+        String select = Arrays.stream(tables)
+                .map(t -> "(select max(updated_at) from " + t.table + ")")
+                .collect(Collectors.joining(", "));
+        return jdbc.getJdbcTemplate().query("select " + select, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < tables.length; i++) {
+                sb.append(tables[i].name()).append(':').append(rs.getTimestamp(i + 1)).append(';');
+            }
+            return sb.toString();
+        });
+    }
+}
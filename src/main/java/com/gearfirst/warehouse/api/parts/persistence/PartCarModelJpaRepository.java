@@ -1,15 +1,20 @@
 package com.gearfirst.warehouse.api.parts.persistence;
 
 import com.gearfirst.warehouse.api.parts.persistence.entity.PartCarModelEntity;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface PartCarModelJpaRepository extends JpaRepository<PartCarModelEntity, Long> {
     long countByPartIdAndEnabledTrue(Long partId);
 
     long countByCarModelIdAndEnabledTrue(Long carModelId);
 
+    // 쿼리 캐시는 id 목록만 담고 엔티티는 2차 캐시에서 채운다 (part_car_model 쓰기 시 무효화)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<PartCarModelEntity> findByPartIdAndEnabledTrue(Long partId);
 
     List<PartCarModelEntity> findByCarModelIdAndEnabledTrue(Long carModelId);
@@ -17,4 +22,7 @@ public interface PartCarModelJpaRepository extends JpaRepository<PartCarModelEnt
     boolean existsByPartIdAndCarModelId(Long partId, Long carModelId);
 
     Optional<PartCarModelEntity> findByPartIdAndCarModelId(Long partId, Long carModelId);
+
+    // In-memory index warm-up (compatibility bitmaps)
+    List<PartCarModelEntity> findByEnabledTrue();
 }
@@ -1,8 +1,21 @@
 package com.gearfirst.warehouse.api.parts.persistence;
 
 import com.gearfirst.warehouse.api.parts.persistence.entity.PartCategoryEntity;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface PartCategoryJpaRepository extends JpaRepository<PartCategoryEntity, Long> {
     boolean existsByNameIgnoreCase(String name);
+
+    // 카테고리 목록/이름 조회는 거의 모든 부품 조회에 붙으므로 쿼리 캐시 (part_category 쓰기 시 무효화)
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<PartCategoryEntity> findAll();
+
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<PartCategoryEntity> findAllById(Iterable<Long> ids);
 }
@@ -0,0 +1,92 @@
+package com.gearfirst.warehouse.api.parts.persistence;
+
+import com.gearfirst.warehouse.api.parts.dto.PartImportDtos.PartImportRow;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 대량 가져오기 전용 JDBC 경로. JPA 영속성 컨텍스트/IDENTITY 단건 insert를 우회해 배치로 기록한다.
+ * (드라이버 URL의 reWriteBatchedInserts=true와 함께 multi-row insert로 재작성됨)
+ * <p>
+ * Hibernate를 거치지 않으므로 2차 캐시 무효화가 일어나지 않는다. 새 행 insert만 하고 part 테이블을 읽는 쿼리 캐시가
+ * 없어 문제없지만, 기존 행 update나 part 쿼리 캐시를 추가하면 SessionFactory.getCache()로 직접 evict해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into part (code, name, supplier_name, price, category_id, image_url, safety_stock_qty, enabled,
+                              created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, true, ?, ?)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** rows는 검증 완료 상태여야 한다 (code/name trim, categoryId 확정) */
+    public void batchInsert(List<PartImportRow> rows, LocalDateTime now) {
+        Timestamp ts = Timestamp.valueOf(now);
+        jdbc.getJdbcTemplate().batchUpdate(INSERT_SQL, rows, rows.size(), (ps, r) -> {
+            ps.setString(1, r.code());
+            ps.setString(2, r.name());
+            if (r.supplierName() == null) {
+                ps.setNull(3, Types.VARCHAR);
+            } else {
+                ps.setString(3, r.supplierName());
+            }
+            ps.setInt(4, r.price());
+            ps.setLong(5, r.categoryId());
+            if (r.imageUrl() == null) {
+                ps.setNull(6, Types.VARCHAR);
+            } else {
+                ps.setString(6, r.imageUrl());
+            }
+            ps.setInt(7, r.safetyStockQty() == null ? 0 : r.safetyStockQty());
+            ps.setTimestamp(8, ts);
+            ps.setTimestamp(9, ts);
+        });
+    }
+
+    /** code → id (방금 insert한 행의 id 확인용) */
+    public Map<String, Long> findIdsByCodes(Collection<String> codes) {
+        Map<String, Long> out = new HashMap<>();
+        if (codes.isEmpty()) {
+            return out;
+        }
+        jdbc.query("select id, code from part where code in (:codes)",
+                new MapSqlParameterSource("codes", codes),
+                rs -> {
+                    out.put(rs.getString("code"), rs.getLong("id"));
+                });
+        return out;
+    }
+
+    /** 기존 code 전체(소문자). 중복 검사 preload용 */
+    public Set<String> findAllCodesLowerCase() {
+        Set<String> out = new HashSet<>();
+        jdbc.getJdbcTemplate().query("select lower(code) from part", rs -> {
+            out.add(rs.getString(1));
+        });
+        return out;
+    }
+
+    /** 소문자 code → id 전체. 실사 가져오기에서 행마다 조회하지 않도록 preload */
+    public Map<String, Long> findIdsByCodeLowerCase() {
+        Map<String, Long> out = new HashMap<>();
+        jdbc.getJdbcTemplate().query("select lower(code), id from part", rs -> {
+            out.put(rs.getString(1), rs.getLong(2));
+        });
+        return out;
+    }
+}
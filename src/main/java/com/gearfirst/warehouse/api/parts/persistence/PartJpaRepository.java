@@ -1,10 +1,13 @@
 package com.gearfirst.warehouse.api.parts.persistence;
 
 import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PartJpaRepository extends JpaRepository<PartEntity, Long> {
     boolean existsByCodeIgnoreCase(String code);
@@ -15,6 +18,9 @@ public interface PartJpaRepository extends JpaRepository<PartEntity, Long> {
 
     List<PartEntity> findByCategoryId(Long categoryId);
 
+    // In-memory index warm-up (suggest)
+    List<PartEntity> findByEnabledTrue();
+
     // Server-side pagination & filtering for list API
     Page<PartEntity> findByEnabledTrueAndCodeContainingIgnoreCaseAndNameContainingIgnoreCase(
             String code,
@@ -28,4 +34,62 @@ public interface PartJpaRepository extends JpaRepository<PartEntity, Long> {
             Long categoryId,
             Pageable pageable
     );
+
+    // Page fetch over a pre-computed id set (compatibility bitmap)
+    Page<PartEntity> findByIdInAndCodeContainingIgnoreCaseAndNameContainingIgnoreCase(
+            Collection<Long> ids,
+            String code,
+            String name,
+            Pageable pageable
+    );
+
+    // Page fetch by car model without materializing the id set (index not ready or id set too large)
+    @Query(value = """
+            select p from PartEntity p
+             where p.enabled = true
+               and lower(p.code) like lower(concat('%', :code, '%'))
+               and lower(p.name) like lower(concat('%', :name, '%'))
+               and exists (select 1 from PartCarModelEntity m
+                            where m.partId = p.id and m.carModelId = :carModelId and m.enabled = true)
+            """,
+            countQuery = """
+            select count(p) from PartEntity p
+             where p.enabled = true
+               and lower(p.code) like lower(concat('%', :code, '%'))
+               and lower(p.name) like lower(concat('%', :name, '%'))
+               and exists (select 1 from PartCarModelEntity m
+                            where m.partId = p.id and m.carModelId = :carModelId and m.enabled = true)
+            """)
+    Page<PartEntity> pageEnabledByCarModel(
+            @Param("carModelId") Long carModelId,
+            @Param("code") String code,
+            @Param("name") String name,
+            Pageable pageable
+    );
+
+    @Query(value = """
+            select p from PartEntity p
+             where p.enabled = true
+               and p.categoryId = :categoryId
+               and lower(p.code) like lower(concat('%', :code, '%'))
+               and lower(p.name) like lower(concat('%', :name, '%'))
+               and exists (select 1 from PartCarModelEntity m
+                            where m.partId = p.id and m.carModelId = :carModelId and m.enabled = true)
+            """,
+            countQuery = """
+            select count(p) from PartEntity p
+             where p.enabled = true
+               and p.categoryId = :categoryId
+               and lower(p.code) like lower(concat('%', :code, '%'))
+               and lower(p.name) like lower(concat('%', :name, '%'))
+               and exists (select 1 from PartCarModelEntity m
+                            where m.partId = p.id and m.carModelId = :carModelId and m.enabled = true)
+            """)
+    Page<PartEntity> pageEnabledByCarModelAndCategory(
+            @Param("carModelId") Long carModelId,
+            @Param("categoryId") Long categoryId,
+            @Param("code") String code,
+            @Param("name") String name,
+            Pageable pageable
+    );
 }
@@ -24,6 +24,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -286,6 +287,8 @@ public class PartQueryRepositoryImpl implements PartQueryRepository {
                 .where(pcm.partId.in(partIds)
                         .and(pcm.enabled.isTrue())
                         .and(m.enabled.isTrue()))
+                // 같은 페이지 재조회가 잦다. part_car_model/car_model 쓰기 시 Hibernate가 무효화
+                .setHint(AvailableHints.HINT_CACHEABLE, true)
                 .fetch();
 
         Map<Long, List<CarModelSummary>> map = new HashMap<>();
@@ -1,6 +1,8 @@
 package com.gearfirst.warehouse.api.parts.persistence.entity;
 
+import com.gearfirst.warehouse.common.config.SecondLevelCacheConfig;
 import com.gearfirst.warehouse.common.entity.BaseTimeEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -14,11 +16,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "car_model", uniqueConstraints = {
         @UniqueConstraint(name = "UQ_carmodel_name", columnNames = {"name"})
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.CAR_MODEL_REGION)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -1,6 +1,8 @@
 package com.gearfirst.warehouse.api.parts.persistence.entity;
 
+import com.gearfirst.warehouse.common.config.SecondLevelCacheConfig;
 import com.gearfirst.warehouse.common.entity.BaseTimeEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -15,6 +17,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "part_car_model",
@@ -26,6 +30,8 @@ import lombok.Setter;
                 @Index(name = "IDX_pcm_part", columnList = "partId")
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PART_CAR_MODEL_REGION)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
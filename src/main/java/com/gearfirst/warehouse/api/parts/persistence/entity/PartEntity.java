@@ -1,6 +1,8 @@
 package com.gearfirst.warehouse.api.parts.persistence.entity;
 
+import com.gearfirst.warehouse.common.config.SecondLevelCacheConfig;
 import com.gearfirst.warehouse.common.entity.BaseTimeEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -17,6 +19,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(
@@ -28,6 +32,8 @@ import lombok.Setter;
         @Index(name = "IDX_part_updated_at", columnList = "updatedAt")
     }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PART_REGION)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
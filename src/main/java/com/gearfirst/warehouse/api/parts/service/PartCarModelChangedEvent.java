@@ -0,0 +1,11 @@
+package com.gearfirst.warehouse.api.parts.service;
+
+/**
+ * 부품–차량 모델 매핑 생성/수정/삭제(soft) 후 발행되는 도메인 이벤트.
+ */
+public record PartCarModelChangedEvent(
+        Long partId,
+        Long carModelId,
+        boolean enabled
+) {
+}
@@ -5,6 +5,7 @@ import com.gearfirst.warehouse.api.parts.dto.PartCarModelDtos.CreateMappingReque
 import com.gearfirst.warehouse.api.parts.dto.PartCarModelDtos.PartCarModelDetail;
 import com.gearfirst.warehouse.api.parts.dto.PartCarModelDtos.UpdateMappingRequest;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSummaryResponse;
+import com.gearfirst.warehouse.common.response.PageEnvelope;
 import java.util.List;
 
 public interface PartCarModelService {
@@ -12,6 +13,16 @@ public interface PartCarModelService {
 
     List<PartSummaryResponse> listPartsByCarModel(Long carModelId, String code, String name, Long categoryId);
 
+    PageEnvelope<PartSummaryResponse> pagePartsByCarModel(Long carModelId, String code, String name, Long categoryId,
+                                                          int page, int size);
+
+    // ETag용 버전 (엔티티 로드 없이 관련 테이블의 updated_at만 조회)
+    String carModelListVersion();
+
+    String carModelsByPartVersion();
+
+    String partsByCarModelVersion();
+
     PartCarModelDetail createMapping(Long partId, CreateMappingRequest request);
 
     PartCarModelDetail updateMapping(Long partId, Long carModelId, UpdateMappingRequest request);
@@ -7,6 +7,8 @@ import com.gearfirst.warehouse.api.parts.dto.PartCarModelDtos.UpdateMappingReque
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.CategoryRef;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSummaryResponse;
 import com.gearfirst.warehouse.api.parts.persistence.CarModelJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.CatalogVersionJdbcRepository;
+import com.gearfirst.warehouse.api.parts.persistence.CatalogVersionJdbcRepository.CatalogTable;
 import com.gearfirst.warehouse.api.parts.persistence.PartCarModelJpaRepository;
 import com.gearfirst.warehouse.api.parts.persistence.PartCategoryJpaRepository;
 import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
@@ -16,6 +18,9 @@ import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
 import com.gearfirst.warehouse.common.exception.ConflictException;
 import com.gearfirst.warehouse.common.exception.NotFoundException;
 import com.gearfirst.warehouse.common.response.ErrorStatus;
+import com.gearfirst.warehouse.common.response.PageEnvelope;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +28,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,10 +44,17 @@ public class PartCarModelServiceImpl implements PartCarModelService {
     private final CarModelJpaRepository carModelRepo;
     private final PartJpaRepository partRepo;
     private final PartCategoryJpaRepository categoryRepo;
+    private final PartCompatibilityIndex compatibilityIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogVersionJdbcRepository versionRepo;
+
+    // Above this an IN-list would approach driver bind limits (32767); page by car model or chunk instead
+    static final int MAX_IN_IDS = 10_000;
 
     @Override
     public List<CarModelSummary> listCarModelsByPart(Long partId, String name) {
-        if (partId == null || !partRepo.existsById(partId)) {
+        // existsById는 매번 select count를 날리므로 findById로 2차 캐시(엔티티)를 탄다
+        if (partId == null || partRepo.findById(partId).isEmpty()) {
             throw new NotFoundException("Part not found: " + partId);
         }
         String kw = name == null ? "" : name;
@@ -58,17 +74,20 @@ public class PartCarModelServiceImpl implements PartCarModelService {
 
     @Override
     public List<PartSummaryResponse> listPartsByCarModel(Long carModelId, String code, String name, Long categoryId) {
-        if (carModelId == null || !carModelRepo.existsById(carModelId)) {
+        if (carModelId == null || carModelRepo.findById(carModelId).isEmpty()) {
             throw new NotFoundException("CarModel not found: " + carModelId);
         }
         String c = code == null ? "" : code;
         String n = name == null ? "" : name;
-        var mappings = pcmRepo.findByCarModelIdAndEnabledTrue(carModelId);
-        if (mappings.isEmpty()) {
+        Collection<Long> partIds = compatibilityIndex.partIds(carModelId, categoryId).orElse(null);
+        if (partIds == null) {
+            var mappings = pcmRepo.findByCarModelIdAndEnabledTrue(carModelId);
+            partIds = mappings.stream().map(m -> m.getPartId()).collect(Collectors.toSet());
+        }
+        if (partIds.isEmpty()) {
             return List.of();
         }
-        Set<Long> partIds = mappings.stream().map(m -> m.getPartId()).collect(Collectors.toSet());
-        List<PartEntity> parts = partRepo.findAllById(partIds).stream()
+        List<PartEntity> parts = findAllByIdChunked(partIds).stream()
                 .filter(p -> p.isEnabled())
                 .filter(p -> c.isBlank() || p.getCode().toLowerCase().contains(c.toLowerCase()))
                 .filter(p -> n.isBlank() || p.getName().toLowerCase().contains(n.toLowerCase()))
@@ -88,13 +107,80 @@ public class PartCarModelServiceImpl implements PartCarModelService {
         return summaries;
     }
 
+    @Override
+    public PageEnvelope<PartSummaryResponse> pagePartsByCarModel(Long carModelId, String code, String name,
+                                                                 Long categoryId, int page, int size) {
+        if (carModelId == null || carModelRepo.findById(carModelId).isEmpty()) {
+            throw new NotFoundException("CarModel not found: " + carModelId);
+        }
+        int p = Math.max(0, page);
+        int s = Math.max(1, Math.min(size, 100));
+        var ids = compatibilityIndex.partIds(carModelId, categoryId)
+                .filter(list -> list.size() <= MAX_IN_IDS)
+                .orElse(null);
+        if (ids != null && ids.isEmpty()) {
+            return PageEnvelope.of(List.of(), p, s, 0);
+        }
+        var pageable = PageRequest.of(p, s,
+                Sort.by(Sort.Order.asc("name").ignoreCase(), Sort.Order.asc("code").ignoreCase()));
+        String c = code == null ? "" : code;
+        String n = name == null ? "" : name;
+        Page<PartEntity> pageData;
+        if (ids != null) {
+            // bitmap AND (carModel ∩ enabled ∩ category) → single page fetch sorted by name, code
+            pageData = partRepo.findByIdInAndCodeContainingIgnoreCaseAndNameContainingIgnoreCase(ids, c, n, pageable);
+        } else if (categoryId == null) {
+            // Index not ready (or id set too large): page in the DB via mapping subquery, no IN list
+            pageData = partRepo.pageEnabledByCarModel(carModelId, c, n, pageable);
+        } else {
+            pageData = partRepo.pageEnabledByCarModelAndCategory(carModelId, categoryId, c, n, pageable);
+        }
+        List<PartEntity> parts = pageData.getContent();
+        Set<Long> categoryIds = parts.stream().map(PartEntity::getCategoryId).collect(Collectors.toSet());
+        Map<Long, String> catNames = categoryRepo.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(PartCategoryEntity::getId, PartCategoryEntity::getName));
+        var items = parts.stream()
+                .map(pe -> new PartSummaryResponse(pe.getId(), pe.getCode(), pe.getName(),
+                        new CategoryRef(pe.getCategoryId(), catNames.get(pe.getCategoryId()))))
+                .toList();
+        return PageEnvelope.of(items, p, s, pageData.getTotalElements());
+    }
+
+    // findAllById over MAX_IN_IDS-sized chunks so a large compatibility set never becomes one huge IN list
+    private List<PartEntity> findAllByIdChunked(Collection<Long> ids) {
+        if (ids.size() <= MAX_IN_IDS) {
+            return partRepo.findAllById(ids);
+        }
+        List<Long> all = List.copyOf(ids);
+        List<PartEntity> out = new ArrayList<>(all.size());
+        for (int from = 0; from < all.size(); from += MAX_IN_IDS) {
+            out.addAll(partRepo.findAllById(all.subList(from, Math.min(from + MAX_IN_IDS, all.size()))));
+        }
+        return out;
+    }
+
+    @Override
+    public String carModelListVersion() {
+        return versionRepo.findLatestVersion(CatalogTable.CAR_MODEL);
+    }
+
+    @Override
+    public String carModelsByPartVersion() {
+        return versionRepo.findLatestVersion(CatalogTable.PART_CAR_MODEL, CatalogTable.CAR_MODEL);
+    }
+
+    @Override
+    public String partsByCarModelVersion() {
+        return versionRepo.findLatestVersion(CatalogTable.PART_CAR_MODEL, CatalogTable.PART, CatalogTable.CATEGORY);
+    }
+
     @Override
     @Transactional
     public PartCarModelDetail createMapping(Long partId, CreateMappingRequest request) {
-        if (partId == null || !partRepo.existsById(partId)) {
+        if (partId == null || partRepo.findById(partId).isEmpty()) {
             throw new NotFoundException("Part not found: " + partId);
         }
-        if (request == null || request.carModelId() == null || !carModelRepo.existsById(request.carModelId())) {
+        if (request == null || request.carModelId() == null || carModelRepo.findById(request.carModelId()).isEmpty()) {
             throw new NotFoundException("CarModel not found: " + (request == null ? null : request.carModelId()));
         }
         Optional<PartCarModelEntity> existingOpt = pcmRepo.findByPartIdAndCarModelId(partId, request.carModelId());
@@ -108,6 +194,7 @@ public class PartCarModelServiceImpl implements PartCarModelService {
             existing.setEnabled(enableVal);
             existing.setNote(request.note());
             var saved = pcmRepo.save(existing);
+            publishChanged(saved);
             return toDetail(saved);
         }
         var entity = PartCarModelEntity.builder()
@@ -117,6 +204,7 @@ public class PartCarModelServiceImpl implements PartCarModelService {
                 .enabled(enableVal)
                 .build();
         var saved = pcmRepo.save(entity);
+        publishChanged(saved);
         return toDetail(saved);
     }
 
@@ -135,6 +223,7 @@ public class PartCarModelServiceImpl implements PartCarModelService {
             }
         }
         var saved = pcmRepo.save(pcm);
+        publishChanged(saved);
         return toDetail(saved);
     }
 
@@ -146,6 +235,12 @@ public class PartCarModelServiceImpl implements PartCarModelService {
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.PCM_NOT_FOUND.getMessage()));
         pcm.setEnabled(false);
         pcmRepo.save(pcm);
+        publishChanged(pcm);
+    }
+
+    // 비트맵 인덱스는 커밋 후 이벤트로 갱신된다
+    private void publishChanged(PartCarModelEntity e) {
+        eventPublisher.publishEvent(new PartCarModelChangedEvent(e.getPartId(), e.getCarModelId(), e.isEnabled()));
     }
 
     private PartCarModelDetail toDetail(PartCarModelEntity e) {
@@ -11,6 +11,11 @@ public interface PartCategoryService {
 
     CategoryDetailResponse get(Long id);
 
+    // ETag용 버전 (엔티티 로드 없이 updated_at만 조회). 대상이 없으면 null
+    String listVersion();
+
+    String getVersion(Long id);
+
     CategoryDetailResponse create(CreateCategoryRequest req);
 
     CategoryDetailResponse update(Long id, UpdateCategoryRequest req);
@@ -4,6 +4,8 @@ import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.CategoryDetailResponse
 import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.CategorySummaryResponse;
 import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.CreateCategoryRequest;
 import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.UpdateCategoryRequest;
+import com.gearfirst.warehouse.api.parts.persistence.CatalogVersionJdbcRepository;
+import com.gearfirst.warehouse.api.parts.persistence.CatalogVersionJdbcRepository.CatalogTable;
 import com.gearfirst.warehouse.api.parts.persistence.PartCategoryJpaRepository;
 import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
 import com.gearfirst.warehouse.api.parts.persistence.entity.PartCategoryEntity;
@@ -25,6 +27,7 @@ public class PartCategoryServiceImpl implements PartCategoryService {
 
     private final PartCategoryJpaRepository categoryRepo;
     private final PartJpaRepository partRepo;
+    private final CatalogVersionJdbcRepository versionRepo;
 
     @Override
     @Transactional(readOnly = true)
@@ -51,6 +54,18 @@ public class PartCategoryServiceImpl implements PartCategoryService {
                 ));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String listVersion() {
+        return versionRepo.findLatestVersion(CatalogTable.CATEGORY);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getVersion(Long id) {
+        return versionRepo.findCategoryVersion(id);
+    }
+
     @Override
     public CategoryDetailResponse create(CreateCategoryRequest req) {
         if (req == null || req.name() == null || req.name().trim().length() < 2 || req.name().length() > 50) {
@@ -0,0 +1,14 @@
+package com.gearfirst.warehouse.api.parts.service;
+
+/**
+ * 부품 생성/수정/삭제(soft) 후 발행되는 도메인 이벤트.
+ * 메모리 인덱스(자동완성 등)는 커밋 이후 이 이벤트로 증분 갱신한다.
+ */
+public record PartChangedEvent(
+        Long id,
+        String code,
+        String name,
+        Long categoryId,
+        boolean enabled
+) {
+}
@@ -0,0 +1,187 @@
+package com.gearfirst.warehouse.api.parts.service;
+
+import com.gearfirst.warehouse.api.parts.persistence.PartCarModelJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartCarModelEntity;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 차량 모델/카테고리별 부품 id 집합을 압축 비트맵(Roaring)으로 유지하는 메모리 인덱스.
+ * - carModel 집합 AND enabled 부품 AND (category 집합) 으로 적용 부품 id를 매핑 테이블 조회 없이 계산한다.
+ * - 기동 시 1회 적재, 이후 매핑/부품 변경 이벤트로 커밋 후 증분 갱신.
+ * - 준비 전이거나 int 범위를 넘는 id를 만나면 not-ready로 두고 호출측이 DB 경로로 폴백한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartCompatibilityIndex {
+
+    private final PartJpaRepository partRepo;
+    private final PartCarModelJpaRepository pcmRepo;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RoaringBitmap> byCarModel = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<Integer, Long> categoryOfPart = new HashMap<>();
+    private final RoaringBitmap enabledParts = new RoaringBitmap();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            boolean ok = true;
+            List<PartEntity> parts = partRepo.findByEnabledTrue();
+            for (PartEntity p : parts) {
+                ok &= applyPart(p.getId(), p.getCategoryId(), true);
+            }
+            List<PartCarModelEntity> mappings = pcmRepo.findByEnabledTrue();
+            for (PartCarModelEntity m : mappings) {
+                ok &= applyMapping(m.getPartId(), m.getCarModelId(), true);
+            }
+            ready = ok;
+            log.info("Part compatibility index loaded: {} parts, {} mappings, ready={}", parts.size(),
+                    mappings.size(), ok);
+        } catch (Exception e) {
+            ready = false;
+            log.warn("Part compatibility index warm-up failed; falling back to DB lookups", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartChanged(PartChangedEvent e) {
+        if (e == null || e.id() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!applyPart(e.id(), e.categoryId(), e.enabled())) {
+                ready = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMappingChanged(PartCarModelChangedEvent e) {
+        if (e == null || e.partId() == null || e.carModelId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!applyMapping(e.partId(), e.carModelId(), e.enabled())) {
+                ready = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 차량 모델에 적용 가능한 활성 부품 id(오름차순). categoryId가 있으면 교집합.
+     * 인덱스가 준비되지 않았으면 empty → 호출측은 DB 경로를 사용한다.
+     */
+    public Optional<List<Long>> partIds(Long carModelId, Long categoryId) {
+        if (!ready || carModelId == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap models = byCarModel.get(carModelId);
+            if (models == null) {
+                return Optional.of(List.of());
+            }
+            RoaringBitmap result = RoaringBitmap.and(models, enabledParts);
+            if (categoryId != null) {
+                RoaringBitmap cats = byCategory.get(categoryId);
+                if (cats == null) {
+                    return Optional.of(List.of());
+                }
+                result.and(cats);
+            }
+            return Optional.of(Arrays.stream(result.toArray()).mapToObj(i -> (long) i).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear() {
+        byCarModel.clear();
+        byCategory.clear();
+        categoryOfPart.clear();
+        enabledParts.clear();
+    }
+
+    private boolean applyPart(Long partId, Long categoryId, boolean enabled) {
+        Integer id = toIntId(partId);
+        if (id == null) {
+            return false;
+        }
+        Long prevCategory = categoryOfPart.remove(id);
+        if (prevCategory != null) {
+            removeFrom(byCategory, prevCategory, id);
+        }
+        if (enabled) {
+            enabledParts.add(id);
+            if (categoryId != null) {
+                byCategory.computeIfAbsent(categoryId, k -> new RoaringBitmap()).add(id);
+                categoryOfPart.put(id, categoryId);
+            }
+        } else {
+            enabledParts.remove(id);
+        }
+        return true;
+    }
+
+    private boolean applyMapping(Long partId, Long carModelId, boolean enabled) {
+        Integer id = toIntId(partId);
+        if (id == null) {
+            return false;
+        }
+        if (enabled) {
+            byCarModel.computeIfAbsent(carModelId, k -> new RoaringBitmap()).add(id);
+        } else {
+            removeFrom(byCarModel, carModelId, id);
+        }
+        return true;
+    }
+
+    private static void removeFrom(Map<Long, RoaringBitmap> bitmaps, Long key, int id) {
+        RoaringBitmap bm = bitmaps.get(key);
+        if (bm != null) {
+            bm.remove(id);
+            if (bm.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static Integer toIntId(Long id) {
+        if (id == null || id < 0 || id > Integer.MAX_VALUE) {
+            log.warn("Part id {} is outside the bitmap range; compatibility index disabled", id);
+            return null;
+        }
+        return id.intValue();
+    }
+}
@@ -0,0 +1,196 @@
+package com.gearfirst.warehouse.api.parts.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.parts.dto.PartImportDtos.PartImportRow;
+import com.gearfirst.warehouse.common.exception.BadRequestException;
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부품 가져오기 입력을 한 줄씩 읽는 스트리밍 파서 (CSV | NDJSON).
+ * 전체 파일을 메모리에 올리지 않으며, 행 단위 파싱 오류는 예외 대신 {@link Parsed#error()}로 돌려준다.
+ * CSV: 첫 줄은 헤더(대소문자 무시), 큰따옴표 인용/이스케이프("") 지원, 인용 필드 내 줄바꿈은 미지원.
+ */
+public class PartImportRowReader implements Closeable {
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /** format 파라미터 → Content-Type → 파일 확장자 순으로 판별 */
+        public static Format resolve(String format, String contentType, String filename) {
+            String f = format == null ? "" : format.trim().toLowerCase(Locale.ROOT);
+            String ct = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+            String fn = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+            if (f.equals("csv") || (f.isEmpty() && (ct.startsWith("text/csv") || fn.endsWith(".csv")))) {
+                return CSV;
+            }
+            if (f.equals("ndjson") || f.equals("jsonl")
+                    || (f.isEmpty() && (ct.contains("ndjson") || fn.endsWith(".ndjson") || fn.endsWith(".jsonl")))) {
+                return NDJSON;
+            }
+            throw new BadRequestException(ErrorStatus.PART_IMPORT_FORMAT_INVALID);
+        }
+    }
+
+    public record Parsed(long line, PartImportRow row, String error) {
+    }
+
+    private static final List<String> COLUMNS = List.of(
+            "code", "name", "price", "categoryid", "categoryname", "imageurl", "safetystockqty", "suppliername");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> header = new HashMap<>();
+    private long lineNo;
+
+    public PartImportRowReader(InputStream in, Format format, ObjectMapper objectMapper) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == Format.CSV) {
+            readHeader();
+        }
+    }
+
+    private void readHeader() throws IOException {
+        String line = nextNonBlankLine();
+        if (line == null) {
+            throw new BadRequestException(ErrorStatus.PART_IMPORT_FORMAT_INVALID);
+        }
+        List<String> cols = splitCsv(line);
+        if (cols == null) {
+            throw new BadRequestException(ErrorStatus.PART_IMPORT_FORMAT_INVALID);
+        }
+        for (int i = 0; i < cols.size(); i++) {
+            String key = cols.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "");
+            if (COLUMNS.contains(key)) {
+                header.putIfAbsent(key, i);
+            }
+        }
+        boolean hasCategory = header.containsKey("categoryid") || header.containsKey("categoryname");
+        if (!header.containsKey("code") || !header.containsKey("name") || !header.containsKey("price")
+                || !hasCategory) {
+            throw new BadRequestException(ErrorStatus.PART_IMPORT_FORMAT_INVALID);
+        }
+    }
+
+    /** 다음 행. 입력 끝이면 null */
+    public Parsed next() throws IOException {
+        String line = nextNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+        return format == Format.CSV ? parseCsvRow(line) : parseJsonRow(line);
+    }
+
+    private String nextNonBlankLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (lineNo == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private Parsed parseJsonRow(String line) {
+        try {
+            return new Parsed(lineNo, objectMapper.readValue(line, PartImportRow.class), null);
+        } catch (Exception e) {
+            return new Parsed(lineNo, null, "JSON 형식 오류");
+        }
+    }
+
+    private Parsed parseCsvRow(String line) {
+        List<String> cells = splitCsv(line);
+        if (cells == null) {
+            return new Parsed(lineNo, null, "CSV 인용부호가 닫히지 않았습니다.");
+        }
+        try {
+            var row = new PartImportRow(
+                    cell(cells, "code"),
+                    cell(cells, "name"),
+                    toInt(cell(cells, "price")),
+                    toLong(cell(cells, "categoryid")),
+                    cell(cells, "categoryname"),
+                    cell(cells, "imageurl"),
+                    toInt(cell(cells, "safetystockqty")),
+                    cell(cells, "suppliername")
+            );
+            return new Parsed(lineNo, row, null);
+        } catch (NumberFormatException e) {
+            return new Parsed(lineNo, null, "숫자 형식 오류");
+        }
+    }
+
+    private String cell(List<String> cells, String column) {
+        Integer idx = header.get(column);
+        if (idx == null || idx >= cells.size()) {
+            return null;
+        }
+        String v = cells.get(idx).trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    private static Integer toInt(String s) {
+        return s == null ? null : Integer.valueOf(s);
+    }
+
+    private static Long toLong(String s) {
+        return s == null ? null : Long.valueOf(s);
+    }
+
+    /** RFC 4180 단일 줄 분리. 인용부호가 닫히지 않으면 null */
+    public static List<String> splitCsv(String line) {
+        List<String> out = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        cur.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    cur.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                out.add(cur.toString());
+                cur.setLength(0);
+            } else {
+                cur.append(ch);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        out.add(cur.toString());
+        return out;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,9 @@
+package com.gearfirst.warehouse.api.parts.service;
+
+import com.gearfirst.warehouse.api.parts.dto.PartImportDtos.PartImportResult;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Format;
+import java.io.InputStream;
+
+public interface PartImportService {
+    PartImportResult importParts(InputStream in, Format format);
+}
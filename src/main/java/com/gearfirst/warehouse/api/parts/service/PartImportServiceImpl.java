@@ -0,0 +1,218 @@
+package com.gearfirst.warehouse.api.parts.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.parts.dto.PartDto;
+import com.gearfirst.warehouse.api.parts.dto.PartImportDtos.PartImportResult;
+import com.gearfirst.warehouse.api.parts.dto.PartImportDtos.PartImportRow;
+import com.gearfirst.warehouse.api.parts.dto.PartImportDtos.RowError;
+import com.gearfirst.warehouse.api.parts.persistence.PartCategoryJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.PartJdbcRepository;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartCategoryEntity;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Format;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Parsed;
+import com.gearfirst.warehouse.common.outbox.OutboxPublisher;
+import com.gearfirst.warehouse.common.outbox.OutboxPublisher.Message;
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 부품 대량 가져오기.
+ * - 입력은 스트리밍으로 읽고 chunk 단위(기본 500행)로 검증 → JDBC 배치 insert + create-part outbox 일괄 기록 → 커밋.
+ * - 카테고리(id/이름)와 기존 code 집합은 시작 시 1회 preload하여 행마다 DB를 조회하지 않는다.
+ * - chunk마다 독립 트랜잭션이므로 실패한 chunk만 오류로 보고되고 앞선 chunk는 유지된다.
+ */
+@Slf4j
+@Service
+public class PartImportServiceImpl implements PartImportService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final PartCategoryJpaRepository categoryRepo;
+    private final PartJdbcRepository partJdbcRepo;
+    private final OutboxPublisher outboxPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate txTemplate;
+    private final int chunkSize;
+
+    public PartImportServiceImpl(PartCategoryJpaRepository categoryRepo,
+                                 PartJdbcRepository partJdbcRepo,
+                                 OutboxPublisher outboxPublisher,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager txManager,
+                                 @Value("${warehouse.parts.import.chunk-size:500}") int chunkSize) {
+        this.categoryRepo = categoryRepo;
+        this.partJdbcRepo = partJdbcRepo;
+        this.outboxPublisher = outboxPublisher;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.txTemplate = new TransactionTemplate(txManager);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    private record ValidRow(long line, PartImportRow row) {
+    }
+
+    private static final class Report {
+        long total;
+        long imported;
+        long failed;
+        final List<RowError> errors = new ArrayList<>();
+
+        void fail(long line, String code, String reason) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, code, reason));
+            }
+        }
+
+        PartImportResult toResult() {
+            return new PartImportResult(total, imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+
+    @Override
+    public PartImportResult importParts(InputStream in, Format format) {
+        Map<Long, String> categoryNameById = new HashMap<>();
+        Map<String, Long> categoryIdByName = new HashMap<>();
+        for (PartCategoryEntity c : categoryRepo.findAll()) {
+            categoryNameById.put(c.getId(), c.getName());
+            categoryIdByName.put(c.getName().trim().toLowerCase(Locale.ROOT), c.getId());
+        }
+        Set<String> knownCodes = partJdbcRepo.findAllCodesLowerCase();
+
+        Report report = new Report();
+        List<ValidRow> chunk = new ArrayList<>(chunkSize);
+        try (var reader = new PartImportRowReader(in, format, objectMapper)) {
+            Parsed parsed;
+            while ((parsed = reader.next()) != null) {
+                report.total++;
+                if (parsed.error() != null) {
+                    report.fail(parsed.line(), null, parsed.error());
+                    continue;
+                }
+                PartImportRow row = parsed.row();
+                String reason = validate(row, categoryNameById, categoryIdByName, knownCodes);
+                if (reason != null) {
+                    report.fail(parsed.line(), row.code(), reason);
+                    continue;
+                }
+                chunk.add(new ValidRow(parsed.line(), normalize(row, categoryIdByName)));
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, categoryNameById, knownCodes, report);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, categoryNameById, knownCodes, report);
+        }
+        log.info("Part import finished: total={}, imported={}, failed={}", report.total, report.imported,
+                report.failed);
+        return report.toResult();
+    }
+
+    /** PartServiceImpl.validateCreate와 같은 규칙. 통과 시 null, 실패 시 사유 메시지 */
+    private String validate(PartImportRow r, Map<Long, String> categoryNameById, Map<String, Long> categoryIdByName,
+                            Set<String> knownCodes) {
+        if (r == null || r.code() == null || r.code().isBlank()) {
+            return ErrorStatus.PART_CODE_INVALID.getMessage();
+        }
+        if (r.name() == null || r.name().trim().length() < 2 || r.name().trim().length() > 100) {
+            return ErrorStatus.PART_NAME_INVALID.getMessage();
+        }
+        if (r.price() == null || r.price() < 0) {
+            return ErrorStatus.PART_PRICE_INVALID.getMessage();
+        }
+        boolean categoryOk = r.categoryId() != null
+                ? categoryNameById.containsKey(r.categoryId())
+                : r.categoryName() != null && categoryIdByName.containsKey(r.categoryName().trim().toLowerCase(Locale.ROOT));
+        if (!categoryOk) {
+            return ErrorStatus.PART_CATEGORY_NAME_INVALID.getMessage();
+        }
+        // 기존 code + 같은 파일 앞선 행 모두와 중복 검사 (대소문자 무시)
+        if (!knownCodes.add(r.code().trim().toLowerCase(Locale.ROOT))) {
+            return ErrorStatus.PART_CODE_ALREADY_EXISTS.getMessage();
+        }
+        return null;
+    }
+
+    private PartImportRow normalize(PartImportRow r, Map<String, Long> categoryIdByName) {
+        Long categoryId = r.categoryId() != null
+                ? r.categoryId()
+                : categoryIdByName.get(r.categoryName().trim().toLowerCase(Locale.ROOT));
+        return new PartImportRow(
+                r.code().trim(),
+                r.name().trim(),
+                r.price(),
+                categoryId,
+                null,
+                r.imageUrl(),
+                r.safetyStockQty() == null ? 0 : Math.max(0, r.safetyStockQty()),
+                r.supplierName()
+        );
+    }
+
+    private void flush(List<ValidRow> chunk, Map<Long, String> categoryNameById, Set<String> knownCodes,
+                       Report report) {
+        List<PartImportRow> rows = chunk.stream().map(ValidRow::row).toList();
+        Map<String, Long> ids;
+        try {
+            ids = txTemplate.execute(status -> {
+                partJdbcRepo.batchInsert(rows, LocalDateTime.now());
+                var inserted = partJdbcRepo.findIdsByCodes(rows.stream().map(PartImportRow::code).toList());
+                // create-part 이벤트는 같은 트랜잭션에 outbox로 일괄 기록 (전송은 relay가 batch로 처리)
+                List<Message> messages = new ArrayList<>(rows.size());
+                for (PartImportRow r : rows) {
+                    messages.add(new Message(r.code(), toPartDto(r, inserted.get(r.code()), categoryNameById)));
+                }
+                outboxPublisher.publishAll("create-part", messages);
+                return inserted;
+            });
+        } catch (DataAccessException e) {
+            // 동시 등록 등으로 chunk 전체가 롤백된 경우: 해당 행 모두 실패 처리
+            log.warn("Part import chunk failed ({} rows): {}", rows.size(), e.getMostSpecificCause().getMessage());
+            for (ValidRow v : chunk) {
+                knownCodes.remove(v.row().code().toLowerCase(Locale.ROOT));
+                report.fail(v.line(), v.row().code(), "저장 실패: " + e.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+        report.imported += rows.size();
+
+        // 커밋 이후 인메모리 인덱스 갱신
+        for (PartImportRow r : rows) {
+            Long id = ids == null ? null : ids.get(r.code());
+            eventPublisher.publishEvent(new PartChangedEvent(id, r.code(), r.name(), r.categoryId(), true));
+        }
+    }
+
+    private static PartDto toPartDto(PartImportRow r, Long id, Map<Long, String> categoryNameById) {
+        return PartDto.builder()
+                .id(id)
+                .category(categoryNameById.get(r.categoryId()))
+                .partCode(r.code())
+                .partName(r.name())
+                .supplierName(r.supplierName())
+                .build();
+    }
+}
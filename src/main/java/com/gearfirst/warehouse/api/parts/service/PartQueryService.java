@@ -1,10 +1,17 @@
 package com.gearfirst.warehouse.api.parts.service;
 
+import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSuggestItem;
 import com.gearfirst.warehouse.api.parts.dto.PartIntegratedItem;
 import com.gearfirst.warehouse.api.parts.dto.PartSearchCond;
 import com.gearfirst.warehouse.common.response.PageEnvelope;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 
 public interface PartQueryService {
     PageEnvelope<PartIntegratedItem> searchIntegrated(PartSearchCond cond, Pageable pageable);
+
+    // ETag용 버전: 통합 조회가 참조하는 부품/카테고리/차량 모델/매핑 전체 기준
+    String searchVersion();
+
+    List<PartSuggestItem> suggest(String prefix, int limit);
 }
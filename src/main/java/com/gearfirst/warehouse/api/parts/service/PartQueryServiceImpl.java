@@ -1,13 +1,18 @@
 package com.gearfirst.warehouse.api.parts.service;
 
+import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSuggestItem;
 import com.gearfirst.warehouse.api.parts.dto.PartIntegratedItem;
 import com.gearfirst.warehouse.api.parts.dto.PartSearchCond;
+import com.gearfirst.warehouse.api.parts.persistence.CatalogVersionJdbcRepository;
+import com.gearfirst.warehouse.api.parts.persistence.CatalogVersionJdbcRepository.CatalogTable;
 import com.gearfirst.warehouse.api.parts.persistence.PartQueryRepository;
 import com.gearfirst.warehouse.common.response.PageEnvelope;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -16,10 +21,25 @@ import org.springframework.transaction.annotation.Transactional;
 public class PartQueryServiceImpl implements PartQueryService {
 
     private final PartQueryRepository partQueryRepository;
+    private final PartSuggestIndex partSuggestIndex;
+    private final CatalogVersionJdbcRepository versionRepo;
 
     @Override
     public PageEnvelope<PartIntegratedItem> searchIntegrated(PartSearchCond cond, Pageable pageable) {
         Page<PartIntegratedItem> page = partQueryRepository.search(cond, pageable);
         return PageEnvelope.of(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
     }
+
+    @Override
+    public String searchVersion() {
+        return versionRepo.findLatestVersion(CatalogTable.PART, CatalogTable.CATEGORY, CatalogTable.CAR_MODEL,
+                CatalogTable.PART_CAR_MODEL);
+    }
+
+    // Served from the in-memory index only; no transaction so no JDBC connection is borrowed
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PartSuggestItem> suggest(String prefix, int limit) {
+        return partSuggestIndex.suggest(prefix, limit);
+    }
 }
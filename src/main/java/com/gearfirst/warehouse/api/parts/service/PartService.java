@@ -13,6 +13,11 @@ public interface PartService {
 
     PartDetailResponse get(Long id);
 
+    // ETag용 버전 (엔티티 로드 없이 updated_at만 조회). 대상이 없으면 null
+    String listVersion();
+
+    String getVersion(Long id);
+
     PartDetailResponse create(CreatePartRequest req);
 
     PartDetailResponse update(Long id, UpdatePartRequest req);
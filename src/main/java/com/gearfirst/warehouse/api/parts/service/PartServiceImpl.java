@@ -6,6 +6,8 @@ import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartDetailResponse;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSummaryResponse;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.UpdatePartRequest;
 import com.gearfirst.warehouse.api.parts.dto.PartDto;
+import com.gearfirst.warehouse.api.parts.persistence.CatalogVersionJdbcRepository;
+import com.gearfirst.warehouse.api.parts.persistence.CatalogVersionJdbcRepository.CatalogTable;
 import com.gearfirst.warehouse.api.parts.persistence.PartCategoryJpaRepository;
 import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
 import com.gearfirst.warehouse.api.parts.persistence.entity.PartCategoryEntity;
@@ -13,6 +15,7 @@ import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
 import com.gearfirst.warehouse.common.exception.BadRequestException;
 import com.gearfirst.warehouse.common.exception.ConflictException;
 import com.gearfirst.warehouse.common.exception.NotFoundException;
+import com.gearfirst.warehouse.common.outbox.OutboxPublisher;
 import com.gearfirst.warehouse.common.response.ErrorStatus;
 import com.gearfirst.warehouse.common.response.PageEnvelope;
 import java.util.List;
@@ -20,11 +23,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,7 +39,9 @@ public class PartServiceImpl implements PartService {
     private final PartJpaRepository partRepo;
     private final PartCategoryJpaRepository categoryRepo;
     private final PartCarModelReader partCarModelReader;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxPublisher outboxPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogVersionJdbcRepository versionRepo;
 
     @Override
     @Transactional(readOnly = true)
@@ -103,10 +108,23 @@ public class PartServiceImpl implements PartService {
         return toDetail(p);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String listVersion() {
+        return versionRepo.findLatestVersion(CatalogTable.PART, CatalogTable.CATEGORY);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getVersion(Long id) {
+        return versionRepo.findPartVersion(id);
+    }
+
     @Override
     public PartDetailResponse create(CreatePartRequest req) {
         validateCreate(req);
-        if (!categoryRepo.existsById(req.categoryId())) {
+        // existsById 대신 findById: 2차 캐시 적중 시 DB 조회 없음
+        if (categoryRepo.findById(req.categoryId()).isEmpty()) {
             throw new NotFoundException("Category not found: " + req.categoryId());
         }
         if (partRepo.existsByCodeIgnoreCase(req.code())) {
@@ -135,7 +153,8 @@ public class PartServiceImpl implements PartService {
                 .supplierName(saved.getSupplierName())
                 .build();
 
-        kafkaTemplate.send(topic, dto);
+        outboxPublisher.publish(topic, saved.getCode(), dto);
+        publishChanged(saved);
 
         return toDetail(saved);
     }
@@ -144,7 +163,7 @@ public class PartServiceImpl implements PartService {
     public PartDetailResponse update(Long id, UpdatePartRequest req) {
         var p = partRepo.findById(id).orElseThrow(() -> new NotFoundException("Part not found: " + id));
         validateUpdate(req);
-        if (!categoryRepo.existsById(req.categoryId())) {
+        if (categoryRepo.findById(req.categoryId()).isEmpty()) {
             throw new NotFoundException("Category not found: " + req.categoryId());
         }
         if (req.code() != null && !req.code().equalsIgnoreCase(p.getCode()) && partRepo.existsByCodeIgnoreCase(
@@ -165,6 +184,7 @@ public class PartServiceImpl implements PartService {
             p.setSafetyStockQty(Math.max(0, req.safetyStockQty()));
         }
         partRepo.save(p);
+        publishChanged(p);
         return toDetail(p);
     }
 
@@ -179,6 +199,13 @@ public class PartServiceImpl implements PartService {
         // soft delete per docs: enabled=false
         p.setEnabled(false);
         partRepo.save(p);
+        publishChanged(p);
+    }
+
+    // 메모리 인덱스는 커밋 후 이벤트로 갱신된다 (롤백 시 반영되지 않음)
+    private void publishChanged(PartEntity p) {
+        eventPublisher.publishEvent(
+                new PartChangedEvent(p.getId(), p.getCode(), p.getName(), p.getCategoryId(), p.isEnabled()));
     }
 
     private void validateCreate(CreatePartRequest req) {
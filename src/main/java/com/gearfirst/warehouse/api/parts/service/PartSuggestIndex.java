@@ -0,0 +1,156 @@
+package com.gearfirst.warehouse.api.parts.service;
+
+import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSuggestItem;
+import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
+import com.gearfirst.warehouse.common.util.HangulJamo;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 활성 부품 code/name 접두어 자동완성용 메모리 인덱스.
+ * - 정렬된 키 공간(skip list)에서 접두어 범위를 탐색하므로 조회는 O(log n + limit)이며 DB를 타지 않는다.
+ * - 키 공간: code(소문자), name 자모 분해(단어 시작마다), name 초성.
+ * - 한글: 자모 분해로 조합 중 입력("브레잌" → 브레이크)과 초성 검색("ㅂㄹㅇㅋ")을 지원한다.
+ * - 기동 시 1회 적재, 이후 {@link PartChangedEvent}로 커밋 후 증분 갱신.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartSuggestIndex {
+
+    private static final String CODE_NS = "c:";
+    private static final String NAME_NS = "n:";
+    private static final String INITIAL_NS = "i:";
+    private static final char ID_SEP = '\u0000';
+    private static final int MAX_NAME_TOKENS = 5;
+
+    private final PartJpaRepository partRepo;
+
+    // key = namespace + normalized term + ID_SEP + partId → partId
+    private final ConcurrentSkipListMap<String, Long> keys = new ConcurrentSkipListMap<>();
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+
+    private record Doc(Long id, String code, String name, List<String> keys) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<PartEntity> parts = partRepo.findByEnabledTrue();
+            parts.forEach(p -> put(p.getId(), p.getCode(), p.getName()));
+            log.info("Part suggest index loaded: {} parts", parts.size());
+        } catch (Exception e) {
+            log.warn("Part suggest index warm-up failed; suggestions start empty", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartChanged(PartChangedEvent e) {
+        if (e == null || e.id() == null) {
+            return;
+        }
+        if (e.enabled()) {
+            put(e.id(), e.code(), e.name());
+        } else {
+            remove(e.id());
+        }
+    }
+
+    public synchronized void put(Long id, String code, String name) {
+        if (id == null) {
+            return;
+        }
+        remove(id);
+        List<String> docKeys = new ArrayList<>();
+        String suffix = ID_SEP + String.valueOf(id);
+        String c = normalize(code);
+        if (!c.isEmpty()) {
+            docKeys.add(CODE_NS + c + suffix);
+        }
+        String n = normalize(name);
+        if (!n.isEmpty()) {
+            String[] tokens = n.split(" ");
+            // 단어 시작마다 키를 만들어 "패드"로도 "브레이크 패드"를 찾게 한다
+            for (int i = 0; i < tokens.length && i < MAX_NAME_TOKENS; i++) {
+                String rest = String.join("", Arrays.copyOfRange(tokens, i, tokens.length));
+                if (!rest.isEmpty()) {
+                    docKeys.add(NAME_NS + HangulJamo.decompose(rest) + suffix);
+                }
+            }
+            String initials = HangulJamo.initials(n.replace(" ", ""));
+            if (!initials.isEmpty()) {
+                docKeys.add(INITIAL_NS + initials + suffix);
+            }
+        }
+        docKeys.forEach(k -> keys.put(k, id));
+        docs.put(id, new Doc(id, code, name, docKeys));
+    }
+
+    public synchronized void remove(Long id) {
+        Doc old = docs.remove(id);
+        if (old != null) {
+            old.keys().forEach(keys::remove);
+        }
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    /**
+     * 접두어로 상위 limit건을 반환한다. 순서: code 일치 → name 일치 → 초성 일치 (각 구간은 사전순).
+     */
+    public List<PartSuggestItem> suggest(String prefix, int limit) {
+        String q = normalize(prefix);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<Long, PartSuggestItem> out = new LinkedHashMap<>();
+        scan(CODE_NS + q, out, limit);
+        String compact = q.replace(" ", "");
+        if (out.size() < limit) {
+            scan(NAME_NS + HangulJamo.decompose(compact), out, limit);
+        }
+        if (out.size() < limit && HangulJamo.isAllInitials(compact)) {
+            scan(INITIAL_NS + compact, out, limit);
+        }
+        return List.copyOf(out.values());
+    }
+
+    private void scan(String from, Map<Long, PartSuggestItem> out, int limit) {
+        for (Map.Entry<String, Long> e : keys.tailMap(from, true).entrySet()) {
+            if (out.size() >= limit || !e.getKey().startsWith(from)) {
+                return;
+            }
+            Doc d = docs.get(e.getValue());
+            if (d != null) {
+                out.putIfAbsent(d.id(), new PartSuggestItem(d.id(), d.code(), d.name()));
+            }
+        }
+    }
+
+    static String normalize(String s) {
+        if (s == null) {
+            return "";
+        }
+        String n = Normalizer.normalize(s, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replace(String.valueOf(ID_SEP), "")
+                .trim();
+        return n.replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,31 @@
+package com.gearfirst.warehouse.api.receiving.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 입고 상세 ETag용 버전 조회. 전표/라인 엔티티를 로드하지 않고 한 번의 쿼리로 끝낸다.
+ * 라인도 BaseTimeEntity라 전표 updated_at + 라인 max(updated_at)/건수로 변경을 판별한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReceivingNoteVersionJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** 전표가 없으면 null */
+    public String findDetailVersion(Long noteId) {
+        return jdbc.query("""
+                select n.updated_at, max(l.updated_at), count(l.line_id)
+                  from receiving_note n
+                  left join receiving_note_line l on l.note_id = n.note_id
+                 where n.note_id = :noteId
+                 group by n.note_id, n.updated_at
+                """, new MapSqlParameterSource("noteId", noteId),
+                rs -> rs.next()
+                        ? "receiving:" + noteId + ":" + rs.getTimestamp(1) + ":" + rs.getTimestamp(2) + ":" + rs.getLong(3)
+                        : null);
+    }
+}
@@ -1,7 +1,10 @@
 package com.gearfirst.warehouse.api.receiving.persistence;
 
 import static com.gearfirst.warehouse.api.receiving.persistence.entity.QReceivingNoteEntity.receivingNoteEntity;
+import static com.gearfirst.warehouse.api.receiving.persistence.entity.QReceivingNoteHistoryEntity.receivingNoteHistoryEntity;
 
+import com.gearfirst.warehouse.api.archive.domain.ArchiveTarget;
+import com.gearfirst.warehouse.api.archive.service.NoteArchiveHorizon;
 import com.gearfirst.warehouse.api.receiving.domain.ReceivingNoteStatus;
 import com.gearfirst.warehouse.api.receiving.dto.ReceivingNoteSummary;
 import com.gearfirst.warehouse.api.receiving.dto.ReceivingSearchCond;
@@ -10,8 +13,14 @@ import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +28,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -31,32 +41,95 @@ public class ReceivingQueryRepositoryImpl implements ReceivingQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
+    // 없으면(단위 테스트 등) 항상 원본 테이블만 조회
+    @Autowired(required = false)
+    private NoteArchiveHorizon archiveHorizon;
+
+    /** 목록 컬럼 경로 묶음: 원본(receiving_note) 또는 원본 ∪ 보관(ReceivingNoteHistoryEntity) */
+    private static final class Cols {
+        final EntityPathBase<?> root;
+        final NumberPath<Long> noteId;
+        final StringPath receivingNo;
+        final StringPath warehouseCode;
+        final StringPath supplierName;
+        final DateTimePath<OffsetDateTime> requestedAt;
+        final DateTimePath<OffsetDateTime> expectedReceiveDate;
+        final DateTimePath<OffsetDateTime> completedAt;
+        final EnumPath<ReceivingNoteStatus> status;
+        final NumberPath<Integer> itemKindsNumber;
+        final NumberPath<Integer> totalQty;
+
+        Cols(EntityPathBase<?> root, NumberPath<Long> noteId, StringPath receivingNo, StringPath warehouseCode,
+             StringPath supplierName, DateTimePath<OffsetDateTime> requestedAt,
+             DateTimePath<OffsetDateTime> expectedReceiveDate, DateTimePath<OffsetDateTime> completedAt,
+             EnumPath<ReceivingNoteStatus> status, NumberPath<Integer> itemKindsNumber,
+             NumberPath<Integer> totalQty) {
+            this.root = root;
+            this.noteId = noteId;
+            this.receivingNo = receivingNo;
+            this.warehouseCode = warehouseCode;
+            this.supplierName = supplierName;
+            this.requestedAt = requestedAt;
+            this.expectedReceiveDate = expectedReceiveDate;
+            this.completedAt = completedAt;
+            this.status = status;
+            this.itemKindsNumber = itemKindsNumber;
+            this.totalQty = totalQty;
+        }
+    }
+
+    private static final Cols HOT = new Cols(receivingNoteEntity, receivingNoteEntity.noteId,
+        receivingNoteEntity.receivingNo, receivingNoteEntity.warehouseCode, receivingNoteEntity.supplierName,
+        receivingNoteEntity.requestedAt, receivingNoteEntity.expectedReceiveDate, receivingNoteEntity.completedAt,
+        receivingNoteEntity.status, receivingNoteEntity.itemKindsNumber, receivingNoteEntity.totalQty);
+
+    private static final Cols HISTORY = new Cols(receivingNoteHistoryEntity, receivingNoteHistoryEntity.noteId,
+        receivingNoteHistoryEntity.receivingNo, receivingNoteHistoryEntity.warehouseCode,
+        receivingNoteHistoryEntity.supplierName, receivingNoteHistoryEntity.requestedAt,
+        receivingNoteHistoryEntity.expectedReceiveDate, receivingNoteHistoryEntity.completedAt,
+        receivingNoteHistoryEntity.status, receivingNoteHistoryEntity.itemKindsNumber,
+        receivingNoteHistoryEntity.totalQty);
+
+    /**
+     * 보관 테이블에는 완료 전표만 있으므로, 완료 포함(status=done|all) + 요청일 범위가 보관 구간에 걸칠 때만 union 뷰를 쓴다.
+     * 날짜 하한이 없는 조회는 보관 전표가 하나라도 있으면 union 뷰를 쓴다 (원본만 읽어 오래된 완료분이 빠지지 않도록).
+     */
+    private Cols colsFor(ReceivingSearchCond cond) {
+        if (archiveHorizon == null || cond == null) return HOT;
+        String status = cond.getStatus() == null ? "not-done" : cond.getStatus().toLowerCase(Locale.ROOT).trim();
+        if (!status.equals("done") && !status.equals("all")) return HOT;
+        var bounds = requestedBounds(cond);
+        var from = bounds == null ? null : bounds.fromInclusive();
+        return archiveHorizon.reaches(ArchiveTarget.RECEIVING, from) ? HISTORY : HOT;
+    }
+
     @Override
     public Page<ReceivingNoteSummary> search(ReceivingSearchCond cond, Pageable pageable) {
+        Cols c = colsFor(cond);
         var contentQuery = queryFactory
             .select(
-                receivingNoteEntity.noteId,
-                receivingNoteEntity.receivingNo,
-                receivingNoteEntity.warehouseCode,
-                receivingNoteEntity.supplierName,
-                receivingNoteEntity.requestedAt,
-                receivingNoteEntity.expectedReceiveDate,
-                receivingNoteEntity.completedAt,
-                receivingNoteEntity.status,
-                receivingNoteEntity.itemKindsNumber,
-                receivingNoteEntity.totalQty
+                c.noteId,
+                c.receivingNo,
+                c.warehouseCode,
+                c.supplierName,
+                c.requestedAt,
+                c.expectedReceiveDate,
+                c.completedAt,
+                c.status,
+                c.itemKindsNumber,
+                c.totalQty
             )
-            .from(receivingNoteEntity)
-            .where(buildWhere(cond))
+            .from(c.root)
+            .where(buildWhere(c, cond))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize());
 
         // Sorting with whitelist
-        List<OrderSpecifier<?>> orderSpecifiers = buildOrderSpecifiers(pageable.getSort());
+        List<OrderSpecifier<?>> orderSpecifiers = buildOrderSpecifiers(c, pageable.getSort());
         if (orderSpecifiers.isEmpty()) {
             orderSpecifiers = List.of(
-                new OrderSpecifier<>(Order.DESC, receivingNoteEntity.noteId),
-                new OrderSpecifier<>(Order.DESC, receivingNoteEntity.requestedAt)
+                new OrderSpecifier<>(Order.DESC, c.noteId),
+                new OrderSpecifier<>(Order.DESC, c.requestedAt)
             );
         }
         for (OrderSpecifier<?> os : orderSpecifiers) {
@@ -65,22 +138,22 @@ public class ReceivingQueryRepositoryImpl implements ReceivingQueryRepository {
 
         List<Tuple> tuples = contentQuery.fetch();
         List<ReceivingNoteSummary> content = tuples.stream().map(t -> ReceivingNoteSummary.builder()
-            .noteId(t.get(receivingNoteEntity.noteId))
-            .receivingNo(t.get(receivingNoteEntity.receivingNo))
-            .warehouseCode(t.get(receivingNoteEntity.warehouseCode))
-            .supplierName(t.get(receivingNoteEntity.supplierName))
-            .requestedAt(DateTimes.toKstString(t.get(receivingNoteEntity.requestedAt)))
-            .expectedReceiveDate(DateTimes.toKstString(t.get(receivingNoteEntity.expectedReceiveDate)))
-            .completedAt(DateTimes.toKstString(t.get(receivingNoteEntity.completedAt)))
-            .status(t.get(receivingNoteEntity.status))
-            .itemKindsNumber(safeInt(t.get(receivingNoteEntity.itemKindsNumber)))
-            .totalQty(safeInt(t.get(receivingNoteEntity.totalQty)))
+            .noteId(t.get(c.noteId))
+            .receivingNo(t.get(c.receivingNo))
+            .warehouseCode(t.get(c.warehouseCode))
+            .supplierName(t.get(c.supplierName))
+            .requestedAt(DateTimes.toKstString(t.get(c.requestedAt)))
+            .expectedReceiveDate(DateTimes.toKstString(t.get(c.expectedReceiveDate)))
+            .completedAt(DateTimes.toKstString(t.get(c.completedAt)))
+            .status(t.get(c.status))
+            .itemKindsNumber(safeInt(t.get(c.itemKindsNumber)))
+            .totalQty(safeInt(t.get(c.totalQty)))
             .build()).toList();
 
         Long totalL = queryFactory
-            .select(receivingNoteEntity.noteId.count())
-            .from(receivingNoteEntity)
-            .where(buildWhere(cond))
+            .select(c.noteId.count())
+            .from(c.root)
+            .where(buildWhere(c, cond))
             .fetchOne();
         long total = totalL == null ? 0L : totalL;
 
@@ -105,77 +178,76 @@ public class ReceivingQueryRepositoryImpl implements ReceivingQueryRepository {
         return totalL == null ? 0L : totalL;
     }
 
-    private BooleanExpression[] buildWhere(ReceivingSearchCond cond) {
+    private BooleanExpression[] buildWhere(Cols c, ReceivingSearchCond cond) {
         List<BooleanExpression> list = new ArrayList<>();
         if (cond == null) return new BooleanExpression[0];
 
         // status handling
         String status = cond.getStatus() == null ? "not-done" : cond.getStatus().toLowerCase(Locale.ROOT).trim();
         switch (status) {
-            case "done" -> list.add(receivingNoteEntity.status.in(ReceivingNoteStatus.COMPLETED_OK, ReceivingNoteStatus.COMPLETED_ISSUE));
+            case "done" -> list.add(c.status.in(ReceivingNoteStatus.COMPLETED_OK, ReceivingNoteStatus.COMPLETED_ISSUE));
             case "all" -> { /* no status filter */ }
-            default -> list.add(receivingNoteEntity.status.notIn(ReceivingNoteStatus.COMPLETED_OK, ReceivingNoteStatus.COMPLETED_ISSUE));
+            default -> list.add(c.status.notIn(ReceivingNoteStatus.COMPLETED_OK, ReceivingNoteStatus.COMPLETED_ISSUE));
         }
 
         // date filters KST local day → UTC bounds
-        String date = cond.getDate();
-        String dateFrom = cond.getDateFrom();
-        String dateTo = cond.getDateTo();
-        if (dateFrom != null || dateTo != null) {
-            LocalDate from = parseLocalDate(dateFrom);
-            LocalDate to = parseLocalDate(dateTo);
-            var bounds = DateTimes.kstRangeBounds(from, to);
-            if (bounds != null) {
-                list.add(receivingNoteEntity.requestedAt.goe(bounds.fromInclusive()));
-                list.add(receivingNoteEntity.requestedAt.loe(bounds.toInclusive()));
-            }
-        } else if (date != null && !date.isBlank()) {
-            LocalDate day = parseLocalDate(date);
-            var bounds = DateTimes.kstDayBounds(day);
-            if (bounds != null) {
-                list.add(receivingNoteEntity.requestedAt.goe(bounds.fromInclusive()));
-                list.add(receivingNoteEntity.requestedAt.loe(bounds.toInclusive()));
-            }
+        var bounds = requestedBounds(cond);
+        if (bounds != null) {
+            list.add(c.requestedAt.goe(bounds.fromInclusive()));
+            list.add(c.requestedAt.loe(bounds.toInclusive()));
         }
 
         // unified q (receivingNo | supplierName | warehouseCode[when explicit param is blank])
         if (cond.getQ() != null && !cond.getQ().isBlank()) {
             String term = cond.getQ().trim();
             var qPredicate =
-                receivingNoteEntity.receivingNo.containsIgnoreCase(term)
-                    .or(receivingNoteEntity.supplierName.containsIgnoreCase(term));
+                c.receivingNo.containsIgnoreCase(term)
+                    .or(c.supplierName.containsIgnoreCase(term));
             // Only include warehouseCode in q-scope when explicit warehouseCode filter is not provided
             if (cond.getWarehouseCode() == null || cond.getWarehouseCode().isBlank()) {
-                qPredicate = qPredicate.or(receivingNoteEntity.warehouseCode.containsIgnoreCase(term));
+                qPredicate = qPredicate.or(c.warehouseCode.containsIgnoreCase(term));
             }
             list.add(qPredicate);
         }
 
         if (cond.getWarehouseCode() != null && !cond.getWarehouseCode().isBlank()) {
-            list.add(receivingNoteEntity.warehouseCode.equalsIgnoreCase(cond.getWarehouseCode().trim()));
+            list.add(c.warehouseCode.equalsIgnoreCase(cond.getWarehouseCode().trim()));
         }
         if (cond.getReceivingNo() != null && !cond.getReceivingNo().isBlank()) {
             String term = cond.getReceivingNo().trim();
-            list.add(receivingNoteEntity.receivingNo.containsIgnoreCase(term));
+            list.add(c.receivingNo.containsIgnoreCase(term));
         }
         if (cond.getSupplierName() != null && !cond.getSupplierName().isBlank()) {
             String term = cond.getSupplierName().trim();
-            list.add(receivingNoteEntity.supplierName.containsIgnoreCase(term));
+            list.add(c.supplierName.containsIgnoreCase(term));
         }
         return list.toArray(BooleanExpression[]::new);
     }
 
-    private List<OrderSpecifier<?>> buildOrderSpecifiers(Sort sort) {
+    // date | dateFrom~dateTo (KST local day) → UTC bounds. 조건이 없으면 null
+    private DateTimes.DayBounds requestedBounds(ReceivingSearchCond cond) {
+        String date = cond.getDate();
+        String dateFrom = cond.getDateFrom();
+        String dateTo = cond.getDateTo();
+        if (dateFrom != null || dateTo != null) {
+            return DateTimes.kstRangeBounds(parseLocalDate(dateFrom), parseLocalDate(dateTo));
+        } else if (date != null && !date.isBlank()) {
+            return DateTimes.kstDayBounds(parseLocalDate(date));
+        }
+        return null;
+    }
+
+    private List<OrderSpecifier<?>> buildOrderSpecifiers(Cols c, Sort sort) {
         if (sort == null || sort.isEmpty()) return List.of();
         Map<String, Function<Sort.Order, OrderSpecifier<?>>> mapping = new HashMap<>();
-        mapping.put("requestedAt", o -> new OrderSpecifier<>(toOrder(o), receivingNoteEntity.requestedAt));
-        mapping.put("expectedReceiveDate", o -> new OrderSpecifier<>(toOrder(o), receivingNoteEntity.expectedReceiveDate));
-        mapping.put("completedAt", o -> new OrderSpecifier<>(toOrder(o), receivingNoteEntity.completedAt));
-        mapping.put("receivingNo", o -> new OrderSpecifier<>(toOrder(o), receivingNoteEntity.receivingNo));
-        mapping.put("noteId", o -> new OrderSpecifier<>(toOrder(o), receivingNoteEntity.noteId));
-        mapping.put("status", o -> new OrderSpecifier<>(toOrder(o), receivingNoteEntity.status));
-        mapping.put("supplierName", o -> new OrderSpecifier<>(toOrder(o), receivingNoteEntity.supplierName));
-        mapping.put("warehouseCode", o -> new OrderSpecifier<>(toOrder(o), receivingNoteEntity.warehouseCode));
+        mapping.put("requestedAt", o -> new OrderSpecifier<>(toOrder(o), c.requestedAt));
+        mapping.put("expectedReceiveDate", o -> new OrderSpecifier<>(toOrder(o), c.expectedReceiveDate));
+        mapping.put("completedAt", o -> new OrderSpecifier<>(toOrder(o), c.completedAt));
+        mapping.put("receivingNo", o -> new OrderSpecifier<>(toOrder(o), c.receivingNo));
+        mapping.put("noteId", o -> new OrderSpecifier<>(toOrder(o), c.noteId));
+        mapping.put("status", o -> new OrderSpecifier<>(toOrder(o), c.status));
+        mapping.put("supplierName", o -> new OrderSpecifier<>(toOrder(o), c.supplierName));
+        mapping.put("warehouseCode", o -> new OrderSpecifier<>(toOrder(o), c.warehouseCode));
 
         List<OrderSpecifier<?>> result = new ArrayList<>();
         for (Sort.Order o : sort) {
@@ -0,0 +1,60 @@
+package com.gearfirst.warehouse.api.receiving.persistence.entity;
+
+import com.gearfirst.warehouse.api.receiving.domain.ReceivingNoteStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 보관된 입고 전표 (receiving_note와 같은 컬럼 + archivedAt). 쓰기는 {@code NoteArchiveJdbcRepository}만 한다.
+ */
+@Entity
+@Immutable
+@Table(
+    name = "receiving_note_archive",
+    indexes = {
+        // lower(warehouse_code) 식 인덱스는 db/migration에서만 관리
+        @Index(name = "IDX_rec_arch_requested_at", columnList = "requestedAt"),
+        @Index(name = "IDX_rec_arch_status_requested", columnList = "status,requestedAt")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReceivingNoteArchiveEntity {
+
+    @Id
+    private Long noteId;
+
+    private String supplierName;
+    private int itemKindsNumber;
+    private int totalQty;
+    private String warehouseCode;
+    private String receivingNo;
+    private OffsetDateTime requestedAt;
+    private OffsetDateTime expectedReceiveDate;
+    private OffsetDateTime receivedAt;
+    private String inspectorName;
+    private String inspectorDept;
+    private String inspectorPhone;
+    private String remark;
+
+    @Enumerated(EnumType.STRING)
+    private ReceivingNoteStatus status;
+
+    private OffsetDateTime completedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime archivedAt;
+}
@@ -0,0 +1,51 @@
+package com.gearfirst.warehouse.api.receiving.persistence.entity;
+
+import com.gearfirst.warehouse.api.receiving.domain.ReceivingNoteStatus;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+/**
+ * 목록 조회용 읽기 전용 뷰: receiving_note ∪ receiving_note_archive (목록 컬럼만).
+ * 날짜 범위가 보관 구간에 걸칠 때만 사용한다 (ReceivingQueryRepositoryImpl).
+ */
+@Entity
+@Immutable
+@Subselect("""
+    select note_id, receiving_no, warehouse_code, supplier_name, requested_at, expected_receive_date,
+           completed_at, status, item_kinds_number, total_qty
+      from receiving_note
+    union all
+    select note_id, receiving_no, warehouse_code, supplier_name, requested_at, expected_receive_date,
+           completed_at, status, item_kinds_number, total_qty
+      from receiving_note_archive
+    """)
+@Synchronize({"receiving_note", "receiving_note_archive"})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReceivingNoteHistoryEntity {
+
+    @Id
+    private Long noteId;
+
+    private String receivingNo;
+    private String warehouseCode;
+    private String supplierName;
+    private OffsetDateTime requestedAt;
+    private OffsetDateTime expectedReceiveDate;
+    private OffsetDateTime completedAt;
+
+    @Enumerated(EnumType.STRING)
+    private ReceivingNoteStatus status;
+
+    private int itemKindsNumber;
+    private int totalQty;
+}
@@ -0,0 +1,51 @@
+package com.gearfirst.warehouse.api.receiving.persistence.entity;
+
+import com.gearfirst.warehouse.api.receiving.domain.ReceivingLineStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/** 보관된 입고 전표 라인. noteId는 {@link ReceivingNoteArchiveEntity#getNoteId()} */
+@Entity
+@Immutable
+@Table(
+    name = "receiving_note_line_archive",
+    indexes = {
+        @Index(name = "IDX_rec_line_arch_note", columnList = "noteId")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReceivingNoteLineArchiveEntity {
+
+    @Id
+    private Long lineId;
+
+    @Column(nullable = false)
+    private Long noteId;
+
+    private Long productId;
+    private String productLot;
+    private String productCode;
+    private String productName;
+    private String productImgUrl;
+
+    private int orderedQty;
+    private int inspectedQty;
+
+    @Enumerated(EnumType.STRING)
+    private ReceivingLineStatus status;
+
+    private String remark;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -24,7 +24,7 @@ import lombok.Setter;
 @Table(
     name = "receiving_note_line",
     indexes = {
-        @Index(name = "IDX_rec_line_note", columnList = "note_id"),
+        @Index(name = "IDX_rec_line_note_product", columnList = "note_id,productId"),
         @Index(name = "IDX_rec_line_product", columnList = "productId")
     }
 )
@@ -35,6 +35,9 @@ public interface ReceivingService {
 
     ReceivingNoteDetailResponse getDetail(Long noteId);
 
+    // 상세 ETag용 버전 (전표/라인 로드 없이 조회). 전표가 없으면 null
+    String getDetailVersion(Long noteId);
+
     ReceivingNoteDetailResponse updateLine(Long noteId, Long lineId, ReceivingUpdateLineRequest request);
 
     // Completion APIs
@@ -42,4 +45,7 @@ public interface ReceivingService {
 
     // Create new receiving note (stub for now)
     ReceivingNoteDetailResponse create(ReceivingCreateNoteRequest request);
+
+    // Bulk create for inbound events: one transaction, returns created noteIds in request order
+    List<Long> createAll(List<ReceivingCreateNoteRequest> requests);
 }
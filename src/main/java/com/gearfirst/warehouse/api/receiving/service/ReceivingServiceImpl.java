@@ -2,7 +2,10 @@ package com.gearfirst.warehouse.api.receiving.service;
 
 import com.gearfirst.warehouse.api.dto.NotificationDto;
 import com.gearfirst.warehouse.api.inventory.service.InventoryService;
+import com.gearfirst.warehouse.api.live.dto.NoteChangeEvent;
+import com.gearfirst.warehouse.api.live.dto.NoteChangeEvent.LineChange;
 import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
 import com.gearfirst.warehouse.api.receiving.domain.ReceivingLineStatus;
 import com.gearfirst.warehouse.api.receiving.domain.ReceivingNoteStatus;
 import com.gearfirst.warehouse.api.receiving.dto.ReceivingCompleteRequest;
@@ -13,12 +16,16 @@ import com.gearfirst.warehouse.api.receiving.dto.ReceivingNoteLineResponse;
 import com.gearfirst.warehouse.api.receiving.dto.ReceivingNoteSummaryResponse;
 import com.gearfirst.warehouse.api.receiving.dto.ReceivingProductResponse;
 import com.gearfirst.warehouse.api.receiving.dto.ReceivingUpdateLineRequest;
+import com.gearfirst.warehouse.api.receiving.persistence.ReceivingNoteVersionJdbcRepository;
 import com.gearfirst.warehouse.api.receiving.persistence.entity.ReceivingNoteEntity;
 import com.gearfirst.warehouse.api.receiving.persistence.entity.ReceivingNoteLineEntity;
 import com.gearfirst.warehouse.api.receiving.repository.ReceivingNoteRepository;
 import com.gearfirst.warehouse.common.exception.BadRequestException;
 import com.gearfirst.warehouse.common.exception.ConflictException;
 import com.gearfirst.warehouse.common.exception.NotFoundException;
+import com.gearfirst.warehouse.common.metrics.UseCaseMetrics;
+import com.gearfirst.warehouse.common.outbox.NotificationAggregator;
+import com.gearfirst.warehouse.common.outbox.OutboxPublisher;
 import com.gearfirst.warehouse.common.response.ErrorStatus;
 import com.gearfirst.warehouse.common.sequence.NoteNumberGenerator;
 import com.gearfirst.warehouse.common.util.DateTimes;
@@ -27,8 +34,9 @@ import java.time.ZoneOffset;
 import java.util.*;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -41,7 +49,10 @@ public class ReceivingServiceImpl implements ReceivingService {
     private final NoteNumberGenerator noteNumberGenerator;
     private final InventoryService inventoryService;
     private final PartJpaRepository partRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxPublisher outboxPublisher;
+    private final NotificationAggregator notificationAggregator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReceivingNoteVersionJdbcRepository versionRepository;
 
     @Override
     public List<ReceivingNoteSummaryResponse> getNotDone(String date) {
@@ -110,10 +121,16 @@ public class ReceivingServiceImpl implements ReceivingService {
         return toDetail(note);
     }
 
+    @Override
+    public String getDetailVersion(Long noteId) {
+        return versionRepository.findDetailVersion(noteId);
+    }
+
     @Override
     public ReceivingNoteDetailResponse updateLine(Long noteId, Long lineId, ReceivingUpdateLineRequest request) {
         var note = repository.findById(noteId)
                 .orElseThrow(() -> new NotFoundException("Receiving note not found: " + noteId));
+        UseCaseMetrics.warehouse(note.getWarehouseCode());
 
         // Block when note already completed
         if (isDoneStatus(note.getStatus())) {
@@ -146,19 +163,23 @@ public class ReceivingServiceImpl implements ReceivingService {
         line.setStatus(newLineStatus);
 
         // First update transitions PENDING -> IN_PROGRESS
+        ReceivingNoteStatus previous = note.getStatus();
         if (note.getStatus() == ReceivingNoteStatus.PENDING) {
             note.setStatus(ReceivingNoteStatus.IN_PROGRESS);
         }
 
         repository.save(note);
+        publishChange(note, previous, List.of(line));
         return toDetail(note);
     }
 
 
     @Override
+    @Transactional
     public ReceivingCompleteResponse complete(Long noteId, ReceivingCompleteRequest req) {
         var note = repository.findById(noteId)
                 .orElseThrow(() -> new NotFoundException("Receiving note not found: " + noteId));
+        UseCaseMetrics.warehouse(note.getWarehouseCode());
 
         // Apply inspector info from request if provided (overrides existing null/blank)
         if (req != null) {
@@ -204,20 +225,23 @@ public class ReceivingServiceImpl implements ReceivingService {
                 hasRejected ? ReceivingNoteStatus.COMPLETED_ISSUE : ReceivingNoteStatus.COMPLETED_OK;
         var completedAt = OffsetDateTime.now(ZoneOffset.UTC);
 
+        ReceivingNoteStatus previous = note.getStatus();
         note.setStatus(finalStatus);
         note.setCompletedAt(completedAt);
         repository.save(note);
+        publishChange(note, previous, List.of());
 
-        String topic = "notification";
         NotificationDto n = NotificationDto.builder()
-                .id(1L)
+                .id(noteId)
                 .eventId(UUID.randomUUID().toString())
                 .type("입고 요청 완료")
                 .message("입고 요청이 완료되었습니다.")
                 .receiver("본사")
+                .warehouseCode(note.getWarehouseCode())
                 .build();
 
-        kafkaTemplate.send(topic, n);
+        // 완료 알림은 창고별로 묶어 보낸다
+        notificationAggregator.publish(n);
 
         return new ReceivingCompleteResponse(
                 DateTimes.toKstString(completedAt),
@@ -226,7 +250,52 @@ public class ReceivingServiceImpl implements ReceivingService {
     }
 
     @Override
+    @Transactional
     public ReceivingNoteDetailResponse create(ReceivingCreateNoteRequest request) {
+        return toDetail(createNote(request, null));
+    }
+
+    @Override
+    @Transactional
+    public List<Long> createAll(List<ReceivingCreateNoteRequest> requests) {
+        // 부품 스냅샷은 배치 전체에 대해 1회 조회, 전표 저장은 호출측 트랜잭션 하나로 묶인다
+        var parts = loadParts(requests);
+        List<Long> ids = new ArrayList<>(requests.size());
+        for (var request : requests) {
+            ids.add(createNote(request, parts).getNoteId());
+        }
+        return ids;
+    }
+
+    // Pre-validate: all productIds must exist
+    private Map<Long, PartEntity> loadParts(Collection<ReceivingCreateNoteRequest> requests) {
+        Set<Long> idsToValidate = new HashSet<>();
+        for (var request : requests) {
+            if (request != null && request.lines() != null) {
+                for (var rl : request.lines()) {
+                    if (rl.productId() != null) {
+                        idsToValidate.add(rl.productId());
+                    }
+                }
+            }
+        }
+        Map<Long, PartEntity> parts = new HashMap<>();
+        if (idsToValidate.isEmpty()) {
+            return parts;
+        }
+        for (var part : partRepository.findAllById(idsToValidate)) {
+            parts.put(part.getId(), part);
+        }
+        for (Long pid : idsToValidate) {
+            if (!parts.containsKey(pid)) {
+                throw new BadRequestException(ErrorStatus.PART_CODE_INVALID);
+            }
+        }
+        return parts;
+    }
+
+    // preloaded == null 이면 요청 단건 기준으로 부품을 조회한다
+    private ReceivingNoteEntity createNote(ReceivingCreateNoteRequest request, Map<Long, PartEntity> preloaded) {
         var builder = ReceivingNoteEntity.builder()
                 .noteId(null) // let DB generate
                 .supplierName(request == null ? null : request.supplierName())
@@ -264,21 +333,7 @@ public class ReceivingServiceImpl implements ReceivingService {
         Set<Long> productIds = new HashSet<>();
         List<ReceivingNoteLineEntity> lineEntities = new ArrayList<>();
         if (request != null && request.lines() != null) {
-            // Pre-validate: all productIds must exist
-            Set<Long> idsToValidate = new HashSet<>();
-            for (var rl : request.lines()) {
-                if (rl.productId() != null) {
-                    idsToValidate.add(rl.productId());
-                }
-            }
-            if (!idsToValidate.isEmpty()) {
-                var found = partRepository.findAllById(idsToValidate).stream().map(p -> p.getId()).collect(java.util.stream.Collectors.toSet());
-                for (Long pid : idsToValidate) {
-                    if (!found.contains(pid)) {
-                        throw new BadRequestException(ErrorStatus.PART_CODE_INVALID);
-                    }
-                }
-            }
+            var parts = preloaded != null ? preloaded : loadParts(List.of(request));
             for (var rl : request.lines()) {
                 int ordered = rl.orderedQty() == null ? 0 : rl.orderedQty();
                 totalQty += ordered;
@@ -290,9 +345,8 @@ public class ReceivingServiceImpl implements ReceivingService {
                 String productName = null;
                 String productImgUrl = null;
                 if (rl.productId() != null) {
-                    var partOpt = partRepository.findById(rl.productId());
-                    if (partOpt.isPresent()) {
-                        var part = partOpt.get();
+                    var part = parts.get(rl.productId());
+                    if (part != null) {
                         productCode = part.getCode();
                         productName = part.getName();
                         productImgUrl = part.getImageUrl();
@@ -336,19 +390,21 @@ public class ReceivingServiceImpl implements ReceivingService {
             entity.addLine(le);
         }
         var saved = repository.save(entity);
+        publishChange(saved, null, List.of());
 
         String topic = "notification";
         NotificationDto n = NotificationDto.builder()
-                .id(1L)
+                .id(saved.getNoteId())
                 .eventId(UUID.randomUUID().toString())
                 .type("입고 요청 등록")
                 .message("입고 요청이 등록되었습니다.")
                 .receiver("본사")
+                .warehouseCode(saved.getWarehouseCode())
                 .build();
 
-        kafkaTemplate.send(topic, n);
+        outboxPublisher.publish(topic, String.valueOf(saved.getNoteId()), n);
 
-        return toDetail(saved);
+        return saved;
     }
 
     private OffsetDateTime parseOffsetDateTime(String text) {
@@ -362,6 +418,18 @@ public class ReceivingServiceImpl implements ReceivingService {
         }
     }
 
+    /** 전표 생성(previous=null)/상태/라인 변경을 발행한다. 전송은 커밋 후 NoteEventHub가 한다 */
+    private void publishChange(ReceivingNoteEntity note, ReceivingNoteStatus previous,
+                               List<ReceivingNoteLineEntity> changedLines) {
+        List<LineChange> lines = changedLines.stream()
+                .map(l -> new LineChange(l.getLineId(), l.getStatus() == null ? null : l.getStatus().name(),
+                        l.getInspectedQty()))
+                .toList();
+        eventPublisher.publishEvent(NoteChangeEvent.of(NoteChangeEvent.RECEIVING, note.getNoteId(),
+                note.getReceivingNo(), note.getWarehouseCode(), previous == null ? null : previous.name(),
+                note.getStatus() == null ? null : note.getStatus().name(), previous == null, lines));
+    }
+
     private boolean isDoneStatus(ReceivingNoteStatus status) {
         return DONE_STATUSES.contains(status);
     }
@@ -0,0 +1,61 @@
+package com.gearfirst.warehouse.api.shipping;
+
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCompleteRequest;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCompletionStatusResponse;
+import com.gearfirst.warehouse.api.shipping.service.ShippingCompletionQueue;
+import com.gearfirst.warehouse.common.response.CommonApiResponse;
+import com.gearfirst.warehouse.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@Controller
+@RequestMapping("/api/v1/shipping")
+@RequiredArgsConstructor
+@Tag(name = "Shipping Completion", description = "출고 완료 비동기 처리 API: 접수(202) 후 상태 폴링")
+public class ShippingCompletionController {
+
+    private final ShippingCompletionQueue completionQueue;
+
+    @Operation(summary = "출고 완료 비동기 접수",
+            description = "동기 완료(:complete)와 같은 검증(담당자 정보, 전 라인 READY, 재고 예약)을 마친 뒤 전표를 COMPLETING으로 바꾸고 202를 반환합니다. 재고 차감과 COMPLETED 전이는 worker가 창고 단위 batch로 처리합니다. 응답의 statusUrl로 상태를 조회하세요.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "완료 요청 접수 (status=COMPLETING)"),
+            @ApiResponse(responseCode = "400", description = "검증 실패 (담당자 정보 누락 등)"),
+            @ApiResponse(responseCode = "404", description = "내역서 없음"),
+            @ApiResponse(responseCode = "409", description = "완료 불가 상태(READY 아님/이미 완료 또는 접수됨/재고 부족)"),
+            @ApiResponse(responseCode = "503", description = "완료 대기열 포화 — 잠시 후 재시도")
+    })
+    @PostMapping("/{noteId}:complete-async")
+    public ResponseEntity<CommonApiResponse<ShippingCompletionStatusResponse>> completeAsync(
+            @PathVariable Long noteId,
+            @RequestBody @Valid ShippingCompleteRequest req
+    ) {
+        return CommonApiResponse.success(SuccessStatus.SEND_SHIPPING_COMPLETE_ACCEPTED,
+                completionQueue.accept(noteId, req));
+    }
+
+    @Operation(summary = "출고 완료 처리 상태 조회",
+            description = "status: COMPLETING(처리 대기) | COMPLETED | FAILED(처리 실패, 전표는 IN_PROGRESS로 복귀하며 error에 사유, failedAt에 실패 시각. 인스턴스/재시작과 무관하게 유지) | 그 외 전표 상태.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상태 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "내역서 없음")
+    })
+    @GetMapping("/{noteId}/completion")
+    public ResponseEntity<CommonApiResponse<ShippingCompletionStatusResponse>> getCompletionStatus(
+            @PathVariable Long noteId
+    ) {
+        return CommonApiResponse.success(SuccessStatus.SEND_SHIPPING_COMPLETION_STATUS_SUCCESS,
+                completionQueue.status(noteId));
+    }
+}
@@ -14,6 +14,7 @@ import com.gearfirst.warehouse.common.response.CommonApiResponse;
 import com.gearfirst.warehouse.common.response.PageEnvelope;
 import com.gearfirst.warehouse.common.response.SuccessStatus;
 import com.gearfirst.warehouse.common.util.DateFilter;
+import com.gearfirst.warehouse.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -33,6 +34,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 @Controller
 @RequestMapping("/api/v1/shipping")
@@ -130,13 +132,20 @@ public class ShippingController {
         return CommonApiResponse.success(SuccessStatus.SEND_SHIPPING_NOTE_LIST_SUCCESS, envelope);
     }
 
-    @Operation(summary = "출고 내역서 상세 조회", description = "내역서 ID를 통해 출고 내역서 상세 정보를 조회합니다.")
+    @Operation(summary = "출고 내역서 상세 조회", description = "내역서 ID를 통해 출고 내역서 상세 정보를 조회합니다. ETag를 제공하며 If-None-Match가 일치하면 본문 없이 304를 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "출고 상세 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "내역서 없음")
     })
     @GetMapping("/{noteId}")
-    public ResponseEntity<CommonApiResponse<ShippingNoteDetailResponse>> getDetailNoteById(@PathVariable Long noteId) {
+    public ResponseEntity<CommonApiResponse<ShippingNoteDetailResponse>> getDetailNoteById(
+            @PathVariable Long noteId,
+            WebRequest request
+    ) {
+        if (ETags.notModified(request, service.getDetailVersion(noteId))) {
+            return null;
+        }
         return CommonApiResponse.success(SuccessStatus.SEND_SHIPPING_NOTE_DETAIL_SUCCESS, service.getDetail(noteId));
     }
 
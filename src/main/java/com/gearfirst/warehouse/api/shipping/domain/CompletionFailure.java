@@ -0,0 +1,7 @@
+package com.gearfirst.warehouse.api.shipping.domain;
+
+import java.time.OffsetDateTime;
+
+/** 비동기 완료 실패 기록 (사유, 실패 시각) */
+public record CompletionFailure(String reason, OffsetDateTime failedAt) {
+}
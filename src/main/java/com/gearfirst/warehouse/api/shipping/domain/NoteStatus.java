@@ -1,5 +1,6 @@
 package com.gearfirst.warehouse.api.shipping.domain;
 
 public enum NoteStatus {
-    PENDING, IN_PROGRESS, DELAYED, COMPLETED
+    // COMPLETING: 비동기 완료 접수됨(검증/예약 끝), worker가 재고 차감 후 COMPLETED로 전이한다
+    PENDING, IN_PROGRESS, DELAYED, COMPLETED, COMPLETING
 }
@@ -1,5 +1,6 @@
 package com.gearfirst.warehouse.api.shipping.domain;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,15 +18,16 @@ public class ShippingNote {
     // Additive metadata (nullable)
     private String shippingNo;
     private Long orderId; // external order identifier for integration
-    private String requestedAt;      // ISO8601 or null
-    private String expectedShipDate; // ISO8601 or null
-    private String shippedAt;        // ISO8601 or null
+    // 시각은 instant 그대로 보관하고, KST 문자열 변환은 응답 DTO를 만들 때만 한다
+    private OffsetDateTime requestedAt;      // nullable
+    private OffsetDateTime expectedShipDate; // nullable
+    private OffsetDateTime shippedAt;        // nullable
     private String assigneeName;
     private String assigneeDept;
     private String assigneePhone;
     private String remark;
 
     private NoteStatus status; // PENDING | IN_PROGRESS | DELAYED | COMPLETED
-    private String completedAt; // ISO8601 or null
+    private OffsetDateTime completedAt; // nullable
     private List<ShippingNoteLine> lines;
 }
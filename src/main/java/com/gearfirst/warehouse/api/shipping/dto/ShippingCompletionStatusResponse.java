@@ -0,0 +1,18 @@
+package com.gearfirst.warehouse.api.shipping.dto;
+
+/**
+ * 비동기 완료 접수/상태 조회 응답.
+ * status: COMPLETING(접수됨, 처리 대기) | COMPLETED | FAILED(처리 실패, 전표는 IN_PROGRESS로 복귀) | 그 외 전표 상태.
+ * statusUrl: 상태 폴링 경로. completedAt/totalShippedQty는 COMPLETED일 때만, error/failedAt(KST)은 FAILED일 때만 채워진다.
+ */
+public record ShippingCompletionStatusResponse(
+        Long noteId,
+        String warehouseCode,
+        String status,
+        String statusUrl,
+        String completedAt,
+        Integer totalShippedQty,
+        String error,
+        String failedAt
+) {
+}
@@ -18,6 +18,7 @@ public record ShippingRecalcResponse(
             Integer orderedQty,
             String currentStatus,
             Integer onHandQty,
+            Integer availableQty, // ATP: onHand − 다른 진행 중 전표의 미출고 수요 (ATP 미사용 시 onHand)
             String suggestedStatus
     ) {}
 }
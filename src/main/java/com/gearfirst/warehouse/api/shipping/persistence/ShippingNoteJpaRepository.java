@@ -1,10 +1,16 @@
 package com.gearfirst.warehouse.api.shipping.persistence;
 
 import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingCompletionFailureEntity;
 import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingNoteEntity;
+import jakarta.persistence.LockModeType;
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,4 +21,27 @@ public interface ShippingNoteJpaRepository extends JpaRepository<ShippingNoteEnt
 
     @Query("select n from ShippingNoteEntity n where n.status not in :statuses order by n.noteId")
     List<ShippingNoteEntity> findAllByStatusNotIn(@Param("statuses") Collection<NoteStatus> statuses);
+
+    /** 지정 상태인 전표만 noteId 순으로 행 잠금 (비동기 완료 worker의 중복 처리 방지) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select n from ShippingNoteEntity n where n.noteId in :ids and n.status = :status order by n.noteId")
+    List<ShippingNoteEntity> lockAllByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                    @Param("status") NoteStatus status);
+
+    /** 비동기 완료 실패 사유 기록 (전표당 마지막 실패만 유지) */
+    @Modifying
+    @Query(value = """
+            insert into shipping_completion_failure (note_id, reason, failed_at)
+            values (:noteId, :reason, :failedAt)
+            on conflict (note_id) do update set reason = excluded.reason, failed_at = excluded.failed_at
+            """, nativeQuery = true)
+    void upsertCompletionFailure(@Param("noteId") Long noteId, @Param("reason") String reason,
+                                 @Param("failedAt") OffsetDateTime failedAt);
+
+    @Query("select f from ShippingCompletionFailureEntity f where f.noteId = :noteId")
+    Optional<ShippingCompletionFailureEntity> findCompletionFailure(@Param("noteId") Long noteId);
+
+    @Modifying
+    @Query("delete from ShippingCompletionFailureEntity f where f.noteId = :noteId")
+    void deleteCompletionFailure(@Param("noteId") Long noteId);
 }
@@ -0,0 +1,31 @@
+package com.gearfirst.warehouse.api.shipping.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 출고 상세 ETag용 버전 조회. 전표/라인 엔티티를 로드하지 않고 한 번의 쿼리로 끝낸다.
+ * 라인 수량만 바뀌는 경우 전표 updated_at이 그대로일 수 있어 라인 값(md5)을 함께 본다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShippingNoteVersionJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** 전표가 없으면 null */
+    public String findDetailVersion(Long noteId) {
+        return jdbc.query("""
+                select n.updated_at,
+                       (select md5(string_agg(l.line_id || ':' || l.ordered_qty || ':' || l.picked_qty || ':'
+                                              || coalesce(l.status, ''), ',' order by l.line_id))
+                          from shipping_note_line l
+                         where l.note_id = n.note_id)
+                  from shipping_note n
+                 where n.note_id = :noteId
+                """, new MapSqlParameterSource("noteId", noteId),
+                rs -> rs.next() ? "shipping:" + noteId + ":" + rs.getTimestamp(1) + ":" + rs.getString(2) : null);
+    }
+}
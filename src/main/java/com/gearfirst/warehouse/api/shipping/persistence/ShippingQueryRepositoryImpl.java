@@ -1,7 +1,10 @@
 package com.gearfirst.warehouse.api.shipping.persistence;
 
 import static com.gearfirst.warehouse.api.shipping.persistence.entity.QShippingNoteEntity.shippingNoteEntity;
+import static com.gearfirst.warehouse.api.shipping.persistence.entity.QShippingNoteHistoryEntity.shippingNoteHistoryEntity;
 
+import com.gearfirst.warehouse.api.archive.domain.ArchiveTarget;
+import com.gearfirst.warehouse.api.archive.service.NoteArchiveHorizon;
 import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingNoteSummary;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingSearchCond;
@@ -10,8 +13,14 @@ import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +28,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -31,32 +41,94 @@ public class ShippingQueryRepositoryImpl implements ShippingQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
+    // 없으면(단위 테스트 등) 항상 원본 테이블만 조회
+    @Autowired(required = false)
+    private NoteArchiveHorizon archiveHorizon;
+
+    /** 목록 컬럼 경로 묶음: 원본(shipping_note) 또는 원본 ∪ 보관(ShippingNoteHistoryEntity) */
+    private static final class Cols {
+        final EntityPathBase<?> root;
+        final NumberPath<Long> noteId;
+        final StringPath shippingNo;
+        final StringPath warehouseCode;
+        final StringPath branchName;
+        final DateTimePath<OffsetDateTime> requestedAt;
+        final DateTimePath<OffsetDateTime> expectedShipDate;
+        final DateTimePath<OffsetDateTime> completedAt;
+        final EnumPath<NoteStatus> status;
+        final NumberPath<Integer> itemKindsNumber;
+        final NumberPath<Integer> totalQty;
+
+        Cols(EntityPathBase<?> root, NumberPath<Long> noteId, StringPath shippingNo, StringPath warehouseCode,
+             StringPath branchName, DateTimePath<OffsetDateTime> requestedAt,
+             DateTimePath<OffsetDateTime> expectedShipDate, DateTimePath<OffsetDateTime> completedAt,
+             EnumPath<NoteStatus> status, NumberPath<Integer> itemKindsNumber, NumberPath<Integer> totalQty) {
+            this.root = root;
+            this.noteId = noteId;
+            this.shippingNo = shippingNo;
+            this.warehouseCode = warehouseCode;
+            this.branchName = branchName;
+            this.requestedAt = requestedAt;
+            this.expectedShipDate = expectedShipDate;
+            this.completedAt = completedAt;
+            this.status = status;
+            this.itemKindsNumber = itemKindsNumber;
+            this.totalQty = totalQty;
+        }
+    }
+
+    private static final Cols HOT = new Cols(shippingNoteEntity, shippingNoteEntity.noteId,
+        shippingNoteEntity.shippingNo, shippingNoteEntity.warehouseCode, shippingNoteEntity.branchName,
+        shippingNoteEntity.requestedAt, shippingNoteEntity.expectedShipDate, shippingNoteEntity.completedAt,
+        shippingNoteEntity.status, shippingNoteEntity.itemKindsNumber, shippingNoteEntity.totalQty);
+
+    private static final Cols HISTORY = new Cols(shippingNoteHistoryEntity, shippingNoteHistoryEntity.noteId,
+        shippingNoteHistoryEntity.shippingNo, shippingNoteHistoryEntity.warehouseCode,
+        shippingNoteHistoryEntity.branchName, shippingNoteHistoryEntity.requestedAt,
+        shippingNoteHistoryEntity.expectedShipDate, shippingNoteHistoryEntity.completedAt,
+        shippingNoteHistoryEntity.status, shippingNoteHistoryEntity.itemKindsNumber,
+        shippingNoteHistoryEntity.totalQty);
+
+    /**
+     * 보관 테이블에는 완료 전표만 있으므로, 완료 포함(status=done|all) + 요청일 범위가 보관 구간에 걸칠 때만 union 뷰를 쓴다.
+     * 날짜 하한이 없는 조회는 보관 전표가 하나라도 있으면 union 뷰를 쓴다 (원본만 읽어 오래된 완료분이 빠지지 않도록).
+     */
+    private Cols colsFor(ShippingSearchCond cond) {
+        if (archiveHorizon == null || cond == null) return HOT;
+        String status = cond.getStatus() == null ? "not-done" : cond.getStatus().toLowerCase(Locale.ROOT).trim();
+        if (!status.equals("done") && !status.equals("all")) return HOT;
+        var bounds = requestedBounds(cond);
+        var from = bounds == null ? null : bounds.fromInclusive();
+        return archiveHorizon.reaches(ArchiveTarget.SHIPPING, from) ? HISTORY : HOT;
+    }
+
     @Override
     public Page<ShippingNoteSummary> search(ShippingSearchCond cond, Pageable pageable) {
+        Cols c = colsFor(cond);
         var contentQuery = queryFactory
             .select(
-                shippingNoteEntity.noteId,
-                shippingNoteEntity.shippingNo,
-                shippingNoteEntity.warehouseCode,
-                shippingNoteEntity.branchName,
-                shippingNoteEntity.requestedAt,
-                shippingNoteEntity.expectedShipDate,
-                shippingNoteEntity.completedAt,
-                shippingNoteEntity.status,
-                shippingNoteEntity.itemKindsNumber,
-                shippingNoteEntity.totalQty
+                c.noteId,
+                c.shippingNo,
+                c.warehouseCode,
+                c.branchName,
+                c.requestedAt,
+                c.expectedShipDate,
+                c.completedAt,
+                c.status,
+                c.itemKindsNumber,
+                c.totalQty
             )
-            .from(shippingNoteEntity)
-            .where(buildWhere(cond))
+            .from(c.root)
+            .where(buildWhere(c, cond))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize());
 
         // Sorting with whitelist
-        List<OrderSpecifier<?>> orderSpecifiers = buildOrderSpecifiers(pageable.getSort());
+        List<OrderSpecifier<?>> orderSpecifiers = buildOrderSpecifiers(c, pageable.getSort());
         if (orderSpecifiers.isEmpty()) {
             orderSpecifiers = List.of(
-                new OrderSpecifier<>(Order.DESC, shippingNoteEntity.noteId),
-                new OrderSpecifier<>(Order.DESC, shippingNoteEntity.requestedAt)
+                new OrderSpecifier<>(Order.DESC, c.noteId),
+                new OrderSpecifier<>(Order.DESC, c.requestedAt)
             );
         }
         for (OrderSpecifier<?> os : orderSpecifiers) {
@@ -65,22 +137,22 @@ public class ShippingQueryRepositoryImpl implements ShippingQueryRepository {
 
         List<Tuple> tuples = contentQuery.fetch();
         List<ShippingNoteSummary> content = tuples.stream().map(t -> ShippingNoteSummary.builder()
-            .noteId(t.get(shippingNoteEntity.noteId))
-            .shippingNo(t.get(shippingNoteEntity.shippingNo))
-            .warehouseCode(t.get(shippingNoteEntity.warehouseCode))
-            .branchName(t.get(shippingNoteEntity.branchName))
-            .requestedAt(DateTimes.toKstString(t.get(shippingNoteEntity.requestedAt)))
-            .expectedShipDate(DateTimes.toKstString(t.get(shippingNoteEntity.expectedShipDate)))
-            .completedAt(DateTimes.toKstString(t.get(shippingNoteEntity.completedAt)))
-            .status(t.get(shippingNoteEntity.status))
-            .itemKindsNumber(safeInt(t.get(shippingNoteEntity.itemKindsNumber)))
-            .totalQty(safeInt(t.get(shippingNoteEntity.totalQty)))
+            .noteId(t.get(c.noteId))
+            .shippingNo(t.get(c.shippingNo))
+            .warehouseCode(t.get(c.warehouseCode))
+            .branchName(t.get(c.branchName))
+            .requestedAt(DateTimes.toKstString(t.get(c.requestedAt)))
+            .expectedShipDate(DateTimes.toKstString(t.get(c.expectedShipDate)))
+            .completedAt(DateTimes.toKstString(t.get(c.completedAt)))
+            .status(t.get(c.status))
+            .itemKindsNumber(safeInt(t.get(c.itemKindsNumber)))
+            .totalQty(safeInt(t.get(c.totalQty)))
             .build()).toList();
 
         Long totalL = queryFactory
-            .select(shippingNoteEntity.noteId.count())
-            .from(shippingNoteEntity)
-            .where(buildWhere(cond))
+            .select(c.noteId.count())
+            .from(c.root)
+            .where(buildWhere(c, cond))
             .fetchOne();
         long total = totalL == null ? 0L : totalL;
 
@@ -105,76 +177,75 @@ public class ShippingQueryRepositoryImpl implements ShippingQueryRepository {
         return totalL == null ? 0L : totalL;
     }
 
-    private BooleanExpression[] buildWhere(ShippingSearchCond cond) {
+    private BooleanExpression[] buildWhere(Cols c, ShippingSearchCond cond) {
         List<BooleanExpression> list = new ArrayList<>();
         if (cond == null) return new BooleanExpression[0];
 
         // status handling
         String status = cond.getStatus() == null ? "not-done" : cond.getStatus().toLowerCase(Locale.ROOT).trim();
         switch (status) {
-            case "done" -> list.add(shippingNoteEntity.status.in(NoteStatus.COMPLETED, NoteStatus.DELAYED));
+            case "done" -> list.add(c.status.in(NoteStatus.COMPLETED, NoteStatus.DELAYED));
             case "all" -> { /* no status filter */ }
-            default -> list.add(shippingNoteEntity.status.notIn(NoteStatus.COMPLETED, NoteStatus.DELAYED));
+            default -> list.add(c.status.notIn(NoteStatus.COMPLETED, NoteStatus.DELAYED));
         }
 
         // date filters KST local day → UTC bounds (requestedAt)
-        String date = cond.getDate();
-        String dateFrom = cond.getDateFrom();
-        String dateTo = cond.getDateTo();
-        if (dateFrom != null || dateTo != null) {
-            LocalDate from = parseLocalDate(dateFrom);
-            LocalDate to = parseLocalDate(dateTo);
-            var bounds = DateTimes.kstRangeBounds(from, to);
-            if (bounds != null) {
-                list.add(shippingNoteEntity.requestedAt.goe(bounds.fromInclusive()));
-                list.add(shippingNoteEntity.requestedAt.loe(bounds.toInclusive()));
-            }
-        } else if (date != null && !date.isBlank()) {
-            LocalDate day = parseLocalDate(date);
-            var bounds = DateTimes.kstDayBounds(day);
-            if (bounds != null) {
-                list.add(shippingNoteEntity.requestedAt.goe(bounds.fromInclusive()));
-                list.add(shippingNoteEntity.requestedAt.loe(bounds.toInclusive()));
-            }
+        var bounds = requestedBounds(cond);
+        if (bounds != null) {
+            list.add(c.requestedAt.goe(bounds.fromInclusive()));
+            list.add(c.requestedAt.loe(bounds.toInclusive()));
         }
 
         // unified q (shippingNo | branchName | warehouseCode[when explicit param is blank])
         if (cond.getQ() != null && !cond.getQ().isBlank()) {
             String term = cond.getQ().trim();
             var qPredicate =
-                shippingNoteEntity.shippingNo.containsIgnoreCase(term)
-                    .or(shippingNoteEntity.branchName.containsIgnoreCase(term));
+                c.shippingNo.containsIgnoreCase(term)
+                    .or(c.branchName.containsIgnoreCase(term));
             if (cond.getWarehouseCode() == null || cond.getWarehouseCode().isBlank()) {
-                qPredicate = qPredicate.or(shippingNoteEntity.warehouseCode.containsIgnoreCase(term));
+                qPredicate = qPredicate.or(c.warehouseCode.containsIgnoreCase(term));
             }
             list.add(qPredicate);
         }
 
         if (cond.getWarehouseCode() != null && !cond.getWarehouseCode().isBlank()) {
-            list.add(shippingNoteEntity.warehouseCode.equalsIgnoreCase(cond.getWarehouseCode().trim()));
+            list.add(c.warehouseCode.equalsIgnoreCase(cond.getWarehouseCode().trim()));
         }
         if (cond.getShippingNo() != null && !cond.getShippingNo().isBlank()) {
             String term = cond.getShippingNo().trim();
-            list.add(shippingNoteEntity.shippingNo.containsIgnoreCase(term));
+            list.add(c.shippingNo.containsIgnoreCase(term));
         }
         if (cond.getBranchName() != null && !cond.getBranchName().isBlank()) {
             String term = cond.getBranchName().trim();
-            list.add(shippingNoteEntity.branchName.containsIgnoreCase(term));
+            list.add(c.branchName.containsIgnoreCase(term));
         }
         return list.toArray(BooleanExpression[]::new);
     }
 
-    private List<OrderSpecifier<?>> buildOrderSpecifiers(Sort sort) {
+    // date | dateFrom~dateTo (KST local day) → UTC bounds. 조건이 없으면 null
+    private DateTimes.DayBounds requestedBounds(ShippingSearchCond cond) {
+        String date = cond.getDate();
+        String dateFrom = cond.getDateFrom();
+        String dateTo = cond.getDateTo();
+        if (dateFrom != null || dateTo != null) {
+            return DateTimes.kstRangeBounds(parseLocalDate(dateFrom), parseLocalDate(dateTo));
+        } else if (date != null && !date.isBlank()) {
+            return DateTimes.kstDayBounds(parseLocalDate(date));
+        }
+        return null;
+    }
+
+    private List<OrderSpecifier<?>> buildOrderSpecifiers(Cols c, Sort sort) {
         if (sort == null || sort.isEmpty()) return List.of();
         Map<String, Function<Sort.Order, OrderSpecifier<?>>> mapping = new HashMap<>();
-        mapping.put("requestedAt", o -> new OrderSpecifier<>(toOrder(o), shippingNoteEntity.requestedAt));
-        mapping.put("expectedShipDate", o -> new OrderSpecifier<>(toOrder(o), shippingNoteEntity.expectedShipDate));
-        mapping.put("completedAt", o -> new OrderSpecifier<>(toOrder(o), shippingNoteEntity.completedAt));
-        mapping.put("shippingNo", o -> new OrderSpecifier<>(toOrder(o), shippingNoteEntity.shippingNo));
-        mapping.put("noteId", o -> new OrderSpecifier<>(toOrder(o), shippingNoteEntity.noteId));
-        mapping.put("status", o -> new OrderSpecifier<>(toOrder(o), shippingNoteEntity.status));
-        mapping.put("branchName", o -> new OrderSpecifier<>(toOrder(o), shippingNoteEntity.branchName));
-        mapping.put("warehouseCode", o -> new OrderSpecifier<>(toOrder(o), shippingNoteEntity.warehouseCode));
+        mapping.put("requestedAt", o -> new OrderSpecifier<>(toOrder(o), c.requestedAt));
+        mapping.put("expectedShipDate", o -> new OrderSpecifier<>(toOrder(o), c.expectedShipDate));
+        mapping.put("completedAt", o -> new OrderSpecifier<>(toOrder(o), c.completedAt));
+        mapping.put("shippingNo", o -> new OrderSpecifier<>(toOrder(o), c.shippingNo));
+        mapping.put("noteId", o -> new OrderSpecifier<>(toOrder(o), c.noteId));
+        mapping.put("status", o -> new OrderSpecifier<>(toOrder(o), c.status));
+        mapping.put("branchName", o -> new OrderSpecifier<>(toOrder(o), c.branchName));
+        mapping.put("warehouseCode", o -> new OrderSpecifier<>(toOrder(o), c.warehouseCode));
 
         List<OrderSpecifier<?>> result = new ArrayList<>();
         for (Sort.Order o : sort) {
@@ -197,41 +268,42 @@ public class ShippingQueryRepositoryImpl implements ShippingQueryRepository {
     @Override
     public java.util.List<ShippingNoteSummary> searchAll(ShippingSearchCond cond) {
         // Unpaged variant used by legacy service overloads. Apply the same whitelist fallback sort.
+        Cols c = colsFor(cond);
         var contentQuery = queryFactory
             .select(
-                shippingNoteEntity.noteId,
-                shippingNoteEntity.shippingNo,
-                shippingNoteEntity.warehouseCode,
-                shippingNoteEntity.branchName,
-                shippingNoteEntity.requestedAt,
-                shippingNoteEntity.expectedShipDate,
-                shippingNoteEntity.completedAt,
-                shippingNoteEntity.status,
-                shippingNoteEntity.itemKindsNumber,
-                shippingNoteEntity.totalQty
+                c.noteId,
+                c.shippingNo,
+                c.warehouseCode,
+                c.branchName,
+                c.requestedAt,
+                c.expectedShipDate,
+                c.completedAt,
+                c.status,
+                c.itemKindsNumber,
+                c.totalQty
             )
-            .from(shippingNoteEntity)
-            .where(buildWhere(cond))
+            .from(c.root)
+            .where(buildWhere(c, cond))
             .limit(Integer.MAX_VALUE);
 
         // Baseline fallback ordering
         contentQuery.orderBy(
-            new OrderSpecifier<>(Order.DESC, shippingNoteEntity.noteId),
-            new OrderSpecifier<>(Order.DESC, shippingNoteEntity.requestedAt)
+            new OrderSpecifier<>(Order.DESC, c.noteId),
+            new OrderSpecifier<>(Order.DESC, c.requestedAt)
         );
 
         List<Tuple> tuples = contentQuery.fetch();
         return tuples.stream().map(t -> ShippingNoteSummary.builder()
-            .noteId(t.get(shippingNoteEntity.noteId))
-            .shippingNo(t.get(shippingNoteEntity.shippingNo))
-            .warehouseCode(t.get(shippingNoteEntity.warehouseCode))
-            .branchName(t.get(shippingNoteEntity.branchName))
-            .requestedAt(DateTimes.toKstString(t.get(shippingNoteEntity.requestedAt)))
-            .expectedShipDate(DateTimes.toKstString(t.get(shippingNoteEntity.expectedShipDate)))
-            .completedAt(DateTimes.toKstString(t.get(shippingNoteEntity.completedAt)))
-            .status(t.get(shippingNoteEntity.status))
-            .itemKindsNumber(safeInt(t.get(shippingNoteEntity.itemKindsNumber)))
-            .totalQty(safeInt(t.get(shippingNoteEntity.totalQty)))
+            .noteId(t.get(c.noteId))
+            .shippingNo(t.get(c.shippingNo))
+            .warehouseCode(t.get(c.warehouseCode))
+            .branchName(t.get(c.branchName))
+            .requestedAt(DateTimes.toKstString(t.get(c.requestedAt)))
+            .expectedShipDate(DateTimes.toKstString(t.get(c.expectedShipDate)))
+            .completedAt(DateTimes.toKstString(t.get(c.completedAt)))
+            .status(t.get(c.status))
+            .itemKindsNumber(safeInt(t.get(c.itemKindsNumber)))
+            .totalQty(safeInt(t.get(c.totalQty)))
             .build()).toList();
     }
 }
@@ -0,0 +1,30 @@
+package com.gearfirst.warehouse.api.shipping.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 출고 완료가 worker에서 실패해 IN_PROGRESS로 되돌린 전표의 마지막 실패 사유.
+ * 되돌리기와 같은 트랜잭션에 upsert되고, 다시 접수/완료하면 지운다. 상태 조회는 인스턴스와 무관하게 이 행을 읽는다.
+ */
+@Entity
+@Table(name = "shipping_completion_failure")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShippingCompletionFailureEntity {
+
+    @Id
+    private Long noteId;
+
+    @Column(nullable = false, length = 500)
+    private String reason;
+
+    @Column(nullable = false)
+    private OffsetDateTime failedAt;
+}
@@ -0,0 +1,61 @@
+package com.gearfirst.warehouse.api.shipping.persistence.entity;
+
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 보관된 출고 전표 (shipping_note와 같은 컬럼 + archivedAt). 쓰기는 {@code NoteArchiveJdbcRepository}만 한다.
+ */
+@Entity
+@Immutable
+@Table(
+    name = "shipping_note_archive",
+    indexes = {
+        // lower(warehouse_code) 식 인덱스는 db/migration에서만 관리
+        @Index(name = "IDX_shp_arch_requested_at", columnList = "requestedAt"),
+        @Index(name = "IDX_shp_arch_status_requested", columnList = "status,requestedAt")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShippingNoteArchiveEntity {
+
+    @Id
+    private Long noteId;
+
+    private String branchName;
+    private int itemKindsNumber;
+    private int totalQty;
+    private String warehouseCode;
+    private String shippingNo;
+    private Long orderId;
+    private OffsetDateTime requestedAt;
+    private OffsetDateTime expectedShipDate;
+    private OffsetDateTime shippedAt;
+    private String assigneeName;
+    private String assigneeDept;
+    private String assigneePhone;
+    private String remark;
+
+    @Enumerated(EnumType.STRING)
+    private NoteStatus status;
+
+    private OffsetDateTime completedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private OffsetDateTime archivedAt;
+}
@@ -35,7 +35,9 @@ import lombok.Setter;
         @Index(name = "IDX_shp_note_completed_at", columnList = "completedAt"),
         @Index(name = "IDX_shp_note_status", columnList = "status"),
         @Index(name = "IDX_shp_note_wh", columnList = "warehouseCode"),
-        @Index(name = "IDX_shp_note_branch", columnList = "branchName")
+        @Index(name = "IDX_shp_note_branch", columnList = "branchName"),
+        // 식/부분 인덱스(lower(warehouse_code), not-done)는 db/migration에서만 관리
+        @Index(name = "IDX_shp_note_status_requested", columnList = "status,requestedAt")
     }
 )
 @Getter
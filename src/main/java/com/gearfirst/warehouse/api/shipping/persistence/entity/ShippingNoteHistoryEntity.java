@@ -0,0 +1,52 @@
+package com.gearfirst.warehouse.api.shipping.persistence.entity;
+
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+/**
+ * 목록 조회용 읽기 전용 뷰: shipping_note ∪ shipping_note_archive (목록 컬럼만).
+ * 전표는 둘 중 한쪽에만 존재하므로 union all. 조건은 Postgres가 각 branch로 내려 보내 인덱스를 그대로 쓴다.
+ * 날짜 범위가 보관 구간에 걸칠 때만 사용한다 (ShippingQueryRepositoryImpl).
+ */
+@Entity
+@Immutable
+@Subselect("""
+    select note_id, shipping_no, warehouse_code, branch_name, requested_at, expected_ship_date,
+           completed_at, status, item_kinds_number, total_qty
+      from shipping_note
+    union all
+    select note_id, shipping_no, warehouse_code, branch_name, requested_at, expected_ship_date,
+           completed_at, status, item_kinds_number, total_qty
+      from shipping_note_archive
+    """)
+@Synchronize({"shipping_note", "shipping_note_archive"})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShippingNoteHistoryEntity {
+
+    @Id
+    private Long noteId;
+
+    private String shippingNo;
+    private String warehouseCode;
+    private String branchName;
+    private OffsetDateTime requestedAt;
+    private OffsetDateTime expectedShipDate;
+    private OffsetDateTime completedAt;
+
+    @Enumerated(EnumType.STRING)
+    private NoteStatus status;
+
+    private int itemKindsNumber;
+    private int totalQty;
+}
@@ -0,0 +1,48 @@
+package com.gearfirst.warehouse.api.shipping.persistence.entity;
+
+import com.gearfirst.warehouse.api.shipping.domain.LineStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/** 보관된 출고 전표 라인. noteId는 {@link ShippingNoteArchiveEntity#getNoteId()} */
+@Entity
+@Immutable
+@Table(
+    name = "shipping_note_line_archive",
+    indexes = {
+        @Index(name = "IDX_shp_line_arch_note", columnList = "noteId")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShippingNoteLineArchiveEntity {
+
+    @Id
+    private Long lineId;
+
+    @Column(nullable = false)
+    private Long noteId;
+
+    private Long productId;
+    private String productLot;
+    private String productCode;
+    private String productName;
+    private String productImgUrl;
+
+    private int orderedQty;
+    private int pickedQty;
+
+    @Enumerated(EnumType.STRING)
+    private LineStatus status;
+
+    private String remark;
+}
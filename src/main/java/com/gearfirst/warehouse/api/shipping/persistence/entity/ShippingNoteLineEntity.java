@@ -23,7 +23,7 @@ import lombok.Setter;
 @Table(
     name = "shipping_note_line",
     indexes = {
-        @Index(name = "IDX_shp_line_note", columnList = "note_id"),
+        @Index(name = "IDX_shp_line_note_product", columnList = "note_id,productId"),
         @Index(name = "IDX_shp_line_product", columnList = "productId")
     }
 )
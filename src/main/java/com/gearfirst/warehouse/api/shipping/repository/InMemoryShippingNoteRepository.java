@@ -1,9 +1,13 @@
 package com.gearfirst.warehouse.api.shipping.repository;
 
+import com.gearfirst.warehouse.api.shipping.domain.CompletionFailure;
 import com.gearfirst.warehouse.api.shipping.domain.LineStatus;
 import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
 import com.gearfirst.warehouse.api.shipping.domain.ShippingNote;
 import com.gearfirst.warehouse.api.shipping.domain.ShippingNoteLine;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +18,7 @@ import java.util.stream.Collectors;
 public class InMemoryShippingNoteRepository implements ShippingNoteRepository {
 
     private static final Map<Long, ShippingNote> NOTES = new ConcurrentHashMap<>();
+    private final Map<Long, CompletionFailure> failures = new ConcurrentHashMap<>();
 
     static {
         // noteId=501 (IN_PROGRESS)
@@ -60,7 +65,7 @@ public class InMemoryShippingNoteRepository implements ShippingNoteRepository {
                 .itemKindsNumber(1)
                 .totalQty(10)
                 .status(NoteStatus.COMPLETED)
-                .completedAt("2025-10-20-12:00:00")
+                .completedAt(OffsetDateTime.of(2025, 10, 20, 3, 0, 0, 0, ZoneOffset.UTC)) // KST 12:00
                 .assigneeName("WAREHOUSE")
                 .assigneeDept("DEFAULT")
                 .assigneePhone("N/A")
@@ -77,7 +82,7 @@ public class InMemoryShippingNoteRepository implements ShippingNoteRepository {
                 .itemKindsNumber(1)
                 .totalQty(10)
                 .status(NoteStatus.DELAYED)
-                .completedAt("2025-10-20-15:00:00")
+                .completedAt(OffsetDateTime.of(2025, 10, 20, 6, 0, 0, 0, ZoneOffset.UTC)) // KST 15:00
                 .assigneeName("WAREHOUSE")
                 .assigneeDept("DEFAULT")
                 .assigneePhone("N/A")
@@ -133,4 +138,38 @@ public class InMemoryShippingNoteRepository implements ShippingNoteRepository {
         NOTES.put(note.getNoteId(), note);
         return note;
     }
+
+    @Override
+    public List<ShippingNote> findAllByStatus(NoteStatus status) {
+        return NOTES.values().stream()
+                .filter(n -> n.getStatus() == status)
+                .sorted(Comparator.comparing(ShippingNote::getNoteId))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> lockAllByStatus(Collection<Long> noteIds, NoteStatus status) {
+        // 인메모리 구현은 잠금 없이 상태만 확인한다
+        return noteIds.stream()
+                .map(NOTES::get)
+                .filter(n -> n != null && n.getStatus() == status)
+                .map(ShippingNote::getNoteId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void saveCompletionFailure(Long noteId, String reason, OffsetDateTime failedAt) {
+        failures.put(noteId, new CompletionFailure(reason, failedAt));
+    }
+
+    @Override
+    public Optional<CompletionFailure> findCompletionFailure(Long noteId) {
+        return Optional.ofNullable(failures.get(noteId));
+    }
+
+    @Override
+    public void deleteCompletionFailure(Long noteId) {
+        failures.remove(noteId);
+    }
 }
@@ -1,5 +1,6 @@
 package com.gearfirst.warehouse.api.shipping.repository;
 
+import com.gearfirst.warehouse.api.shipping.domain.CompletionFailure;
 import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
 import com.gearfirst.warehouse.api.shipping.domain.ShippingNote;
 import com.gearfirst.warehouse.api.shipping.domain.ShippingNoteLine;
@@ -7,6 +8,8 @@ import com.gearfirst.warehouse.api.shipping.persistence.ShippingNoteJpaRepositor
 import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingNoteEntity;
 import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingNoteLineEntity;
 import com.gearfirst.warehouse.common.util.DateTimes;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -125,6 +128,37 @@ public class ShippingNoteJpaRepositoryAdapter implements ShippingNoteRepository
         return toDomain(saved);
     }
 
+    @Override
+    public List<ShippingNote> findAllByStatus(NoteStatus status) {
+        return jpaRepository.findAllByStatusIn(List.of(status)).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<Long> lockAllByStatus(Collection<Long> noteIds, NoteStatus status) {
+        if (noteIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.lockAllByIdInAndStatus(noteIds, status).stream()
+                .map(ShippingNoteEntity::getNoteId)
+                .toList();
+    }
+
+    @Override
+    public void saveCompletionFailure(Long noteId, String reason, OffsetDateTime failedAt) {
+        jpaRepository.upsertCompletionFailure(noteId, reason, failedAt);
+    }
+
+    @Override
+    public Optional<CompletionFailure> findCompletionFailure(Long noteId) {
+        return jpaRepository.findCompletionFailure(noteId)
+                .map(f -> new CompletionFailure(f.getReason(), f.getFailedAt()));
+    }
+
+    @Override
+    public void deleteCompletionFailure(Long noteId) {
+        jpaRepository.deleteCompletionFailure(noteId);
+    }
+
     private ShippingNote toDomain(ShippingNoteEntity e) {
         var lines = (e.getLines() == null) ? List.<ShippingNoteLineEntity>of() : e.getLines();
         return ShippingNote.builder()
@@ -135,15 +169,15 @@ public class ShippingNoteJpaRepositoryAdapter implements ShippingNoteRepository
                 .warehouseCode(e.getWarehouseCode())
                 .shippingNo(e.getShippingNo())
                 .orderId(e.getOrderId())
-                .requestedAt(DateTimes.toKstString(e.getRequestedAt()))
-                .expectedShipDate(DateTimes.toKstString(e.getExpectedShipDate()))
-                .shippedAt(DateTimes.toKstString(e.getShippedAt()))
+                .requestedAt(e.getRequestedAt())
+                .expectedShipDate(e.getExpectedShipDate())
+                .shippedAt(e.getShippedAt())
                 .assigneeName(e.getAssigneeName())
                 .assigneeDept(e.getAssigneeDept())
                 .assigneePhone(e.getAssigneePhone())
                 .remark(e.getRemark())
                 .status(e.getStatus())
-                .completedAt(DateTimes.toKstString(e.getCompletedAt()))
+                .completedAt(e.getCompletedAt())
                 .lines(lines.stream().map(this::toDomainLine).toList())
                 .build();
     }
@@ -170,15 +204,15 @@ public class ShippingNoteJpaRepositoryAdapter implements ShippingNoteRepository
                 .totalQty(d.getTotalQty())
                 .warehouseCode(d.getWarehouseCode())
                 .shippingNo(d.getShippingNo())
-                .requestedAt(parseOffsetDateTime(d.getRequestedAt()))
-                .expectedShipDate(parseOffsetDateTime(d.getExpectedShipDate()))
-                .shippedAt(parseOffsetDateTime(d.getShippedAt()))
+                .requestedAt(d.getRequestedAt())
+                .expectedShipDate(d.getExpectedShipDate())
+                .shippedAt(d.getShippedAt())
                 .assigneeName(d.getAssigneeName())
                 .assigneeDept(d.getAssigneeDept())
                 .assigneePhone(d.getAssigneePhone())
                 .remark(d.getRemark())
                 .status(d.getStatus())
-                .completedAt(parseOffsetDateTime(d.getCompletedAt()))
+                .completedAt(d.getCompletedAt())
                 .orderId(d.getOrderId());
         var entity = builder.build();
         if (d.getLines() != null) {
@@ -200,15 +234,4 @@ public class ShippingNoteJpaRepositoryAdapter implements ShippingNoteRepository
         }
         return entity;
     }
-
-    private java.time.OffsetDateTime parseOffsetDateTime(String text) {
-        if (text == null || text.isBlank()) {
-            return null;
-        }
-        try {
-            return java.time.OffsetDateTime.parse(text);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
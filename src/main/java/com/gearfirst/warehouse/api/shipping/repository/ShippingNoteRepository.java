@@ -1,6 +1,10 @@
 package com.gearfirst.warehouse.api.shipping.repository;
 
+import com.gearfirst.warehouse.api.shipping.domain.CompletionFailure;
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
 import com.gearfirst.warehouse.api.shipping.domain.ShippingNote;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +21,16 @@ public interface ShippingNoteRepository {
     Optional<ShippingNote> findById(Long noteId);
 
     ShippingNote save(ShippingNote note);
+
+    List<ShippingNote> findAllByStatus(NoteStatus status);
+
+    /** noteIds 중 아직 status인 전표를 트랜잭션 끝까지 잠그고 그 id를 돌려준다 */
+    List<Long> lockAllByStatus(Collection<Long> noteIds, NoteStatus status);
+
+    /** 비동기 완료 실패 사유 (전표당 마지막 1건). 되돌리기와 같은 트랜잭션에 기록한다 */
+    void saveCompletionFailure(Long noteId, String reason, OffsetDateTime failedAt);
+
+    Optional<CompletionFailure> findCompletionFailure(Long noteId);
+
+    void deleteCompletionFailure(Long noteId);
 }
@@ -0,0 +1,192 @@
+package com.gearfirst.warehouse.api.shipping.service;
+
+import com.gearfirst.warehouse.api.shipping.domain.ShippingNote;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCompleteRequest;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCompletionStatusResponse;
+import com.gearfirst.warehouse.common.exception.ServiceUnavailableException;
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 출고 완료 비동기 처리 (접수 → 적용).
+ * - accept: 검증/예약 후 전표를 COMPLETING으로 커밋하고 창고별 lane에 넣는다. 대기 건수가 max-pending을 넘으면 503.
+ * - worker: lane 하나를 한 번에 한 스레드만 비우며, batch-size건씩 한 트랜잭션으로 (창고, 부품)별 합산 차감 후 COMPLETED 전이.
+ *   한 batch를 끝내면 남은 건은 풀 뒤로 다시 제출해 창고끼리 번갈아 처리한다.
+ * - batch가 실패하면(재고 부족 등) 전표별로 다시 시도하고, 그래도 실패한 전표만 IN_PROGRESS로 되돌리며 사유/시각을 DB에 기록한다
+ *   (상태 조회는 어느 인스턴스에서든, 재시작 후에도 FAILED와 사유를 돌려준다).
+ * - 큐는 메모리에만 있으므로 재시작/다른 인스턴스 장애로 남은 COMPLETING 전표는 주기적으로 다시 넣는다
+ *   (전표 행 잠금 + 상태 재확인으로 중복 처리되지 않는다).
+ * - worker는 batch 트랜잭션 동안 커넥션 1개를 쥐므로 기본 1개다. worker 수는 bulkhead의 백그라운드 커넥션 몫에 포함된다.
+ *   spring.threads.virtual.enabled면 virtual thread로 돌린다.
+ */
+@Slf4j
+@Component
+public class ShippingCompletionQueue {
+
+    private final ShippingService shippingService;
+    private final int batchSize;
+    private final int maxPending;
+    private final ExecutorService workers;
+
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final Set<Long> tracked = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private static final class Lane {
+        final Queue<Long> queue = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean draining = new AtomicBoolean();
+    }
+
+    public ShippingCompletionQueue(ShippingService shippingService,
+                                   @Value("${warehouse.shipping.async-complete.workers:1}") int workers,
+                                   @Value("${warehouse.shipping.async-complete.batch-size:50}") int batchSize,
+                                   @Value("${warehouse.shipping.async-complete.max-pending:2000}") int maxPending,
+                                   @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.shippingService = shippingService;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPending = Math.max(1, maxPending);
+        ThreadFactory factory = virtualThreads
+                ? Thread.ofVirtual().name("shipping-complete-", 1).factory()
+                : Thread.ofPlatform().name("shipping-complete-", 1).daemon(true).factory();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workers), factory);
+    }
+
+    /** 완료 요청 접수. 반환 시점에 전표는 COMPLETING으로 커밋되어 있다 */
+    public ShippingCompletionStatusResponse accept(Long noteId, ShippingCompleteRequest req) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            throw new ServiceUnavailableException(ErrorStatus.SHIPPING_COMPLETION_QUEUE_FULL);
+        }
+        ShippingCompletionStatusResponse accepted;
+        try {
+            accepted = shippingService.acceptComplete(noteId, req);
+        } catch (RuntimeException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+        enqueue(accepted.warehouseCode(), noteId);
+        return accepted;
+    }
+
+    /** 전표 상태 + 저장된 worker 실패 사유 */
+    public ShippingCompletionStatusResponse status(Long noteId) {
+        return shippingService.getCompletionStatus(noteId);
+    }
+
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    /** 남아 있는 COMPLETING 전표 재등록 (기동 직후 + 주기) */
+    @Scheduled(initialDelayString = "${warehouse.shipping.async-complete.recover-initial-delay-ms:10000}",
+            fixedDelayString = "${warehouse.shipping.async-complete.recover-interval-ms:60000}")
+    public void recover() {
+        int recovered = 0;
+        for (ShippingNote note : shippingService.findAccepted()) {
+            if (!tracked.contains(note.getNoteId())) {
+                pending.incrementAndGet();
+                enqueue(note.getWarehouseCode(), note.getNoteId());
+                recovered++;
+            }
+        }
+        if (recovered > 0) {
+            log.info("Shipping completion: re-enqueued {} accepted notes", recovered);
+        }
+    }
+
+    private void enqueue(String warehouseCode, Long noteId) {
+        if (!tracked.add(noteId)) {
+            pending.decrementAndGet(); // 이미 대기/처리 중
+            return;
+        }
+        String key = warehouseCode == null ? "" : warehouseCode;
+        Lane lane = lanes.computeIfAbsent(key, k -> new Lane());
+        lane.queue.add(noteId);
+        schedule(lane);
+    }
+
+    private void schedule(Lane lane) {
+        if (lane.draining.compareAndSet(false, true)) {
+            workers.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(Lane lane) {
+        List<Long> batch = new ArrayList<>(batchSize);
+        Long id;
+        while (batch.size() < batchSize && (id = lane.queue.poll()) != null) {
+            batch.add(id);
+        }
+        try {
+            if (!batch.isEmpty()) {
+                apply(batch);
+            }
+        } finally {
+            for (Long done : batch) {
+                tracked.remove(done);
+            }
+            pending.addAndGet(-batch.size());
+            lane.draining.set(false);
+            if (!lane.queue.isEmpty()) {
+                schedule(lane);
+            }
+        }
+    }
+
+    private void apply(List<Long> batch) {
+        try {
+            shippingService.completeAccepted(batch);
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+                return;
+            }
+            log.warn("Shipping completion batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+        }
+        for (Long noteId : batch) {
+            try {
+                shippingService.completeAccepted(List.of(noteId));
+            } catch (RuntimeException e) {
+                fail(noteId, e);
+            }
+        }
+    }
+
+    private void fail(Long noteId, RuntimeException cause) {
+        String reason = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        try {
+            shippingService.failAccepted(noteId, reason);
+        } catch (RuntimeException e) {
+            // 되돌리기까지 실패하면 COMPLETING으로 남고 recover 주기에 다시 시도된다
+            log.error("Shipping completion for note {} failed and could not be reverted", noteId, e);
+            return;
+        }
+        log.warn("Shipping completion for note {} failed: {}", noteId, reason);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.gearfirst.warehouse.api.shipping.service;
 
+import com.gearfirst.warehouse.api.shipping.domain.ShippingNote;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingCompleteRequest;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingCompleteResponse;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCompletionStatusResponse;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingCreateNoteRequest;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingNoteDetailResponse;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingNoteDetailV2Response;
@@ -63,14 +65,35 @@ public interface ShippingService {
 
     ShippingNoteDetailResponse getDetail(Long noteId);
 
+    // 상세 ETag용 버전 (전표/라인 로드 없이 조회). 전표가 없으면 null
+    String getDetailVersion(Long noteId);
+
     ShippingNoteDetailResponse updateLine(Long noteId, Long lineId, ShippingUpdateLineRequest request);
 
     // Completion APIs
     ShippingCompleteResponse complete(Long noteId, ShippingCompleteRequest request);
 
+    // Async completion: 검증/예약 후 COMPLETING으로 접수만 한다 (차감/COMPLETED 전이는 ShippingCompletionQueue worker)
+    ShippingCompletionStatusResponse acceptComplete(Long noteId, ShippingCompleteRequest request);
+
+    // worker 전용: 접수된 전표 묶음을 한 트랜잭션에서 (창고, 부품)별 합산 차감 후 COMPLETED로 전이. 처리한 전표 수 반환
+    int completeAccepted(List<Long> noteIds);
+
+    // worker 전용: 개별 처리도 실패한 전표를 IN_PROGRESS로 되돌리고 실패 사유/시각을 함께 기록한다
+    void failAccepted(Long noteId, String reason);
+
+    // worker 복구용: 아직 COMPLETING인 전표 (재시작/다른 인스턴스 장애로 남은 접수분)
+    List<ShippingNote> findAccepted();
+
+    // 전표 상태 + 마지막 비동기 완료 실패(있고, 전표가 COMPLETING/COMPLETED가 아니면 status=FAILED)
+    ShippingCompletionStatusResponse getCompletionStatus(Long noteId);
+
     // Create new shipping note (stub for now)
     ShippingNoteDetailResponse create(ShippingCreateNoteRequest request);
 
+    // Bulk create for inbound events: one transaction, returns created noteIds in request order
+    List<Long> createAll(List<ShippingCreateNoteRequest> requests);
+
     // ---------- V2 additions (non-breaking) ----------
     ShippingNoteDetailV2Response getDetailV2(Long noteId);
 
@@ -3,15 +3,23 @@ package com.gearfirst.warehouse.api.shipping.service;
 import static com.gearfirst.warehouse.common.response.ErrorStatus.CONFLICT_NOTE_STATUS_WHILE_COMPLETE;
 
 import com.gearfirst.warehouse.api.dto.NotificationDto;
+import com.gearfirst.warehouse.api.inventory.dto.AtpDtos.AtpItem;
 import com.gearfirst.warehouse.api.inventory.dto.OnHandDtos.OnHandSummary;
+import com.gearfirst.warehouse.api.inventory.service.AtpService;
 import com.gearfirst.warehouse.api.inventory.service.InventoryService;
+import com.gearfirst.warehouse.api.inventory.service.ReservationService;
+import com.gearfirst.warehouse.api.live.dto.NoteChangeEvent;
+import com.gearfirst.warehouse.api.live.dto.NoteChangeEvent.LineChange;
 import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
+import com.gearfirst.warehouse.api.shipping.domain.CompletionFailure;
 import com.gearfirst.warehouse.api.shipping.domain.LineStatus;
 import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
 import com.gearfirst.warehouse.api.shipping.domain.ShippingNote;
 import com.gearfirst.warehouse.api.shipping.domain.ShippingNoteLine;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingCompleteRequest;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingCompleteResponse;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCompletionStatusResponse;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingCreateNoteRequest;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingLineConfirmResponse;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingNoteDetailResponse;
@@ -23,11 +31,15 @@ import com.gearfirst.warehouse.api.shipping.dto.ShippingProductResponse;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingRecalcResponse;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingSearchCond;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingUpdateLineRequest;
+import com.gearfirst.warehouse.api.shipping.persistence.ShippingNoteVersionJdbcRepository;
 import com.gearfirst.warehouse.api.shipping.persistence.ShippingQueryRepository;
 import com.gearfirst.warehouse.api.shipping.repository.ShippingNoteRepository;
 import com.gearfirst.warehouse.common.exception.BadRequestException;
 import com.gearfirst.warehouse.common.exception.ConflictException;
 import com.gearfirst.warehouse.common.exception.NotFoundException;
+import com.gearfirst.warehouse.common.metrics.UseCaseMetrics;
+import com.gearfirst.warehouse.common.outbox.NotificationAggregator;
+import com.gearfirst.warehouse.common.outbox.OutboxPublisher;
 import com.gearfirst.warehouse.common.response.ErrorStatus;
 import com.gearfirst.warehouse.common.response.PageEnvelope;
 import com.gearfirst.warehouse.common.sequence.NoteNumberGenerator;
@@ -38,6 +50,7 @@ import java.util.*;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -53,11 +66,39 @@ public class ShippingServiceImpl implements ShippingService {
     // Optional helper for product snapshot (nullable for tests)
     private final PartJpaRepository partRepository;
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    // 가용 재고(ATP)와 미출고 수요: 전표 변경마다 수요를 증분 반영하고 checkShippable 판정에 쓴다
+    private final AtpService atpService;
+    // 라인 READY 시 재고 예약 → 완료 시 소비 (초과 출고 방지)
+    private final ReservationService reservationService;
 
     // Optional Querydsl repository for unified list queries (nullable for tests)
     @Autowired(required = false)
     private ShippingQueryRepository shippingQueryRepository;
 
+    // Transactional outbox (nullable for tests → direct send fallback)
+    @Autowired(required = false)
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired(required = false)
+    private NotificationAggregator notificationAggregator;
+
+    // 전표 변경 → 커밋 후 창고별 SSE 구독자 (nullable for tests → 발행 안 함)
+    @Autowired(required = false)
+    private ApplicationEventPublisher eventPublisher;
+
+    // 상세 ETag 버전 조회 (nullable for tests → 조건부 응답 안 함)
+    @Autowired(required = false)
+    private ShippingNoteVersionJdbcRepository versionRepository;
+
+    /** note 변경과 같은 트랜잭션에 outbox 행으로 기록한다. key=noteId 로 같은 전표 이벤트의 순서를 유지 */
+    private void notify(String topic, String key, NotificationDto n) {
+        if (outboxPublisher != null) {
+            outboxPublisher.publish(topic, key, n);
+        } else if (kafkaTemplate != null) {
+            kafkaTemplate.send(topic, key, n);
+        }
+    }
+
     @Override
     public List<ShippingNoteSummaryResponse> getNotDone(String date) {
         return repository.findNotDone(date).stream()
@@ -232,12 +273,20 @@ public class ShippingServiceImpl implements ShippingService {
     }
 
     @Override
+    public String getDetailVersion(Long noteId) {
+        return versionRepository == null ? null : versionRepository.findDetailVersion(noteId);
+    }
+
+    @Override
+    @Transactional
     public ShippingNoteDetailResponse updateLine(Long noteId, Long lineId, ShippingUpdateLineRequest request) {
         var note = repository.findById(noteId)
                 .orElseThrow(() -> new NotFoundException("Shipping note not found: " + noteId));
+        UseCaseMetrics.warehouse(note.getWarehouseCode());
 
-        // DELAYED/COMPLETED 상태에서는 수정 차단 (409)
-        if (note.getStatus() == NoteStatus.DELAYED || note.getStatus() == NoteStatus.COMPLETED) {
+        // DELAYED/COMPLETED(+완료 접수된 COMPLETING) 상태에서는 수정 차단 (409)
+        if (note.getStatus() == NoteStatus.DELAYED || note.getStatus() == NoteStatus.COMPLETED
+                || note.getStatus() == NoteStatus.COMPLETING) {
             throw new ConflictException(CONFLICT_NOTE_STATUS_WHILE_COMPLETE);
         }
 
@@ -270,6 +319,7 @@ public class ShippingServiceImpl implements ShippingService {
                 } else {
                     derivedStatus = LineStatus.PENDING;
                 }
+                derivedStatus = holdReservation(note, l, derivedStatus);
 
                 newLines.add(ShippingNoteLine.builder()
                         .lineId(l.getLineId())
@@ -291,13 +341,14 @@ public class ShippingServiceImpl implements ShippingService {
         // 상태 계산: 라인 중 SHORTAGE가 하나라도 있으면 즉시 DELAYED로 전이하고 completedAt 기록
         var hasShortage = newLines.stream().anyMatch(l -> l.getStatus() == LineStatus.SHORTAGE);
         var newStatus = note.getStatus();
-        String completedAt = note.getCompletedAt();
+        OffsetDateTime completedAt = note.getCompletedAt();
         if (hasShortage) {
             newStatus = NoteStatus.DELAYED;
-            completedAt = DateTimes.toKstString(OffsetDateTime.now(ZoneOffset.UTC));
+            completedAt = OffsetDateTime.now(ZoneOffset.UTC);
         } else if (newStatus == NoteStatus.PENDING) {
             newStatus = NoteStatus.IN_PROGRESS;
         }
+        releaseIfDelayed(note.getNoteId(), newStatus);
 
         var updated = ShippingNote.builder()
                 .noteId(note.getNoteId())
@@ -319,6 +370,8 @@ public class ShippingServiceImpl implements ShippingService {
                 .lines(newLines)
                 .build();
         repository.save(updated);
+        trackOpenDemand(note, updated);
+        publishChange(note, updated);
         return toDetail(updated);
     }
 
@@ -328,12 +381,150 @@ public class ShippingServiceImpl implements ShippingService {
     public ShippingCompleteResponse complete(Long noteId, ShippingCompleteRequest req) {
         var note = repository.findById(noteId)
                 .orElseThrow(() -> new NotFoundException("Shipping note not found: " + noteId));
+        UseCaseMetrics.warehouse(note.getWarehouseCode());
+        var handler = validateCompletion(note, req);
 
+        // Re-validate inventory just-in-time to protect against races
+        holdForCompletion(note);
+
+        // Apply inventory decreases: full-ship orderedQty for each READY line
+        int totalShipped = 0;
+        for (var l : note.getLines()) {
+            int shipped = l.getOrderedQty();
+            totalShipped += shipped;
+            inventoryService.decrease(note.getWarehouseCode() == null ? null : note.getWarehouseCode(),
+                    l.getProductId(), shipped);
+        }
+        reservationService.consumeNote(noteId);
+
+        var completedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        markCompleted(note, handler, completedAt);
+        return new ShippingCompleteResponse(DateTimes.toKstString(completedAt), totalShipped);
+    }
+
+    @Override
+    @Transactional
+    public ShippingCompletionStatusResponse acceptComplete(Long noteId, ShippingCompleteRequest req) {
+        var note = repository.findById(noteId)
+                .orElseThrow(() -> new NotFoundException("Shipping note not found: " + noteId));
+        UseCaseMetrics.warehouse(note.getWarehouseCode());
+        var handler = validateCompletion(note, req);
+        // 재고는 접수 시점에 예약/검증해 두고, 차감은 worker가 창고 단위 batch로 한다
+        holdForCompletion(note);
+
+        var accepted = copyOf(note, handler, NoteStatus.COMPLETING, null);
+        repository.save(accepted);
+        repository.deleteCompletionFailure(noteId);
+        trackOpenDemand(note, accepted);
+        publishChange(note, accepted);
+        return toCompletionStatus(accepted, null);
+    }
+
+    @Override
+    @Transactional
+    public int completeAccepted(List<Long> noteIds) {
+        // 다른 worker/인스턴스가 먼저 끝낸 전표는 잠금 후 상태 확인에서 빠진다
+        List<Long> locked = repository.lockAllByStatus(noteIds, NoteStatus.COMPLETING);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        List<ShippingNote> notes = new ArrayList<>(locked.size());
+        // (창고, 부품)별 차감량을 합산해 부품당 1회만 갱신한다. TreeMap 순서로 잠금 순서를 고정
+        Map<String, Map<Long, Integer>> decreases = new TreeMap<>();
+        for (Long id : locked) {
+            var note = repository.findById(id)
+                    .orElseThrow(() -> new NotFoundException("Shipping note not found: " + id));
+            notes.add(note);
+            var byPart = decreases.computeIfAbsent(note.getWarehouseCode() == null ? "" : note.getWarehouseCode(),
+                    k -> new TreeMap<>());
+            for (var l : note.getLines()) {
+                if (l.getProductId() != null) {
+                    byPart.merge(l.getProductId(), l.getOrderedQty(), Integer::sum);
+                }
+            }
+        }
+        for (var wh : decreases.entrySet()) {
+            String warehouseCode = wh.getKey().isEmpty() ? null : wh.getKey();
+            wh.getValue().forEach((partId, qty) -> inventoryService.decrease(warehouseCode, partId, qty));
+        }
+        var completedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        for (var note : notes) {
+            reservationService.consumeNote(note.getNoteId());
+            markCompleted(note, Handler.of(note), completedAt);
+        }
+        return notes.size();
+    }
+
+    @Override
+    @Transactional
+    public void failAccepted(Long noteId, String reason) {
+        if (repository.lockAllByStatus(List.of(noteId), NoteStatus.COMPLETING).isEmpty()) {
+            return;
+        }
+        var note = repository.findById(noteId)
+                .orElseThrow(() -> new NotFoundException("Shipping note not found: " + noteId));
+        // 접수 전 상태로 되돌린다. 라인은 READY 그대로라 재시도하면 남아 있는 예약으로 다시 완료할 수 있다
+        var reverted = copyOf(note, Handler.of(note), NoteStatus.IN_PROGRESS, null);
+        repository.save(reverted);
+        // 사유는 되돌리기와 함께 커밋된다: 재시작/다른 인스턴스의 상태 조회도 FAILED와 사유를 본다
+        repository.saveCompletionFailure(noteId, truncateReason(reason),
+                OffsetDateTime.now(ZoneOffset.UTC));
+        trackOpenDemand(note, reverted);
+        publishChange(note, reverted);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ShippingNote> findAccepted() {
+        return repository.findAllByStatus(NoteStatus.COMPLETING);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ShippingCompletionStatusResponse getCompletionStatus(Long noteId) {
+        var note = repository.findById(noteId)
+                .orElseThrow(() -> new NotFoundException("Shipping note not found: " + noteId));
+        // 접수/처리 중이거나 완료됐으면 이전 실패 기록은 보지 않는다
+        boolean inFlight = note.getStatus() == NoteStatus.COMPLETING || note.getStatus() == NoteStatus.COMPLETED;
+        return toCompletionStatus(note, inFlight ? null : repository.findCompletionFailure(noteId).orElse(null));
+    }
+
+    static ShippingCompletionStatusResponse toCompletionStatus(ShippingNote note, CompletionFailure failure) {
+        Integer shipped = note.getStatus() == NoteStatus.COMPLETED
+                ? note.getLines().stream().mapToInt(ShippingNoteLine::getOrderedQty).sum()
+                : null;
+        return new ShippingCompletionStatusResponse(
+                note.getNoteId(),
+                note.getWarehouseCode(),
+                failure == null ? note.getStatus().name() : "FAILED",
+                "/api/v1/shipping/" + note.getNoteId() + "/completion",
+                DateTimes.toKstString(note.getCompletedAt()),
+                shipped,
+                failure == null ? null : failure.reason(),
+                failure == null ? null : DateTimes.toKstString(failure.failedAt()));
+    }
+
+    private static String truncateReason(String reason) {
+        if (reason == null || reason.isBlank()) {
+            return "unknown";
+        }
+        return reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+
+    /** 완료 처리 담당자/주문 정보 (요청 값 우선, 없으면 전표 값) */
+    private record Handler(String assigneeName, String assigneeDept, String assigneePhone, Long orderId) {
+        static Handler of(ShippingNote note) {
+            return new Handler(note.getAssigneeName(), note.getAssigneeDept(), note.getAssigneePhone(),
+                    note.getOrderId());
+        }
+    }
+
+    private Handler validateCompletion(ShippingNote note, ShippingCompleteRequest req) {
         // Idempotency: block if already in a terminal state
         // 기존 : COMPLETED || DELAYED 차단
 //        if (note.getStatus() == NoteStatus.COMPLETED || note.getStatus() == NoteStatus.DELAYED) {
-        // 현재 : COMPLETED 재시도만 방지, 그외 이후에 ready 및 재고 관련 검증 추가됨
-        if (note.getStatus() == NoteStatus.COMPLETED) {
+        // 현재 : COMPLETED 재시도만 방지, 그외 이후에 ready 및 재고 관련 검증 추가됨 (비동기 접수된 COMPLETING 포함)
+        if (note.getStatus() == NoteStatus.COMPLETED || note.getStatus() == NoteStatus.COMPLETING) {
             throw new ConflictException(CONFLICT_NOTE_STATUS_WHILE_COMPLETE);
         }
 
@@ -357,83 +548,123 @@ public class ShippingServiceImpl implements ShippingService {
         if (!allReady) {
             throw new ConflictException(ErrorStatus.CONFLICT_CANNOT_COMPLETE_WHEN_NOT_READY);
         }
+        return new Handler(assigneeName, assigneeDept, assigneePhone, orderIdToPersist);
+    }
 
-        // Re-validate inventory just-in-time to protect against races
+    private void holdForCompletion(ShippingNote note) {
+        // READY 시점에 잡아 둔 예약으로 검증 (만료/미예약 라인은 지금 예약). 차감 작업 전에 409로 끝낸다
         for (var l : note.getLines()) {
-            int onHand = onHandProvider.getOnHandQty(note.getWarehouseCode(), l.getProductId());
-            if (onHand < l.getOrderedQty()) {
-                // Inventory changed between confirm and complete
+            if (!reservationService.reserve(note.getWarehouseCode(), l.getProductId(), note.getNoteId(),
+                    l.getLineId(), l.getOrderedQty())) {
                 throw new ConflictException(ErrorStatus.CONFLICT_INVENTORY_INSUFFICIENT);
             }
         }
+    }
 
-        // Apply inventory decreases: full-ship orderedQty for each READY line
-        int totalShipped = 0;
-        for (var l : note.getLines()) {
-            int shipped = l.getOrderedQty();
-            totalShipped += shipped;
-            inventoryService.decrease(note.getWarehouseCode() == null ? null : note.getWarehouseCode(),
-                    l.getProductId(), shipped);
-        }
-
-        var completedAt = DateTimes.toKstString(OffsetDateTime.now(ZoneOffset.UTC));
-        var updated = ShippingNote.builder()
+    private ShippingNote copyOf(ShippingNote note, Handler handler, NoteStatus status, OffsetDateTime completedAt) {
+        return ShippingNote.builder()
                 .noteId(note.getNoteId())
                 .branchName(note.getBranchName())
                 .itemKindsNumber(note.getItemKindsNumber())
                 .totalQty(note.getTotalQty())
                 .warehouseCode(note.getWarehouseCode())
                 .shippingNo(note.getShippingNo())
-                .orderId(orderIdToPersist)
+                .orderId(handler.orderId())
                 .requestedAt(note.getRequestedAt())
                 .expectedShipDate(note.getExpectedShipDate())
                 .shippedAt(note.getShippedAt())
-                .assigneeName(assigneeName)
-                .assigneeDept(assigneeDept)
-                .assigneePhone(assigneePhone)
+                .assigneeName(handler.assigneeName())
+                .assigneeDept(handler.assigneeDept())
+                .assigneePhone(handler.assigneePhone())
                 .remark(note.getRemark())
-                .status(NoteStatus.COMPLETED)
+                .status(status)
                 .completedAt(completedAt)
                 .lines(note.getLines())
                 .build();
+    }
+
+    /** 재고 차감이 끝난 전표를 COMPLETED로 저장하고 완료 알림을 같은 트랜잭션에 남긴다 */
+    private void markCompleted(ShippingNote note, Handler handler, OffsetDateTime completedAt) {
+        var updated = copyOf(note, handler, NoteStatus.COMPLETED, completedAt);
         repository.save(updated);
+        trackOpenDemand(note, updated);
+        publishChange(note, updated);
 
+        Long noteId = note.getNoteId();
         String topic = "notification";
         NotificationDto n = NotificationDto.builder()
-                .id(1L)
+                .id(noteId)
                 .eventId(UUID.randomUUID().toString())
                 .type("부품 출고 완료")
                 .message("부품 출고 요청이 완료되었습니다.")
                 .receiver("본사")
+                .warehouseCode(note.getWarehouseCode())
                 .build();
 
-        kafkaTemplate.send(topic, n);
-
-        return new ShippingCompleteResponse(completedAt, totalShipped);
+        // 완료 알림은 창고별로 묶어 보낸다 (aggregator 없으면 개별 전송)
+        if (notificationAggregator != null) {
+            notificationAggregator.publish(n);
+        } else {
+            notify(topic, String.valueOf(noteId), n);
+        }
     }
 
     @Override
     @Transactional
     public ShippingNoteDetailResponse create(ShippingCreateNoteRequest request) {
-        // Generate simple ids (temporary). In real system, use sequence/UUID.
+        var parts = loadParts(request == null ? List.of() : List.of(request));
+        return toDetail(createNote(request, parts));
+    }
+
+    @Override
+    @Transactional
+    public List<Long> createAll(List<ShippingCreateNoteRequest> requests) {
+        // 부품 스냅샷은 배치 전체에 대해 1회 조회, 전표 저장은 호출측 트랜잭션 하나로 묶인다
+        var parts = loadParts(requests);
+        List<Long> ids = new ArrayList<>(requests.size());
+        for (var request : requests) {
+            ids.add(createNote(request, parts).getNoteId());
+        }
+        return ids;
+    }
+
+    // Pre-validate: all productIds must exist (partRepository 없으면 검증/스냅샷 생략)
+    private Map<Long, PartEntity> loadParts(Collection<ShippingCreateNoteRequest> requests) {
+        Map<Long, PartEntity> parts = new HashMap<>();
+        if (partRepository == null) {
+            return parts;
+        }
+        Set<Long> idsToValidate = new HashSet<>();
+        for (var request : requests) {
+            if (request != null && request.lines() != null) {
+                for (var rl : request.lines()) {
+                    if (rl.productId() != null) idsToValidate.add(rl.productId());
+                }
+            }
+        }
+        if (idsToValidate.isEmpty()) {
+            return parts;
+        }
+        for (var part : partRepository.findAllById(idsToValidate)) {
+            parts.put(part.getId(), part);
+        }
+        for (Long pid : idsToValidate) {
+            if (!parts.containsKey(pid)) {
+                throw new BadRequestException(ErrorStatus.PART_CODE_INVALID);
+            }
+        }
+        return parts;
+    }
+
+    private ShippingNote createNote(ShippingCreateNoteRequest request, Map<Long, PartEntity> parts) {
+        // required fields: requestedAt (한 번만 파싱해 LOT/전표번호/예정일 계산에 재사용)
+        OffsetDateTime requestedAt = parseRequestedAt(request == null ? null : request.requestedAt());
+        // LOT 날짜부: 요청 시각 - 3일 (요청 offset 기준 날짜)
+        String lotYmd = requestedAt.minusDays(3).toLocalDate().format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
         List<ShippingNoteLine> lines = new ArrayList<>();
         int totalQty = 0;
         Set<Long> productIds = new HashSet<>();
         if (request != null && request.lines() != null) {
-            int i = 0;
-            // Pre-validate: all productIds must exist
-            HashSet<Long> idsToValidate = new java.util.HashSet<>();
-            for (var rl : request.lines()) {
-                if (rl.productId() != null) idsToValidate.add(rl.productId());
-            }
-            if (!idsToValidate.isEmpty() && partRepository != null) {
-                var found = partRepository.findAllById(idsToValidate).stream().map(p -> p.getId()).collect(java.util.stream.Collectors.toSet());
-                for (Long pid : idsToValidate) {
-                    if (!found.contains(pid)) {
-                        throw new BadRequestException(ErrorStatus.PART_CODE_INVALID);
-                    }
-                }
-            }
             for (var rl : request.lines()) {
                 int ordered = rl.orderedQty() == null ? 0 : rl.orderedQty();
                 totalQty += ordered;
@@ -444,35 +675,21 @@ public class ShippingServiceImpl implements ShippingService {
                 String productCode = null;
                 String productName = null;
                 String productImgUrl = null;
-                if (rl.productId() != null && partRepository != null) {
-                    var partOpt = partRepository.findById(rl.productId());
-                    if (partOpt.isPresent()) {
-                        var part = partOpt.get();
-                        productCode = part.getCode();
-                        productName = part.getName();
-                        productImgUrl = part.getImageUrl();
-                    } else {
-                        productCode = "P-" + rl.productId();
-                    }
+                var part = rl.productId() == null ? null : parts.get(rl.productId());
+                if (part != null) {
+                    productCode = part.getCode();
+                    productName = part.getName();
+                    productImgUrl = part.getImageUrl();
                 } else if (rl.productId() != null) {
                     productCode = "P-" + rl.productId();
                 }
                 // LOT generation: use supplierName from Part (first 3 chars) when available; fallback to empty prefix
-                String lot = null;
-                String reqAtStr = request == null ? null : request.requestedAt();
-                if (reqAtStr != null && !reqAtStr.isBlank()) {
-                    var reqAt = OffsetDateTime.parse(reqAtStr);
-                    String supplier3 = "";
-                    if (rl.productId() != null && partRepository != null) {
-                        var partOpt2 = partRepository.findById(rl.productId());
-                        if (partOpt2.isPresent() && partOpt2.get().getSupplierName() != null) {
-                            String sn = partOpt2.get().getSupplierName();
-                            supplier3 = sn.substring(0, Math.min(3, sn.length()));
-                        }
-                    }
-                    String ymd = reqAt.minusDays(3).toLocalDate().format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
-                    lot = supplier3 + "-" + ymd + "-" + (productCode == null ? "" : productCode);
+                String supplier3 = "";
+                if (part != null && part.getSupplierName() != null) {
+                    String sn = part.getSupplierName();
+                    supplier3 = sn.substring(0, Math.min(3, sn.length()));
                 }
+                String lot = supplier3 + "-" + lotYmd + "-" + (productCode == null ? "" : productCode);
                 lines.add(ShippingNoteLine.builder()
                         .lineId(null)
                         .productId(rl.productId())
@@ -487,25 +704,18 @@ public class ShippingServiceImpl implements ShippingService {
             }
         }
         int itemKinds = productIds.size();
-        // required fields: requestedAt
-        String requestedAt = (request == null ? null : request.requestedAt());
-        if (requestedAt == null || requestedAt.isBlank()) {
-            throw new BadRequestException(ErrorStatus.SHIPPING_REQUESTED_AT_INVALID);
-        }
-        String expectedShipDate = (request == null ? null : request.expectedShipDate());
-        if (expectedShipDate == null || expectedShipDate.isBlank()) {
-            expectedShipDate = OffsetDateTime.parse(requestedAt).plusDays(2).toString();
-        }
+        String expectedShipDateText = (request == null ? null : request.expectedShipDate());
+        OffsetDateTime expectedShipDate = (expectedShipDateText == null || expectedShipDateText.isBlank())
+                ? requestedAt.plusDays(2)
+                : parseOrNull(expectedShipDateText);
         // Always generate shippingNo on server side
         String shippingNo;
         if (this.noteNumberGenerator != null) {
-            var reqAtOd = OffsetDateTime.parse(requestedAt);
             shippingNo = noteNumberGenerator.generateShippingNo(
-                    request == null ? null : request.warehouseCode(), reqAtOd);
+                    request == null ? null : request.warehouseCode(), requestedAt);
         } else {
             // Fallback simple generator for test environments without NoteNumberGenerator
-            var reqAtOd = OffsetDateTime.parse(requestedAt);
-            String ymd = reqAtOd.toLocalDate().format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
+            String ymd = requestedAt.toLocalDate().format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
             String wh = (request == null || request.warehouseCode() == null || request.warehouseCode().isBlank()) ? "DEFAULT" : request.warehouseCode();
             shippingNo = "OUT-" + wh + "-" + ymd + "-001";
         }
@@ -530,19 +740,42 @@ public class ShippingServiceImpl implements ShippingService {
                 .lines(lines)
                 .build();
         var saved = repository.save(note);
+        trackOpenDemand(null, saved);
+        publishChange(null, saved);
 
         String topic = "notification";
         NotificationDto n = NotificationDto.builder()
-                .id(1L)
+                .id(saved.getNoteId())
                 .eventId(UUID.randomUUID().toString())
                 .type("출고 요청 등록")
                 .message("출고 요청이 등록되었습니다.")
                 .receiver("본사")
+                .warehouseCode(saved.getWarehouseCode())
                 .build();
 
-        kafkaTemplate.send(topic, n);
+        notify(topic, String.valueOf(saved.getNoteId()), n);
 
-        return toDetail(saved);
+        return saved;
+    }
+
+    private static OffsetDateTime parseRequestedAt(String text) {
+        if (text == null || text.isBlank()) {
+            throw new BadRequestException(ErrorStatus.SHIPPING_REQUESTED_AT_INVALID);
+        }
+        try {
+            return OffsetDateTime.parse(text);
+        } catch (java.time.format.DateTimeParseException e) {
+            throw new BadRequestException(ErrorStatus.SHIPPING_REQUESTED_AT_INVALID);
+        }
+    }
+
+    // 선택 필드: 형식이 틀리면 저장하지 않는다 (기존 adapter 파싱과 동일한 관용 규칙)
+    private static OffsetDateTime parseOrNull(String text) {
+        try {
+            return OffsetDateTime.parse(text);
+        } catch (java.time.format.DateTimeParseException e) {
+            return null;
+        }
     }
 
     private ShippingNoteSummaryResponse toSummary(ShippingNote note) {
@@ -555,9 +788,9 @@ public class ShippingServiceImpl implements ShippingService {
                 note.getTotalQty(),
                 status,
                 note.getWarehouseCode(),
-                note.getRequestedAt(),
-                note.getExpectedShipDate(),
-                note.getCompletedAt()
+                DateTimes.toKstString(note.getRequestedAt()),
+                DateTimes.toKstString(note.getExpectedShipDate()),
+                DateTimes.toKstString(note.getCompletedAt())
         );
     }
 
@@ -585,13 +818,13 @@ public class ShippingServiceImpl implements ShippingService {
                 note.getItemKindsNumber(),
                 note.getTotalQty(),
                 status,
-                note.getCompletedAt(),
+                DateTimes.toKstString(note.getCompletedAt()),
                 note.getShippingNo(),
                 note.getOrderId(),
                 note.getWarehouseCode(),
-                note.getRequestedAt(),
-                note.getExpectedShipDate(),
-                note.getShippedAt(),
+                DateTimes.toKstString(note.getRequestedAt()),
+                DateTimes.toKstString(note.getExpectedShipDate()),
+                DateTimes.toKstString(note.getShippedAt()),
                 note.getAssigneeName(),
                 note.getAssigneeDept(),
                 note.getAssigneePhone(),
@@ -607,6 +840,81 @@ public class ShippingServiceImpl implements ShippingService {
         );
     }
 
+    /**
+     * 진행 중(PENDING/IN_PROGRESS/COMPLETING) 전표의 부품별 미출고 수요 Σ ordered. DELAYED/COMPLETED는 수요 없음.
+     * on-hand는 완료 시에만 차감되므로 피킹 수량을 빼지 않는다 (피킹/READY 라인의 재고도 아직 창고에 있다).
+     */
+    static Map<Long, Integer> openDemand(ShippingNote note) {
+        Map<Long, Integer> out = new HashMap<>();
+        if (note == null || note.getLines() == null) {
+            return out;
+        }
+        NoteStatus status = note.getStatus();
+        if (status != null && status != NoteStatus.PENDING && status != NoteStatus.IN_PROGRESS
+                && status != NoteStatus.COMPLETING) {
+            return out;
+        }
+        for (var l : note.getLines()) {
+            if (l.getProductId() != null) {
+                out.merge(l.getProductId(), Math.max(0, l.getOrderedQty()), Integer::sum);
+            }
+        }
+        return out;
+    }
+
+    /** 전표 변경 전/후 수요 차이만 같은 트랜잭션에 반영한다 (전표의 창고는 바뀌지 않는다) */
+    private void trackOpenDemand(ShippingNote before, ShippingNote after) {
+        Map<Long, Integer> delta = openDemand(after);
+        openDemand(before).forEach((partId, qty) -> delta.merge(partId, -qty, Integer::sum));
+        atpService.adjustOpenDemand(after.getWarehouseCode(), delta);
+    }
+
+    /** 전표 생성/상태/라인 변경을 발행한다. 전송은 커밋 후 NoteEventHub가 한다 */
+    private void publishChange(ShippingNote before, ShippingNote after) {
+        if (eventPublisher == null || after == null) {
+            return;
+        }
+        List<LineChange> changed = new ArrayList<>();
+        if (before != null) {
+            Map<Long, ShippingNoteLine> prev = new HashMap<>();
+            for (var l : before.getLines()) {
+                prev.put(l.getLineId(), l);
+            }
+            for (var l : after.getLines()) {
+                var p = prev.get(l.getLineId());
+                if (p == null || p.getStatus() != l.getStatus() || p.getPickedQty() != l.getPickedQty()) {
+                    changed.add(new LineChange(l.getLineId(), l.getStatus() == null ? null : l.getStatus().name(),
+                            l.getPickedQty()));
+                }
+            }
+        }
+        eventPublisher.publishEvent(NoteChangeEvent.of(NoteChangeEvent.SHIPPING, after.getNoteId(),
+                after.getShippingNo(), after.getWarehouseCode(),
+                before == null || before.getStatus() == null ? null : before.getStatus().name(),
+                after.getStatus() == null ? null : after.getStatus().name(), before == null, changed));
+    }
+
+    /** READY 라인은 재고를 예약하고(다른 전표가 먼저 잡았으면 SHORTAGE), 그 외 상태면 예약을 해제한다 */
+    private LineStatus holdReservation(ShippingNote note, ShippingNoteLine line, LineStatus status) {
+        if (line.getLineId() == null) {
+            return status;
+        }
+        if (status == LineStatus.READY) {
+            boolean held = reservationService.reserve(note.getWarehouseCode(), line.getProductId(), note.getNoteId(),
+                    line.getLineId(), line.getOrderedQty());
+            return held ? status : LineStatus.SHORTAGE;
+        }
+        reservationService.releaseLine(note.getNoteId(), line.getLineId());
+        return status;
+    }
+
+    /** DELAYED 전표는 출고 대상이 아니므로 잡아 둔 예약을 모두 반납한다 */
+    private void releaseIfDelayed(Long noteId, NoteStatus status) {
+        if (status == NoteStatus.DELAYED) {
+            reservationService.releaseNote(noteId);
+        }
+    }
+
     private static final class NoOpInventoryService implements InventoryService {
         @Override
         public PageEnvelope<OnHandSummary> listOnHand(
@@ -656,16 +964,16 @@ public class ShippingServiceImpl implements ShippingService {
         return new ShippingNoteDetailV2Response(
                 note.getNoteId(),
                 (note.getStatus() == null ? "PENDING" : note.getStatus().name()),
-                note.getCompletedAt(),
+                DateTimes.toKstString(note.getCompletedAt()),
                 null, // delayedAt not persisted yet
                 snapshotAt,
                 note.getShippingNo(),
                 note.getOrderId(),
                 note.getBranchName(),
                 note.getWarehouseCode(),
-                note.getRequestedAt(),
-                note.getExpectedShipDate(),
-                note.getShippedAt(),
+                DateTimes.toKstString(note.getRequestedAt()),
+                DateTimes.toKstString(note.getExpectedShipDate()),
+                DateTimes.toKstString(note.getShippedAt()),
                 note.getItemKindsNumber(),
                 note.getTotalQty(),
                 note.getAssigneeName(),
@@ -682,14 +990,20 @@ public class ShippingServiceImpl implements ShippingService {
 
         var note = repository.findById(noteId)
                 .orElseThrow(() -> new NotFoundException("Shipping note not found: " + noteId));
+        UseCaseMetrics.warehouse(note.getWarehouseCode());
         String snapshotAt = OffsetDateTime.now(ZoneOffset.UTC).toString();
-        // Guard: COMPLETED notes cannot be mutated; allow dry-run only
-        if (note.getStatus() == NoteStatus.COMPLETED && apply) {
+        // Guard: COMPLETED/COMPLETING notes cannot be mutated; allow dry-run only
+        if ((note.getStatus() == NoteStatus.COMPLETED || note.getStatus() == NoteStatus.COMPLETING) && apply) {
             throw new ConflictException(CONFLICT_NOTE_STATUS_WHILE_COMPLETE);
         }
         var targetLines = (lineIds == null || lineIds.isEmpty()) ? note.getLines() : note.getLines().stream()
                 .filter(l -> lineIds.contains(l.getLineId())).toList();
 
+        // ATP 판정: 다른 진행 중 전표가 이미 잡고 있는 수요를 뺀 가용량과 비교한다 (부품별 키 조회 1회, 자기 전표 수요는 제외)
+        Map<Long, AtpItem> atp = atpService.getAtpByPart(note.getWarehouseCode(),
+                note.getLines().stream().map(ShippingNoteLine::getProductId).toList());
+        Map<Long, Integer> ownDemand = openDemand(note);
+
         int readyCount = 0;
         int pendingCount = 0;
         boolean hasShortage = false;
@@ -697,12 +1011,19 @@ public class ShippingServiceImpl implements ShippingService {
         List<ShippingNoteLine> newLines = new java.util.ArrayList<>();
         for (var l : note.getLines()) {
             boolean inScope = targetLines.stream().anyMatch(t -> t.getLineId().equals(l.getLineId()));
-            int onHand = onHandProvider.getOnHandQty(note.getWarehouseCode(), l.getProductId());
-            String suggested = (onHand >= l.getOrderedQty()) ? LineStatus.READY.name() : LineStatus.SHORTAGE.name();
+            AtpItem a = atp.get(l.getProductId());
+            int onHand = a == null ? 0 : a.onHandQty();
+            int otherDemand = a == null ? 0 : a.openDemandQty() - ownDemand.getOrDefault(l.getProductId(), 0);
+            int available = onHand - Math.max(0, otherDemand);
+            String suggested = (available >= l.getOrderedQty()) ? LineStatus.READY.name() : LineStatus.SHORTAGE.name();
+            if (inScope && apply) {
+                suggested = holdReservation(note, l, LineStatus.valueOf(suggested)).name();
+            }
             if (inScope) {
                 if (LineStatus.READY.name().equals(suggested)) readyCount++; else hasShortage = true;
                 outLines.add(new ShippingRecalcResponse.Line(
-                        l.getLineId(), l.getOrderedQty(), (l.getStatus() == null ? "PENDING" : l.getStatus().name()), onHand, suggested
+                        l.getLineId(), l.getOrderedQty(), (l.getStatus() == null ? "PENDING" : l.getStatus().name()), onHand,
+                        available, suggested
                 ));
                 if (apply) {
                     var updatedLine = ShippingNoteLine.builder()
@@ -764,6 +1085,7 @@ public class ShippingServiceImpl implements ShippingService {
             } else {
                 newStatus = current;
             }
+            releaseIfDelayed(note.getNoteId(), newStatus);
             var updated = ShippingNote.builder()
                     .noteId(note.getNoteId())
                     .branchName(note.getBranchName())
@@ -784,6 +1106,8 @@ public class ShippingServiceImpl implements ShippingService {
                     .lines(newLines)
                     .build();
             repository.save(updated);
+            trackOpenDemand(note, updated);
+            publishChange(note, updated);
         }
         return resp;
     }
@@ -793,11 +1117,16 @@ public class ShippingServiceImpl implements ShippingService {
     public ShippingLineConfirmResponse confirmLine(Long noteId, Long lineId) {
         var note = repository.findById(noteId)
                 .orElseThrow(() -> new NotFoundException("Shipping note not found: " + noteId));
+        UseCaseMetrics.warehouse(note.getWarehouseCode());
+        // 완료 접수(COMPLETING) 후에는 라인 상태/예약을 바꾸지 않는다
+        if (note.getStatus() == NoteStatus.COMPLETING) {
+            throw new ConflictException(CONFLICT_NOTE_STATUS_WHILE_COMPLETE);
+        }
         var line = note.getLines().stream().filter(l -> l.getLineId().equals(lineId))
                 .findFirst().orElseThrow(() -> new NotFoundException("Shipping line not found: " + lineId));
         int onHand = onHandProvider.getOnHandQty(note.getWarehouseCode(), line.getProductId());
         String suggested = (onHand >= line.getOrderedQty()) ? LineStatus.READY.name() : LineStatus.SHORTAGE.name();
-        LineStatus newLineStatus = LineStatus.valueOf(suggested);
+        LineStatus newLineStatus = holdReservation(note, line, LineStatus.valueOf(suggested));
         String prev = (line.getStatus() == null ? "PENDING" : line.getStatus().name());
 
         List<ShippingNoteLine> newLines = new java.util.ArrayList<>();
@@ -825,6 +1154,7 @@ public class ShippingServiceImpl implements ShippingService {
         } else if (newNoteStatus == NoteStatus.PENDING) {
             newNoteStatus = NoteStatus.IN_PROGRESS;
         }
+        releaseIfDelayed(note.getNoteId(), newNoteStatus);
         var updated = ShippingNote.builder()
                 .noteId(note.getNoteId())
                 .branchName(note.getBranchName())
@@ -845,6 +1175,8 @@ public class ShippingServiceImpl implements ShippingService {
                 .lines(newLines)
                 .build();
         repository.save(updated);
+        trackOpenDemand(note, updated);
+        publishChange(note, updated);
         String snapshotAt = OffsetDateTime.now(ZoneOffset.UTC).toString();
         return new ShippingLineConfirmResponse(
                 note.getNoteId(), lineId, line.getOrderedQty(), onHand, prev, suggested, newLineStatus.name(), newNoteStatus.name(), snapshotAt
@@ -1,6 +1,8 @@
 package com.gearfirst.warehouse.api.summary;
 
+import com.gearfirst.warehouse.api.dto.DailyOpsReportResponse;
 import com.gearfirst.warehouse.api.dto.NoteCountsByDateResponse;
+import com.gearfirst.warehouse.api.dto.NoteCountsRangeResponse;
 import com.gearfirst.warehouse.common.response.CommonApiResponse;
 import com.gearfirst.warehouse.common.response.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,18 +27,60 @@ public class SummaryController {
 
     @Operation(
         summary = "요청일 기준 입/출고 전표 건수 조회",
-        description = "단일 요청일(YYYY-MM-DD, KST 로컬일)을 기준으로 입고/출고 전표(all 상태 포함) 건수를 반환합니다. requestedAt 기준이며 KST 하루를 UTC 경계로 변환하여 계산합니다."
+        description = "단일 요청일(YYYY-MM-DD, KST 로컬일)을 기준으로 입고/출고 전표(all 상태 포함) 건수를 반환합니다. requestedAt(KST 로컬일) 기준이며 일자별 집계 테이블(daily_ops_rollup)에서 읽습니다."
     )
     @Parameter(name = "requestDate", description = "단일 날짜(YYYY-MM-DD, KST 로컬일)", required = true)
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "집계 조회 성공"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터")
     })
-    @GetMapping("/note-counts")
+    @GetMapping(value = "/note-counts", params = "requestDate")
     public ResponseEntity<CommonApiResponse<NoteCountsByDateResponse>> countNotesByDate(
         @RequestParam String requestDate
     ) {
         NoteCountsByDateResponse dto = summaryService.countNotesByDate(requestDate);
         return CommonApiResponse.success(SuccessStatus.SEND_NOTE_COUNTS_SUCCESS, dto);
     }
+
+    @Operation(
+        summary = "기간별 입/출고 전표 건수 조회 (일자·상태별)",
+        description = "from~to(YYYY-MM-DD, KST 로컬일, 최대 92일) 동안 일자별·상태별 입고/출고 전표 건수를 반환합니다. 건수가 없는 날짜도 0으로 포함합니다. 일자별 집계 테이블(daily_ops_rollup)에서 읽으며 결과는 짧게 캐시됩니다(기본 30초)."
+    )
+    @Parameter(name = "from", description = "시작일(YYYY-MM-DD, KST)", required = true)
+    @Parameter(name = "to", description = "종료일(YYYY-MM-DD, KST, 포함)", required = true)
+    @Parameter(name = "warehouseCode", description = "창고 코드(대소문자 무시)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "집계 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 기간")
+    })
+    @GetMapping(value = "/note-counts", params = {"from", "to"})
+    public ResponseEntity<CommonApiResponse<NoteCountsRangeResponse>> countNotesByRange(
+        @RequestParam String from,
+        @RequestParam String to,
+        @RequestParam(required = false) String warehouseCode
+    ) {
+        NoteCountsRangeResponse dto = summaryService.countNotesByRange(from, to, warehouseCode);
+        return CommonApiResponse.success(SuccessStatus.SEND_NOTE_COUNTS_RANGE_SUCCESS, dto);
+    }
+
+    @Operation(
+        summary = "일자별 운영 리포트 조회",
+        description = "from~to(YYYY-MM-DD, KST 로컬일, 최대 92일) 동안 일자별 입고/출고 운영 지표를 반환합니다. 상태별 전표 수는 요청일 기준, 완료/지연 건수와 완료 수량은 발생일 기준입니다. 전표 생성/상태 전이와 같은 트랜잭션에서 갱신되는 daily_ops_rollup에서 읽습니다."
+    )
+    @Parameter(name = "from", description = "시작일(YYYY-MM-DD, KST)", required = true)
+    @Parameter(name = "to", description = "종료일(YYYY-MM-DD, KST, 포함)", required = true)
+    @Parameter(name = "warehouseCode", description = "창고 코드(대소문자 무시)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "리포트 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 기간")
+    })
+    @GetMapping("/daily-ops")
+    public ResponseEntity<CommonApiResponse<DailyOpsReportResponse>> dailyOpsReport(
+        @RequestParam String from,
+        @RequestParam String to,
+        @RequestParam(required = false) String warehouseCode
+    ) {
+        DailyOpsReportResponse dto = summaryService.dailyOpsReport(from, to, warehouseCode);
+        return CommonApiResponse.success(SuccessStatus.SEND_DAILY_OPS_REPORT_SUCCESS, dto);
+    }
 }
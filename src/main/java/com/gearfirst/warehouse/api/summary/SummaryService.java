@@ -1,7 +1,13 @@
 package com.gearfirst.warehouse.api.summary;
 
+import com.gearfirst.warehouse.api.dto.DailyOpsReportResponse;
 import com.gearfirst.warehouse.api.dto.NoteCountsByDateResponse;
+import com.gearfirst.warehouse.api.dto.NoteCountsRangeResponse;
 
 public interface SummaryService {
     NoteCountsByDateResponse countNotesByDate(String requestDate);
+
+    NoteCountsRangeResponse countNotesByRange(String from, String to, String warehouseCode);
+
+    DailyOpsReportResponse dailyOpsReport(String from, String to, String warehouseCode);
 }
@@ -1,22 +1,55 @@
 package com.gearfirst.warehouse.api.summary;
 
+import com.gearfirst.warehouse.api.dto.DailyOpsReportResponse;
+import com.gearfirst.warehouse.api.dto.DailyOpsReportResponse.Ops;
 import com.gearfirst.warehouse.api.dto.NoteCountsByDateResponse;
-import com.gearfirst.warehouse.api.receiving.persistence.ReceivingQueryRepository;
-import com.gearfirst.warehouse.api.shipping.persistence.ShippingQueryRepository;
+import com.gearfirst.warehouse.api.dto.NoteCountsRangeResponse;
+import com.gearfirst.warehouse.api.receiving.domain.ReceivingNoteStatus;
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+import com.gearfirst.warehouse.api.summary.persistence.DailyOpsRollup;
+import com.gearfirst.warehouse.api.summary.persistence.DailyOpsRollup.NoteType;
+import com.gearfirst.warehouse.api.summary.persistence.DailyOpsRollupJdbcRepository;
+import com.gearfirst.warehouse.api.summary.persistence.DailyOpsRollupJdbcRepository.Row;
 import com.gearfirst.warehouse.common.exception.BadRequestException;
 import com.gearfirst.warehouse.common.response.ErrorStatus;
+import com.gearfirst.warehouse.common.util.TtlCache;
+import java.time.Duration;
 import java.time.LocalDate;
-import lombok.RequiredArgsConstructor;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 요약/리포트는 모두 daily_ops_rollup(일자·창고·유형별 집계)에서 읽는다.
+ * 전표 테이블을 스캔하지 않으므로 기간 길이와 무관하게 (일수 × 창고 × 2)행만 읽는다.
+ */
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SummaryServiceImpl implements SummaryService {
 
-    private final ReceivingQueryRepository receivingQueryRepository;
-    private final ShippingQueryRepository shippingQueryRepository;
+    static final int MAX_RANGE_DAYS = 92;
+
+    private final DailyOpsRollupJdbcRepository rollupRepository;
+    // key: from|to|warehouseCode(소문자). 차트가 같은 기간을 반복 조회하므로 짧게 캐시
+    private final TtlCache<String, NoteCountsRangeResponse> rangeCache;
+    private final TtlCache<String, DailyOpsReportResponse> reportCache;
+
+    public SummaryServiceImpl(DailyOpsRollupJdbcRepository rollupRepository,
+                              @Value("${warehouse.summary.note-counts.cache-ttl-ms:30000}") long cacheTtlMs,
+                              @Value("${warehouse.summary.note-counts.cache-max-entries:256}") int cacheMaxEntries) {
+        this.rollupRepository = rollupRepository;
+        this.rangeCache = new TtlCache<>(Duration.ofMillis(cacheTtlMs), cacheMaxEntries);
+        this.reportCache = new TtlCache<>(Duration.ofMillis(cacheTtlMs), cacheMaxEntries);
+    }
 
     @Override
     public NoteCountsByDateResponse countNotesByDate(String requestDate) {
@@ -29,8 +62,134 @@ public class SummaryServiceImpl implements SummaryService {
         if (day == null) {
             throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION);
         }
-        long receiving = receivingQueryRepository.countByRequestedAtDateKst(day);
-        long shipping = shippingQueryRepository.countByRequestedAtDateKst(day);
+        long receiving = 0;
+        long shipping = 0;
+        for (Row r : rollupRepository.findRange(day, day, null)) {
+            if (r.noteType() == NoteType.RECEIVING) {
+                receiving += r.requested();
+            } else {
+                shipping += r.requested();
+            }
+        }
         return new NoteCountsByDateResponse(day.toString(), receiving, shipping);
     }
+
+    @Override
+    public NoteCountsRangeResponse countNotesByRange(String from, String to, String warehouseCode) {
+        LocalDate fromDay = parseDay(from);
+        LocalDate toDay = parseDay(to);
+        validateRange(fromDay, toDay);
+        String wh = normalizeWarehouse(warehouseCode);
+        return rangeCache.get(cacheKey(fromDay, toDay, wh), () -> loadRange(fromDay, toDay, wh));
+    }
+
+    @Override
+    public DailyOpsReportResponse dailyOpsReport(String from, String to, String warehouseCode) {
+        LocalDate fromDay = parseDay(from);
+        LocalDate toDay = parseDay(to);
+        validateRange(fromDay, toDay);
+        String wh = normalizeWarehouse(warehouseCode);
+        return reportCache.get(cacheKey(fromDay, toDay, wh), () -> loadReport(fromDay, toDay, wh));
+    }
+
+    private NoteCountsRangeResponse loadRange(LocalDate from, LocalDate to, String warehouseCode) {
+        var rows = index(rollupRepository.findRange(from, to, warehouseCode));
+
+        List<NoteCountsRangeResponse.Day> days = new ArrayList<>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            Map<NoteType, Row> day = rows.get(d);
+            Map<String, Long> rec = receivingByStatus(day == null ? null : day.get(NoteType.RECEIVING));
+            Map<String, Long> shp = shippingByStatus(day == null ? null : day.get(NoteType.SHIPPING));
+            days.add(new NoteCountsRangeResponse.Day(d.toString(), sum(rec), sum(shp), rec, shp));
+        }
+        return new NoteCountsRangeResponse(from.toString(), to.toString(), warehouseCode, List.copyOf(days));
+    }
+
+    private DailyOpsReportResponse loadReport(LocalDate from, LocalDate to, String warehouseCode) {
+        var rows = index(rollupRepository.findRange(from, to, warehouseCode));
+
+        List<DailyOpsReportResponse.Day> days = new ArrayList<>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            Map<NoteType, Row> day = rows.get(d);
+            days.add(new DailyOpsReportResponse.Day(d.toString(),
+                    toOps(day == null ? null : day.get(NoteType.RECEIVING)),
+                    toOps(day == null ? null : day.get(NoteType.SHIPPING))));
+        }
+        return new DailyOpsReportResponse(from.toString(), to.toString(), warehouseCode, List.copyOf(days));
+    }
+
+    private static LocalDate parseDay(String text) {
+        try {
+            return LocalDate.parse(text);
+        } catch (Exception e) {
+            throw new BadRequestException(ErrorStatus.SUMMARY_DATE_RANGE_INVALID);
+        }
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException(ErrorStatus.SUMMARY_DATE_RANGE_INVALID);
+        }
+    }
+
+    private static String normalizeWarehouse(String warehouseCode) {
+        return (warehouseCode == null || warehouseCode.isBlank()) ? null : warehouseCode.trim();
+    }
+
+    private static String cacheKey(LocalDate from, LocalDate to, String wh) {
+        return from + "|" + to + "|" + (wh == null ? "" : wh.toLowerCase(Locale.ROOT));
+    }
+
+    private static Map<LocalDate, Map<NoteType, Row>> index(List<Row> rows) {
+        Map<LocalDate, Map<NoteType, Row>> out = new HashMap<>();
+        for (Row r : rows) {
+            out.computeIfAbsent(r.kstDay(), k -> new EnumMap<>(NoteType.class)).put(r.noteType(), r);
+        }
+        return out;
+    }
+
+    // 모든 상태 키를 enum 순서로 채운다 (차트 범례 고정)
+    private static Map<String, Long> receivingByStatus(Row row) {
+        Map<String, Long> out = new LinkedHashMap<>();
+        for (ReceivingNoteStatus s : ReceivingNoteStatus.values()) {
+            out.put(s.name(), row == null ? 0L : count(row, DailyOpsRollup.bucketOf(s)));
+        }
+        return Collections.unmodifiableMap(out);
+    }
+
+    private static Map<String, Long> shippingByStatus(Row row) {
+        Map<String, Long> out = new LinkedHashMap<>();
+        for (NoteStatus s : NoteStatus.values()) {
+            if (s == NoteStatus.COMPLETING) {
+                continue; // 일시 상태: IN_PROGRESS 버킷에 포함되므로 범례에서 제외 (이중 집계 방지)
+            }
+            out.put(s.name(), row == null ? 0L : count(row, DailyOpsRollup.bucketOf(s)));
+        }
+        return Collections.unmodifiableMap(out);
+    }
+
+    private static long count(Row row, DailyOpsRollup.Bucket bucket) {
+        return switch (bucket) {
+            case PENDING -> row.pending();
+            case IN_PROGRESS -> row.inProgress();
+            case DONE_OK -> row.doneOk();
+            case DONE_ISSUE -> row.doneIssue();
+        };
+    }
+
+    private static Ops toOps(Row r) {
+        if (r == null) {
+            return Ops.EMPTY;
+        }
+        return new Ops(r.requested(), r.pending(), r.inProgress(), r.doneOk(), r.doneIssue(), r.completed(),
+                r.unitsCompleted(), r.delayed());
+    }
+
+    private static long sum(Map<String, Long> byStatus) {
+        long total = 0;
+        for (long v : byStatus.values()) {
+            total += v;
+        }
+        return total;
+    }
 }
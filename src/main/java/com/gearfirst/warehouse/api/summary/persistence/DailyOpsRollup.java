@@ -0,0 +1,48 @@
+package com.gearfirst.warehouse.api.summary.persistence;
+
+import com.gearfirst.warehouse.api.receiving.domain.ReceivingNoteStatus;
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+
+/**
+ * daily_ops_rollup 키/버킷 정의. 리스너(쓰기)와 요약 서비스(읽기)가 같은 매핑을 쓴다.
+ */
+public final class DailyOpsRollup {
+
+    private DailyOpsRollup() {
+    }
+
+    public enum NoteType {
+        SHIPPING, RECEIVING
+    }
+
+    /** 전표 상태 → 집계 버킷 */
+    public enum Bucket {
+        PENDING, IN_PROGRESS, DONE_OK, DONE_ISSUE
+    }
+
+    public static Bucket bucketOf(NoteStatus status) {
+        if (status == null) return null;
+        return switch (status) {
+            case PENDING -> Bucket.PENDING;
+            // COMPLETING은 아직 출고 전이므로 진행 중으로 센다
+            case IN_PROGRESS, COMPLETING -> Bucket.IN_PROGRESS;
+            case COMPLETED -> Bucket.DONE_OK;
+            case DELAYED -> Bucket.DONE_ISSUE;
+        };
+    }
+
+    public static Bucket bucketOf(ReceivingNoteStatus status) {
+        if (status == null) return null;
+        return switch (status) {
+            case PENDING -> Bucket.PENDING;
+            case IN_PROGRESS -> Bucket.IN_PROGRESS;
+            case COMPLETED_OK -> Bucket.DONE_OK;
+            case COMPLETED_ISSUE -> Bucket.DONE_ISSUE;
+        };
+    }
+
+    /** 창고 미지정은 "" 로 저장한다 (PK 컬럼) */
+    public static String warehouseKey(String warehouseCode) {
+        return warehouseCode == null ? "" : warehouseCode;
+    }
+}
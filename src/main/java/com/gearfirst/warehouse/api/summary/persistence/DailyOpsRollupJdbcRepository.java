@@ -0,0 +1,57 @@
+package com.gearfirst.warehouse.api.summary.persistence;
+
+import com.gearfirst.warehouse.api.summary.persistence.DailyOpsRollup.NoteType;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * daily_ops_rollup 조회. 키가 (일자, 창고, 유형)이므로 기간 조회는 PK 범위 스캔이고,
+ * 창고 미지정 시 창고를 합산해 (일자, 유형)별 한 행으로 돌려준다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyOpsRollupJdbcRepository {
+
+    public record Row(LocalDate kstDay, NoteType noteType,
+                      long requested, long pending, long inProgress, long doneOk, long doneIssue,
+                      long completed, long unitsCompleted, long delayed) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public List<Row> findRange(LocalDate from, LocalDate to, String warehouseCode) {
+        var params = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+        StringBuilder sql = new StringBuilder("""
+                select kst_day, note_type,
+                       sum(requested_count) as requested, sum(pending_count) as pending,
+                       sum(in_progress_count) as in_progress, sum(done_ok_count) as done_ok,
+                       sum(done_issue_count) as done_issue, sum(completed_count) as completed,
+                       sum(units_completed) as units, sum(delayed_count) as delayed
+                  from daily_ops_rollup
+                 where kst_day between :from and :to
+                """);
+        if (warehouseCode != null && !warehouseCode.isBlank()) {
+            // 목록 조회(equalsIgnoreCase)와 같은 조건
+            sql.append(" and lower(warehouse_code) = lower(:wh)");
+            params.addValue("wh", warehouseCode.trim());
+        }
+        sql.append(" group by kst_day, note_type");
+        return jdbc.query(sql.toString(), params, (rs, i) -> new Row(
+                rs.getObject("kst_day", LocalDate.class),
+                NoteType.valueOf(rs.getString("note_type")),
+                rs.getLong("requested"),
+                rs.getLong("pending"),
+                rs.getLong("in_progress"),
+                rs.getLong("done_ok"),
+                rs.getLong("done_issue"),
+                rs.getLong("completed"),
+                rs.getLong("units"),
+                rs.getLong("delayed")));
+    }
+}
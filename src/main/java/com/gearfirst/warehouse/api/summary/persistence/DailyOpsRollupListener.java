@@ -0,0 +1,246 @@
+package com.gearfirst.warehouse.api.summary.persistence;
+
+import com.gearfirst.warehouse.api.receiving.domain.ReceivingNoteStatus;
+import com.gearfirst.warehouse.api.receiving.persistence.entity.ReceivingNoteEntity;
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingNoteEntity;
+import com.gearfirst.warehouse.api.summary.persistence.DailyOpsRollup.Bucket;
+import com.gearfirst.warehouse.api.summary.persistence.DailyOpsRollup.NoteType;
+import com.gearfirst.warehouse.common.util.DateTimes;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * 출고/입고 전표의 생성·상태 전이를 Hibernate 이벤트로 받아 daily_ops_rollup 증감분을 계산하고,
+ * 같은 트랜잭션의 커밋 직전(flush 이후)에 upsert 한다. 롤백되면 집계도 함께 롤백된다.
+ * 상태 변경 경로(updateLine/complete/checkShippable 등)가 여러 곳이라 서비스가 아닌 영속 계층에서 잡는다.
+ */
+@Slf4j
+public class DailyOpsRollupListener implements PostInsertEventListener, PostUpdateEventListener {
+
+    static final String UPSERT_SQL = """
+            insert into daily_ops_rollup (kst_day, warehouse_code, note_type, requested_count, pending_count,
+                                          in_progress_count, done_ok_count, done_issue_count, completed_count,
+                                          units_completed, delayed_count, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, %s, ?, ?)
+            on conflict (kst_day, warehouse_code, note_type) do update set
+                requested_count = daily_ops_rollup.requested_count + excluded.requested_count,
+                pending_count = daily_ops_rollup.pending_count + excluded.pending_count,
+                in_progress_count = daily_ops_rollup.in_progress_count + excluded.in_progress_count,
+                done_ok_count = daily_ops_rollup.done_ok_count + excluded.done_ok_count,
+                done_issue_count = daily_ops_rollup.done_issue_count + excluded.done_issue_count,
+                completed_count = daily_ops_rollup.completed_count + excluded.completed_count,
+                units_completed = daily_ops_rollup.units_completed + excluded.units_completed,
+                delayed_count = daily_ops_rollup.delayed_count + excluded.delayed_count,
+                updated_at = excluded.updated_at
+            """;
+    // 완료 수량: 출고는 전 라인 주문수량(complete가 READY 라인을 전량 출고), 입고는 ACCEPTED 라인 주문수량
+    private static final String SHIPPING_UNITS =
+            "(select coalesce(sum(ordered_qty), 0) from shipping_note_line where note_id = ?)";
+    private static final String RECEIVING_UNITS =
+            "(select coalesce(sum(ordered_qty), 0) from receiving_note_line where note_id = ? and status = 'ACCEPTED')";
+
+    private final Clock clock;
+
+    public DailyOpsRollupListener() {
+        this(Clock.systemUTC());
+    }
+
+    DailyOpsRollupListener(Clock clock) {
+        this.clock = clock;
+    }
+
+    /** 한 행(키)의 증감분. unitsNoteId가 있으면 units_completed는 해당 전표 라인 합계로 채운다 */
+    record Delta(LocalDate kstDay, String warehouseCode, NoteType noteType,
+                 long requested, long pending, long inProgress, long doneOk, long doneIssue,
+                 long completed, long delayed, Long unitsNoteId) {
+
+        static Delta bucket(LocalDate day, String wh, NoteType type, long requested, Bucket bucket, long sign) {
+            return new Delta(day, wh, type, requested,
+                    bucket == Bucket.PENDING ? sign : 0,
+                    bucket == Bucket.IN_PROGRESS ? sign : 0,
+                    bucket == Bucket.DONE_OK ? sign : 0,
+                    bucket == Bucket.DONE_ISSUE ? sign : 0,
+                    0, 0, null);
+        }
+    }
+
+    /** 집계에 필요한 전표 상태 스냅샷 */
+    record NoteState(NoteType type, Long noteId, String warehouseCode, LocalDate kstDay, Bucket bucket,
+                     boolean completed, boolean delayed) {
+
+        static NoteState of(NoteType type, Long noteId, String warehouseCode, OffsetDateTime requestedAt,
+                            Object status) {
+            Bucket bucket;
+            boolean completed;
+            boolean delayed;
+            if (type == NoteType.SHIPPING) {
+                NoteStatus s = (NoteStatus) status;
+                bucket = DailyOpsRollup.bucketOf(s);
+                completed = s == NoteStatus.COMPLETED;
+                delayed = s == NoteStatus.DELAYED;
+            } else {
+                ReceivingNoteStatus s = (ReceivingNoteStatus) status;
+                bucket = DailyOpsRollup.bucketOf(s);
+                completed = s == ReceivingNoteStatus.COMPLETED_OK || s == ReceivingNoteStatus.COMPLETED_ISSUE;
+                delayed = s == ReceivingNoteStatus.COMPLETED_ISSUE;
+            }
+            return new NoteState(type, noteId, DailyOpsRollup.warehouseKey(warehouseCode),
+                    DateTimes.kstDateOf(requestedAt), bucket, completed, delayed);
+        }
+
+        boolean sameKey(NoteState o) {
+            return Objects.equals(kstDay, o.kstDay) && Objects.equals(warehouseCode, o.warehouseCode);
+        }
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        NoteState now = current(event.getEntity());
+        if (now == null) {
+            return;
+        }
+        List<Delta> deltas = new ArrayList<>(2);
+        if (now.kstDay() != null) {
+            deltas.add(Delta.bucket(now.kstDay(), now.warehouseCode(), now.type(), 1, now.bucket(), 1));
+        }
+        addTransitionEvents(deltas, null, now);
+        register(event.getSession(), deltas);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        NoteState after = current(event.getEntity());
+        if (after == null) {
+            return;
+        }
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            // 스냅샷 없는 update(분리 엔티티 직접 update 등)는 이전 상태를 알 수 없어 건너뛴다
+            log.warn("daily_ops_rollup: no old state for {} note {}, skipped", after.type(), after.noteId());
+            return;
+        }
+        EntityPersister persister = event.getPersister();
+        NoteState before = NoteState.of(after.type(), after.noteId(),
+                (String) property(persister, oldState, "warehouseCode"),
+                (OffsetDateTime) property(persister, oldState, "requestedAt"),
+                property(persister, oldState, "status"));
+
+        List<Delta> deltas = new ArrayList<>(3);
+        if (!before.sameKey(after)) {
+            if (before.kstDay() != null) {
+                deltas.add(Delta.bucket(before.kstDay(), before.warehouseCode(), before.type(), -1, before.bucket(), -1));
+            }
+            if (after.kstDay() != null) {
+                deltas.add(Delta.bucket(after.kstDay(), after.warehouseCode(), after.type(), 1, after.bucket(), 1));
+            }
+        } else if (after.kstDay() != null && before.bucket() != after.bucket()) {
+            if (before.bucket() != null) {
+                deltas.add(Delta.bucket(after.kstDay(), after.warehouseCode(), after.type(), 0, before.bucket(), -1));
+            }
+            if (after.bucket() != null) {
+                deltas.add(Delta.bucket(after.kstDay(), after.warehouseCode(), after.type(), 0, after.bucket(), 1));
+            }
+        }
+        addTransitionEvents(deltas, before, after);
+        register(event.getSession(), deltas);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // 완료/지연 이벤트는 발생일(KST) 기준으로 센다
+    private void addTransitionEvents(List<Delta> deltas, NoteState before, NoteState after) {
+        boolean completedNow = after.completed() && (before == null || !before.completed());
+        boolean delayedNow = after.delayed() && (before == null || !before.delayed());
+        if (!completedNow && !delayedNow) {
+            return;
+        }
+        LocalDate today = DateTimes.kstDateOf(OffsetDateTime.now(clock));
+        deltas.add(new Delta(today, after.warehouseCode(), after.type(), 0, 0, 0, 0, 0,
+                completedNow ? 1 : 0, delayedNow ? 1 : 0, completedNow ? after.noteId() : null));
+    }
+
+    private static NoteState current(Object entity) {
+        if (entity instanceof ShippingNoteEntity e) {
+            return NoteState.of(NoteType.SHIPPING, e.getNoteId(), e.getWarehouseCode(), e.getRequestedAt(),
+                    e.getStatus());
+        }
+        if (entity instanceof ReceivingNoteEntity e) {
+            return NoteState.of(NoteType.RECEIVING, e.getNoteId(), e.getWarehouseCode(), e.getRequestedAt(),
+                    e.getStatus());
+        }
+        return null;
+    }
+
+    private static Object property(EntityPersister persister, Object[] state, String name) {
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return state[i];
+            }
+        }
+        throw new IllegalStateException("property not mapped: " + persister.getEntityName() + "." + name);
+    }
+
+    private void register(EventSource session, List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(clock.instant());
+        BeforeTransactionCompletionProcess upsert = s -> s.doWork(connection -> {
+            for (Delta d : deltas) {
+                try (PreparedStatement ps = connection.prepareStatement(sqlFor(d))) {
+                    bind(ps, d, now);
+                    ps.executeUpdate();
+                }
+            }
+        });
+        session.getActionQueue().registerProcess(upsert);
+    }
+
+    static String sqlFor(Delta d) {
+        if (d.unitsNoteId() == null) {
+            return UPSERT_SQL.formatted("?");
+        }
+        return UPSERT_SQL.formatted(d.noteType() == NoteType.SHIPPING ? SHIPPING_UNITS : RECEIVING_UNITS);
+    }
+
+    private static void bind(PreparedStatement ps, Delta d, Timestamp now) throws SQLException {
+        int i = 1;
+        ps.setDate(i++, Date.valueOf(d.kstDay()));
+        ps.setString(i++, d.warehouseCode());
+        ps.setString(i++, d.noteType().name());
+        ps.setLong(i++, d.requested());
+        ps.setLong(i++, d.pending());
+        ps.setLong(i++, d.inProgress());
+        ps.setLong(i++, d.doneOk());
+        ps.setLong(i++, d.doneIssue());
+        ps.setLong(i++, d.completed());
+        if (d.unitsNoteId() == null) {
+            ps.setLong(i++, 0L);
+        } else {
+            ps.setLong(i++, d.unitsNoteId());
+        }
+        ps.setLong(i++, d.delayed());
+        ps.setTimestamp(i, now);
+    }
+}
@@ -0,0 +1,29 @@
+package com.gearfirst.warehouse.api.summary.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** SessionFactory에 daily_ops_rollup 리스너를 등록한다 */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "warehouse.summary.rollup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DailyOpsRollupListenerRegistrar {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void register() {
+        var listener = new DailyOpsRollupListener();
+        var registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+    }
+}
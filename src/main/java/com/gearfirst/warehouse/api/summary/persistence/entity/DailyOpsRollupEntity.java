@@ -0,0 +1,34 @@
+package com.gearfirst.warehouse.api.summary.persistence.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일자·창고·전표 유형별 운영 집계. 쓰기는 {@code DailyOpsRollupListener}의 upsert만 한다 (JPA로 수정하지 않음).
+ * - 상태 버킷(requested/pending/inProgress/doneOk/doneIssue): 요청일(requestedAt, KST) 기준, 현재 상태별 전표 수
+ * - 이벤트(completed/unitsCompleted/delayed): 발생일(KST) 기준 누적 건수/수량
+ */
+@Entity
+@Table(name = "daily_ops_rollup")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyOpsRollupEntity {
+
+    @EmbeddedId
+    private DailyOpsRollupId id;
+
+    private long requestedCount;
+    private long pendingCount;
+    private long inProgressCount;
+    private long doneOkCount;     // 출고 COMPLETED | 입고 COMPLETED_OK
+    private long doneIssueCount;  // 출고 DELAYED | 입고 COMPLETED_ISSUE
+    private long completedCount;  // 완료 처리 건수 (출고 COMPLETED, 입고 COMPLETED_*)
+    private long unitsCompleted;  // 완료 시 출고/입고 반영 수량
+    private long delayedCount;    // 지연/이슈 전환 건수 (출고 → DELAYED, 입고 → COMPLETED_ISSUE)
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.gearfirst.warehouse.api.summary.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailyOpsRollupId implements Serializable {
+    private LocalDate kstDay;
+    private String warehouseCode; // 창고 미지정 전표는 ""
+    @Column(length = 20)
+    private String noteType;      // SHIPPING | RECEIVING
+}
@@ -0,0 +1,62 @@
+package com.gearfirst.warehouse.common.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세마포어 기반 동시 실행 상한. 허용 대기 시간 안에 permit을 못 얻으면 즉시 거절한다.
+ * - warehouse.bulkhead.available (Gauge, group 태그): 남은 permit
+ * - warehouse.bulkhead.rejected (Counter, group 태그): 거절 수
+ */
+public class Bulkhead {
+
+    private final String group;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    public Bulkhead(String group, int maxConcurrent, Duration maxWait, MeterRegistry registry) {
+        this.group = group;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxWaitNanos = Math.max(0, maxWait.toNanos());
+        this.permits = new Semaphore(this.maxConcurrent);
+        this.rejected = Counter.builder("warehouse.bulkhead.rejected").tag("group", group).register(registry);
+        Gauge.builder("warehouse.bulkhead.available", permits, Semaphore::availablePermits)
+                .tag("group", group)
+                .register(registry);
+    }
+
+    /** permit 획득 시 true (호출자는 반드시 {@link #release()}), 대기 초과/인터럽트 시 false */
+    public boolean tryAcquire() {
+        try {
+            if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public String group() {
+        return group;
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int available() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,77 @@
+package com.gearfirst.warehouse.common.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 엔드포인트 그룹별 bulkhead. 기본 상한은 Hikari 풀에서 백그라운드 몫을 뺀 뒤 read-share 비율로 나눈 값이라
+ * read + mutation + 백그라운드 ≤ 풀 크기다.
+ * 백그라운드 몫 = 스케줄러 스레드(spring.task.scheduling.pool.size, outbox relay/알림 묶음/예약 sweep/보관 작업 등)
+ * + 출고 완료 worker 수. warehouse.bulkhead.background-connections로 직접 지정할 수 있다.
+ * 두 그룹이 동시에 가득 차도 Hikari connection-timeout 대기열이 생기지 않고, 넘치는 요청은 bulkhead에서 503으로 끊긴다.
+ * max-concurrent를 직접 지정하면 그 값을 쓴다 (예: read를 replica 풀로 보낼 때 replica 풀 크기).
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 요청 스레드 수 제한이 사실상 없으므로 이 필터가 유일한 상한이다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "warehouse.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    @Bean
+    FilterRegistrationBean<BulkheadFilter> bulkheadFilter(
+            MeterRegistry registry,
+            ObjectMapper objectMapper,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${spring.task.scheduling.pool.size:1}") int schedulerThreads,
+            @Value("${warehouse.shipping.async-complete.workers:1}") int completionWorkers,
+            @Value("${warehouse.bulkhead.background-connections:-1}") int backgroundOverride,
+            @Value("${warehouse.bulkhead.read-share:0.6}") double readShare,
+            @Value("${warehouse.bulkhead.read.max-concurrent:0}") int readMaxOverride,
+            @Value("${warehouse.bulkhead.read.max-wait-ms:100}") long readWaitMs,
+            @Value("${warehouse.bulkhead.mutation.max-concurrent:0}") int mutationMaxOverride,
+            @Value("${warehouse.bulkhead.mutation.max-wait-ms:500}") long mutationWaitMs,
+            @Value("${warehouse.bulkhead.retry-after-seconds:1}") int retryAfterSeconds) {
+        int background = backgroundOverride >= 0 ? backgroundOverride
+                : Math.max(1, schedulerThreads) + Math.max(1, completionWorkers);
+        int http = httpConnections(poolSize, background);
+        if (http < 2) {
+            log.warn("DB pool {} leaves {} connection(s) for HTTP after {} background; bulkheads may exceed the pool",
+                    poolSize, http, background);
+        }
+        int[] split = split(http, readShare);
+        int readMax = readMaxOverride > 0 ? readMaxOverride : split[0];
+        int mutationMax = mutationMaxOverride > 0 ? mutationMaxOverride : split[1];
+        var reads = new Bulkhead("read", readMax, Duration.ofMillis(readWaitMs), registry);
+        var mutations = new Bulkhead("mutation", mutationMax, Duration.ofMillis(mutationWaitMs), registry);
+        var bean = new FilterRegistrationBean<>(new BulkheadFilter(reads, mutations, objectMapper, retryAfterSeconds));
+        // 요청 메트릭 필터(+10) 다음, 나머지 필터보다 앞에서 거절한다
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return bean;
+    }
+
+    /** 풀에서 백그라운드 작업 몫을 뺀 HTTP 요청용 커넥션 수 */
+    static int httpConnections(int poolSize, int background) {
+        return Math.max(1, poolSize - Math.max(0, background));
+    }
+
+    /**
+     * 풀 크기를 {read, mutation}으로 나눈다. 합은 풀 크기를 넘지 않으며(풀이 1이면 불가피하게 1+1), 각 그룹은 최소 1.
+     */
+    static int[] split(int poolSize, double readShare) {
+        int pool = Math.max(1, poolSize);
+        double share = Math.min(1.0, Math.max(0.0, readShare));
+        int read = Math.max(1, Math.min(pool - 1, (int) Math.floor(pool * share)));
+        int mutation = Math.max(1, pool - read);
+        return new int[] {read, mutation};
+    }
+}
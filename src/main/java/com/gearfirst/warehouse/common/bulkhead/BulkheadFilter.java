@@ -0,0 +1,89 @@
+package com.gearfirst.warehouse.common.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.common.response.CommonApiResponse;
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * /api/** 요청을 읽기(GET/HEAD)와 변경(그 외) 그룹으로 나눠 그룹별 {@link Bulkhead}를 통과시킨다.
+ * 상한을 넘으면 커넥션 풀 대기(connection-timeout) 대신 곧바로 503 + Retry-After로 응답한다.
+ * 비동기 요청은 최초 디스패치가 끝나면 permit을 반납한다.
+ * DB를 쓰지 않는 경로(메모리 인덱스 자동완성, SSE 구독)는 제외한다.
+ */
+@Slf4j
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    // DB 커넥션을 쓰지 않는 /api 경로
+    static final List<String> EXEMPT_PATHS = List.of(
+            "/api/v1/parts/suggest",
+            "/api/v1/warehouses/*/note-events");
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    private final Bulkhead reads;
+    private final Bulkhead mutations;
+    private final ObjectMapper objectMapper;
+    private final int retryAfterSeconds;
+
+    public BulkheadFilter(Bulkhead reads, Bulkhead mutations, ObjectMapper objectMapper, int retryAfterSeconds) {
+        this.reads = reads;
+        this.mutations = mutations;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/api/")) {
+            return true;
+        }
+        for (String exempt : EXEMPT_PATHS) {
+            if (PATHS.match(exempt, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Bulkhead bulkhead = isRead(request.getMethod()) ? reads : mutations;
+        if (!bulkhead.tryAcquire()) {
+            log.debug("Bulkhead '{}' full ({} concurrent): rejecting {} {}", bulkhead.group(),
+                    bulkhead.maxConcurrent(), request.getMethod(), request.getRequestURI());
+            reject(response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    static boolean isRead(String method) {
+        return "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorStatus status = ErrorStatus.SERVICE_BUSY;
+        response.setStatus(status.getStatusCode());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), CommonApiResponse.fail(status));
+    }
+}
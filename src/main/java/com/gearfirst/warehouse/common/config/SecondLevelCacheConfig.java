@@ -0,0 +1,99 @@
+package com.gearfirst.warehouse.common.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시(엔티티 + 쿼리). 로컬 JCache(Caffeine)이므로 인스턴스마다 따로 캐시한다.
+ * - 대상: 거의 모든 요청이 읽고 드물게 바뀌는 카탈로그 엔티티 (부품/카테고리/차량 모델/매핑), READ_WRITE
+ * - JPA로 쓰면 커밋 시 해당 엔티티 항목과 그 테이블을 참조하는 쿼리 결과가 무효화된다.
+ *   다른 인스턴스의 변경과 JDBC 직접 쓰기는 TTL(entity-ttl-ms / query-ttl-ms)이 지나야 반영된다.
+ * - 지표: Hibernate 통계(hibernate.second.level.cache.*{region}, hibernate.cache.query.*) +
+ *   region별 JCache 통계(cache.gets/puts/evictions{cache})
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "warehouse.cache.second-level", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    public static final String PART_REGION = "catalog.part";
+    public static final String CATEGORY_REGION = "catalog.part_category";
+    public static final String CAR_MODEL_REGION = "catalog.car_model";
+    public static final String PART_CAR_MODEL_REGION = "catalog.part_car_model";
+
+    static final List<String> ENTITY_REGIONS = List.of(PART_REGION, CATEGORY_REGION, CAR_MODEL_REGION,
+            PART_CAR_MODEL_REGION);
+
+    @Bean(destroyMethod = "close")
+    CacheManager secondLevelCacheManager(
+            @Value("${warehouse.cache.second-level.entity-max-entries:20000}") long entityMaxEntries,
+            @Value("${warehouse.cache.second-level.entity-ttl-ms:600000}") long entityTtlMs,
+            @Value("${warehouse.cache.second-level.query-max-entries:2000}") long queryMaxEntries,
+            @Value("${warehouse.cache.second-level.query-ttl-ms:60000}") long queryTtlMs) {
+        var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 컨텍스트마다 별도 매니저: 같은 JVM의 다른 컨텍스트(테스트)와 캐시/MBean 이름을 공유하지 않는다
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("warehouse-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : ENTITY_REGIONS) {
+            cacheManager.createCache(region, config(entityMaxEntries, entityTtlMs));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                config(queryMaxEntries, queryTtlMs));
+        // 테이블별 마지막 변경 시각. 쿼리 결과보다 먼저 사라지면 오래된 결과를 유효하다고 보므로 만료/축출하지 않는다
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, config(0, 0));
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> config(long maxEntries, long ttlMs) {
+        var c = new CaffeineConfiguration<Object, Object>();
+        // Hibernate가 분해된 CacheEntry를 넣으므로 값 복사(store-by-value)는 불필요
+        c.setStoreByValue(false);
+        c.setStatisticsEnabled(true);
+        if (maxEntries > 0) {
+            c.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (ttlMs > 0) {
+            c.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+        }
+        return c;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager secondLevelCacheManager) {
+        return props -> {
+            props.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            props.put(AvailableSettings.USE_QUERY_CACHE, true);
+            props.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            props.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            // 위에서 만들지 않은 region은 기동 실패 (region 이름 오타/누락 조기 발견)
+            props.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> {
+            for (String name : secondLevelCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(name), Tags.of("layer", "l2"));
+            }
+        };
+    }
+}
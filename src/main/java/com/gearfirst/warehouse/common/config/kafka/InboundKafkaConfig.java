@@ -0,0 +1,52 @@
+package com.gearfirst.warehouse.common.config.kafka;
+
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
+import org.springframework.kafka.support.converter.StringJsonMessageConverter;
+
+/**
+ * inbound 주문/발주 이벤트용 batch 리스너 팩토리.
+ * value는 String으로 받고 리스너 파라미터 타입(List&lt;OrderEvent&gt; 등)으로 변환한다.
+ * 변환 실패 레코드는 null로 전달되어 리스너가 해당 index를 실패로 보고한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "warehouse.inbound", name = "enabled", havingValue = "true")
+public class InboundKafkaConfig {
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> inboundBatchListenerContainerFactory(
+            KafkaProperties properties,
+            DefaultErrorHandler errorHandler,
+            @Value("${warehouse.inbound.group-id:warehouse-inbound}") String groupId,
+            @Value("${warehouse.inbound.max-poll-records:500}") int maxPollRecords,
+            @Value("${warehouse.inbound.concurrency:1}") int concurrency) {
+        Map<String, Object> props = properties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
+        factory.setConsumerFactory(
+                new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer()));
+        factory.setBatchListener(true);
+        factory.setBatchMessageConverter(inboundBatchMessageConverter());
+        factory.setConcurrency(concurrency);
+        factory.setCommonErrorHandler(errorHandler);
+        return factory;
+    }
+
+    /** String value → 리스너 파라미터 타입 변환기. 변환 실패 레코드는 null (테스트도 같은 변환기를 쓴다) */
+    public static BatchMessagingMessageConverter inboundBatchMessageConverter() {
+        return new BatchMessagingMessageConverter(new StringJsonMessageConverter());
+    }
+}
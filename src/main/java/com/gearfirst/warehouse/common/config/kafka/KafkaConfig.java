@@ -1,5 +1,6 @@
 package com.gearfirst.warehouse.common.config.kafka;
 
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
@@ -39,4 +40,23 @@ public class KafkaConfig {
         factory.setCommonErrorHandler(errorHandler);
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * 전송 지연 측정용: 모든 KafkaTemplate에 전송 시작 시각을 헤더로 남기는 인터셉터를 등록합니다.
+     * (실패 콜백에서는 record.timestamp()가 대개 null이라 시작 시각을 직접 기록해야 합니다)
+     */
+    @Bean
+    static BeanPostProcessor kafkaSendStartInterceptorPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof KafkaTemplate<?, ?> template) {
+                    ((KafkaTemplate<Object, Object>) template)
+                            .setProducerInterceptor(new KafkaSendMetricsListener.SendStartInterceptor());
+                }
+                return bean;
+            }
+        };
+    }
+}
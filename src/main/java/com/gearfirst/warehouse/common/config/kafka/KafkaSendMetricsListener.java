@@ -0,0 +1,107 @@
+package com.gearfirst.warehouse.common.config.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.ProducerListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * KafkaTemplate 전송 결과 콜백 (Boot 기본 LoggingProducerListener 대체).
+ * - warehouse.kafka.send (Timer, topic/result 태그): KafkaTemplate 전송 시작 → broker ack(또는 실패)까지 지연
+ * - warehouse.kafka.send.errors (Counter, topic/exception 태그)
+ * 전송 시작 시각은 {@link SendStartInterceptor}가 record 헤더에 남긴다. record.timestamp()는 대개 null이라 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KafkaSendMetricsListener implements ProducerListener<Object, Object> {
+
+    static final String SEND_TIMER = "warehouse.kafka.send";
+    static final String SEND_ERRORS = "warehouse.kafka.send.errors";
+    static final String SEND_START_HEADER = "warehouse-send-start";
+
+    private final MeterRegistry registry;
+
+    @Override
+    public void onSuccess(ProducerRecord<Object, Object> record, RecordMetadata metadata) {
+        Long start = sendStart(record);
+        if (start == null && metadata != null && metadata.hasTimestamp()) {
+            start = metadata.timestamp();
+        }
+        if (start != null) {
+            timer(record.topic(), "success").record(elapsedSince(start));
+        }
+    }
+
+    @Override
+    public void onError(ProducerRecord<Object, Object> record, RecordMetadata metadata, Exception exception) {
+        String topic = record == null ? "unknown" : record.topic();
+        Long start = sendStart(record);
+        if (start != null) {
+            timer(topic, "error").record(elapsedSince(start));
+        }
+        Counter.builder(SEND_ERRORS)
+                .tag("topic", topic)
+                .tag("exception", exception == null ? "none" : exception.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+        log.warn("Kafka send failed (topic={}, key={}): {}", topic, record == null ? null : record.key(),
+                exception == null ? null : exception.getMessage());
+    }
+
+    private Timer timer(String topic, String result) {
+        return Timer.builder(SEND_TIMER)
+                .tag("topic", topic)
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    private static Duration elapsedSince(long startMs) {
+        return Duration.ofMillis(Math.max(0, System.currentTimeMillis() - startMs));
+    }
+
+    private static Long sendStart(ProducerRecord<?, ?> record) {
+        if (record == null) {
+            return null;
+        }
+        Header h = record.headers().lastHeader(SEND_START_HEADER);
+        if (h == null || h.value() == null || h.value().length != Long.BYTES) {
+            return null;
+        }
+        return ByteBuffer.wrap(h.value()).getLong();
+    }
+
+    /** KafkaTemplate.send 직전에 전송 시작 시각(epoch ms)을 헤더로 남긴다 (KafkaConfig에서 템플릿에 등록) */
+    static class SendStartInterceptor implements ProducerInterceptor<Object, Object> {
+
+        @Override
+        public ProducerRecord<Object, Object> onSend(ProducerRecord<Object, Object> record) {
+            record.headers().add(SEND_START_HEADER,
+                    ByteBuffer.allocate(Long.BYTES).putLong(System.currentTimeMillis()).array());
+            return record;
+        }
+
+        @Override
+        public void onAcknowledgement(RecordMetadata metadata, Exception exception) {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void configure(Map<String, ?> configs) {
+        }
+    }
+}
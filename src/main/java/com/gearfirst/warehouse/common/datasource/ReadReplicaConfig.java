@@ -0,0 +1,85 @@
+package com.gearfirst.warehouse.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * primary/replica 두 Hikari 풀과 읽기 라우팅 DataSource 구성. warehouse.datasource.replica.enabled=true 일 때만 동작한다.
+ * - primary 풀: spring.datasource.* / spring.datasource.hikari.* (Boot 기본 DataSource를 대체)
+ * - replica 풀: warehouse.datasource.replica.url/username/password + .hikari.* (username/password 생략 시 primary와 같음)
+ * 풀은 빈으로 노출하지 않고 {@link Pools}가 소유한다. DataSource 빈은 라우팅 DataSource 하나뿐이라
+ * JDBC 계측 래퍼와 @StatementBudget은 그대로 최상위에서 동작한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "warehouse.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    public record Pools(HikariDataSource primary, HikariDataSource replica) implements AutoCloseable {
+        @Override
+        public void close() {
+            replica.close();
+            primary.close();
+        }
+    }
+
+    @Bean
+    Pools readReplicaPools(DataSourceProperties properties, Environment env, MeterRegistry registry) {
+        Binder binder = Binder.get(env);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (!StringUtils.hasText(primary.getPoolName())) {
+            primary.setPoolName("warehouse-primary");
+        }
+
+        String url = env.getProperty("warehouse.datasource.replica.url");
+        if (!StringUtils.hasText(url)) {
+            throw new IllegalStateException("warehouse.datasource.replica.url is required when replica routing is enabled");
+        }
+        HikariDataSource replica = new HikariDataSource();
+        replica.setJdbcUrl(url);
+        replica.setUsername(env.getProperty("warehouse.datasource.replica.username", primary.getUsername()));
+        replica.setPassword(env.getProperty("warehouse.datasource.replica.password", primary.getPassword()));
+        replica.setDriverClassName(primary.getDriverClassName());
+        replica.setReadOnly(true);
+        binder.bind("warehouse.datasource.replica.hikari", Bindable.ofInstance(replica));
+        if (!StringUtils.hasText(replica.getPoolName())) {
+            replica.setPoolName("warehouse-replica");
+        }
+
+        // 풀이 빈이 아니므로 hikaricp.* 메트릭을 직접 연결 (pool 태그로 구분)
+        primary.setMetricRegistry(registry);
+        replica.setMetricRegistry(registry);
+        return new Pools(primary, replica);
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(Pools pools, MeterRegistry registry,
+                                        @Value("${warehouse.datasource.replica.max-staleness-ms:5000}") long maxStalenessMs) {
+        var monitor = new ReplicaLagMonitor(pools.replica(), Duration.ofMillis(maxStalenessMs), registry);
+        monitor.check(); // 첫 주기 전까지 primary로만 보내지 않도록 기동 시 1회 확인
+        if (!monitor.isUsable()) {
+            log.warn("Replica {} is not usable at startup; read-only transactions will use primary until it catches up",
+                    pools.replica().getJdbcUrl());
+        }
+        return monitor;
+    }
+
+    @Bean
+    DataSource dataSource(Pools pools, ReplicaLagMonitor monitor, MeterRegistry registry) {
+        return new ReadReplicaRoutingDataSource(pools.primary(), pools.replica(), monitor, registry);
+    }
+}
@@ -0,0 +1,72 @@
+package com.gearfirst.warehouse.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))을 replica 풀로 보내는 DataSource.
+ * <p>
+ * LazyConnectionDataSourceProxy가 실제 커넥션을 첫 SQL 시점까지 미루므로, 트랜잭션 시작 시
+ * Connection.setReadOnly(true)가 먼저 기록되고 그 값으로 대상 풀이 정해진다.
+ * 읽기/쓰기 트랜잭션 안에서 호출된 readOnly 메서드는 기존 primary 커넥션을 그대로 쓴다.
+ * replica가 지연(maxStaleness 초과)되었거나 커넥션을 얻지 못하면 primary로 대체한다.
+ */
+public class ReadReplicaRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    public static final String FALLBACK = "warehouse.datasource.replica.fallback";
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor,
+                                        MeterRegistry registry) {
+        super(primary);
+        setReadOnlyDataSource(new ReplicaOrPrimary(primary, replica, monitor, registry));
+    }
+
+    @Slf4j
+    static final class ReplicaOrPrimary extends AbstractDataSource {
+
+        private final DataSource primary;
+        private final DataSource replica;
+        private final ReplicaLagMonitor monitor;
+        private final Counter stale;
+        private final Counter unavailable;
+
+        ReplicaOrPrimary(DataSource primary, DataSource replica, ReplicaLagMonitor monitor, MeterRegistry registry) {
+            this.primary = primary;
+            this.replica = replica;
+            this.monitor = monitor;
+            this.stale = Counter.builder(FALLBACK).tag("reason", "stale")
+                    .description("Read-only transactions sent to primary instead of the replica")
+                    .register(registry);
+            this.unavailable = Counter.builder(FALLBACK).tag("reason", "unavailable")
+                    .description("Read-only transactions sent to primary instead of the replica")
+                    .register(registry);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (!monitor.isUsable()) {
+                stale.increment();
+                return primary.getConnection();
+            }
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                unavailable.increment();
+                log.warn("Replica connection failed, falling back to primary: {}", e.getMessage());
+                return primary.getConnection();
+            }
+        }
+
+        /** 명시적 자격 증명은 replica 풀 설정과 맞는다는 보장이 없으므로 primary로 보낸다 */
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return primary.getConnection(username, password);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.gearfirst.warehouse.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * replica 복제 지연 감시. 주기적으로 replay 지연을 조회해 maxStaleness 이내일 때만 읽기 라우팅을 허용한다.
+ * 조회 실패(연결 불가 등)도 사용 불가로 본다. recovery 모드가 아닌 DB(로컬 2개 DB 검증용)는 지연 0으로 취급.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    public static final String LAG = "warehouse.datasource.replica.lag";
+
+    // WAL 수신 = 재생이면 따라잡은 상태 (primary가 한가할 때 replay timestamp가 오래돼 보이는 오탐 방지)
+    static final String LAG_SQL = """
+            select case
+                     when not pg_is_in_recovery() then 0
+                     when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                     else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   end
+            """;
+
+    private final DataSource replica;
+    private final long maxStalenessMs;
+    private volatile long lagMs = -1; // -1: 미확인/조회 실패
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxStaleness, MeterRegistry registry) {
+        this.replica = replica;
+        this.maxStalenessMs = maxStaleness.toMillis();
+        Gauge.builder(LAG, this, m -> m.lagMs < 0 ? Double.NaN : m.lagMs / 1000.0)
+                .description("Replica replay lag seen by the last check (NaN when unreachable)")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /** 읽기 전용 트랜잭션을 replica로 보내도 되는지 */
+    public boolean isUsable() {
+        long lag = lagMs;
+        return lag >= 0 && lag <= maxStalenessMs;
+    }
+
+    @Scheduled(fixedDelayString = "${warehouse.datasource.replica.check-interval-ms:1000}")
+    public void check() {
+        try (Connection con = replica.getConnection();
+             Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery(LAG_SQL)) {
+            update(rs.next() ? (long) rs.getDouble(1) : -1);
+        } catch (SQLException e) {
+            if (lagMs >= 0) {
+                log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            }
+            update(-1);
+        }
+    }
+
+    void update(long lagMillis) {
+        boolean wasUsable = isUsable();
+        this.lagMs = lagMillis;
+        if (wasUsable && !isUsable() && lagMillis >= 0) {
+            log.warn("Replica lag {}ms exceeds {}ms, routing reads to primary", lagMillis, maxStalenessMs);
+        }
+    }
+}
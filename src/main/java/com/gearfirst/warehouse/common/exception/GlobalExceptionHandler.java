@@ -44,6 +44,12 @@ public class GlobalExceptionHandler {
                 .body(CommonApiResponse.fail(HttpStatus.CONFLICT.value(), ex.getMessage()));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<CommonApiResponse<?>> handleServiceUnavailable(ServiceUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(CommonApiResponse.fail(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<CommonApiResponse<?>> handleIllegalArgument(IllegalArgumentException ex) {
         var status = ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION;
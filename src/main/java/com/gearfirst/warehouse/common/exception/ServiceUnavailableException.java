@@ -0,0 +1,18 @@
+package com.gearfirst.warehouse.common.exception;
+
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends BaseException {
+    public ServiceUnavailableException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public ServiceUnavailableException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+
+    public ServiceUnavailableException(ErrorStatus errorStatus) {
+        super(errorStatus.getHttpStatus(), errorStatus.getMessage());
+    }
+}
@@ -0,0 +1,44 @@
+package com.gearfirst.warehouse.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * JDBC 문장 수 계측: DataSource를 {@link StatementCountingDataSource}로 감싸고 요청 단위 필터를 등록한다.
+ * warehouse.metrics.jdbc.enabled=false 로 끌 수 있다. 슬라이스 테스트(@DataJpaTest)는 @Import로 래퍼만 등록해 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "warehouse.metrics.jdbc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcMetricsConfig {
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource ds && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(ds);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    FilterRegistrationBean<RequestStatementMetricsFilter> requestStatementMetricsFilter(
+            MeterRegistry registry,
+            @Value("${warehouse.metrics.jdbc.warn-threshold:50}") int warnThreshold) {
+        var bean = new FilterRegistrationBean<>(new RequestStatementMetricsFilter(registry, warnThreshold));
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return bean;
+    }
+}
@@ -0,0 +1,53 @@
+package com.gearfirst.warehouse.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청 1건당 실행된 JDBC 문장 수.
+ * - warehouse.http.db.statements (DistributionSummary): method/uri(매핑 패턴) 태그
+ * - warn-threshold 이상이면 경고 로그 (N+1 의심)
+ */
+@Slf4j
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String SUMMARY = "warehouse.http.db.statements";
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    public RequestStatementMetricsFilter(MeterRegistry registry, int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long before = StatementCounter.current();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long count = StatementCounter.current() - before;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            DistributionSummary.builder(SUMMARY)
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(count);
+            if (warnThreshold > 0 && count >= warnThreshold) {
+                log.warn("{} {} executed {} JDBC statements", request.getMethod(), request.getRequestURI(), count);
+            }
+        }
+    }
+}
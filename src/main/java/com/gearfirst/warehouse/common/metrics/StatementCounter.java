@@ -0,0 +1,69 @@
+package com.gearfirst.warehouse.common.metrics;
+
+import java.util.Locale;
+
+/**
+ * 스레드별 JDBC 실행 횟수 (누적값, 전체 + 문장 종류별).
+ * 측정 구간은 시작/종료 시점의 {@link #current()} 차이로 계산하므로 중첩 구간(요청 ⊃ 유스케이스)도 서로 간섭하지 않는다.
+ * executeBatch는 왕복 1회로 센다.
+ */
+public final class StatementCounter {
+
+    public enum Kind {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        /** SQL 첫 키워드로 분류 (앞쪽 공백/주석/괄호는 건너뜀, WITH는 SELECT로 본다) */
+        public static Kind of(String sql) {
+            if (sql == null) {
+                return OTHER;
+            }
+            int i = 0;
+            int n = sql.length();
+            while (i < n) {
+                char ch = sql.charAt(i);
+                if (Character.isWhitespace(ch) || ch == '(') {
+                    i++;
+                } else if (sql.startsWith("/*", i)) {
+                    int end = sql.indexOf("*/", i + 2);
+                    i = end < 0 ? n : end + 2;
+                } else if (sql.startsWith("--", i)) {
+                    int end = sql.indexOf('\n', i);
+                    i = end < 0 ? n : end + 1;
+                } else {
+                    break;
+                }
+            }
+            int j = i;
+            while (j < n && Character.isLetter(sql.charAt(j))) {
+                j++;
+            }
+            return switch (sql.substring(i, j).toLowerCase(Locale.ROOT)) {
+                case "select", "with" -> SELECT;
+                case "insert" -> INSERT;
+                case "update" -> UPDATE;
+                case "delete" -> DELETE;
+                default -> OTHER;
+            };
+        }
+    }
+
+    private static final int TOTAL = Kind.values().length;
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[TOTAL + 1]);
+
+    private StatementCounter() {
+    }
+
+    public static long current() {
+        return COUNT.get()[TOTAL];
+    }
+
+    public static long current(Kind kind) {
+        return COUNT.get()[kind.ordinal()];
+    }
+
+    static void increment(Kind kind) {
+        long[] c = COUNT.get();
+        c[kind.ordinal()]++;
+        c[TOTAL]++;
+    }
+}
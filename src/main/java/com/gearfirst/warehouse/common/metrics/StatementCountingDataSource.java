@@ -0,0 +1,92 @@
+package com.gearfirst.warehouse.common.metrics;
+
+import com.gearfirst.warehouse.common.metrics.StatementCounter.Kind;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 실행된 JDBC 문장 수(종류별)를 {@link StatementCounter}에 기록하는 DataSource 래퍼.
+ * DelegatingDataSource이므로 Hikari 풀 메트릭/헬스체크의 unwrap 경로는 그대로 동작한다.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    static Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(target));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            if (result instanceof Statement st) {
+                Class<?> type = st instanceof CallableStatement ? CallableStatement.class
+                        : st instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                // prepareStatement/prepareCall은 SQL이 미리 정해지고, createStatement는 execute 시점에 정해진다
+                Kind kind = args != null && args.length > 0 && args[0] instanceof String sql ? Kind.of(sql) : null;
+                return Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                        new Class<?>[]{type}, new StatementHandler(st, kind));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Kind prepared;
+        private Kind batched;
+
+        StatementHandler(Statement target, Kind prepared) {
+            this.target = target;
+            this.prepared = prepared;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("addBatch") && args != null && args.length == 1 && args[0] instanceof String sql) {
+                batched = Kind.of(sql);
+            } else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                StatementCounter.increment(prepared != null ? prepared : batched != null ? batched : Kind.OTHER);
+            } else if (name.startsWith("execute")) {
+                Kind kind = args != null && args.length > 0 && args[0] instanceof String sql ? Kind.of(sql) : prepared;
+                StatementCounter.increment(kind == null ? Kind.OTHER : kind);
+            }
+            return StatementCountingDataSource.invoke(target, method, args);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.gearfirst.warehouse.common.metrics;
+
+/**
+ * 유스케이스 메트릭의 warehouse 태그 힌트.
+ * noteId만 받는 유스케이스(complete, checkShippable 등)는 인자/반환값에서 창고를 알 수 없으므로
+ * 서비스가 노트를 읽은 뒤 {@link #warehouse(String)}로 알려준다. 측정 구간 밖에서 호출하면 무시된다.
+ */
+public final class UseCaseMetrics {
+
+    private static final ThreadLocal<String> WAREHOUSE = new ThreadLocal<>();
+
+    private UseCaseMetrics() {
+    }
+
+    public static void warehouse(String warehouseCode) {
+        if (warehouseCode != null && !warehouseCode.isBlank()) {
+            WAREHOUSE.set(warehouseCode);
+        }
+    }
+
+    static String take() {
+        String v = WAREHOUSE.get();
+        WAREHOUSE.remove();
+        return v;
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            WAREHOUSE.remove();
+        } else {
+            WAREHOUSE.set(previous);
+        }
+    }
+}
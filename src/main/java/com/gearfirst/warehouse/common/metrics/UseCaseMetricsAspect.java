@@ -0,0 +1,130 @@
+package com.gearfirst.warehouse.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.beans.Introspector;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 계층 유스케이스 계측 (api..*ServiceImpl의 public 메서드).
+ * - warehouse.usecase (Timer): usecase/warehouse/outcome 태그. 예) usecase=shipping.complete, outcome=success|NotFoundException
+ * - warehouse.usecase.db.statements (DistributionSummary): 유스케이스 1회당 실행된 JDBC 문장 수 (N+1 탐지)
+ * warehouse 태그: warehouseCode 인자 → 인자/반환값의 warehouseCode 접근자 → {@link UseCaseMetrics#warehouse(String)} 순, 없으면 "none".
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "warehouse.metrics.usecase", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UseCaseMetricsAspect {
+
+    static final String TIMER = "warehouse.usecase";
+    static final String STATEMENTS = "warehouse.usecase.db.statements";
+    static final String NONE = "none";
+
+    private static final ClassValue<Optional<Method>> WAREHOUSE_ACCESSOR = new ClassValue<>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> type) {
+            for (String name : new String[]{"warehouseCode", "getWarehouseCode"}) {
+                try {
+                    Method m = type.getMethod(name);
+                    if (m.getReturnType() == String.class) {
+                        return Optional.of(m);
+                    }
+                } catch (NoSuchMethodException ignored) {
+                    // 다음 후보
+                }
+            }
+            return Optional.empty();
+        }
+    };
+
+    private final MeterRegistry registry;
+
+    @Around("execution(public * com.gearfirst.warehouse.api..*ServiceImpl.*(..))")
+    public Object measure(ProceedingJoinPoint pjp) throws Throwable {
+        MethodSignature sig = (MethodSignature) pjp.getSignature();
+        String usecase = usecase(sig.getDeclaringType(), sig.getName());
+        String outer = UseCaseMetrics.take();
+        long statements = StatementCounter.current();
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        Object result = null;
+        try {
+            result = pjp.proceed();
+            return result;
+        } catch (Throwable t) {
+            outcome = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            String hinted = UseCaseMetrics.take();
+            String warehouse = warehouse(sig.getParameterNames(), pjp.getArgs(), result, hinted);
+            sample.stop(Timer.builder(TIMER)
+                    .tag("usecase", usecase)
+                    .tag("warehouse", warehouse)
+                    .tag("outcome", outcome)
+                    .register(registry));
+            DistributionSummary.builder(STATEMENTS)
+                    .baseUnit("statements")
+                    .tag("usecase", usecase)
+                    .tag("warehouse", warehouse)
+                    .register(registry)
+                    .record(StatementCounter.current() - statements);
+            UseCaseMetrics.restore(outer);
+        }
+    }
+
+    /** ShippingServiceImpl.complete → shipping.complete */
+    static String usecase(Class<?> type, String method) {
+        String name = type.getSimpleName();
+        if (name.endsWith("ServiceImpl")) {
+            name = name.substring(0, name.length() - "ServiceImpl".length());
+        }
+        return Introspector.decapitalize(name) + "." + method;
+    }
+
+    static String warehouse(String[] paramNames, Object[] args, Object result, String hinted) {
+        if (paramNames != null) {
+            for (int i = 0; i < paramNames.length && i < args.length; i++) {
+                if ("warehouseCode".equals(paramNames[i]) && args[i] instanceof String s && !s.isBlank()) {
+                    return s;
+                }
+            }
+        }
+        for (Object arg : args) {
+            String v = accessor(arg);
+            if (v != null) {
+                return v;
+            }
+        }
+        String fromResult = accessor(result);
+        if (fromResult != null) {
+            return fromResult;
+        }
+        return hinted != null ? hinted : NONE;
+    }
+
+    private static String accessor(Object o) {
+        if (o == null || o instanceof String || o.getClass().isPrimitive()) {
+            return null;
+        }
+        Optional<Method> m = WAREHOUSE_ACCESSOR.get(o.getClass());
+        if (m.isEmpty()) {
+            return null;
+        }
+        try {
+            Object v = m.get().invoke(o);
+            return v instanceof String s && !s.isBlank() ? s : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
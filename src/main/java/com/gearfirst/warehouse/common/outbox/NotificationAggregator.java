@@ -0,0 +1,151 @@
+package com.gearfirst.warehouse.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.dto.NotificationDto;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 완료 알림 묶음 발송.
+ * - (receiver, type, warehouseCode) 그룹별로 outbox에 BUFFERED 상태로 쌓고, window가 지나거나 max-size에 도달하면
+ *   요약 알림 1건(count, noteIds)을 PENDING으로 기록한다. 원본 행은 MERGED 처리.
+ * - 그룹에 1건뿐이면 요약하지 않고 원본을 그대로 PENDING으로 전환한다.
+ * - outbox 안에서 병합하므로 재시작/장애 시에도 대기 중인 알림이 유실되지 않는다.
+ * - 비활성화 상태에서는 DB를 주기적으로 조회하지 않는다. 활성화 시절에 남은 대기 행만 첫 실행에서 한 번 내보낸다.
+ * - 요약 알림의 id는 묶인 알림 중 가장 최근 id(outbox 순서상 마지막)로 채운다.
+ */
+@Slf4j
+@Component
+public class NotificationAggregator {
+
+    static final String TOPIC = "notification";
+
+    private final OutboxPublisher outboxPublisher;
+    private final OutboxEventJpaRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate txTemplate;
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxSize;
+    private final AtomicBoolean leftoversDrained = new AtomicBoolean(false);
+
+    public NotificationAggregator(OutboxPublisher outboxPublisher,
+                                  OutboxEventJpaRepository repository,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager txManager,
+                                  @Value("${warehouse.notification.coalesce.enabled:true}") boolean enabled,
+                                  @Value("${warehouse.notification.coalesce.window-ms:5000}") long windowMs,
+                                  @Value("${warehouse.notification.coalesce.max-size:100}") int maxSize) {
+        this.outboxPublisher = outboxPublisher;
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.txTemplate = new TransactionTemplate(txManager);
+        this.enabled = enabled;
+        this.window = Duration.ofMillis(windowMs);
+        this.maxSize = Math.max(2, maxSize);
+    }
+
+    /** 호출측 트랜잭션에 참여. 비활성화 시 즉시 개별 알림으로 기록 */
+    public void publish(NotificationDto n) {
+        String key = String.valueOf(n.getId());
+        if (!enabled) {
+            outboxPublisher.publish(TOPIC, key, n);
+            return;
+        }
+        outboxPublisher.buffer(TOPIC, key, coalesceKey(n), n, OffsetDateTime.now(ZoneOffset.UTC).plus(window));
+    }
+
+    static String coalesceKey(NotificationDto n) {
+        return Objects.toString(n.getReceiver(), "") + "|" + Objects.toString(n.getType(), "") + "|"
+                + Objects.toString(n.getWarehouseCode(), "");
+    }
+
+    /** 비활성화 상태면 남아 있는 대기 행을 한 번만 모두 내보내고 이후로는 조회하지 않는다 */
+    @Scheduled(fixedDelayString = "${warehouse.notification.coalesce.check-interval-ms:500}")
+    public void flush() {
+        if (!enabled && !leftoversDrained.compareAndSet(false, true)) {
+            return;
+        }
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        for (var g : repository.findBufferedGroups(OutboxStatus.BUFFERED)) {
+            boolean due = !enabled || g.getCnt() >= maxSize || !g.getDueAt().isAfter(now);
+            if (due) {
+                txTemplate.executeWithoutResult(status -> flushGroup(g.getCoalesceKey(), now));
+            }
+        }
+    }
+
+    int flushGroup(String coalesceKey, OffsetDateTime now) {
+        List<OutboxEventEntity> rows = repository.lockBuffered(coalesceKey, maxSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<NotificationDto> items = new ArrayList<>(rows.size());
+        List<OutboxEventEntity> merged = new ArrayList<>(rows.size());
+        for (OutboxEventEntity row : rows) {
+            NotificationDto n = rows.size() == 1 ? null : read(row);
+            if (n == null) {
+                // 단건 또는 복원 불가 → 개별 전송 경로로 (relay가 실패 시 보류 처리)
+                row.setStatus(OutboxStatus.PENDING);
+                row.setNextAttemptAt(now);
+                continue;
+            }
+            items.add(n);
+            merged.add(row);
+        }
+        if (merged.size() == 1) {
+            merged.get(0).setStatus(OutboxStatus.PENDING);
+            merged.get(0).setNextAttemptAt(now);
+            return 1;
+        }
+        if (merged.isEmpty()) {
+            return rows.size();
+        }
+        for (OutboxEventEntity row : merged) {
+            row.setStatus(OutboxStatus.MERGED);
+            row.setSentAt(now);
+        }
+        NotificationDto summary = summarize(items);
+        outboxPublisher.publish(TOPIC, summary.getWarehouseCode(), summary);
+        log.debug("Coalesced {} notifications into one (group={})", items.size(), coalesceKey);
+        return rows.size();
+    }
+
+    private NotificationDto read(OutboxEventEntity row) {
+        try {
+            return objectMapper.readValue(row.getPayload(), NotificationDto.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static NotificationDto summarize(List<NotificationDto> items) {
+        NotificationDto first = items.get(0);
+        List<Long> noteIds = items.stream().map(NotificationDto::getId).filter(Objects::nonNull).toList();
+        Long newestId = noteIds.isEmpty() ? null : noteIds.get(noteIds.size() - 1);
+        String wh = first.getWarehouseCode();
+        String message = (wh == null ? "" : "[" + wh + "] ") + first.getType() + " " + items.size() + "건";
+        return NotificationDto.builder()
+                .id(newestId)
+                .eventId(UUID.randomUUID().toString())
+                .type(first.getType())
+                .message(message)
+                .receiver(first.getReceiver())
+                .warehouseCode(wh)
+                .count(items.size())
+                .noteIds(noteIds)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.gearfirst.warehouse.common.outbox;
+
+import com.gearfirst.warehouse.common.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Transactional outbox row. 도메인 변경과 같은 트랜잭션에 기록되고, {@link OutboxRelay}가 커밋 이후 Kafka로 전달한다.
+ */
+@Entity
+@Table(
+    name = "outbox_event",
+    indexes = {
+        @Index(name = "IDX_outbox_status_next", columnList = "status, nextAttemptAt, id"),
+        @Index(name = "IDX_outbox_key_status", columnList = "messageKey, status, id"),
+        @Index(name = "IDX_outbox_coalesce", columnList = "status, coalesceKey, id")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEventEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    // Kafka message key; 같은 key는 id 순서대로 전달된다 (null이면 순서 보장 없음)
+    @Column(length = 100)
+    private String messageKey;
+
+    // 묶음 대상 그룹 키 (BUFFERED 행에만 사용)
+    @Column(length = 200)
+    private String coalesceKey;
+
+    // payload 역직렬화 대상 클래스 (FQCN)
+    @Column(nullable = false, length = 200)
+    private String payloadType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    // 다음 전송 가능 시각(UTC). 백오프 및 relay 선점(lease)에 사용, BUFFERED 행은 묶음 flush 시각
+    @Column(nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    private OffsetDateTime sentAt;
+
+    @Column(length = 500)
+    private String lastError;
+}
@@ -0,0 +1,67 @@
+package com.gearfirst.warehouse.common.outbox;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * 전송 가능한 PENDING 이벤트를 id 순으로 잠그고 가져온다 (다중 인스턴스는 SKIP LOCKED로 분할).
+     * key 순서: key별로 가장 낮은 id의 PENDING 행만 후보가 된다. 그 행이 다른 relay에 잠겨 있든(lease 커밋 전),
+     * 백오프/lease 중이든 같은 key의 뒤 이벤트는 선택되지 않는다. key가 없는 이벤트는 순서 제약이 없다.
+     */
+    @Query(value = """
+            select * from outbox_event o
+            where o.status = 'PENDING'
+              and o.next_attempt_at <= :now
+              and (o.message_key is null
+                   or o.id = (select min(p.id) from outbox_event p
+                              where p.message_key = o.message_key
+                                and p.status = 'PENDING'))
+            order by o.id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEventEntity> lockNextBatch(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("update OutboxEventEntity e set e.nextAttemptAt = :until where e.id in :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("until") OffsetDateTime until);
+
+    /** 묶음 대기 그룹별 건수와 가장 이른 flush 시각 */
+    interface BufferedGroup {
+        String getCoalesceKey();
+
+        long getCnt();
+
+        OffsetDateTime getDueAt();
+    }
+
+    @Query("""
+            select e.coalesceKey as coalesceKey, count(e) as cnt, min(e.nextAttemptAt) as dueAt
+            from OutboxEventEntity e
+            where e.status = :status
+            group by e.coalesceKey
+            """)
+    List<BufferedGroup> findBufferedGroups(@Param("status") OutboxStatus status);
+
+    @Query(value = """
+            select * from outbox_event
+            where status = 'BUFFERED' and coalesce_key = :key
+            order by id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEventEntity> lockBuffered(@Param("key") String coalesceKey, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from OutboxEventEntity e where e.status = :status and e.sentAt < :before")
+    int deleteSentBefore(@Param("status") OutboxStatus status, @Param("before") OffsetDateTime before);
+
+    long countByStatus(OutboxStatus status);
+}
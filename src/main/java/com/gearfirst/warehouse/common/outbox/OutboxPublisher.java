@@ -0,0 +1,66 @@
+package com.gearfirst.warehouse.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Kafka 발행 대신 outbox 행을 기록한다. 호출측 트랜잭션에 참여하므로 롤백되면 메시지도 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventJpaRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public void publish(String topic, String key, Object payload) {
+        repository.save(toEntity(topic, key, payload, OffsetDateTime.now(ZoneOffset.UTC)));
+    }
+
+    /** 묶음 대기 행으로 기록. flushAt 이후(또는 그룹 최대 건수 도달 시) NotificationAggregator가 병합한다 */
+    @Transactional
+    public void buffer(String topic, String key, String coalesceKey, Object payload, OffsetDateTime flushAt) {
+        var e = toEntity(topic, key, payload, flushAt);
+        e.setStatus(OutboxStatus.BUFFERED);
+        e.setCoalesceKey(coalesceKey);
+        repository.save(e);
+    }
+
+    public record Message(String key, Object payload) {
+    }
+
+    @Transactional
+    public void publishAll(String topic, List<Message> messages) {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<OutboxEventEntity> rows = new ArrayList<>(messages.size());
+        for (Message m : messages) {
+            rows.add(toEntity(topic, m.key(), m.payload(), now));
+        }
+        repository.saveAll(rows);
+    }
+
+    private OutboxEventEntity toEntity(String topic, String key, Object payload, OffsetDateTime now) {
+        if (topic == null || topic.isBlank() || payload == null) {
+            throw new IllegalArgumentException("outbox topic/payload required");
+        }
+        try {
+            return OutboxEventEntity.builder()
+                    .topic(topic)
+                    .messageKey(key)
+                    .payloadType(payload.getClass().getName())
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .nextAttemptAt(now)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox payload is not serializable: " + payload.getClass(), e);
+        }
+    }
+}
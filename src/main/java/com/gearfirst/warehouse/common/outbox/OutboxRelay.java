@@ -0,0 +1,219 @@
+package com.gearfirst.warehouse.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox → Kafka 전달기.
+ * - linger 간격으로 PENDING 행을 batch 단위로 선점(SKIP LOCKED + lease)하고 전송한다.
+ * - key별 순서: 한 batch에는 key별로 가장 앞선 PENDING 이벤트 하나만 선택된다(다른 relay가 잠근 행 포함). 뒤 이벤트는 앞 이벤트가 SENT/FAILED가 된 뒤 다음 주기에 선택된다.
+ * - 실패 시 지수 백오프(base * 2^attempts, 상한 max) 후 재시도, maxAttempts 초과 시 FAILED로 보류.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "warehouse.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventJpaRepository repository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate txTemplate;
+
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final Duration lease;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    public OutboxRelay(OutboxEventJpaRepository repository,
+                       KafkaTemplate<String, Object> kafkaTemplate,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager txManager,
+                       @Value("${warehouse.outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${warehouse.outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs,
+                       @Value("${warehouse.outbox.relay.lease-ms:30000}") long leaseMs,
+                       @Value("${warehouse.outbox.relay.backoff-base-ms:1000}") long backoffBaseMs,
+                       @Value("${warehouse.outbox.relay.backoff-max-ms:300000}") long backoffMaxMs,
+                       @Value("${warehouse.outbox.relay.max-attempts:12}") int maxAttempts,
+                       @Value("${warehouse.outbox.relay.retention-hours:72}") long retentionHours) {
+        this.repository = repository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.txTemplate = new TransactionTemplate(txManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.backoffBase = Duration.ofMillis(backoffBaseMs);
+        this.backoffMax = Duration.ofMillis(backoffMaxMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    private record Outcome(OutboxEventEntity event, String error, boolean poison) {
+        boolean sent() {
+            return error == null;
+        }
+    }
+
+    /** linger: 직전 주기 종료 후 대기 시간. 가득 찬 batch면 쉬지 않고 이어서 비운다. */
+    @Scheduled(fixedDelayString = "${warehouse.outbox.relay.linger-ms:200}")
+    public void drain() {
+        int drained;
+        do {
+            drained = drainOnce();
+        } while (drained >= batchSize);
+    }
+
+    int drainOnce() {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<OutboxEventEntity> batch = txTemplate.execute(status -> {
+            var rows = repository.lockNextBatch(now, batchSize);
+            if (!rows.isEmpty()) {
+                repository.lease(rows.stream().map(OutboxEventEntity::getId).toList(), now.plus(lease));
+            }
+            return rows;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        List<OutboxEventEntity> deferred = new ArrayList<>();
+        sendInWaves(batch, outcomes, deferred);
+        txTemplate.executeWithoutResult(status -> record(outcomes, deferred));
+        return batch.size();
+    }
+
+    private void sendInWaves(List<OutboxEventEntity> batch, List<Outcome> outcomes, List<OutboxEventEntity> deferred) {
+        // key별 큐 (key 없는 이벤트는 각자 독립 큐)
+        Map<String, Deque<OutboxEventEntity>> queues = new LinkedHashMap<>();
+        for (OutboxEventEntity e : batch) {
+            String qk = e.getMessageKey() == null ? "#" + e.getId() : e.getMessageKey();
+            queues.computeIfAbsent(qk, k -> new ArrayDeque<>()).add(e);
+        }
+        while (!queues.isEmpty()) {
+            Map<String, CompletableFuture<?>> inflight = new LinkedHashMap<>();
+            Map<String, OutboxEventEntity> heads = new LinkedHashMap<>();
+            for (var entry : queues.entrySet()) {
+                OutboxEventEntity head = entry.getValue().poll();
+                Object value;
+                try {
+                    value = objectMapper.readValue(head.getPayload(), Class.forName(head.getPayloadType()));
+                } catch (Exception ex) {
+                    // 역직렬화 불가: 재시도해도 소용없으므로 바로 보류, 같은 key의 뒤 이벤트는 계속 진행
+                    outcomes.add(new Outcome(head, truncate(ex.getClass().getSimpleName() + ": " + ex.getMessage()), true));
+                    continue;
+                }
+                heads.put(entry.getKey(), head);
+                inflight.put(entry.getKey(), kafkaTemplate.send(head.getTopic(), head.getMessageKey(), value));
+            }
+            for (var entry : inflight.entrySet()) {
+                OutboxEventEntity head = heads.get(entry.getKey());
+                String error = await(entry.getValue());
+                outcomes.add(new Outcome(head, error, false));
+                if (error != null) {
+                    // 순서 보장: 실패한 key의 나머지는 이번 주기에 보내지 않는다
+                    deferred.addAll(queues.remove(entry.getKey()));
+                }
+            }
+            Iterator<Map.Entry<String, Deque<OutboxEventEntity>>> it = queues.entrySet().iterator();
+            while (it.hasNext()) {
+                if (it.next().getValue().isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private String await(CompletableFuture<?> future) {
+        if (future == null) {
+            return "send returned no future";
+        }
+        try {
+            future.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        }
+    }
+
+    private static String truncate(String msg) {
+        return msg.length() > 500 ? msg.substring(0, 500) : msg;
+    }
+
+    private void record(List<Outcome> outcomes, List<OutboxEventEntity> deferred) {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        Map<Long, OutboxEventEntity> managed = new HashMap<>();
+        repository.findAllById(outcomes.stream().map(o -> o.event().getId()).toList())
+                .forEach(e -> managed.put(e.getId(), e));
+        for (Outcome o : outcomes) {
+            OutboxEventEntity e = managed.get(o.event().getId());
+            if (e == null) {
+                continue;
+            }
+            if (o.sent()) {
+                e.setStatus(OutboxStatus.SENT);
+                e.setSentAt(now);
+                e.setLastError(null);
+                continue;
+            }
+            int attempts = e.getAttempts() + 1;
+            e.setAttempts(attempts);
+            e.setLastError(o.error());
+            if (attempts >= maxAttempts || o.poison()) {
+                e.setStatus(OutboxStatus.FAILED);
+                log.error("Outbox event {} parked after {} attempts (topic={}, key={}): {}", e.getId(), attempts,
+                        e.getTopic(), e.getMessageKey(), o.error());
+            } else {
+                e.setNextAttemptAt(now.plus(backoff(attempts)));
+                log.warn("Outbox event {} send failed (attempt {}), retrying later: {}", e.getId(), attempts,
+                        o.error());
+            }
+        }
+        if (!deferred.isEmpty()) {
+            // lease 해제: 앞선 실패 이벤트의 백오프가 끝나면 key 순서대로 다시 선택된다
+            repository.lease(deferred.stream().map(OutboxEventEntity::getId).toList(), now);
+        }
+    }
+
+    Duration backoff(int attempts) {
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration d = backoffBase.multipliedBy(factor);
+        return d.compareTo(backoffMax) > 0 ? backoffMax : d;
+    }
+
+    @Scheduled(fixedDelayString = "${warehouse.outbox.relay.cleanup-interval-ms:3600000}")
+    public void purgeSent() {
+        var before = OffsetDateTime.now(ZoneOffset.UTC).minus(retention);
+        Integer deleted = txTemplate.execute(status -> repository.deleteSentBefore(OutboxStatus.SENT, before)
+                + repository.deleteSentBefore(OutboxStatus.MERGED, before));
+        if (deleted != null && deleted > 0) {
+            log.info("Outbox purge: {} sent events older than {}", deleted, before);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.gearfirst.warehouse.common.outbox;
+
+public enum OutboxStatus {
+    // 묶음 알림 대기 (NotificationAggregator가 window 종료/최대 건수 도달 시 요약 1건으로 병합)
+    BUFFERED,
+    PENDING,
+    SENT,
+    // 요약 알림에 병합되어 개별 전송하지 않음
+    MERGED,
+    // 최대 재시도 초과 또는 역직렬화 불가 (수동 확인 대상)
+    FAILED
+}
@@ -27,6 +27,8 @@ public enum ErrorStatus {
     SHIPPING_REQUESTED_AT_INVALID(HttpStatus.BAD_REQUEST, "출고 요청일자가 유효하지 않습니다."),
     RECEIVING_HANDLER_INFO_REQUIRED(HttpStatus.BAD_REQUEST, "입고 담당자 정보가 필요합니다."),
     SHIPPING_HANDLER_INFO_REQUIRED(HttpStatus.BAD_REQUEST, "출고 담당자 정보가 필요합니다."),
+    PART_IMPORT_FORMAT_INVALID(HttpStatus.BAD_REQUEST, "가져오기 형식(csv|ndjson) 또는 CSV 헤더가 유효하지 않습니다."),
+    SUMMARY_DATE_RANGE_INVALID(HttpStatus.BAD_REQUEST, "조회 기간이 유효하지 않습니다. (YYYY-MM-DD, from ≤ to, 최대 92일)"),
 
     /**
      * 401 UNAUTHORIZED
@@ -67,6 +69,13 @@ public enum ErrorStatus {
     FAILED_TO_SAVE_ENTITY(HttpStatus.INTERNAL_SERVER_ERROR, "엔티티 저장에 실패했습니다."),
     FAILED_TO_UPDATE_ENTITY(HttpStatus.INTERNAL_SERVER_ERROR, "엔티티 수정에 실패했습니다."),
     FAILED_TO_DELETE_ENTITY(HttpStatus.INTERNAL_SERVER_ERROR, "엔티티 삭제에 실패했습니다."),
+
+    /**
+     * 503 SERVICE_UNAVAILABLE
+     */
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    SHIPPING_COMPLETION_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "출고 완료 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요."),
+    LIVE_FEED_SUBSCRIBERS_FULL(HttpStatus.SERVICE_UNAVAILABLE, "실시간 구독 연결 수가 한도에 도달했습니다. 잠시 후 다시 시도해 주세요."),
     ;
 
     private final HttpStatus httpStatus;
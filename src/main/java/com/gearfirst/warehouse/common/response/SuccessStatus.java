@@ -25,6 +25,8 @@ public enum SuccessStatus {
     SEND_SHIPPING_NOTE_RECALC_SUCCESS(HttpStatus.OK, "출고요청서 재고 재평가 성공"),
     SEND_SHIPPING_NOTE_LINE_CONFIRM_SUCCESS(HttpStatus.OK, "출고요청서 항목 확정 성공"),
     SEND_SHIPPING_NOTE_COMPLETED_DETAIL_V2_SUCCESS(HttpStatus.OK, "출고 완료 처리 성공(V2 상세)"),
+    SEND_SHIPPING_COMPLETE_ACCEPTED(HttpStatus.ACCEPTED, "출고 완료 요청 접수"),
+    SEND_SHIPPING_COMPLETION_STATUS_SUCCESS(HttpStatus.OK, "출고 완료 처리 상태 조회 성공"),
 
     SEND_PART_CATEGORY_LIST_SUCCESS(HttpStatus.OK, "부품 카테고리 목록 조회 성공"),
     SEND_PART_CATEGORY_DETAIL_SUCCESS(HttpStatus.OK, "부품 카테고리 상세 조회 성공"),
@@ -37,6 +39,8 @@ public enum SuccessStatus {
     SEND_PART_CREATE_SUCCESS(HttpStatus.OK, "부품 생성 성공"),
     SEND_PART_UPDATE_SUCCESS(HttpStatus.OK, "부품 수정 성공"),
     SEND_PART_DELETE_SUCCESS(HttpStatus.OK, "부품 삭제 성공"),
+    SEND_PART_SUGGEST_SUCCESS(HttpStatus.OK, "부품 자동완성 조회 성공"),
+    SEND_PART_IMPORT_SUCCESS(HttpStatus.OK, "부품 대량 가져오기 처리 완료"),
 
     // CarModel
     SEND_CARMODEL_CREATE_SUCCESS(HttpStatus.OK, "차량 모델 생성 성공"),
@@ -50,9 +54,13 @@ public enum SuccessStatus {
     SEND_PCM_DELETE_SUCCESS(HttpStatus.OK, "부품-차량 모델 매핑 삭제(비활성화) 성공"),
 
     SEND_INVENTORY_ONHAND_LIST_SUCCESS(HttpStatus.OK, "재고 현황 목록 조회 성공"),
+    SEND_INVENTORY_ATP_SUCCESS(HttpStatus.OK, "가용 재고(ATP) 조회 성공"),
+    SEND_INVENTORY_CYCLE_COUNT_SUCCESS(HttpStatus.OK, "재고 실사 조정 처리 완료"),
 
     // Summary
     SEND_NOTE_COUNTS_SUCCESS(HttpStatus.OK, "요청일 기준 입/출고 전표 건수 조회 성공"),
+    SEND_NOTE_COUNTS_RANGE_SUCCESS(HttpStatus.OK, "기간별 입/출고 전표 건수 조회 성공"),
+    SEND_DAILY_OPS_REPORT_SUCCESS(HttpStatus.OK, "일자별 운영 리포트 조회 성공"),
     /** 201 CREATED */
 
     /** 202 ACCEPTED */
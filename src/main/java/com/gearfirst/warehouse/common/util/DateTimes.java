@@ -1,5 +1,6 @@
 package com.gearfirst.warehouse.common.util;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -7,6 +8,11 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Time utilities for API I/O.
@@ -14,20 +20,112 @@ import java.time.format.DateTimeFormatter;
  * Policy: API inputs/outputs use KST (+09:00) formatted ISO-8601 strings,
  * while server persists/operates in UTC. Use these helpers when serializing
  * entity timestamps to response DTOs.
+ *
+ * Fast path: Asia/Seoul has had a fixed +09:00 offset since its last DST transition (1988),
+ * so instants after that are formatted/bounded with the constant offset instead of zone rules.
+ * Earlier instants (and years beyond 9999) fall back to the java.time path, so output is identical.
  */
 public final class DateTimes {
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter ISO_OFFSET = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
+    private static final int KST_OFFSET_SECONDS = 9 * 3600;
+    private static final char[] KST_OFFSET_CHARS = "+09:00".toCharArray();
+    // fixed offset 적용 구간의 시작 (이 시각 이후로 전이 없음). 규칙에 미래 전이가 생기면 fast path를 끈다.
+    private static final long FIXED_OFFSET_FROM_EPOCH_SECOND = fixedOffsetFrom(KST.getRules());
+    private static final long MAX_FAST_EPOCH_SECOND =
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59).toEpochSecond(ZoneOffset.ofHours(9));
+    private static final LocalDate FIXED_OFFSET_FROM_DAY = fixedOffsetFromDay(FIXED_OFFSET_FROM_EPOCH_SECOND);
+
+    // 목록 필터는 같은 몇 개 날짜를 반복 조회하므로 작은 캐시로 충분하다 (가득 차면 비운다)
+    static final int DAY_BOUNDS_CACHE_MAX = 1024;
+    private static final ConcurrentMap<LocalDate, DayBounds> DAY_BOUNDS_CACHE = new ConcurrentHashMap<>();
+
     private DateTimes() {}
 
+    private static long fixedOffsetFrom(ZoneRules rules) {
+        if (!rules.getTransitionRules().isEmpty()
+                || !rules.getOffset(Instant.now()).equals(ZoneOffset.ofHours(9))) {
+            return Long.MAX_VALUE;
+        }
+        List<ZoneOffsetTransition> transitions = rules.getTransitions();
+        return transitions.isEmpty() ? Long.MIN_VALUE : transitions.get(transitions.size() - 1).toEpochSecond();
+    }
+
+    // 전이 시각이 속한 KST 날짜의 다음 날부터 하루 전체가 고정 offset 구간이다
+    private static LocalDate fixedOffsetFromDay(long fromEpochSecond) {
+        if (fromEpochSecond == Long.MAX_VALUE) return LocalDate.MAX;
+        if (fromEpochSecond == Long.MIN_VALUE) return LocalDate.MIN;
+        return LocalDate.ofEpochDay(Math.floorDiv(fromEpochSecond + KST_OFFSET_SECONDS, 86_400)).plusDays(1);
+    }
+
     /**
      * Formats the given UTC (or any-offset) time as a KST ISO-8601 string.
      * Returns null if input is null.
      */
     public static String toKstString(OffsetDateTime odt) {
         if (odt == null) return null;
-        return odt.atZoneSameInstant(KST).format(ISO_OFFSET);
+        long epochSecond = odt.toEpochSecond();
+        if (epochSecond < FIXED_OFFSET_FROM_EPOCH_SECOND || epochSecond > MAX_FAST_EPOCH_SECOND) {
+            return odt.atZoneSameInstant(KST).format(ISO_OFFSET);
+        }
+        return formatFixedKst(epochSecond, odt.getNano());
+    }
+
+    /**
+     * ISO_OFFSET_DATE_TIME과 같은 출력: yyyy-MM-ddTHH:mm:ss[.fraction]+09:00
+     * (fraction은 0이면 생략, 아니면 끝의 0을 뺀 최소 자릿수)
+     */
+    private static String formatFixedKst(long epochSecond, int nano) {
+        long local = epochSecond + KST_OFFSET_SECONDS;
+        long epochDay = Math.floorDiv(local, 86_400);
+        int secOfDay = (int) Math.floorMod(local, 86_400);
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+
+        char[] buf = new char[35]; // 19 + '.' + 9 + 6
+        int pos = 0;
+        pos = put4(buf, pos, date.getYear());
+        buf[pos++] = '-';
+        pos = put2(buf, pos, date.getMonthValue());
+        buf[pos++] = '-';
+        pos = put2(buf, pos, date.getDayOfMonth());
+        buf[pos++] = 'T';
+        pos = put2(buf, pos, secOfDay / 3600);
+        buf[pos++] = ':';
+        pos = put2(buf, pos, (secOfDay / 60) % 60);
+        buf[pos++] = ':';
+        pos = put2(buf, pos, secOfDay % 60);
+        if (nano != 0) {
+            buf[pos++] = '.';
+            int digits = 9;
+            int n = nano;
+            while (n % 10 == 0) {
+                n /= 10;
+                digits--;
+            }
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buf[i] = (char) ('0' + n % 10);
+                n /= 10;
+            }
+            pos += digits;
+        }
+        System.arraycopy(KST_OFFSET_CHARS, 0, buf, pos, KST_OFFSET_CHARS.length);
+        pos += KST_OFFSET_CHARS.length;
+        return new String(buf, 0, pos);
+    }
+
+    private static int put4(char[] buf, int pos, int v) {
+        buf[pos] = (char) ('0' + v / 1000);
+        buf[pos + 1] = (char) ('0' + (v / 100) % 10);
+        buf[pos + 2] = (char) ('0' + (v / 10) % 10);
+        buf[pos + 3] = (char) ('0' + v % 10);
+        return pos + 4;
+    }
+
+    private static int put2(char[] buf, int pos, int v) {
+        buf[pos] = (char) ('0' + v / 10);
+        buf[pos + 1] = (char) ('0' + v % 10);
+        return pos + 2;
     }
 
     /**
@@ -36,16 +134,46 @@ public final class DateTimes {
      */
     public static LocalDate toKstDate(LocalDateTime utcLdt) {
         if (utcLdt == null) return null;
+        long epochSecond = utcLdt.toEpochSecond(ZoneOffset.UTC);
+        if (epochSecond >= FIXED_OFFSET_FROM_EPOCH_SECOND) {
+            return LocalDate.ofEpochDay(Math.floorDiv(epochSecond + KST_OFFSET_SECONDS, 86_400));
+        }
         OffsetDateTime asUtc = utcLdt.atOffset(ZoneOffset.UTC);
         return asUtc.atZoneSameInstant(KST).toLocalDate();
     }
 
+    /**
+     * KST local date of the given instant (any offset). Returns null for null input.
+     */
+    public static LocalDate kstDateOf(OffsetDateTime odt) {
+        if (odt == null) return null;
+        return toKstDate(odt.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime());
+    }
+
     /**
      * Returns UTC OffsetDateTime bounds that correspond to the given KST local day.
      * fromInclusive <= t <= toInclusive in UTC yields the same calendar day in KST.
      */
     public static DayBounds kstDayBounds(LocalDate kstDay) {
         if (kstDay == null) return null;
+        DayBounds cached = DAY_BOUNDS_CACHE.get(kstDay);
+        if (cached != null) {
+            return cached;
+        }
+        DayBounds bounds = computeDayBounds(kstDay);
+        if (DAY_BOUNDS_CACHE.size() >= DAY_BOUNDS_CACHE_MAX) {
+            DAY_BOUNDS_CACHE.clear();
+        }
+        DAY_BOUNDS_CACHE.put(kstDay, bounds);
+        return bounds;
+    }
+
+    private static DayBounds computeDayBounds(LocalDate kstDay) {
+        if (!kstDay.isBefore(FIXED_OFFSET_FROM_DAY) && kstDay.getYear() < 9999) {
+            OffsetDateTime utcStart = OffsetDateTime.of(kstDay.atStartOfDay(), ZoneOffset.UTC)
+                    .minusSeconds(KST_OFFSET_SECONDS);
+            return new DayBounds(utcStart, utcStart.plusDays(1).minusNanos(1));
+        }
         ZonedDateTime kstStart = kstDay.atStartOfDay(KST);
         ZonedDateTime kstEnd = kstDay.plusDays(1).atStartOfDay(KST).minusNanos(1);
         OffsetDateTime utcStart = kstStart.withZoneSameInstant(ZoneOffset.UTC).toOffsetDateTime();
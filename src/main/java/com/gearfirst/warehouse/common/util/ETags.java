@@ -0,0 +1,30 @@
+package com.gearfirst.warehouse.common.util;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조회 API의 조건부 요청(If-None-Match) 처리.
+ * <p>
+ * version은 서비스가 엔티티를 로드하기 전에 가벼운 쿼리로 구한 값(updated_at 등)이다.
+ * 일치하면 304를 기록하고 true를 돌려주므로 컨트롤러는 본문 조회/직렬화 없이 null을 반환한다.
+ * 불일치면 ETag 헤더만 기록되고 평소대로 응답한다. version이 null(대상 없음 등)이면 아무것도 하지 않는다.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static boolean notModified(WebRequest request, String version) {
+        if (version == null) {
+            return false;
+        }
+        return request.checkNotModified(weak(version));
+    }
+
+    /** 본문 바이트가 아니라 데이터 버전 기준이므로 weak ETag */
+    static String weak(String version) {
+        return "W/\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,107 @@
+package com.gearfirst.warehouse.common.util;
+
+import java.util.Map;
+
+/**
+ * 한글 음절/자모 분해 유틸 (검색/자동완성 키 생성용).
+ * - decompose: 완성형 음절과 겹자모를 호환 자모 낱자 단위로 풀어 쓴다. ("닭" → "ㄷㅏㄹㄱ", "과" → "ㄱㅗㅏ")
+ *   조합 중 입력("브레잌", "달")이 완성 단어("브레이크", "닭")의 접두어가 되도록 하기 위함.
+ * - initials: 음절의 초성만 추출한다. ("브레이크" → "ㅂㄹㅇㅋ")
+ * 한글 외 문자는 그대로 둔다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 낱자로 입력된 겹자모(호환 자모) 분해
+    private static final Map<Character, String> COMPOUND = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamo() {
+    }
+
+    public static String decompose(String s) {
+        if (s == null || s.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (isSyllable(ch)) {
+                int idx = ch - SYLLABLE_BASE;
+                sb.append(CHO[idx / (JUNG_COUNT * JONG_COUNT)]);
+                sb.append(JUNG[(idx % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                sb.append(JONG[idx % JONG_COUNT]);
+            } else {
+                String compound = COMPOUND.get(ch);
+                if (compound != null) {
+                    sb.append(compound);
+                } else {
+                    sb.append(ch);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String initials(String s) {
+        if (s == null || s.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            sb.append(isSyllable(ch) ? CHO[(ch - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)] : String.valueOf(ch));
+        }
+        return sb.toString();
+    }
+
+    /** 모든 문자가 초성으로 쓰일 수 있는 호환 자모 자음인지 (초성 검색 여부 판단) */
+    public static boolean isAllInitials(String s) {
+        if (s == null || s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isInitialConsonant(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST;
+    }
+
+    private static boolean isInitialConsonant(char ch) {
+        for (String c : CHO) {
+            if (c.charAt(0) == ch) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
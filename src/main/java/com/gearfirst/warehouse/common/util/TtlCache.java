@@ -0,0 +1,57 @@
+package com.gearfirst.warehouse.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 짧은 TTL의 조회 결과 캐시 (대시보드 집계 등 같은 키가 잠깐 사이 반복 호출되는 경로용).
+ * - 만료된 항목은 조회 시 다시 적재한다. 동시에 같은 키를 적재하면 각자 계산하고 마지막 값이 남는다.
+ * - maxEntries에 도달하면 만료 항목을 먼저 지우고, 그래도 가득 차 있으면 전부 비운다.
+ * - ttl이 0 이하면 캐시하지 않는다.
+ */
+public final class TtlCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    public TtlCache(Duration ttl, int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    TtlCache(Duration ttl, int maxEntries, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = Math.max(1, maxEntries);
+        this.nanoClock = nanoClock;
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        if (ttlNanos <= 0) {
+            return loader.get();
+        }
+        long now = nanoClock.getAsLong();
+        Entry<V> e = entries.get(key);
+        if (e != null && e.expiresAtNanos() - now > 0) {
+            return e.value();
+        }
+        V value = loader.get();
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(x -> x.expiresAtNanos() - now <= 0);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry<>(value, now + ttlNanos));
+        return value;
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+}
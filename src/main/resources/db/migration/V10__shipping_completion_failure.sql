@@ -0,0 +1,7 @@
+-- 비동기 출고 완료 실패 사유. worker가 전표를 IN_PROGRESS로 되돌릴 때 같은 트랜잭션에 기록한다.
+-- 재시작/다른 인스턴스에서도 상태 조회(/completion)가 FAILED와 사유를 돌려줄 수 있도록 메모리 대신 테이블에 둔다.
+create table if not exists shipping_completion_failure (
+    note_id   bigint primary key,
+    reason    varchar(500) not null,
+    failed_at timestamp(6) with time zone not null
+);
@@ -0,0 +1,3 @@
+-- inbound 중복 방지 키를 출처별로 분리: 주문/발주 이벤트가 같은 event_id를 써도 서로 중복으로 보지 않는다.
+alter table processed_event drop constraint if exists processed_event_pkey;
+alter table processed_event add constraint processed_event_pkey primary key (source, event_id);
@@ -0,0 +1,191 @@
+-- 기존 ddl-auto(create)로 만들어지던 스키마를 그대로 옮긴 기준선.
+-- ddl-auto로 이미 테이블이 만들어진 DB에서도 적용되도록 IF NOT EXISTS를 쓴다 (baseline-on-migrate, version 0).
+
+create table if not exists part_category (
+    id          bigint generated by default as identity primary key,
+    name        varchar(50)  not null,
+    description varchar(200),
+    enabled     boolean      not null,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    constraint uq_part_category_name unique (name)
+);
+
+create table if not exists part (
+    id               bigint generated by default as identity primary key,
+    code             varchar(255) not null,
+    name             varchar(100) not null,
+    supplier_name    varchar(255),
+    price            integer      not null,
+    category_id      bigint       not null,
+    image_url        varchar(255),
+    safety_stock_qty integer      not null,
+    enabled          boolean      not null,
+    created_at       timestamp(6),
+    updated_at       timestamp(6),
+    constraint uq_part_code unique (code),
+    constraint fk_part_category foreign key (category_id) references part_category (id)
+);
+create index if not exists idx_part_category on part (category_id);
+create index if not exists idx_part_name on part (name);
+create index if not exists idx_part_created_at on part (created_at);
+create index if not exists idx_part_updated_at on part (updated_at);
+
+create table if not exists car_model (
+    id         bigint generated by default as identity primary key,
+    name       varchar(100) not null,
+    enabled    boolean      not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    constraint uq_carmodel_name unique (name)
+);
+
+create table if not exists part_car_model (
+    id           bigint generated by default as identity primary key,
+    part_id      bigint  not null,
+    car_model_id bigint  not null,
+    note         varchar(200),
+    enabled      boolean not null,
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    constraint uq_part_car_model unique (part_id, car_model_id)
+);
+create index if not exists idx_pcm_carmodel on part_car_model (car_model_id);
+create index if not exists idx_pcm_part on part_car_model (part_id);
+
+create table if not exists inventory_onhand (
+    id              bigint generated by default as identity primary key,
+    warehouse_code  varchar(255) not null,
+    part_id         bigint       not null,
+    on_hand_qty     integer      not null,
+    supplier_name   varchar(255),
+    last_updated_at timestamp(6) with time zone,
+    created_at      timestamp(6),
+    updated_at      timestamp(6),
+    constraint uq_onhand_wh_part unique (warehouse_code, part_id)
+);
+create index if not exists idx_onhand_wh_part on inventory_onhand (warehouse_code, part_id);
+create index if not exists idx_onhand_part on inventory_onhand (part_id);
+
+create table if not exists shipping_note (
+    note_id            bigint generated by default as identity primary key,
+    branch_name        varchar(255),
+    item_kinds_number  integer not null,
+    total_qty          integer not null,
+    warehouse_code     varchar(255),
+    shipping_no        varchar(255),
+    order_id           bigint,
+    requested_at       timestamp(6) with time zone,
+    expected_ship_date timestamp(6) with time zone,
+    shipped_at         timestamp(6) with time zone,
+    assignee_name      varchar(255),
+    assignee_dept      varchar(255),
+    assignee_phone     varchar(255),
+    remark             varchar(255),
+    status             varchar(255),
+    completed_at       timestamp(6) with time zone,
+    created_at         timestamp(6),
+    updated_at         timestamp(6),
+    constraint uq_shipping_note_no unique (shipping_no)
+);
+create index if not exists idx_shp_note_requested_at on shipping_note (requested_at);
+create index if not exists idx_shp_note_completed_at on shipping_note (completed_at);
+create index if not exists idx_shp_note_status on shipping_note (status);
+create index if not exists idx_shp_note_wh on shipping_note (warehouse_code);
+create index if not exists idx_shp_note_branch on shipping_note (branch_name);
+
+create table if not exists shipping_note_line (
+    line_id         bigint generated by default as identity primary key,
+    note_id         bigint,
+    product_id      bigint,
+    product_lot     varchar(255),
+    product_code    varchar(255),
+    product_name    varchar(255),
+    product_img_url varchar(255),
+    ordered_qty     integer not null,
+    picked_qty      integer not null,
+    status          varchar(255),
+    remark          varchar(255),
+    constraint fk_shp_line_note foreign key (note_id) references shipping_note (note_id)
+);
+create index if not exists idx_shp_line_note on shipping_note_line (note_id);
+create index if not exists idx_shp_line_product on shipping_note_line (product_id);
+
+create table if not exists receiving_note (
+    note_id               bigint generated by default as identity primary key,
+    supplier_name         varchar(255),
+    item_kinds_number     integer not null,
+    total_qty             integer not null,
+    warehouse_code        varchar(255),
+    receiving_no          varchar(255),
+    requested_at          timestamp(6) with time zone,
+    expected_receive_date timestamp(6) with time zone,
+    received_at           timestamp(6) with time zone,
+    inspector_name        varchar(255),
+    inspector_dept        varchar(255),
+    inspector_phone       varchar(255),
+    remark                varchar(255),
+    status                varchar(255),
+    completed_at          timestamp(6) with time zone,
+    created_at            timestamp(6),
+    updated_at            timestamp(6),
+    constraint uq_receiving_note_no unique (receiving_no)
+);
+create index if not exists idx_rec_note_requested_at on receiving_note (requested_at);
+create index if not exists idx_rec_note_completed_at on receiving_note (completed_at);
+create index if not exists idx_rec_note_status on receiving_note (status);
+create index if not exists idx_rec_note_wh on receiving_note (warehouse_code);
+create index if not exists idx_rec_note_supplier on receiving_note (supplier_name);
+
+create table if not exists receiving_note_line (
+    line_id         bigint generated by default as identity primary key,
+    note_id         bigint,
+    product_id      bigint,
+    product_lot     varchar(255),
+    product_code    varchar(255),
+    product_name    varchar(255),
+    product_img_url varchar(255),
+    ordered_qty     integer not null,
+    inspected_qty   integer not null,
+    status          varchar(255),
+    remark          varchar(255),
+    created_at      timestamp(6),
+    updated_at      timestamp(6),
+    constraint fk_rec_line_note foreign key (note_id) references receiving_note (note_id)
+);
+create index if not exists idx_rec_line_note on receiving_note_line (note_id);
+create index if not exists idx_rec_line_product on receiving_note_line (product_id);
+
+create table if not exists note_number_seq (
+    type           varchar(255) not null,
+    warehouse_code varchar(255) not null,
+    date_ymd       varchar(255) not null,
+    next_seq       integer,
+    version        bigint,
+    primary key (date_ymd, type, warehouse_code)
+);
+
+create table if not exists outbox_event (
+    id              bigint generated by default as identity primary key,
+    topic           varchar(100) not null,
+    message_key     varchar(100),
+    coalesce_key    varchar(200),
+    payload_type    varchar(200) not null,
+    payload         text         not null,
+    status          varchar(20)  not null,
+    attempts        integer      not null,
+    next_attempt_at timestamp(6) with time zone not null,
+    sent_at         timestamp(6) with time zone,
+    last_error      varchar(500),
+    created_at      timestamp(6),
+    updated_at      timestamp(6)
+);
+create index if not exists idx_outbox_status_next on outbox_event (status, next_attempt_at, id);
+create index if not exists idx_outbox_key_status on outbox_event (message_key, status, id);
+create index if not exists idx_outbox_coalesce on outbox_event (status, coalesce_key, id);
+
+create table if not exists processed_event (
+    event_id     varchar(100) not null primary key,
+    source       varchar(50)  not null,
+    processed_at timestamp(6) with time zone not null
+);
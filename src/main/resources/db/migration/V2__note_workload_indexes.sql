@@ -0,0 +1,24 @@
+-- 목록 조회(buildWhere) 조건에 맞춘 복합/부분 인덱스.
+-- warehouseCode 조건은 equalsIgnoreCase → lower(warehouse_code) = lower(?) 로 나가므로 식 인덱스로 만든다.
+
+-- status + 요청일 범위 (status=done|not-done, date/dateFrom/dateTo)
+create index if not exists idx_shp_note_status_requested on shipping_note (status, requested_at);
+create index if not exists idx_rec_note_status_requested on receiving_note (status, requested_at);
+
+-- 창고별 목록: warehouseCode + status + 요청일 범위
+create index if not exists idx_shp_note_wh_status_requested
+    on shipping_note (lower(warehouse_code), status, requested_at);
+create index if not exists idx_rec_note_wh_status_requested
+    on receiving_note (lower(warehouse_code), status, requested_at);
+
+-- 기본 조회(status=not-done)는 전체 중 소수인 진행 중 전표만 본다
+create index if not exists idx_shp_note_not_done
+    on shipping_note (requested_at, note_id) where status not in ('COMPLETED', 'DELAYED');
+create index if not exists idx_rec_note_not_done
+    on receiving_note (requested_at, note_id) where status not in ('COMPLETED_OK', 'COMPLETED_ISSUE');
+
+-- 전표 라인 조회 + 제품별 검색 (note_id 단일 인덱스를 대체)
+create index if not exists idx_shp_line_note_product on shipping_note_line (note_id, product_id);
+create index if not exists idx_rec_line_note_product on receiving_note_line (note_id, product_id);
+drop index if exists idx_shp_line_note;
+drop index if exists idx_rec_line_note;
@@ -0,0 +1,76 @@
+-- 일자(KST)·창고·전표 유형별 운영 집계. 전표 생성/상태 전이 시 같은 트랜잭션에서 증감(upsert)된다.
+-- 상태 버킷은 요청일 기준, completed/units/delayed는 발생일 기준.
+create table if not exists daily_ops_rollup (
+    kst_day           date         not null,
+    warehouse_code    varchar(255) not null,
+    note_type         varchar(20)  not null,
+    requested_count   bigint       not null,
+    pending_count     bigint       not null,
+    in_progress_count bigint       not null,
+    done_ok_count     bigint       not null,
+    done_issue_count  bigint       not null,
+    completed_count   bigint       not null,
+    units_completed   bigint       not null,
+    delayed_count     bigint       not null,
+    updated_at        timestamp(6) with time zone,
+    primary key (kst_day, warehouse_code, note_type)
+);
+
+-- backfill: 기존 전표의 현재 상태로 버킷을 채운다
+insert into daily_ops_rollup (kst_day, warehouse_code, note_type, requested_count, pending_count, in_progress_count,
+                              done_ok_count, done_issue_count, completed_count, units_completed, delayed_count,
+                              updated_at)
+select cast(requested_at at time zone 'Asia/Seoul' as date), coalesce(warehouse_code, ''), 'SHIPPING',
+       count(*),
+       count(*) filter (where status = 'PENDING'),
+       count(*) filter (where status = 'IN_PROGRESS'),
+       count(*) filter (where status = 'COMPLETED'),
+       count(*) filter (where status = 'DELAYED'),
+       0, 0, 0, now()
+  from shipping_note
+ where requested_at is not null
+ group by 1, 2
+union all
+select cast(requested_at at time zone 'Asia/Seoul' as date), coalesce(warehouse_code, ''), 'RECEIVING',
+       count(*),
+       count(*) filter (where status = 'PENDING'),
+       count(*) filter (where status = 'IN_PROGRESS'),
+       count(*) filter (where status = 'COMPLETED_OK'),
+       count(*) filter (where status = 'COMPLETED_ISSUE'),
+       0, 0, 0, now()
+  from receiving_note
+ where requested_at is not null
+ group by 1, 2;
+
+-- backfill: 완료/지연 이벤트는 완료 시각(없으면 마지막 수정 시각) 기준 일자로 더한다
+insert into daily_ops_rollup (kst_day, warehouse_code, note_type, requested_count, pending_count, in_progress_count,
+                              done_ok_count, done_issue_count, completed_count, units_completed, delayed_count,
+                              updated_at)
+select e.kst_day, e.warehouse_code, e.note_type, 0, 0, 0, 0, 0,
+       sum(e.completed), sum(e.units), sum(e.delayed), now()
+  from (select cast(coalesce(n.completed_at, n.updated_at at time zone 'UTC') at time zone 'Asia/Seoul' as date) as kst_day,
+               coalesce(n.warehouse_code, '') as warehouse_code,
+               'SHIPPING' as note_type,
+               case when n.status = 'COMPLETED' then 1 else 0 end as completed,
+               case when n.status = 'COMPLETED'
+                    then (select coalesce(sum(l.ordered_qty), 0) from shipping_note_line l where l.note_id = n.note_id)
+                    else 0 end as units,
+               case when n.status = 'DELAYED' then 1 else 0 end as delayed
+          from shipping_note n
+         where n.status in ('COMPLETED', 'DELAYED')
+        union all
+        select cast(coalesce(n.completed_at, n.updated_at at time zone 'UTC') at time zone 'Asia/Seoul' as date),
+               coalesce(n.warehouse_code, ''),
+               'RECEIVING',
+               1,
+               (select coalesce(sum(l.ordered_qty), 0) from receiving_note_line l
+                 where l.note_id = n.note_id and l.status = 'ACCEPTED'),
+               case when n.status = 'COMPLETED_ISSUE' then 1 else 0 end
+          from receiving_note n
+         where n.status in ('COMPLETED_OK', 'COMPLETED_ISSUE')) e
+ where e.kst_day is not null
+ group by e.kst_day, e.warehouse_code, e.note_type
+on conflict (kst_day, warehouse_code, note_type) do update set
+    completed_count = daily_ops_rollup.completed_count + excluded.completed_count,
+    units_completed = daily_ops_rollup.units_completed + excluded.units_completed,
+    delayed_count = daily_ops_rollup.delayed_count + excluded.delayed_count;
@@ -0,0 +1,21 @@
+-- (창고, 부품)별 미출고 수요. 진행 중(PENDING/IN_PROGRESS) 출고 전표 라인의 Σ(ordered_qty − picked_qty).
+-- 출고 전표 생성/수정/완료 시 같은 트랜잭션에서 증감된다.
+create table if not exists inventory_open_demand (
+    id             bigint generated by default as identity primary key,
+    warehouse_code varchar(255) not null,
+    part_id        bigint       not null,
+    open_qty       integer      not null,
+    updated_at     timestamp(6) with time zone,
+    constraint uq_open_demand_wh_part unique (warehouse_code, part_id)
+);
+
+-- backfill: 현재 진행 중 전표 기준
+insert into inventory_open_demand (warehouse_code, part_id, open_qty, updated_at)
+select n.warehouse_code, l.product_id, sum(greatest(l.ordered_qty - l.picked_qty, 0)), now()
+  from shipping_note n
+  join shipping_note_line l on l.note_id = n.note_id
+ where (n.status is null or n.status in ('PENDING', 'IN_PROGRESS'))
+   and n.warehouse_code is not null and n.warehouse_code <> ''
+   and l.product_id is not null
+ group by n.warehouse_code, l.product_id
+on conflict (warehouse_code, part_id) do nothing;
@@ -0,0 +1,16 @@
+-- 출고 라인 단위 재고 예약 (READY 시 RESERVED → 완료 시 CONSUMED, 해제/지연/만료 시 RELEASED)
+create table if not exists inventory_reservation (
+    id             bigint generated by default as identity primary key,
+    warehouse_code varchar(255) not null,
+    part_id        bigint       not null,
+    note_id        bigint       not null,
+    line_id        bigint       not null,
+    qty            integer      not null,
+    status         varchar(20)  not null,
+    expires_at     timestamp(6) with time zone,
+    created_at     timestamp(6) with time zone,
+    updated_at     timestamp(6) with time zone,
+    constraint uq_reservation_note_line unique (note_id, line_id)
+);
+create index if not exists idx_reservation_wh_part_status on inventory_reservation (warehouse_code, part_id, status);
+create index if not exists idx_reservation_status_expires on inventory_reservation (status, expires_at);
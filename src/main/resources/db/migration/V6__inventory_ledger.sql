@@ -0,0 +1,14 @@
+-- 재고 변동 원장 (실사 조정 등). append-only
+create table if not exists inventory_ledger (
+    id             bigint generated by default as identity primary key,
+    warehouse_code varchar(255) not null,
+    part_id        bigint       not null,
+    before_qty     integer      not null,
+    after_qty      integer      not null,
+    delta_qty      integer      not null,
+    reason         varchar(30)  not null,
+    ref_id         varchar(64),
+    created_at     timestamp(6) with time zone
+);
+create index if not exists idx_ledger_wh_part on inventory_ledger (warehouse_code, part_id, id);
+create index if not exists idx_ledger_ref on inventory_ledger (ref_id);
@@ -0,0 +1,94 @@
+-- 완료 후 보관 기간(warehouse.archive.retention-days)이 지난 전표/라인을 옮겨 두는 보관 테이블.
+-- 원본과 같은 컬럼 + archived_at. id는 원본 값을 그대로 유지한다 (identity 없음).
+-- 목록 조회는 날짜 범위가 보관 구간에 걸칠 때만 원본 ∪ 보관을 조회한다 (ShippingNoteHistoryEntity 등).
+
+create table if not exists shipping_note_archive (
+    note_id            bigint primary key,
+    branch_name        varchar(255),
+    item_kinds_number  integer not null,
+    total_qty          integer not null,
+    warehouse_code     varchar(255),
+    shipping_no        varchar(255),
+    order_id           bigint,
+    requested_at       timestamp(6) with time zone,
+    expected_ship_date timestamp(6) with time zone,
+    shipped_at         timestamp(6) with time zone,
+    assignee_name      varchar(255),
+    assignee_dept      varchar(255),
+    assignee_phone     varchar(255),
+    remark             varchar(255),
+    status             varchar(255),
+    completed_at       timestamp(6) with time zone,
+    created_at         timestamp(6),
+    updated_at         timestamp(6),
+    archived_at        timestamp(6) with time zone not null
+);
+-- max(requested_at): 목록 조회의 보관 구간 판단용
+create index if not exists idx_shp_arch_requested_at on shipping_note_archive (requested_at);
+create index if not exists idx_shp_arch_status_requested on shipping_note_archive (status, requested_at);
+create index if not exists idx_shp_arch_wh_status_requested
+    on shipping_note_archive (lower(warehouse_code), status, requested_at);
+
+create table if not exists shipping_note_line_archive (
+    line_id         bigint primary key,
+    note_id         bigint not null,
+    product_id      bigint,
+    product_lot     varchar(255),
+    product_code    varchar(255),
+    product_name    varchar(255),
+    product_img_url varchar(255),
+    ordered_qty     integer not null,
+    picked_qty      integer not null,
+    status          varchar(255),
+    remark          varchar(255)
+);
+create index if not exists idx_shp_line_arch_note on shipping_note_line_archive (note_id);
+
+create table if not exists receiving_note_archive (
+    note_id               bigint primary key,
+    supplier_name         varchar(255),
+    item_kinds_number     integer not null,
+    total_qty             integer not null,
+    warehouse_code        varchar(255),
+    receiving_no          varchar(255),
+    requested_at          timestamp(6) with time zone,
+    expected_receive_date timestamp(6) with time zone,
+    received_at           timestamp(6) with time zone,
+    inspector_name        varchar(255),
+    inspector_dept        varchar(255),
+    inspector_phone       varchar(255),
+    remark                varchar(255),
+    status                varchar(255),
+    completed_at          timestamp(6) with time zone,
+    created_at            timestamp(6),
+    updated_at            timestamp(6),
+    archived_at           timestamp(6) with time zone not null
+);
+-- max(requested_at): 목록 조회의 보관 구간 판단용
+create index if not exists idx_rec_arch_requested_at on receiving_note_archive (requested_at);
+create index if not exists idx_rec_arch_status_requested on receiving_note_archive (status, requested_at);
+create index if not exists idx_rec_arch_wh_status_requested
+    on receiving_note_archive (lower(warehouse_code), status, requested_at);
+
+create table if not exists receiving_note_line_archive (
+    line_id         bigint primary key,
+    note_id         bigint not null,
+    product_id      bigint,
+    product_lot     varchar(255),
+    product_code    varchar(255),
+    product_name    varchar(255),
+    product_img_url varchar(255),
+    ordered_qty     integer not null,
+    inspected_qty   integer not null,
+    status          varchar(255),
+    remark          varchar(255),
+    created_at      timestamp(6),
+    updated_at      timestamp(6)
+);
+create index if not exists idx_rec_line_arch_note on receiving_note_line_archive (note_id);
+
+-- 보관 대상 선별 (완료 + completed_at 기준)
+create index if not exists idx_shp_note_done_completed
+    on shipping_note (completed_at, note_id) where status in ('COMPLETED', 'DELAYED');
+create index if not exists idx_rec_note_done_completed
+    on receiving_note (completed_at, note_id) where status in ('COMPLETED_OK', 'COMPLETED_ISSUE');
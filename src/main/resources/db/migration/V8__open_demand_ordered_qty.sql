@@ -0,0 +1,14 @@
+-- 미출고 수요 기준 변경: Σ(ordered_qty − picked_qty) → Σ ordered_qty, COMPLETING 전표 포함.
+-- on-hand는 출고 완료 시에만 차감되므로 피킹/READY 라인의 재고도 완료 전까지는 수요로 잡혀야 한다.
+-- 기존 누적값(이전 기준 + 과거 0 클램프로 생긴 오차 포함)을 버리고 현재 진행 중 전표로 다시 계산한다.
+
+delete from inventory_open_demand;
+
+insert into inventory_open_demand (warehouse_code, part_id, open_qty, updated_at)
+select n.warehouse_code, l.product_id, sum(greatest(l.ordered_qty, 0)), now()
+  from shipping_note n
+  join shipping_note_line l on l.note_id = n.note_id
+ where (n.status is null or n.status in ('PENDING', 'IN_PROGRESS', 'COMPLETING'))
+   and n.warehouse_code is not null and n.warehouse_code <> ''
+   and l.product_id is not null
+ group by n.warehouse_code, l.product_id;
@@ -0,0 +1,24 @@
+-- ddl-auto로 만들어진 기존 DB에는 Hibernate 6이 enum 컬럼마다 만든 check 제약(<table>_status_check)이 남아 있다.
+-- V1은 IF NOT EXISTS라 이를 바꾸지 못하므로, 그 뒤에 추가된 값(COMPLETING, BUFFERED/MERGED)이 제약 위반으로 거부된다.
+-- 이름을 유지한 채 현재 enum 값 기준으로 다시 만든다 (새 DB에서는 drop이 건너뛰어지고 add만 적용).
+-- enum 값을 추가할 때는 이 제약도 새 마이그레이션으로 갱신해야 한다.
+
+alter table shipping_note drop constraint if exists shipping_note_status_check;
+alter table shipping_note add constraint shipping_note_status_check
+    check (status in ('PENDING', 'IN_PROGRESS', 'DELAYED', 'COMPLETED', 'COMPLETING'));
+
+alter table shipping_note_line drop constraint if exists shipping_note_line_status_check;
+alter table shipping_note_line add constraint shipping_note_line_status_check
+    check (status in ('PENDING', 'READY', 'SHORTAGE'));
+
+alter table receiving_note drop constraint if exists receiving_note_status_check;
+alter table receiving_note add constraint receiving_note_status_check
+    check (status in ('PENDING', 'IN_PROGRESS', 'COMPLETED_OK', 'COMPLETED_ISSUE'));
+
+alter table receiving_note_line drop constraint if exists receiving_note_line_status_check;
+alter table receiving_note_line add constraint receiving_note_line_status_check
+    check (status in ('PENDING', 'ACCEPTED', 'REJECTED'));
+
+alter table outbox_event drop constraint if exists outbox_event_status_check;
+alter table outbox_event add constraint outbox_event_status_check
+    check (status in ('BUFFERED', 'PENDING', 'SENT', 'MERGED', 'FAILED'));
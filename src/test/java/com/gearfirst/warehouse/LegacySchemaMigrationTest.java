@@ -0,0 +1,88 @@
+package com.gearfirst.warehouse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * ddl-auto로 만들어진 기존 DB에 baseline-on-migrate(version 0)로 마이그레이션을 적용하는 경로를 검사한다.
+ * LEGACY schema는 Hibernate가 엔티티로 직접 만들고(운영 DB와 같은 방식, enum check 제약 포함),
+ * FRESH schema는 마이그레이션만으로 만든다. IF NOT EXISTS로 건너뛴 테이블도 컬럼이 빠짐없이 있어야 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.properties.hibernate.default_schema=" + LegacySchemaMigrationTest.LEGACY,
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+class LegacySchemaMigrationTest {
+
+    static final String LEGACY = "legacy_check";
+    static final String FRESH = "legacy_check_fresh";
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    private Flyway flyway(String schema) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .schemas(schema)
+                .defaultSchema(schema)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .cleanDisabled(false)
+                .load();
+    }
+
+    private Set<String> columns(String schema) {
+        return new HashSet<>(jdbc.queryForList("""
+                select table_name || '.' || column_name from information_schema.columns
+                 where table_schema = ? and table_name <> 'flyway_schema_history'
+                """, String.class, schema));
+    }
+
+    @Test
+    @DisplayName("ddl-auto 스키마 위 baseline → migrate: 컬럼이 마이그레이션 스키마와 같고, 예전 status check 제약이 교체된다")
+    void migrateOverDdlAutoSchema() {
+        // COMPLETING 추가(비동기 완료) 이전에 ddl-auto가 만든 제약 상태로 되돌린다
+        jdbc.execute("alter table " + LEGACY + ".shipping_note drop constraint if exists shipping_note_status_check");
+        jdbc.execute("alter table " + LEGACY + ".shipping_note add constraint shipping_note_status_check"
+                + " check (status in ('PENDING','IN_PROGRESS','DELAYED','COMPLETED'))");
+
+        var fresh = flyway(FRESH);
+        fresh.clean();
+        fresh.migrate();
+        flyway(LEGACY).migrate();
+
+        assertThat(columns(LEGACY)).containsAll(columns(FRESH));
+
+        jdbc.update("insert into " + LEGACY + ".shipping_note (note_id, item_kinds_number, total_qty, status)"
+                + " values (990001, 1, 1, 'COMPLETING')");
+        assertThatThrownBy(() -> jdbc.update("insert into " + LEGACY
+                + ".shipping_note (note_id, item_kinds_number, total_qty, status) values (990002, 1, 1, 'BOGUS')"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(jdbc.queryForList("select version from " + LEGACY + ".flyway_schema_history"
+                + " where success order by installed_rank", String.class))
+                .contains("0", "1", "9");
+        List<String> checks = jdbc.queryForList("""
+                select conname from pg_constraint c join pg_namespace n on n.oid = c.connamespace
+                 where n.nspname = ? and c.contype = 'c' and conname like '%status_check'
+                """, String.class, LEGACY);
+        assertThat(checks).contains("shipping_note_status_check", "shipping_note_line_status_check",
+                "receiving_note_status_check", "receiving_note_line_status_check", "outbox_event_status_check");
+    }
+}
@@ -0,0 +1,59 @@
+package com.gearfirst.warehouse;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * db/migration 스크립트로 만든 스키마가 엔티티 매핑과 일치하는지 검사한다 (ddl-auto=validate).
+ * 다른 테스트의 create-drop 스키마와 섞이지 않도록 별도 schema에 매번 clean → migrate 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.clean-disabled=false",
+        "spring.flyway.default-schema=" + SchemaMigrationValidateTest.SCHEMA,
+        "spring.flyway.schemas=" + SchemaMigrationValidateTest.SCHEMA,
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.default_schema=" + SchemaMigrationValidateTest.SCHEMA
+})
+class SchemaMigrationValidateTest {
+
+    static final String SCHEMA = "migration_check";
+
+    @TestConfiguration
+    static class CleanMigrate {
+        @Bean
+        FlywayMigrationStrategy cleanMigrate() {
+            return flyway -> {
+                flyway.clean();
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Test
+    @DisplayName("마이그레이션 스키마로 validate 통과 + 목록 조회용 복합/부분 인덱스 생성")
+    void migratedSchemaMatchesEntitiesAndHasWorkloadIndexes() {
+        List<String> indexes = jdbc.queryForList(
+                "select indexname from pg_indexes where schemaname = ?", String.class, SCHEMA);
+        for (String name : List.of(
+                "idx_shp_note_status_requested", "idx_shp_note_wh_status_requested", "idx_shp_note_not_done",
+                "idx_shp_line_note_product", "idx_rec_note_status_requested", "idx_rec_note_wh_status_requested",
+                "idx_rec_note_not_done", "idx_rec_line_note_product", "idx_shp_note_done_completed",
+                "idx_rec_note_done_completed", "idx_shp_arch_wh_status_requested",
+                "idx_rec_arch_wh_status_requested")) {
+            assertTrue(indexes.contains(name), () -> name + " missing in " + indexes);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.gearfirst.warehouse.api.archive.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gearfirst.warehouse.api.archive.domain.ArchiveTarget;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingNoteSummary;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingSearchCond;
+import com.gearfirst.warehouse.api.shipping.persistence.ShippingQueryRepository;
+import com.gearfirst.warehouse.common.util.DateTimes;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 보관 작업은 배치마다 커밋하므로 @Transactional 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+class NoteArchiveJobTest {
+
+    private static final long OLD_NOTE = 9801L;
+    private static final long RECENT_NOTE = 9802L;
+
+    @Autowired
+    private NoteArchiveJob job;
+
+    @Autowired
+    private ShippingQueryRepository queryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        insertNote(OLD_NOTE, "OUT-ARCH-OLD", now.minusDays(200), now.minusDays(199));
+        insertNote(RECENT_NOTE, "OUT-ARCH-NEW", now.minusDays(3), now.minusDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 전표만 라인과 함께 보관 테이블로 이동")
+    void archive_movesOnlyExpiredCompletedNotes() {
+        long moved = job.archive(ArchiveTarget.SHIPPING, now);
+
+        assertThat(moved).isGreaterThanOrEqualTo(1);
+        assertThat(count("shipping_note", OLD_NOTE)).isZero();
+        assertThat(count("shipping_note_line", OLD_NOTE)).isZero();
+        assertThat(count("shipping_note_archive", OLD_NOTE)).isEqualTo(1);
+        assertThat(count("shipping_note_line_archive", OLD_NOTE)).isEqualTo(1);
+        assertThat(count("shipping_note", RECENT_NOTE)).isEqualTo(1);
+        assertThat(count("shipping_note_archive", RECENT_NOTE)).isZero();
+    }
+
+    @Test
+    @DisplayName("목록 조회: 날짜 범위가 보관 구간에 걸치면 보관 전표도 포함, 최근 범위는 원본만")
+    void search_readsArchiveOnlyWhenDateRangeRequiresIt() {
+        job.archive(ArchiveTarget.SHIPPING, now);
+
+        String oldDay = DateTimes.kstDateOf(now.minusDays(200)).toString();
+        var old = queryRepository.searchAll(ShippingSearchCond.builder()
+                .status("done").dateFrom(oldDay).dateTo(oldDay).build());
+        assertThat(old).extracting(ShippingNoteSummary::getNoteId).contains(OLD_NOTE);
+
+        String recentDay = DateTimes.kstDateOf(now.minusDays(3)).toString();
+        var recent = queryRepository.searchAll(ShippingSearchCond.builder()
+                .status("all").dateFrom(recentDay).dateTo(recentDay).build());
+        assertThat(recent).extracting(ShippingNoteSummary::getNoteId)
+                .contains(RECENT_NOTE)
+                .doesNotContain(OLD_NOTE);
+    }
+
+    @Test
+    @DisplayName("목록 조회: 날짜 조건 없는 done/all 조회는 보관 전표도 포함한다")
+    void search_withoutDateBoundIncludesArchive() {
+        job.archive(ArchiveTarget.SHIPPING, now);
+
+        var done = queryRepository.searchAll(ShippingSearchCond.builder().status("done").build());
+        assertThat(done).extracting(ShippingNoteSummary::getNoteId).contains(OLD_NOTE, RECENT_NOTE);
+
+        var all = queryRepository.searchAll(ShippingSearchCond.builder().status("all").build());
+        assertThat(all).extracting(ShippingNoteSummary::getNoteId).contains(OLD_NOTE, RECENT_NOTE);
+    }
+
+    private void insertNote(long noteId, String shippingNo, OffsetDateTime requestedAt, OffsetDateTime completedAt) {
+        jdbc.update("""
+                insert into shipping_note (note_id, branch_name, item_kinds_number, total_qty, warehouse_code,
+                                           shipping_no, requested_at, status, completed_at)
+                values (?, 'Archive', 1, 2, 'WH-ARCH', ?, ?, 'COMPLETED', ?)
+                """, noteId, shippingNo, requestedAt, completedAt);
+        jdbc.update("""
+                insert into shipping_note_line (line_id, note_id, product_id, product_code, ordered_qty, picked_qty,
+                                                status)
+                values (?, ?, 9901, 'P-9901', 2, 2, 'READY')
+                """, noteId * 10, noteId);
+    }
+
+    private int count(String table, long noteId) {
+        Integer n = jdbc.queryForObject("select count(*) from " + table + " where note_id = ?", Integer.class, noteId);
+        return n == null ? 0 : n;
+    }
+
+    private void cleanUp() {
+        for (String table : new String[] {"shipping_note_line_archive", "shipping_note_archive", "shipping_note_line",
+                "shipping_note"}) {
+            jdbc.update("delete from " + table + " where note_id in (?, ?)", OLD_NOTE, RECENT_NOTE);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.gearfirst.warehouse.api.inbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.Line;
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.OrderEvent;
+import com.gearfirst.warehouse.api.inbound.dto.InboundEventDtos.PurchaseOrderEvent;
+import com.gearfirst.warehouse.api.inbound.repository.InMemoryProcessedEventRepository;
+import com.gearfirst.warehouse.api.inbound.service.InboundIngestServiceImpl;
+import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
+import com.gearfirst.warehouse.api.receiving.dto.ReceivingCreateNoteRequest;
+import com.gearfirst.warehouse.api.receiving.service.ReceivingService;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCreateNoteRequest;
+import com.gearfirst.warehouse.api.shipping.service.ShippingService;
+import com.gearfirst.warehouse.common.config.kafka.InboundKafkaConfig;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.converter.BatchMessagingMessageConverter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * MockConsumer(in-JVM broker 대역)로 order 이벤트를 batch poll → 리스너 → 일괄 생성 경로를 대량으로 돌린다.
+ * 레코드 변환은 inboundBatchListenerContainerFactory와 같은 변환기를 쓰고, 전표 저장은 mock 서비스로 대체한다 (DB 불필요).
+ * 처리량(events/sec)은 JUnit report entry로 남기며 시간 기준으로 검증하지는 않는다 (실행 환경에 따라 달라 불안정).
+ */
+class InboundEventListenerThroughputTest {
+
+    private static final String TOPIC = "order-created";
+    private static final TopicPartition TP = new TopicPartition(TOPIC, 0);
+    private static final int BATCH = 500;
+
+    private static final Type ORDER_BATCH = listenerParameterType("onOrders");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BatchMessagingMessageConverter converter = InboundKafkaConfig.inboundBatchMessageConverter();
+    private final List<List<ShippingCreateNoteRequest>> createdBatches = new ArrayList<>();
+    private final List<List<ReceivingCreateNoteRequest>> receivedBatches = new ArrayList<>();
+    private final AtomicInteger noteSeq = new AtomicInteger();
+    private InMemoryProcessedEventRepository processed;
+    private InboundEventListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ShippingService shipping = mock(ShippingService.class);
+        when(shipping.createAll(anyList())).thenAnswer(inv -> {
+            List<ShippingCreateNoteRequest> reqs = inv.getArgument(0);
+            createdBatches.add(reqs);
+            List<Long> ids = new ArrayList<>(reqs.size());
+            reqs.forEach(r -> ids.add((long) noteSeq.incrementAndGet()));
+            return ids;
+        });
+        ReceivingService receiving = mock(ReceivingService.class);
+        when(receiving.createAll(anyList())).thenAnswer(inv -> {
+            List<ReceivingCreateNoteRequest> reqs = inv.getArgument(0);
+            receivedBatches.add(reqs);
+            List<Long> ids = new ArrayList<>(reqs.size());
+            reqs.forEach(r -> ids.add((long) noteSeq.incrementAndGet()));
+            return ids;
+        });
+        PartJpaRepository parts = mock(PartJpaRepository.class);
+        when(parts.findAllById(any())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return ids.stream().filter(id -> id <= 100).map(id -> PartEntity.builder().id(id).build()).toList();
+        });
+        PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        processed = new InMemoryProcessedEventRepository();
+        var service = new InboundIngestServiceImpl(shipping, receiving, processed, parts, txManager);
+        listener = new InboundEventListener(service);
+    }
+
+    private String json(String eventId, String warehouse, long productId) throws Exception {
+        return objectMapper.writeValueAsString(new OrderEvent(eventId, warehouse, "지점", 1L,
+                "2026-10-19T09:00:00+09:00", null, null, List.of(new Line(productId, 2, null, null))));
+    }
+
+    private static Type listenerParameterType(String method) {
+        try {
+            return InboundEventListener.class.getMethod(method, List.class).getGenericParameterTypes()[0];
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 리스너 컨테이너 대신: poll → batch 변환기(실패 레코드는 null) → batch 리스너 호출 → commit */
+    @SuppressWarnings("unchecked")
+    private int pollAndDispatch(MockConsumer<String, String> consumer) {
+        var records = consumer.poll(Duration.ZERO);
+        if (records.isEmpty()) {
+            return 0;
+        }
+        List<ConsumerRecord<?, ?>> batch = new ArrayList<>(records.count());
+        records.forEach(batch::add);
+        long lastOffset = batch.get(batch.size() - 1).offset();
+        var events = (List<OrderEvent>) converter.toMessage(batch, null, consumer, ORDER_BATCH).getPayload();
+        listener.onOrders(events);
+        consumer.commitSync(Map.of(TP, new OffsetAndMetadata(lastOffset + 1)));
+        return events.size();
+    }
+
+    private MockConsumer<String, String> consumer() {
+        var consumer = new MockConsumer<String, String>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(List.of(TP));
+        consumer.updateBeginningOffsets(new HashMap<>(Map.of(TP, 0L)));
+        return consumer;
+    }
+
+    @Test
+    @DisplayName("20,000건(10% 재전송 중복)을 batch로 소비: 중복 없이 poll batch당 생성 요청 1회, 처리량(events/sec) 기록")
+    void ingestsBatchesAndMeasuresThroughput(TestReporter reporter) throws Exception {
+        int unique = 18_000;
+        int redelivered = 2_000;
+        var consumer = consumer();
+        long offset = 0;
+        int consumed = 0;
+        long elapsedNanos = 0;
+        for (int i = 0; i < unique + redelivered; i++) {
+            // 마지막 2,000건은 앞서 보낸 이벤트의 재전송
+            int n = i < unique ? i : i - unique;
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset++, "WH" + (n % 5), json("ord-" + n,
+                    "WH" + (n % 5), 1 + n % 100)));
+            if (offset % BATCH == 0) {
+                long start = System.nanoTime();
+                consumed += pollAndDispatch(consumer);
+                elapsedNanos += System.nanoTime() - start;
+            }
+        }
+        long start = System.nanoTime();
+        consumed += pollAndDispatch(consumer);
+        elapsedNanos += System.nanoTime() - start;
+
+        double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        reporter.publishEntry(Map.of(
+                "events", String.valueOf(consumed),
+                "elapsedMs", String.format("%.1f", elapsedNanos / 1_000_000.0),
+                "eventsPerSecond", String.format("%.0f", consumed / seconds)));
+
+        int created = createdBatches.stream().mapToInt(List::size).sum();
+        assertEquals(unique + redelivered, consumed);
+        assertEquals(unique, created);
+        assertEquals(unique, processed.size());
+        // 새 이벤트 poll마다 createAll 1회(500건), 재전송만 있는 poll은 생성 요청 없음
+        assertEquals(unique / BATCH, createdBatches.size());
+        assertTrue(createdBatches.stream().allMatch(b -> b.size() == BATCH));
+    }
+
+    @Test
+    @DisplayName("주문과 발주 이벤트가 같은 eventId를 써도 서로 중복으로 버리지 않는다")
+    void sameEventIdAcrossTopicsIsNotDuplicate() throws Exception {
+        var consumer = consumer();
+        consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, "k", json("shared-1", "WH1", 1)));
+        pollAndDispatch(consumer);
+
+        listener.onPurchaseOrders(List.of(new PurchaseOrderEvent("shared-1", "WH1", "공급사", "PO-1",
+                "2026-10-19T09:00:00+09:00", null, null, List.of(new Line(1L, 3, null, null)))));
+
+        assertEquals(1, createdBatches.size());
+        assertEquals(1, receivedBatches.size());
+        assertEquals(2, processed.size());
+    }
+
+    @Test
+    @DisplayName("batch 내부는 창고별로 묶어 생성 요청한다")
+    void groupsByWarehouseWithinBatch() throws Exception {
+        var consumer = consumer();
+        String[] whs = {"WH2", "WH1", "WH2", "WH3", "WH1"};
+        for (int i = 0; i < whs.length; i++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, i, whs[i], json("g-" + i, whs[i], 10)));
+        }
+        pollAndDispatch(consumer);
+
+        assertEquals(1, createdBatches.size());
+        assertEquals(List.of("WH1", "WH1", "WH2", "WH2", "WH3"),
+                createdBatches.get(0).stream().map(ShippingCreateNoteRequest::warehouseCode).toList());
+    }
+
+    @Test
+    @DisplayName("불량 레코드는 index를 담아 BatchListenerFailedException으로 알리고, 그 앞까지만 생성한다")
+    void poisonRecordReportsIndex() throws Exception {
+        var consumer = consumer();
+        consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, "k", json("p-0", "WH1", 1)));
+        consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 1, "k", json("p-1", "WH1", 2)));
+        consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 2, "k", "{not-json"));
+        consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 3, "k", json("p-3", "WH1", 3)));
+
+        var ex = assertThrows(BatchListenerFailedException.class, () -> pollAndDispatch(consumer));
+
+        assertEquals(2, ex.getIndex());
+        assertEquals(2, processed.size());
+        assertEquals(2, createdBatches.get(0).size());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 부품을 참조하는 이벤트는 불량 레코드로 처리한다")
+    void unknownPartIsPoison() throws Exception {
+        var consumer = consumer();
+        consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, "k", json("u-0", "WH1", 999)));
+
+        var ex = assertThrows(BatchListenerFailedException.class, () -> pollAndDispatch(consumer));
+
+        assertEquals(0, ex.getIndex());
+        assertTrue(createdBatches.isEmpty());
+    }
+}
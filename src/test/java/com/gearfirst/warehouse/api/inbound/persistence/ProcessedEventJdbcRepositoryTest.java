@@ -0,0 +1,43 @@
+package com.gearfirst.warehouse.api.inbound.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class ProcessedEventJdbcRepositoryTest {
+
+    @Autowired
+    private ProcessedEventJdbcRepository repository;
+
+    @Test
+    @DisplayName("주문/발주 이벤트가 같은 eventId를 써도 출처별로 따로 기록되고 조회된다")
+    void sameEventIdIsIndependentPerSource() {
+        repository.markProcessed(List.of("evt-shared", "evt-order-only"), "order");
+
+        assertThat(repository.findProcessed("purchase-order", List.of("evt-shared"))).isEmpty();
+        repository.markProcessed(List.of("evt-shared"), "purchase-order");
+
+        assertThat(repository.findProcessed("order", List.of("evt-shared", "evt-order-only", "evt-new")))
+                .containsExactlyInAnyOrder("evt-shared", "evt-order-only");
+        assertThat(repository.findProcessed("purchase-order", List.of("evt-shared", "evt-order-only")))
+                .containsExactly("evt-shared");
+    }
+
+    @Test
+    @DisplayName("같은 출처에서 같은 eventId를 다시 기록하면 PK 위반")
+    void sameSourceDuplicateViolatesKey() {
+        repository.markProcessed(List.of("evt-dup"), "order");
+
+        assertThatThrownBy(() -> repository.markProcessed(List.of("evt-dup"), "order"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -2,8 +2,10 @@ package com.gearfirst.warehouse.api.inventory.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gearfirst.warehouse.api.inventory.InventoryController;
+import com.gearfirst.warehouse.api.inventory.dto.AtpDtos.AtpItem;
 import com.gearfirst.warehouse.api.inventory.dto.OnHandDtos.OnHandSummary;
 import com.gearfirst.warehouse.api.inventory.dto.OnHandDtos.PartRef;
+import com.gearfirst.warehouse.api.inventory.service.AtpService;
 import com.gearfirst.warehouse.api.inventory.service.InventoryService;
 import com.gearfirst.warehouse.common.exception.BadRequestException;
 import com.gearfirst.warehouse.common.response.ErrorStatus;
@@ -40,6 +42,9 @@ class InventoryControllerTest {
     @MockBean
     private InventoryService inventoryService;
 
+    @MockBean
+    private AtpService atpService;
+
     @Test
     @DisplayName("GET /api/v1/inventory/onhand - 목록 성공(ApiResponse<PageEnvelope>)")
     void listOnHand_success() throws Exception {
@@ -137,4 +142,32 @@ class InventoryControllerTest {
                 .andExpect(jsonPath("$.success", is(false)))
                 .andExpect(jsonPath("$.status", is(400)));
     }
+
+    @Test
+    @DisplayName("GET /api/v1/inventory/atp - 부품별 on-hand/미출고 수요/ATP")
+    void atp_success() throws Exception {
+        when(atpService.getAtp(eq("WH1"), eq(List.of(1001L, 1002L)))).thenReturn(List.of(
+                new AtpItem("WH1", 1001L, 10, 13, -3),
+                new AtpItem("WH1", 1002L, 5, 0, 5)));
+
+        mockMvc.perform(get("/api/v1/inventory/atp")
+                        .param("warehouseCode", "WH1")
+                        .param("partId", "1001", "1002")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is(SuccessStatus.SEND_INVENTORY_ATP_SUCCESS.getStatusCode())))
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].openDemandQty", is(13)))
+                .andExpect(jsonPath("$.data[0].atpQty", is(-3)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/inventory/atp - 창고 코드가 비어 있으면 400")
+    void atp_blankWarehouse_400() throws Exception {
+        mockMvc.perform(get("/api/v1/inventory/atp")
+                        .param("warehouseCode", " ")
+                        .param("partId", "1001")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
 }
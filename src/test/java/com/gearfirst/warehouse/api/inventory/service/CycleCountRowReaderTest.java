@@ -0,0 +1,74 @@
+package com.gearfirst.warehouse.api.inventory.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Format;
+import com.gearfirst.warehouse.common.exception.BadRequestException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CycleCountRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CycleCountRowReader reader(String body, Format format) throws Exception {
+        return new CycleCountRowReader(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format,
+                objectMapper);
+    }
+
+    @Test
+    @DisplayName("CSV: 헤더 순서/대소문자/밑줄 무관, 빈 줄 건너뜀")
+    void csv_parsesRows() throws Exception {
+        String body = "\uFEFFcounted_qty,PART_CODE,warehouseCode\n"
+                + "12,P-1,서울\n"
+                + "\n"
+                + "0,\"P-2\",부산\n";
+        try (var r = reader(body, Format.CSV)) {
+            var first = r.next();
+            assertEquals(2, first.line());
+            assertEquals("서울", first.row().warehouseCode());
+            assertEquals("P-1", first.row().partCode());
+            assertEquals(12, first.row().countedQty());
+
+            var second = r.next();
+            assertEquals(4, second.line());
+            assertEquals(0, second.row().countedQty());
+            assertNull(r.next());
+        }
+    }
+
+    @Test
+    @DisplayName("CSV: 숫자 오류/닫히지 않은 인용은 행 오류로 보고된다")
+    void csv_rowErrors() throws Exception {
+        String body = "warehouseCode,partCode,countedQty\n서울,P-1,many\n서울,\"P-2,3\n";
+        try (var r = reader(body, Format.CSV)) {
+            assertNotNull(r.next().error());
+            assertNotNull(r.next().error());
+        }
+    }
+
+    @Test
+    @DisplayName("CSV: 필수 헤더가 없으면 400")
+    void csv_missingHeader() {
+        assertThrows(BadRequestException.class, () -> reader("warehouseCode,partCode\n서울,P-1\n", Format.CSV));
+    }
+
+    @Test
+    @DisplayName("NDJSON: 줄 단위 파싱, 잘못된 JSON은 행 오류")
+    void ndjson_parsesRows() throws Exception {
+        String body = "{\"warehouseCode\":\"서울\",\"partCode\":\"P-1\",\"countedQty\":7}\n{oops\n";
+        try (var r = reader(body, Format.NDJSON)) {
+            var first = r.next();
+            assertEquals("P-1", first.row().partCode());
+            assertEquals(7, first.row().countedQty());
+            assertNotNull(r.next().error());
+            assertNull(r.next());
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.gearfirst.warehouse.api.inventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.inventory.domain.LedgerReason;
+import com.gearfirst.warehouse.api.inventory.dto.CycleCountDtos.CycleCountResult;
+import com.gearfirst.warehouse.api.inventory.dto.CycleCountDtos.RowError;
+import com.gearfirst.warehouse.api.inventory.persistence.CycleCountJdbcRepository;
+import com.gearfirst.warehouse.api.inventory.persistence.CycleCountJdbcRepository.Count;
+import com.gearfirst.warehouse.api.inventory.persistence.CycleCountJdbcRepository.Variance;
+import com.gearfirst.warehouse.api.parts.persistence.PartJdbcRepository;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Format;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 실사 반영은 chunk마다 커밋하므로 @Transactional 없이 실행하고 직접 정리한다.
+ * 창고 코드는 CC- 접두어, 부품은 고정 id(97001~)로 다른 테스트 데이터와 섞이지 않게 한다.
+ */
+@SpringBootTest
+class CycleCountServiceImplTest {
+
+    private static final String WH = "CC-WH";
+    private static final long CATEGORY = 97000L;
+    private static final long P1 = 97001L;
+    private static final long P2 = 97002L;
+    private static final long P3 = 97003L;
+
+    @Autowired
+    private PartJdbcRepository partJdbcRepo;
+
+    @Autowired
+    private CycleCountJdbcRepository cycleCountRepo;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        jdbc.update("insert into part_category (id, name, enabled) values (?, 'CycleCountTest', true)", CATEGORY);
+        for (long id : new long[] {P1, P2, P3}) {
+            jdbc.update("""
+                    insert into part (id, code, name, price, category_id, safety_stock_qty, enabled)
+                    values (?, ?, '실사 테스트', 1000, ?, 0, true)
+                    """, id, "CC-" + (id - 97000), CATEGORY);
+        }
+        onHand(WH, P1, 10);
+        onHand(WH, P2, 5);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("delete from inventory_ledger where warehouse_code like 'CC-%'");
+        jdbc.update("delete from inventory_onhand where warehouse_code like 'CC-%'");
+        jdbc.update("delete from part where id between 97001 and 97999");
+        jdbc.update("delete from part_category where id = ?", CATEGORY);
+    }
+
+    private void onHand(String wh, long partId, int qty) {
+        jdbc.update("""
+                insert into inventory_onhand (warehouse_code, part_id, on_hand_qty, last_updated_at)
+                values (?, ?, ?, now())
+                """, wh, partId, qty);
+    }
+
+    private Integer qty(String wh, long partId) {
+        List<Integer> q = jdbc.queryForList(
+                "select on_hand_qty from inventory_onhand where warehouse_code = ? and part_id = ?",
+                Integer.class, wh, partId);
+        return q.isEmpty() ? null : q.get(0);
+    }
+
+    private CycleCountServiceImpl service(CycleCountJdbcRepository repo, int chunkSize) {
+        return new CycleCountServiceImpl(partJdbcRepo, repo, objectMapper, txManager, chunkSize);
+    }
+
+    private static InputStream csv(String body) {
+        return new ByteArrayInputStream(("warehouseCode,partCode,countedQty\n" + body)
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("현재고 대비 변동만 반영: 감소/변동 없음/새 행 생성, 같은 chunk의 중복 키는 마지막 행, 원장에 변동분 기록")
+    void appliesVarianceAgainstCurrentOnHand() {
+        CycleCountResult result = service(cycleCountRepo, 10).applyCounts(csv("""
+                CC-WH,CC-1,7
+                CC-WH,CC-2,5
+                CC-WH,CC-3,4
+                CC-WH,cc-1,8
+                CC-WH,CC-404,1
+                """), Format.CSV);
+
+        assertThat(result.totalRows()).isEqualTo(5);
+        assertThat(result.counted()).isEqualTo(3);
+        assertThat(result.adjusted()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.increasedQty()).isEqualTo(4);
+        assertThat(result.decreasedQty()).isEqualTo(2);
+        assertThat(result.errors()).extracting(RowError::line).containsExactly(6L);
+
+        assertThat(qty(WH, P1)).isEqualTo(8);
+        assertThat(qty(WH, P2)).isEqualTo(5);
+        assertThat(qty(WH, P3)).isEqualTo(4);
+
+        List<Map<String, Object>> ledger = jdbc.queryForList("""
+                select part_id, before_qty, after_qty, delta_qty, reason from inventory_ledger
+                 where ref_id = ? order by part_id
+                """, result.countId());
+        assertThat(ledger).hasSize(2);
+        assertThat(ledger.get(0)).containsEntry("part_id", P1).containsEntry("before_qty", 10)
+                .containsEntry("after_qty", 8).containsEntry("delta_qty", -2)
+                .containsEntry("reason", LedgerReason.CYCLE_COUNT.name());
+        assertThat(ledger.get(1)).containsEntry("part_id", P3).containsEntry("before_qty", 0)
+                .containsEntry("after_qty", 4).containsEntry("delta_qty", 4);
+    }
+
+    @Test
+    @DisplayName("chunk 저장이 실패하면 그 chunk 행만 오류로 보고되고 앞선 chunk는 커밋된 채 남는다")
+    void failedChunkIsReportedAndEarlierChunksStayCommitted() {
+        var calls = new AtomicInteger();
+        var failingSecondChunk = new CycleCountJdbcRepository(jdbc) {
+            @Override
+            public List<Variance> apply(List<Count> counts, LedgerReason reason, String refId,
+                                        OffsetDateTime now) {
+                if (calls.incrementAndGet() == 2) {
+                    throw new DataIntegrityViolationException("chunk 2 rejected");
+                }
+                return super.apply(counts, reason, refId, now);
+            }
+        };
+
+        CycleCountResult result = service(failingSecondChunk, 2).applyCounts(csv("""
+                CC-WH,CC-1,1
+                CC-WH,CC-2,2
+                CC-WH,CC-3,3
+                CC-WH2,CC-1,9
+                """), Format.CSV);
+
+        assertThat(result.counted()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.errors()).extracting(RowError::line).containsExactly(4L, 5L);
+        assertThat(result.errors()).allSatisfy(e -> assertThat(e.reason()).startsWith("저장 실패"));
+        assertThat(qty(WH, P1)).isEqualTo(1);
+        assertThat(qty(WH, P2)).isEqualTo(2);
+        assertThat(qty(WH, P3)).isNull();
+        assertThat(qty("CC-WH2", P1)).isNull();
+    }
+
+    @Test
+    @DisplayName("apply는 커밋 전까지 대상 현재고 행을 잠근다 (동시 출고 차감과 교차 갱신 방지)")
+    void applyLocksOnHandRowsUntilCommit() throws Exception {
+        var tx = new TransactionTemplate(txManager);
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        try {
+            tx.executeWithoutResult(status -> {
+                cycleCountRepo.apply(List.of(new Count(WH, P2, 5)), LedgerReason.CYCLE_COUNT, "lock-test",
+                        OffsetDateTime.now(ZoneOffset.UTC));
+                assertThatThrownBy(() -> other.submit(() -> tx.execute(s -> jdbc.queryForObject("""
+                        select on_hand_qty from inventory_onhand
+                         where warehouse_code = ? and part_id = ? for update nowait
+                        """, Integer.class, WH, P2))).get(30, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(DataAccessException.class);
+            });
+            // 커밋 후에는 잠글 수 있다
+            assertThat(other.submit(() -> tx.execute(s -> jdbc.queryForObject("""
+                    select on_hand_qty from inventory_onhand
+                     where warehouse_code = ? and part_id = ? for update nowait
+                    """, Integer.class, WH, P2))).get(30, TimeUnit.SECONDS)).isEqualTo(5);
+        } finally {
+            other.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("대량 입력(100,000행)은 chunk 크기 이하로만 메모리에 두고 스트리밍으로 반영한다 (처리 시간은 report로 기록)")
+    void streamsLargeInputInBoundedChunks(TestReporter reporter) {
+        int rows = 100_000;
+        int chunkSize = 1000;
+        var maxChunk = new AtomicInteger();
+        var chunks = new AtomicInteger();
+        var recording = new CycleCountJdbcRepository(jdbc) {
+            @Override
+            public List<Variance> apply(List<Count> counts, LedgerReason reason, String refId,
+                                        OffsetDateTime now) {
+                maxChunk.accumulateAndGet(counts.size(), Math::max);
+                chunks.incrementAndGet();
+                return super.apply(counts, reason, refId, now);
+            }
+        };
+
+        long start = System.nanoTime();
+        CycleCountResult result = service(recording, chunkSize).applyCounts(new GeneratedCsv(rows), Format.CSV);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        reporter.publishEntry(Map.of(
+                "rows", String.valueOf(rows),
+                "elapsedMs", String.valueOf(elapsedMs),
+                "rowsPerSecond", String.valueOf(rows * 1000L / Math.max(1, elapsedMs))));
+
+        assertThat(result.failed()).isZero();
+        assertThat(result.counted()).isEqualTo(rows);
+        assertThat(maxChunk.get()).isLessThanOrEqualTo(chunkSize);
+        assertThat(chunks.get()).isEqualTo(rows / chunkSize);
+        Integer stored = jdbc.queryForObject(
+                "select count(*) from inventory_onhand where warehouse_code like 'CC-L%'", Integer.class);
+        assertThat(stored).isEqualTo(rows);
+    }
+
+    /** 입력 전체를 메모리에 만들지 않고 읽는 만큼 CSV 줄을 생성한다 (창고 CC-L0..CC-L33333 × 부품 3종) */
+    private static final class GeneratedCsv extends InputStream {
+
+        private final int rows;
+        private int next = -1;
+        private byte[] line = "warehouseCode,partCode,countedQty\n".getBytes(StandardCharsets.UTF_8);
+        private int pos;
+
+        GeneratedCsv(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read() {
+            if (pos == line.length) {
+                if (++next >= rows) {
+                    return -1;
+                }
+                String row = "CC-L" + (next / 3) + ",CC-" + (1 + next % 3) + "," + (1 + next % 50) + "\n";
+                line = row.getBytes(StandardCharsets.UTF_8);
+                pos = 0;
+            }
+            return line[pos++] & 0xff;
+        }
+    }
+}
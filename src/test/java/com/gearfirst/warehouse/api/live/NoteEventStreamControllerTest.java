@@ -0,0 +1,114 @@
+package com.gearfirst.warehouse.api.live;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.gearfirst.warehouse.api.live.dto.NoteChangeEvent;
+import com.gearfirst.warehouse.api.live.service.NoteEventHub;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(controllers = NoteEventStreamController.class)
+@Import({NoteEventHub.class, NoteEventStreamControllerTest.Meters.class})
+class NoteEventStreamControllerTest {
+
+    private static final Pattern ID = Pattern.compile("id:(\\d+)");
+
+    @TestConfiguration
+    static class Meters {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NoteEventHub hub;
+
+    @AfterEach
+    void tearDown() {
+        hub.closeAll();
+    }
+
+    @Test
+    @DisplayName("구독하면 ready 후 해당 창고의 전표 변경만 받는다 (창고 코드 대소문자 무시)")
+    void subscribe_receivesReadyThenOwnWarehouseChanges() throws Exception {
+        MvcResult result = subscribe("wh-live", null);
+        String ready = await(result, s -> s.contains("event:ready"));
+        assertThat(ready).containsPattern(ID);
+
+        hub.on(change(2L, "WH-OTHER"));
+        hub.on(change(1L, "WH-LIVE"));
+
+        String body = await(result, s -> s.contains("event:note-change"));
+        assertThat(body).contains("\"noteId\":1").doesNotContain("\"noteId\":2")
+                .contains("\"changeType\":\"STATUS_CHANGED\"");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 이후 이벤트만 replay, 범위를 벗어난 id는 reset")
+    void reconnect_replaysMissedEventsOrResets() throws Exception {
+        MvcResult first = subscribe("WH-REPLAY", null);
+        long readyId = firstId(await(first, s -> s.contains("event:ready")));
+
+        hub.on(change(11L, "WH-REPLAY"));
+        hub.on(change(12L, "WH-REPLAY"));
+
+        MvcResult replay = subscribe("WH-REPLAY", String.valueOf(readyId + 1));
+        String body = await(replay, s -> s.contains("\"noteId\":12"));
+        assertThat(body).doesNotContain("\"noteId\":11").contains("\"replayed\":1");
+
+        MvcResult stale = subscribe("WH-REPLAY", "1");
+        assertThat(await(stale, s -> s.contains("event:reset"))).doesNotContain("note-change");
+    }
+
+    private MvcResult subscribe(String warehouseCode, String lastEventId) throws Exception {
+        var req = get("/api/v1/warehouses/{wh}/note-events", warehouseCode).accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            req.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(req).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private static NoteChangeEvent change(Long noteId, String warehouseCode) {
+        return NoteChangeEvent.of(NoteChangeEvent.SHIPPING, noteId, "OUT-" + noteId, warehouseCode, "PENDING",
+                "IN_PROGRESS", false, List.of(new NoteChangeEvent.LineChange(noteId * 10, "READY", 3)));
+    }
+
+    /** 전송은 별도 스레드에서 하므로 응답 본문에 나타날 때까지 기다린다 */
+    private static String await(MvcResult result, Predicate<String> done) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = result.getResponse().getContentAsString();
+        while (!done.test(body) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        assertThat(done.test(body)).as(body).isTrue();
+        return body;
+    }
+
+    private static long firstId(String body) {
+        Matcher m = ID.matcher(body);
+        assertThat(m.find()).as(body).isTrue();
+        return Long.parseLong(m.group(1));
+    }
+}
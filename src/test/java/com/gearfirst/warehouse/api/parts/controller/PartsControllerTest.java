@@ -16,6 +16,7 @@ import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.CreateCategoryRequest;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.CategoryRef;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.CreatePartRequest;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartDetailResponse;
+import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSuggestItem;
 import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSummaryResponse;
 import com.gearfirst.warehouse.api.parts.service.PartCategoryService;
 import com.gearfirst.warehouse.api.parts.service.PartQueryService;
@@ -168,6 +169,23 @@ class PartsControllerTest {
                 .andExpect(jsonPath("$.data.items[0].carModels", hasSize(2)));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/parts/suggest - limit은 1..50으로 보정되어 전달된다")
+    void suggest_clampsLimit() throws Exception {
+        when(partQueryService.suggest("브레", 50))
+                .thenReturn(List.of(new PartSuggestItem(1L, "P-1001", "브레이크 패드")));
+
+        mockMvc.perform(get("/api/v1/parts/suggest")
+                        .param("prefix", "브레")
+                        .param("limit", "500")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.status", is(SuccessStatus.SEND_PART_SUGGEST_SUCCESS.getStatusCode())))
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].code", is("P-1001")));
+    }
+
     @Test
     @DisplayName("DELETE /api/v1/parts/{id} - 삭제 성공(soft)")
     void deletePart_success() throws Exception {
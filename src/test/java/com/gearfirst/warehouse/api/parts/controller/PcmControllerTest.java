@@ -8,6 +8,7 @@ import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSummaryResponse;
 import com.gearfirst.warehouse.api.parts.persistence.CarModelJpaRepository;
 import com.gearfirst.warehouse.api.parts.persistence.PartCarModelJpaRepository;
 import com.gearfirst.warehouse.api.parts.service.PartCarModelService;
+import com.gearfirst.warehouse.common.response.PageEnvelope;
 import com.gearfirst.warehouse.common.response.SuccessStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -64,9 +65,11 @@ class PcmControllerTest {
     @Test
     @DisplayName("GET /api/v1/car-models/{carModelId}/parts - 목록 성공(PageEnvelope)")
     void listPartsByCarModel_success() throws Exception {
-        when(pcmService.listPartsByCarModel(anyLong(), any(), any(), any())).thenReturn(List.of(
-                new PartSummaryResponse(1001L, "P-1001", "오일필터", new CategoryRef(10L, "Filter"))
-        ));
+        when(pcmService.pagePartsByCarModel(anyLong(), any(), any(), any(), anyInt(), anyInt())).thenReturn(
+                PageEnvelope.of(List.of(
+                        new PartSummaryResponse(1001L, "P-1001", "오일필터", new CategoryRef(10L, "Filter"))
+                ), 0, 20, 1)
+        );
 
         mockMvc.perform(get("/api/v1/car-models/{carModelId}/parts", 501L).accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
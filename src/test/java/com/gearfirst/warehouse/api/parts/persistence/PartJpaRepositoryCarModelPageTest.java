@@ -0,0 +1,104 @@
+package com.gearfirst.warehouse.api.parts.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gearfirst.warehouse.api.parts.persistence.entity.CarModelEntity;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartCarModelEntity;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartCategoryEntity;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
+import com.gearfirst.warehouse.common.metrics.JdbcMetricsConfig;
+import com.gearfirst.warehouse.support.StatementBudget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 호환성 인덱스를 쓸 수 없을 때(미준비 또는 id 집합이 IN 상한 초과)의 차종별 부품 페이지 조회.
+ * id 목록 없이 매핑 서브쿼리로 DB에서 페이지를 자른다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JdbcMetricsConfig.class)
+@StatementBudget(select = 2) // 내용 + count
+class PartJpaRepositoryCarModelPageTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    PartJpaRepository partRepo;
+
+    private Long carModelId;
+    private Long filterId;
+    private Long brakeId;
+
+    private final PageRequest firstPage = PageRequest.of(0, 2,
+            Sort.by(Sort.Order.asc("name").ignoreCase(), Sort.Order.asc("code").ignoreCase()));
+
+    @BeforeEach
+    void setUp() {
+        var filter = PartCategoryEntity.builder().name("PageFilter").enabled(true).build();
+        var brake = PartCategoryEntity.builder().name("PageBrake").enabled(true).build();
+        em.persist(filter);
+        em.persist(brake);
+        filterId = filter.getId();
+        brakeId = brake.getId();
+
+        var model = CarModelEntity.builder().name("PageModel").enabled(true).build();
+        var other = CarModelEntity.builder().name("OtherModel").enabled(true).build();
+        em.persist(model);
+        em.persist(other);
+        carModelId = model.getId();
+
+        var a = part("PG-A", "에어필터", filterId, true);
+        var b = part("PG-B", "오일필터", filterId, true);
+        var c = part("PG-C", "브레이크패드", brakeId, true);
+        var disabled = part("PG-D", "단종필터", filterId, false);
+        var unmapped = part("PG-E", "다른차종필터", filterId, true);
+        map(a, model, true);
+        map(b, model, true);
+        map(c, model, true);
+        map(disabled, model, true);
+        map(unmapped, other, true);
+        var mappingOff = part("PG-F", "매핑해제필터", filterId, true);
+        map(mappingOff, model, false);
+        em.flush();
+        em.clear();
+    }
+
+    private PartEntity part(String code, String name, Long categoryId, boolean enabled) {
+        var p = PartEntity.builder().code(code).name(name).price(1000).categoryId(categoryId).enabled(enabled)
+                .build();
+        em.persist(p);
+        return p;
+    }
+
+    private void map(PartEntity p, CarModelEntity m, boolean enabled) {
+        em.persist(PartCarModelEntity.builder().partId(p.getId()).carModelId(m.getId()).enabled(enabled).build());
+    }
+
+    @Test
+    @DisplayName("활성 매핑 + 활성 부품만, 이름/코드 정렬로 DB에서 페이지를 자르고 전체 건수를 센다")
+    void pagesEnabledMappedParts() {
+        var page = partRepo.pageEnabledByCarModel(carModelId, "", "", firstPage);
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(PartEntity::getCode).containsExactly("PG-C", "PG-A");
+    }
+
+    @Test
+    @DisplayName("카테고리/코드/이름 조건을 함께 적용한다")
+    void appliesCategoryAndTextFilters() {
+        var page = partRepo.pageEnabledByCarModelAndCategory(carModelId, filterId, "pg-", "오일", firstPage);
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).extracting(PartEntity::getCode).containsExactly("PG-B");
+    }
+}
@@ -7,6 +7,8 @@ import com.gearfirst.warehouse.api.parts.persistence.entity.CarModelEntity;
 import com.gearfirst.warehouse.api.parts.persistence.entity.PartCarModelEntity;
 import com.gearfirst.warehouse.api.parts.persistence.entity.PartCategoryEntity;
 import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
+import com.gearfirst.warehouse.common.metrics.JdbcMetricsConfig;
+import com.gearfirst.warehouse.support.StatementBudget;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +25,8 @@ import org.springframework.data.domain.Sort;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JdbcMetricsConfig.class)
+@StatementBudget(select = 3) // 내용 + 페이지 차종 일괄 조회 + count
 class PartQueryRepositoryTest {
 
     @Autowired
@@ -0,0 +1,79 @@
+package com.gearfirst.warehouse.api.parts.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.gearfirst.warehouse.api.parts.persistence.PartCarModelJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartCarModelEntity;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartEntity;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PartCompatibilityIndexTest {
+
+    private PartJpaRepository partRepo;
+    private PartCarModelJpaRepository pcmRepo;
+    private PartCompatibilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        partRepo = mock(PartJpaRepository.class);
+        pcmRepo = mock(PartCarModelJpaRepository.class);
+        when(partRepo.findByEnabledTrue()).thenReturn(List.of(
+                part(1L, 10L), part(2L, 10L), part(3L, 20L)
+        ));
+        when(pcmRepo.findByEnabledTrue()).thenReturn(List.of(
+                mapping(1L, 501L), mapping(2L, 501L), mapping(3L, 501L), mapping(3L, 502L)
+        ));
+        index = new PartCompatibilityIndex(partRepo, pcmRepo);
+        index.warmUp();
+    }
+
+    private PartEntity part(Long id, Long categoryId) {
+        return PartEntity.builder().id(id).code("P-" + id).name("부품" + id).price(1000)
+                .categoryId(categoryId).enabled(true).build();
+    }
+
+    private PartCarModelEntity mapping(Long partId, Long carModelId) {
+        return PartCarModelEntity.builder().partId(partId).carModelId(carModelId).enabled(true).build();
+    }
+
+    @Test
+    @DisplayName("차량 모델 ∩ 카테고리 교집합")
+    void partIds_andWithCategory() {
+        assertTrue(index.isReady());
+        assertEquals(List.of(1L, 2L, 3L), index.partIds(501L, null).orElseThrow());
+        assertEquals(List.of(1L, 2L), index.partIds(501L, 10L).orElseThrow());
+        assertEquals(List.of(3L), index.partIds(502L, 20L).orElseThrow());
+        assertTrue(index.partIds(502L, 10L).orElseThrow().isEmpty());
+        assertTrue(index.partIds(999L, null).orElseThrow().isEmpty());
+    }
+
+    @Test
+    @DisplayName("매핑/부품 변경 이벤트로 증분 갱신 (비활성 부품 제외, 카테고리 이동)")
+    void incrementalUpdates() {
+        index.onMappingChanged(new PartCarModelChangedEvent(1L, 501L, false));
+        assertEquals(List.of(2L, 3L), index.partIds(501L, null).orElseThrow());
+
+        index.onPartChanged(new PartChangedEvent(2L, "P-2", "부품2", 20L, true));
+        assertEquals(List.of(2L, 3L), index.partIds(501L, 20L).orElseThrow());
+        assertTrue(index.partIds(501L, 10L).orElseThrow().isEmpty());
+
+        index.onPartChanged(new PartChangedEvent(3L, "P-3", "부품3", 20L, false));
+        assertEquals(List.of(2L), index.partIds(501L, null).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 id는 인덱스를 not-ready로 두어 DB 경로로 폴백시킨다")
+    void outOfRangeId_disablesIndex() {
+        index.onMappingChanged(new PartCarModelChangedEvent((long) Integer.MAX_VALUE + 1, 501L, true));
+        assertFalse(index.isReady());
+        assertTrue(index.partIds(501L, null).isEmpty());
+    }
+}
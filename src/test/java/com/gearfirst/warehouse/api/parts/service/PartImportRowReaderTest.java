@@ -0,0 +1,84 @@
+package com.gearfirst.warehouse.api.parts.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.parts.service.PartImportRowReader.Format;
+import com.gearfirst.warehouse.common.exception.BadRequestException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PartImportRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PartImportRowReader reader(String body, Format format) throws Exception {
+        return new PartImportRowReader(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format,
+                objectMapper);
+    }
+
+    @Test
+    @DisplayName("CSV: 헤더 순서/대소문자 무관, 인용 필드의 쉼표/따옴표 처리, 빈 줄 건너뜀")
+    void csv_parsesRows() throws Exception {
+        String body = "\uFEFFName,CODE,price,category_name\n"
+                + "\"오일 필터, 대형\",P-1,12000,필터\n"
+                + "\n"
+                + "\"He said \"\"hi\"\"\",P-2,0,필터\n";
+        try (var r = reader(body, Format.CSV)) {
+            var first = r.next();
+            assertEquals(2, first.line());
+            assertEquals("오일 필터, 대형", first.row().name());
+            assertEquals("P-1", first.row().code());
+            assertEquals(12000, first.row().price());
+            assertEquals("필터", first.row().categoryName());
+
+            var second = r.next();
+            assertEquals(4, second.line());
+            assertEquals("He said \"hi\"", second.row().name());
+            assertNull(r.next());
+        }
+    }
+
+    @Test
+    @DisplayName("CSV: 숫자 오류/닫히지 않은 인용은 행 오류로 보고된다")
+    void csv_rowErrors() throws Exception {
+        String body = "code,name,price,categoryId\nP-1,필터,abc,1\nP-2,\"필터,1,1\n";
+        try (var r = reader(body, Format.CSV)) {
+            assertNotNull(r.next().error());
+            assertNotNull(r.next().error());
+        }
+    }
+
+    @Test
+    @DisplayName("CSV: 필수 헤더가 없으면 400")
+    void csv_missingHeader() {
+        assertThrows(BadRequestException.class, () -> reader("code,name\nP-1,필터\n", Format.CSV));
+    }
+
+    @Test
+    @DisplayName("NDJSON: 줄 단위 파싱, 잘못된 JSON은 행 오류")
+    void ndjson_parsesRows() throws Exception {
+        String body = "{\"code\":\"P-1\",\"name\":\"에어 필터\",\"price\":9000,\"categoryId\":1}\n{oops\n";
+        try (var r = reader(body, Format.NDJSON)) {
+            var first = r.next();
+            assertEquals("P-1", first.row().code());
+            assertEquals(1L, first.row().categoryId());
+            assertNotNull(r.next().error());
+            assertNull(r.next());
+        }
+    }
+
+    @Test
+    @DisplayName("형식 판별: format 파라미터 > Content-Type > 확장자")
+    void resolveFormat() {
+        assertEquals(Format.CSV, Format.resolve(null, "text/csv; charset=UTF-8", null));
+        assertEquals(Format.NDJSON, Format.resolve(null, "application/octet-stream", "parts.jsonl"));
+        assertEquals(Format.NDJSON, Format.resolve("ndjson", "text/csv", null));
+        assertThrows(BadRequestException.class, () -> Format.resolve(null, "application/json", "a.json"));
+    }
+}
@@ -1,88 +1,114 @@
-//package com.gearfirst.warehouse.api.parts.service;
-//
-//import com.gearfirst.warehouse.api.parts.dto.PartDtos.CreatePartRequest;
-//import com.gearfirst.warehouse.api.parts.dto.PartDtos.UpdatePartRequest;
-//import com.gearfirst.warehouse.common.exception.ConflictException;
-//import com.gearfirst.warehouse.common.exception.NotFoundException;
-//import org.junit.jupiter.api.BeforeEach;
-//import org.junit.jupiter.api.DisplayName;
-//import org.junit.jupiter.api.Test;
-//import org.springframework.beans.factory.annotation.Autowired;
-//import org.springframework.boot.test.context.SpringBootTest;
-//import org.springframework.boot.test.mock.mockito.MockBean;
-//import org.springframework.transaction.annotation.Transactional;
-//import org.mockito.Mockito;
-//
-//import static org.junit.jupiter.api.Assertions.*;
-//
-//@SpringBootTest
-////@ActiveProfiles("test-h2")
-//@Transactional
-//class PartServiceImplTest {
-//
-//    @Autowired
-//    private PartService partService;
-//
-//    @Autowired
-//    private PartCategoryService categoryService;
-//
-//    @MockBean
-//    private PartCarModelReader partCarModelReader;
-//
-//    private Long categoryId;
-//
-//    @BeforeEach
-//    void setUp() {
-//        var cat = categoryService.create(new com.gearfirst.warehouse.api.parts.dto.CategoryDtos.CreateCategoryRequest("Filter", "Oil/Air"));
-//        categoryId = cat.id();
-//    }
-//
-//    @Test
-//    @DisplayName("create: 카테고리 미존재 시 404")
-//    void create_notFound_category() {
-//        assertThrows(NotFoundException.class, () -> partService.create(new CreatePartRequest("P-1001", "오일필터", 12000, 9999L, null)));
-//    }
-//
-//    @Test
-//    @DisplayName("create: 정상 생성 후 상세 조회 성공")
-//    void create_then_get_success() {
-//        var detail = partService.create(new CreatePartRequest("P-1001", "오일필터", 12000, categoryId, null));
-//        assertNotNull(detail.id());
-//        var loaded = partService.get(detail.id());
-//        assertEquals("P-1001", loaded.code());
-//        assertEquals("Filter", loaded.category().name());
-//    }
-//
-//    @Test
-//    @DisplayName("create: 코드 중복 시 409")
-//    void create_conflict_duplicateCode() {
-//        partService.create(new CreatePartRequest("P-1002", "에어필터", 8000, categoryId, null));
-//        assertThrows(ConflictException.class, () -> partService.create(new CreatePartRequest("P-1002", "오일필터", 12000, categoryId, null)));
-//    }
-//
-//    @Test
-//    @DisplayName("update: 코드 변경 시 중복이면 409")
-//    void update_conflict_duplicateCodeOnChange() {
-//        var a = partService.create(new CreatePartRequest("P-A", "AA", 1000, categoryId, null));
-//        var b = partService.create(new CreatePartRequest("P-B", "BB", 2000, categoryId, null));
-//        assertThrows(ConflictException.class, () -> partService.update(b.id(), new UpdatePartRequest("P-A", "BB2", 2100, categoryId, null, true)));
-//    }
-//
-//    @Test
-//    @DisplayName("delete: soft delete(enabled=false) 적용")
-//    void delete_soft() {
-//        var p = partService.create(new CreatePartRequest("P-DEL", "삭제테스트", 1000, categoryId, null));
-//        partService.delete(p.id());
-//        var loaded = partService.get(p.id());
-//        assertFalse(loaded.enabled());
-//    }
-//
-//    @Test
-//    @DisplayName("delete: PCM 매핑 존재하면 409 Conflict")
-//    void delete_guard_whenPartHasMappings() {
-//        var p = partService.create(new CreatePartRequest("P-GUARD", "가드테스트", 1000, categoryId, null));
-//        // simulate existing mappings
-//        Mockito.when(partCarModelReader.countByPartId(p.id())).thenReturn(1L);
-//        assertThrows(ConflictException.class, () -> partService.delete(p.id()));
-//    }
-//}
+package com.gearfirst.warehouse.api.parts.service;
+
+import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.CreateCategoryRequest;
+import com.gearfirst.warehouse.api.parts.dto.PartDtos.CreatePartRequest;
+import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSummaryResponse;
+import com.gearfirst.warehouse.api.parts.dto.PartDtos.UpdatePartRequest;
+import com.gearfirst.warehouse.common.exception.ConflictException;
+import com.gearfirst.warehouse.common.exception.NotFoundException;
+import com.gearfirst.warehouse.support.StatementBudget;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+//@ActiveProfiles("test-h2")
+@Transactional
+class PartServiceImplTest {
+
+    @Autowired
+    private PartService partService;
+
+    @Autowired
+    private PartCategoryService categoryService;
+
+    @MockBean
+    private PartCarModelReader partCarModelReader;
+
+    private Long categoryId;
+    private Long oilFilterId;
+
+    @BeforeEach
+    void setUp() {
+        // 시드는 @BeforeEach에서: @StatementBudget은 테스트 본문만 센다
+        categoryId = categoryService.create(new CreateCategoryRequest("PS-Filter", "Oil/Air")).id();
+        Long brakeCategoryId = categoryService.create(new CreateCategoryRequest("PS-Brake", "Pad")).id();
+        partService.create(new CreatePartRequest("PS-1", "에어필터", 8000, categoryId, null, null));
+        oilFilterId = partService.create(new CreatePartRequest("PS-2", "오일필터", 12000, categoryId, null, null)).id();
+        partService.create(new CreatePartRequest("PS-3", "브레이크패드", 56000, brakeCategoryId, null, null));
+        partService.create(new CreatePartRequest("PS-4", "브레이크디스크", 90000, brakeCategoryId, null, null));
+    }
+
+    @Test
+    @DisplayName("list: 카테고리 이름은 페이지 단위 일괄 조회 (내용 + count + 카테고리 1회, 행 수와 무관)")
+    @StatementBudget(select = 3)
+    void list_loadsCategoryNamesInOneBatch() {
+        var page = partService.list("PS-", null, null, 0, 20, null);
+
+        assertEquals(4, page.total());
+        assertEquals(List.of("PS-4", "PS-3", "PS-1", "PS-2"),
+                page.items().stream().map(PartSummaryResponse::code).toList());
+        assertEquals(List.of("PS-Brake", "PS-Brake", "PS-Filter", "PS-Filter"),
+                page.items().stream().map(i -> i.category().name()).toList());
+    }
+
+    @Test
+    @DisplayName("get: 부품 1회 + 카테고리 이름 1회")
+    @StatementBudget(select = 2)
+    void get_loadsCategoryNameOnce() {
+        var loaded = partService.get(oilFilterId);
+
+        assertEquals("PS-2", loaded.code());
+        assertEquals("PS-Filter", loaded.category().name());
+    }
+
+    @Test
+    @DisplayName("create: 카테고리 미존재 시 404")
+    void create_notFound_category() {
+        assertThrows(NotFoundException.class,
+                () -> partService.create(new CreatePartRequest("PS-1001", "오일필터", 12000, 999_999L, null, null)));
+    }
+
+    @Test
+    @DisplayName("create: 코드 중복 시 409")
+    void create_conflict_duplicateCode() {
+        partService.create(new CreatePartRequest("PS-1002", "에어필터", 8000, categoryId, null, null));
+        assertThrows(ConflictException.class,
+                () -> partService.create(new CreatePartRequest("PS-1002", "오일필터", 12000, categoryId, null, null)));
+    }
+
+    @Test
+    @DisplayName("update: 코드 변경 시 중복이면 409")
+    void update_conflict_duplicateCodeOnChange() {
+        partService.create(new CreatePartRequest("PS-A", "AA", 1000, categoryId, null, null));
+        var b = partService.create(new CreatePartRequest("PS-B", "BB", 2000, categoryId, null, null));
+        assertThrows(ConflictException.class, () -> partService.update(b.id(),
+                new UpdatePartRequest("PS-A", "BB2", 2100, categoryId, null, true, null)));
+    }
+
+    @Test
+    @DisplayName("delete: soft delete(enabled=false) 적용")
+    void delete_soft() {
+        var p = partService.create(new CreatePartRequest("PS-DEL", "삭제테스트", 1000, categoryId, null, null));
+        partService.delete(p.id());
+        var loaded = partService.get(p.id());
+        assertFalse(loaded.enabled());
+    }
+
+    @Test
+    @DisplayName("delete: PCM 매핑 존재하면 409 Conflict")
+    void delete_guard_whenPartHasMappings() {
+        var p = partService.create(new CreatePartRequest("PS-GUARD", "가드테스트", 1000, categoryId, null, null));
+        // simulate existing mappings
+        Mockito.when(partCarModelReader.countByPartId(p.id())).thenReturn(1L);
+        assertThrows(ConflictException.class, () -> partService.delete(p.id()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.gearfirst.warehouse.api.parts.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gearfirst.warehouse.api.parts.dto.PartDtos.PartSuggestItem;
+import com.gearfirst.warehouse.api.parts.persistence.PartJpaRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class PartSuggestIndexTest {
+
+    private PartSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PartSuggestIndex(Mockito.mock(PartJpaRepository.class));
+        index.put(1L, "BRK-001", "브레이크 패드");
+        index.put(2L, "BRK-002", "브레이크 디스크");
+        index.put(3L, "OIL-001", "엔진오일 필터");
+        index.put(4L, "AIR-001", "에어 필터");
+    }
+
+    private List<Long> ids(List<PartSuggestItem> items) {
+        return items.stream().map(PartSuggestItem::id).toList();
+    }
+
+    @Test
+    @DisplayName("code 접두어는 대소문자 무시, 사전순으로 limit까지 반환")
+    void suggest_byCodePrefix() {
+        assertEquals(List.of(1L, 2L), ids(index.suggest("brk", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("BRK", 1)));
+    }
+
+    @Test
+    @DisplayName("name 접두어: 완성 음절, 조합 중 입력, 두 번째 단어 시작 모두 매칭")
+    void suggest_byNamePrefix_hangulAware() {
+        assertEquals(2, index.suggest("브레이크", 10).size());
+        // IME 조합 중 입력: '브레잌' (브레이크의 자모 접두어)
+        assertEquals(2, index.suggest("브레잌", 10).size());
+        // 단어 시작: '필터' → 엔진오일 필터, 에어 필터
+        assertTrue(ids(index.suggest("필터", 10)).containsAll(List.of(3L, 4L)));
+    }
+
+    @Test
+    @DisplayName("초성 검색: ㅂㄹㅇㅋ → 브레이크 계열")
+    void suggest_byInitials() {
+        assertEquals(List.of(2L, 1L), ids(index.suggest("ㅂㄹㅇㅋ", 10)));
+    }
+
+    @Test
+    @DisplayName("remove/재등록 시 이전 키가 남지 않는다")
+    void put_replacesKeys_andRemoveDrops() {
+        index.put(1L, "PAD-001", "패드");
+        assertEquals(List.of(2L), ids(index.suggest("brk", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("pad", 10)));
+
+        index.onPartChanged(new PartChangedEvent(2L, "BRK-002", "브레이크 디스크", 10L, false));
+        assertTrue(index.suggest("brk", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("빈 접두어는 빈 결과")
+    void suggest_blank() {
+        assertTrue(index.suggest("  ", 10).isEmpty());
+        assertTrue(index.suggest(null, 10).isEmpty());
+    }
+}
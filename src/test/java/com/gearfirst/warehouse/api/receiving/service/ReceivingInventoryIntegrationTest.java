@@ -14,6 +14,7 @@ import com.gearfirst.warehouse.api.receiving.persistence.ReceivingNoteJpaReposit
 import com.gearfirst.warehouse.api.receiving.persistence.entity.ReceivingNoteEntity;
 import com.gearfirst.warehouse.api.receiving.persistence.entity.ReceivingNoteLineEntity;
 import com.gearfirst.warehouse.common.exception.ConflictException;
+import com.gearfirst.warehouse.support.StatementBudget;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import org.junit.jupiter.api.BeforeEach;
@@ -76,6 +77,8 @@ class ReceivingInventoryIntegrationTest {
 
     @Test
     @DisplayName("complete: ACCEPTED 라인 합만큼 WHPG 버킷이 증가하고 lastUpdatedAt이 설정된다")
+    // complete: 헤더 + 라인 + ACCEPTED 라인별 재고 버킷 조회 2 = 4, 검증 조회 3
+    @StatementBudget(select = 7)
     void complete_increasesInventoryBuckets() {
         var resp = service.complete(noteId, ReceivingCompleteRequest.builder().inspectorName("WAREHOUSE").inspectorDept("DEFAULT").inspectorPhone("N/A").build());
         assertNotNull(resp.completedAt());
@@ -14,6 +14,7 @@ import com.gearfirst.warehouse.api.receiving.persistence.entity.ReceivingNoteLin
 import com.gearfirst.warehouse.common.exception.BadRequestException;
 import com.gearfirst.warehouse.common.exception.ConflictException;
 import com.gearfirst.warehouse.common.exception.NotFoundException;
+import com.gearfirst.warehouse.support.StatementBudget;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 @SpringBootTest
 //@ActiveProfiles("test-h2")
 @Transactional
+// 전표 1건 조회 = 헤더 + 라인 2회. 라인 수에 비례해 늘어나면 실패
+@StatementBudget(select = 2)
 class ReceivingServiceImplTest {
 
     @Autowired
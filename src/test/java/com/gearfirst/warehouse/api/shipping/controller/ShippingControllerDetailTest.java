@@ -2,6 +2,7 @@ package com.gearfirst.warehouse.api.shipping.controller;
 
 import com.gearfirst.warehouse.api.shipping.ShippingController;
 import com.gearfirst.warehouse.api.shipping.dto.*;
+import com.gearfirst.warehouse.common.exception.NotFoundException;
 import com.gearfirst.warehouse.common.response.SuccessStatus;
 import com.gearfirst.warehouse.api.shipping.service.ShippingService;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,8 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -53,4 +56,40 @@ class ShippingControllerDetailTest {
                 .andExpect(jsonPath("$.data.lines", hasSize(1)))
                 .andExpect(jsonPath("$.data.lines[0].status", is("READY")));
     }
+
+    @Test
+    @DisplayName("GET /api/v1/shipping/{noteId} - ETag 일치 시 304, 상세 로드 없음")
+    void getDetail_notModified_whenETagMatches() throws Exception {
+        var detail = new ShippingNoteDetailResponse(3002L, "ACME", 0, 0, "PENDING", null,
+                null, null, null, null, null, null, null, null, null, null, List.of());
+        when(shippingService.getDetailVersion(3002L)).thenReturn("v1");
+        when(shippingService.getDetail(3002L)).thenReturn(detail);
+
+        String etag = mockMvc.perform(get("/api/v1/shipping/{id}", 3002L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/\"")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/shipping/{id}", 3002L).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        verify(shippingService, times(1)).getDetail(3002L);
+
+        // 버전이 바뀌면 다시 200
+        when(shippingService.getDetailVersion(3002L)).thenReturn("v2");
+        mockMvc.perform(get("/api/v1/shipping/{id}", 3002L).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/shipping/{noteId} - 버전 없음(전표 없음 등)이면 ETag 없이 평소대로 처리")
+    void getDetail_noVersion_skipsConditional() throws Exception {
+        when(shippingService.getDetail(3003L)).thenThrow(new NotFoundException("Shipping note not found: 3003"));
+
+        mockMvc.perform(get("/api/v1/shipping/{id}", 3003L).header("If-None-Match", "*"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("ETag"));
+    }
 }
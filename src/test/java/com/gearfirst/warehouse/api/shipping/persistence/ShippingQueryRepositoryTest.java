@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.gearfirst.warehouse.api.shipping.dto.ShippingNoteSummary;
 import com.gearfirst.warehouse.api.shipping.dto.ShippingSearchCond;
+import com.gearfirst.warehouse.common.metrics.JdbcMetricsConfig;
+import com.gearfirst.warehouse.support.StatementBudget;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
@@ -11,11 +13,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JdbcMetricsConfig.class)
+@StatementBudget(select = 2) // 내용 + count
 class ShippingQueryRepositoryTest {
 
     @Autowired
@@ -0,0 +1,46 @@
+package com.gearfirst.warehouse.api.shipping.service;
+
+import com.gearfirst.warehouse.api.inventory.dto.AtpDtos.AtpItem;
+import com.gearfirst.warehouse.api.inventory.service.AtpService;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단위 테스트용 ATP. on-hand는 OnHandProvider에서 읽고, 미출고 수요는 adjustOpenDemand 누적으로 유지한다 (단일 창고).
+ */
+final class InMemoryAtpService implements AtpService {
+
+    private final OnHandProvider onHandProvider;
+    private final Map<Long, Integer> demand = new HashMap<>();
+
+    InMemoryAtpService(OnHandProvider onHandProvider) {
+        this.onHandProvider = onHandProvider;
+    }
+
+    int demand(Long partId) {
+        return demand.getOrDefault(partId, 0);
+    }
+
+    @Override
+    public List<AtpItem> getAtp(String warehouseCode, Collection<Long> partIds) {
+        return List.copyOf(getAtpByPart(warehouseCode, partIds).values());
+    }
+
+    @Override
+    public Map<Long, AtpItem> getAtpByPart(String warehouseCode, Collection<Long> partIds) {
+        Map<Long, AtpItem> out = new LinkedHashMap<>();
+        for (Long id : partIds) {
+            int onHand = onHandProvider.getOnHandQty(warehouseCode, id);
+            out.put(id, new AtpItem(warehouseCode, id, onHand, demand(id), onHand - demand(id)));
+        }
+        return out;
+    }
+
+    @Override
+    public void adjustOpenDemand(String warehouseCode, Map<Long, Integer> deltaByPart) {
+        deltaByPart.forEach((id, d) -> demand.merge(id, d, Integer::sum));
+    }
+}
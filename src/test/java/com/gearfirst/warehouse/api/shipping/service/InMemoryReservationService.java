@@ -0,0 +1,70 @@
+package com.gearfirst.warehouse.api.shipping.service;
+
+import com.gearfirst.warehouse.api.inventory.service.ReservationService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 단위 테스트용 예약. 가용량 = on-hand(OnHandProvider) − 같은 (창고, 부품)의 다른 라인 예약 합계.
+ * 트랜잭션/만료 없이 ReservationServiceImpl의 판정만 흉내 낸다.
+ */
+final class InMemoryReservationService implements ReservationService {
+
+    private record LineKey(Long noteId, Long lineId) {
+    }
+
+    private record Hold(String warehouseCode, Long partId, int qty) {
+    }
+
+    private final OnHandProvider onHandProvider;
+    private final Map<LineKey, Hold> held = new LinkedHashMap<>();
+
+    InMemoryReservationService(OnHandProvider onHandProvider) {
+        this.onHandProvider = onHandProvider;
+    }
+
+    boolean isHeld(Long noteId, Long lineId) {
+        return held.containsKey(new LineKey(noteId, lineId));
+    }
+
+    @Override
+    public boolean reserve(String warehouseCode, Long partId, Long noteId, Long lineId, int qty) {
+        if (qty <= 0 || partId == null || noteId == null || lineId == null) {
+            return true;
+        }
+        var key = new LineKey(noteId, lineId);
+        if (held.containsKey(key)) {
+            return true;
+        }
+        int others = held.values().stream()
+                .filter(h -> Objects.equals(h.warehouseCode(), warehouseCode) && partId.equals(h.partId()))
+                .mapToInt(Hold::qty)
+                .sum();
+        if (onHandProvider.getOnHandQty(warehouseCode, partId) - others < qty) {
+            return false;
+        }
+        held.put(key, new Hold(warehouseCode, partId, qty));
+        return true;
+    }
+
+    @Override
+    public void releaseLine(Long noteId, Long lineId) {
+        held.remove(new LineKey(noteId, lineId));
+    }
+
+    @Override
+    public void releaseNote(Long noteId) {
+        held.keySet().removeIf(k -> Objects.equals(k.noteId(), noteId));
+    }
+
+    @Override
+    public void consumeNote(Long noteId) {
+        releaseNote(noteId);
+    }
+
+    @Override
+    public int releaseExpired() {
+        return 0;
+    }
+}
@@ -0,0 +1,146 @@
+package com.gearfirst.warehouse.api.shipping.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gearfirst.warehouse.api.inventory.persistence.InventoryOnHandJpaRepository;
+import com.gearfirst.warehouse.api.inventory.persistence.entity.InventoryOnHandEntity;
+import com.gearfirst.warehouse.api.shipping.domain.LineStatus;
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+import com.gearfirst.warehouse.api.shipping.persistence.ShippingNoteJpaRepository;
+import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingNoteEntity;
+import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingNoteLineEntity;
+import com.gearfirst.warehouse.common.exception.ConflictException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 같은 SKU에 대한 동시 출고 완료: 예약 검사로 가용량을 넘는 완료는 차감 전에 409로 끝나고, 재고는 음수가 되지 않는다.
+ * 각 완료가 자기 트랜잭션에서 커밋되어야 하므로 @Transactional 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+class ShippingCompleteConcurrencyTest {
+
+    private static final String WH = "WH-CONC";
+    private static final long PART = 7701L;
+    private static final int ON_HAND = 40;
+    private static final int NOTES = 64;
+
+    @Autowired
+    private ShippingService shippingService;
+
+    @Autowired
+    private ShippingNoteJpaRepository noteRepo;
+
+    @Autowired
+    private InventoryOnHandJpaRepository onHandRepo;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final List<Long> noteIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        onHandRepo.save(InventoryOnHandEntity.builder()
+                .warehouseCode(WH)
+                .partId(PART)
+                .onHandQty(ON_HAND)
+                .lastUpdatedAt(OffsetDateTime.now(ZoneOffset.UTC))
+                .build());
+        for (int i = 0; i < NOTES; i++) {
+            var note = ShippingNoteEntity.builder()
+                    .branchName("Concurrency")
+                    .warehouseCode(WH)
+                    .shippingNo("OUT-CONC-" + i)
+                    .itemKindsNumber(1)
+                    .totalQty(1)
+                    .status(NoteStatus.IN_PROGRESS)
+                    .requestedAt(OffsetDateTime.now(ZoneOffset.UTC))
+                    .assigneeName("WAREHOUSE")
+                    .build();
+            note.addLine(ShippingNoteLineEntity.builder()
+                    .productId(PART)
+                    .productCode("P-" + PART)
+                    .orderedQty(1)
+                    .pickedQty(1)
+                    .status(LineStatus.READY)
+                    .build());
+            noteIds.add(noteRepo.save(note).getNoteId());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("delete from inventory_reservation where warehouse_code = ?", WH);
+        jdbc.update("delete from shipping_note_line where note_id in "
+                + "(select note_id from shipping_note where warehouse_code = ?)", WH);
+        jdbc.update("delete from shipping_note where warehouse_code = ?", WH);
+        jdbc.update("delete from inventory_onhand where warehouse_code = ?", WH);
+        jdbc.update("delete from inventory_open_demand where warehouse_code = ?", WH);
+        jdbc.update("delete from daily_ops_rollup where warehouse_code = ?", WH);
+        jdbc.update("delete from outbox_event where payload like ?", "%" + WH + "%");
+        noteIds.clear();
+    }
+
+    @Test
+    @DisplayName("64건 동시 완료, 재고 40: 정확히 40건만 완료되고 초과 출고가 없다")
+    void parallelCompletes_neverOversell() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(NOTES);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (Long id : noteIds) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        shippingService.complete(id, null);
+                        completed.incrementAndGet();
+                    } catch (ConflictException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(ON_HAND, completed.get());
+        assertEquals(NOTES - ON_HAND, rejected.get());
+        Integer onHand = jdbc.queryForObject(
+                "select on_hand_qty from inventory_onhand where warehouse_code = ? and part_id = ?",
+                Integer.class, WH, PART);
+        assertEquals(0, onHand);
+        Integer consumed = jdbc.queryForObject(
+                "select count(*) from inventory_reservation where warehouse_code = ? and status = 'CONSUMED'",
+                Integer.class, WH);
+        assertEquals(ON_HAND, consumed);
+        Integer stillReserved = jdbc.queryForObject(
+                "select count(*) from inventory_reservation where warehouse_code = ? and status = 'RESERVED'",
+                Integer.class, WH);
+        assertTrue(stillReserved == 0, "rejected completes must not leave reservations behind");
+    }
+}
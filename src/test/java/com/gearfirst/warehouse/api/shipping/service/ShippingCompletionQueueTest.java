@@ -0,0 +1,100 @@
+package com.gearfirst.warehouse.api.shipping.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCompleteRequest;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCompletionStatusResponse;
+import com.gearfirst.warehouse.common.exception.ConflictException;
+import com.gearfirst.warehouse.common.exception.ServiceUnavailableException;
+import com.gearfirst.warehouse.common.response.ErrorStatus;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ShippingCompletionQueueTest {
+
+    private final ShippingService shippingService = Mockito.mock(ShippingService.class);
+    private ShippingCompletionQueue queue;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    private static ShippingCompletionStatusResponse status(long noteId, String status) {
+        return new ShippingCompletionStatusResponse(noteId, "WH-Q", status, "/api/v1/shipping/" + noteId + "/completion",
+                null, null, null, null);
+    }
+
+    private void acceptable(long... noteIds) {
+        for (long id : noteIds) {
+            when(shippingService.acceptComplete(eq(id), any())).thenReturn(status(id, "COMPLETING"));
+        }
+    }
+
+    @Test
+    @DisplayName("대기 건수가 max-pending에 도달하면 503, 처리되면 다시 접수된다")
+    void accept_rejectsWhenFull() throws Exception {
+        queue = new ShippingCompletionQueue(shippingService, 1, 10, 2, false);
+        acceptable(1L, 2L, 3L);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        }).when(shippingService).completeAccepted(anyList());
+        var req = ShippingCompleteRequest.builder().assigneeName("a").build();
+
+        queue.accept(1L, req);
+        queue.accept(2L, req);
+        assertThrows(ServiceUnavailableException.class, () -> queue.accept(3L, req));
+        verify(shippingService, never()).acceptComplete(eq(3L), any());
+
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queue.pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, queue.pendingCount());
+        queue.accept(3L, req);
+    }
+
+    @Test
+    @DisplayName("batch가 실패하면 전표별로 재시도하고 실패한 전표만 사유와 함께 되돌린다")
+    void batchFailure_fallsBackPerNote() {
+        queue = new ShippingCompletionQueue(shippingService, 1, 10, 100, true);
+        acceptable(11L, 12L);
+        // 12번이 포함된 묶음은 재고 부족으로 실패
+        doAnswer(inv -> {
+            List<Long> ids = inv.getArgument(0);
+            if (ids.contains(12L)) {
+                throw new ConflictException(ErrorStatus.CONFLICT_INVENTORY_INSUFFICIENT);
+            }
+            return ids.size();
+        }).when(shippingService).completeAccepted(anyList());
+        var req = ShippingCompleteRequest.builder().assigneeName("a").build();
+
+        queue.accept(11L, req);
+        queue.accept(12L, req);
+
+        verify(shippingService, timeout(5000)).failAccepted(eq(12L),
+                contains(ErrorStatus.CONFLICT_INVENTORY_INSUFFICIENT.getMessage()));
+        verify(shippingService, timeout(5000)).completeAccepted(List.of(11L));
+        verify(shippingService, never()).failAccepted(eq(11L), any());
+    }
+}
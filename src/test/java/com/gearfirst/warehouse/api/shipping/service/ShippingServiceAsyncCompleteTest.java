@@ -0,0 +1,135 @@
+package com.gearfirst.warehouse.api.shipping.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.gearfirst.warehouse.api.inventory.service.InventoryService;
+import com.gearfirst.warehouse.api.shipping.domain.LineStatus;
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+import com.gearfirst.warehouse.api.shipping.domain.ShippingNote;
+import com.gearfirst.warehouse.api.shipping.domain.ShippingNoteLine;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCompleteRequest;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingUpdateLineRequest;
+import com.gearfirst.warehouse.api.shipping.repository.InMemoryShippingNoteRepository;
+import com.gearfirst.warehouse.common.exception.ConflictException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.kafka.core.KafkaTemplate;
+
+class ShippingServiceAsyncCompleteTest {
+
+    private static final String WH = "WH-ASYNC";
+
+    private InMemoryShippingNoteRepository repo;
+    private InventoryService inventory;
+    private ShippingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repo = new InMemoryShippingNoteRepository();
+        inventory = Mockito.mock(InventoryService.class);
+        OnHandProvider provider = (wh, productId) -> 100;
+        KafkaTemplate<String, Object> kafka = Mockito.mock(KafkaTemplate.class);
+        service = new ShippingServiceImpl(repo, provider, inventory, null, null, kafka,
+                new InMemoryAtpService(provider), new InMemoryReservationService(provider));
+    }
+
+    private void seed(long noteId, long productId, int qty) {
+        repo.save(ShippingNote.builder()
+                .noteId(noteId)
+                .branchName("ASYNC")
+                .itemKindsNumber(1)
+                .totalQty(qty)
+                .warehouseCode(WH)
+                .assigneeName("WAREHOUSE")
+                .status(NoteStatus.IN_PROGRESS)
+                .lines(List.of(ShippingNoteLine.builder()
+                        .lineId(1L)
+                        .productId(productId)
+                        .orderedQty(qty)
+                        .pickedQty(qty)
+                        .status(LineStatus.READY)
+                        .build()))
+                .build());
+    }
+
+    private static ShippingCompleteRequest handler() {
+        return ShippingCompleteRequest.builder().assigneeName("김담당").assigneeDept("물류팀").assigneePhone("010").build();
+    }
+
+    @Test
+    @DisplayName("acceptComplete: COMPLETING으로 접수만 하고 재고는 차감하지 않는다. 재접수/라인 수정은 409")
+    void accept_marksCompletingWithoutDecrease() {
+        seed(9401L, 9951L, 3);
+
+        var accepted = service.acceptComplete(9401L, handler());
+
+        assertEquals("COMPLETING", accepted.status());
+        assertEquals(WH, accepted.warehouseCode());
+        assertEquals("/api/v1/shipping/9401/completion", accepted.statusUrl());
+        assertEquals(NoteStatus.COMPLETING, repo.findById(9401L).orElseThrow().getStatus());
+        assertEquals("김담당", repo.findById(9401L).orElseThrow().getAssigneeName());
+        verify(inventory, never()).decrease(anyString(), anyLong(), anyInt());
+
+        assertThrows(ConflictException.class, () -> service.acceptComplete(9401L, handler()));
+        assertThrows(ConflictException.class, () -> service.complete(9401L, handler()));
+        assertThrows(ConflictException.class,
+                () -> service.updateLine(9401L, 1L, new ShippingUpdateLineRequest(1)));
+    }
+
+    @Test
+    @DisplayName("completeAccepted: 같은 부품은 합산해 한 번만 차감하고 모두 COMPLETED로 전이, 이미 처리된 전표는 건너뛴다")
+    void completeAccepted_aggregatesDecreases() {
+        seed(9402L, 9952L, 2);
+        seed(9403L, 9952L, 5);
+        service.acceptComplete(9402L, handler());
+        service.acceptComplete(9403L, handler());
+
+        int done = service.completeAccepted(List.of(9402L, 9403L));
+
+        assertEquals(2, done);
+        verify(inventory, times(1)).decrease(eq(WH), eq(9952L), eq(7));
+        var status = service.getCompletionStatus(9403L);
+        assertEquals("COMPLETED", status.status());
+        assertNotNull(status.completedAt());
+        assertEquals(5, status.totalShippedQty());
+
+        assertEquals(0, service.completeAccepted(List.of(9402L, 9403L)));
+        verify(inventory, times(1)).decrease(eq(WH), eq(9952L), anyInt());
+    }
+
+    @Test
+    @DisplayName("failAccepted: COMPLETING 전표를 IN_PROGRESS로 되돌리고 사유를 남긴다. 다시 접수하면 사유가 지워진다")
+    void failAccepted_revertsToInProgress() {
+        seed(9404L, 9953L, 1);
+        service.acceptComplete(9404L, handler());
+
+        service.failAccepted(9404L, "재고 부족");
+
+        assertEquals(NoteStatus.IN_PROGRESS, repo.findById(9404L).orElseThrow().getStatus());
+        var failed = service.getCompletionStatus(9404L);
+        assertEquals("FAILED", failed.status());
+        assertEquals("재고 부족", failed.error());
+        assertNotNull(failed.failedAt());
+
+        assertEquals("COMPLETING", service.acceptComplete(9404L, handler()).status());
+        service.failAccepted(9404L, "다시 실패");
+        assertEquals("다시 실패", service.getCompletionStatus(9404L).error());
+
+        service.acceptComplete(9404L, handler());
+        assertEquals("COMPLETING", service.getCompletionStatus(9404L).status());
+        assertNull(service.getCompletionStatus(9404L).error());
+    }
+}
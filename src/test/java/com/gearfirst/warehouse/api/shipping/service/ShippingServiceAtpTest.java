@@ -0,0 +1,107 @@
+package com.gearfirst.warehouse.api.shipping.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gearfirst.warehouse.api.shipping.domain.LineStatus;
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+import com.gearfirst.warehouse.api.shipping.domain.ShippingNote;
+import com.gearfirst.warehouse.api.shipping.domain.ShippingNoteLine;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingUpdateLineRequest;
+import com.gearfirst.warehouse.api.shipping.repository.InMemoryShippingNoteRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 미출고 수요 증분 유지와 checkShippable의 ATP 판정.
+ */
+class ShippingServiceAtpTest {
+
+    private static final String WH = "WH1";
+    private static final long PART = 9901L;
+
+    private InMemoryShippingNoteRepository repo;
+    private final Map<Long, Integer> onHand = new HashMap<>();
+    private InMemoryAtpService atp;
+    private ShippingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repo = new InMemoryShippingNoteRepository();
+        OnHandProvider provider = (wh, partId) -> onHand.getOrDefault(partId, 0);
+        atp = new InMemoryAtpService(provider);
+        service = new ShippingServiceImpl(repo, provider, null, null, null, null, atp,
+                new InMemoryReservationService(provider));
+    }
+
+    // 기존 진행 중 전표 + 그 수요(마이그레이션 backfill과 같은 상태)를 심는다
+    private ShippingNote seed(long noteId, int orderedQty) {
+        var note = ShippingNote.builder()
+                .noteId(noteId)
+                .branchName("ATP Test")
+                .warehouseCode(WH)
+                .status(NoteStatus.PENDING)
+                .lines(List.of(ShippingNoteLine.builder()
+                        .lineId(noteId * 10)
+                        .productId(PART)
+                        .productCode("P-" + PART)
+                        .orderedQty(orderedQty)
+                        .pickedQty(0)
+                        .status(LineStatus.PENDING)
+                        .build()))
+                .build();
+        repo.save(note);
+        atp.adjustOpenDemand(WH, ShippingServiceImpl.openDemand(note));
+        return note;
+    }
+
+    @Test
+    @DisplayName("openDemand: 진행 중 전표만 Σ ordered (피킹 수량 무관), DELAYED/COMPLETED는 0")
+    void openDemand_countsOnlyOpenNotes() {
+        var note = seed(9301L, 8);
+        assertEquals(Map.of(PART, 8), ShippingServiceImpl.openDemand(note));
+        var picked = ShippingNote.builder().noteId(2L).status(NoteStatus.COMPLETING).lines(List.of(
+                ShippingNoteLine.builder().lineId(1L).productId(PART).orderedQty(8).pickedQty(8)
+                        .status(LineStatus.READY).build())).build();
+        assertEquals(Map.of(PART, 8), ShippingServiceImpl.openDemand(picked));
+        var delayed = ShippingNote.builder().noteId(1L).status(NoteStatus.DELAYED).lines(note.getLines()).build();
+        assertTrue(ShippingServiceImpl.openDemand(delayed).isEmpty());
+    }
+
+    @Test
+    @DisplayName("updateLine: 피킹해도 완료 전까지 재고가 남아 있으므로 미출고 수요는 그대로다")
+    void openDemand_trackedOnUpdate() {
+        var a = seed(9302L, 8);
+        seed(9303L, 5);
+        assertEquals(13, atp.demand(PART));
+
+        onHand.put(PART, 100);
+        service.updateLine(a.getNoteId(), a.getLines().get(0).getLineId(), new ShippingUpdateLineRequest(3));
+        assertEquals(13, atp.demand(PART)); // 8 + 5, 피킹은 on-hand를 줄이지 않는다
+    }
+
+    @Test
+    @DisplayName("checkShippable: 다른 진행 중 전표의 수요를 뺀 가용량으로 판정한다")
+    void checkShippable_usesAtp() {
+        onHand.put(PART, 10);
+        var a = seed(9304L, 8);
+        var b = seed(9305L, 5);
+
+        // on-hand(10)만 보면 둘 다 READY지만, 합계 13 > 10 이므로 B는 A의 수요 8을 뺀 2만 쓸 수 있다
+        var res = service.checkShippable(b.getNoteId(), false, null);
+        assertTrue(res.hasShortage());
+        assertEquals(10, res.lines().get(0).onHandQty());
+        assertEquals(2, res.lines().get(0).availableQty());
+        assertEquals(LineStatus.SHORTAGE.name(), res.lines().get(0).suggestedStatus());
+
+        // A가 지연(DELAYED)으로 빠지면 수요가 풀려 B는 출고 가능
+        service.checkShippable(a.getNoteId(), true, null); // A: 10 − 5 = 5 < 8 → DELAYED
+        assertEquals(5, atp.demand(PART));
+        var after = service.checkShippable(b.getNoteId(), false, null);
+        assertEquals(LineStatus.READY.name(), after.lines().get(0).suggestedStatus());
+    }
+}
@@ -35,7 +35,8 @@ class ShippingServiceIdempotencyTest {
         inventory = Mockito.mock(InventoryService.class);
         OnHandProvider provider = (wh, productId) -> Integer.MAX_VALUE / 2; // plenty in stock; not used in completion
         KafkaTemplate<String, Object> kafka = Mockito.mock(KafkaTemplate.class);
-        service = new ShippingServiceImpl(repo, provider, inventory, null, null, kafka);
+        service = new ShippingServiceImpl(repo, provider, inventory, null, null, kafka,
+                new InMemoryAtpService(provider), new InMemoryReservationService(provider));
     }
 
     @Test
@@ -40,7 +40,8 @@ class ShippingServiceImplTest {
             @Override public void decrease(String warehouseCode, Long partId, int qty) { }
         };
         KafkaTemplate<String, Object> kafka = Mockito.mock(KafkaTemplate.class);
-        service = new ShippingServiceImpl(repo, provider, inv, null, null, kafka);
+        service = new ShippingServiceImpl(repo, provider, inv, null, null, kafka,
+                new InMemoryAtpService(provider), new InMemoryReservationService(provider));
     }
 
     @Test
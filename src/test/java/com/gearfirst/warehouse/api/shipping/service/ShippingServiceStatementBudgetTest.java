@@ -0,0 +1,126 @@
+package com.gearfirst.warehouse.api.shipping.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.gearfirst.warehouse.api.shipping.domain.LineStatus;
+import com.gearfirst.warehouse.api.shipping.domain.NoteStatus;
+import com.gearfirst.warehouse.api.shipping.dto.ShippingCreateNoteRequest;
+import com.gearfirst.warehouse.api.shipping.persistence.ShippingNoteJpaRepository;
+import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingNoteEntity;
+import com.gearfirst.warehouse.api.shipping.persistence.entity.ShippingNoteLineEntity;
+import com.gearfirst.warehouse.support.StatementBudget;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 출고 생성/완료 핫패스의 문장 수 상한 (라인 3개 기준). 라인별 조회가 새로 생기면 예산을 넘어 실패한다.
+ * 서비스가 자기 트랜잭션에서 커밋하므로 @Transactional 없이 실행하고 직접 정리한다 (창고 WH-BUDGET, 부품 7801~).
+ */
+@SpringBootTest
+class ShippingServiceStatementBudgetTest {
+
+    private static final String WH = "WH-BUDGET";
+    private static final long CATEGORY = 7800L;
+    private static final long[] PARTS = {7801L, 7802L, 7803L};
+
+    @Autowired
+    private ShippingService shippingService;
+
+    @Autowired
+    private ShippingNoteJpaRepository noteRepo;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Long readyNoteId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        jdbc.update("insert into part_category (id, name, enabled) values (?, 'ShippingBudget', true)", CATEGORY);
+        for (long id : PARTS) {
+            jdbc.update("""
+                    insert into part (id, code, name, price, category_id, safety_stock_qty, enabled)
+                    values (?, ?, '출고 예산', 1000, ?, 0, true)
+                    """, id, "P-" + id, CATEGORY);
+            jdbc.update("""
+                    insert into inventory_onhand (warehouse_code, part_id, on_hand_qty, last_updated_at)
+                    values (?, ?, 10, now())
+                    """, WH, id);
+        }
+        // 시드는 @BeforeEach에서: @StatementBudget은 테스트 본문만 센다
+        readyNoteId = readyNote();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("delete from inventory_reservation where warehouse_code = ?", WH);
+        jdbc.update("delete from shipping_note_line where note_id in "
+                + "(select note_id from shipping_note where warehouse_code = ?)", WH);
+        jdbc.update("delete from shipping_note where warehouse_code = ?", WH);
+        jdbc.update("delete from inventory_onhand where warehouse_code = ?", WH);
+        jdbc.update("delete from inventory_open_demand where warehouse_code = ?", WH);
+        jdbc.update("delete from daily_ops_rollup where warehouse_code = ?", WH);
+        jdbc.update("delete from note_number_seq where warehouse_code = ?", WH);
+        jdbc.update("delete from outbox_event where payload like ?", "%" + WH + "%");
+        jdbc.update("delete from part where id between 7801 and 7899");
+        jdbc.update("delete from part_category where id = ?", CATEGORY);
+    }
+
+    @Test
+    @DisplayName("create: 부품 스냅샷 일괄 1 + 번호 채번 잠금 1 + 신규 채번 행 merge 1 (라인 수와 무관)")
+    @StatementBudget(select = 3)
+    void create_loadsPartsInOneBatch() {
+        var detail = shippingService.create(new ShippingCreateNoteRequest("Budget", WH, null,
+                "2025-10-01T09:00:00+09:00", null, null,
+                List.of(new ShippingCreateNoteRequest.Line(PARTS[0], 1, null),
+                        new ShippingCreateNoteRequest.Line(PARTS[1], 2, null),
+                        new ShippingCreateNoteRequest.Line(PARTS[2], 3, null))));
+
+        assertEquals(3, detail.lines().size());
+        assertEquals("P-" + PARTS[2], detail.lines().get(2).product().code());
+    }
+
+    @Test
+    @DisplayName("complete: 전표+라인 2 + 라인별(예약 확인, 예약 합계 최초 로드, on-hand) 3×3 + 검증 조회 1")
+    @StatementBudget(select = 12)
+    void complete_readsOnHandOncePerLine() {
+        var res = shippingService.complete(readyNoteId, null);
+
+        assertEquals(6, res.totalShippedQty());
+        Integer left = jdbc.queryForObject(
+                "select sum(on_hand_qty) from inventory_onhand where warehouse_code = ?", Integer.class, WH);
+        assertEquals(30 - 6, left);
+    }
+
+    private Long readyNote() {
+        var note = ShippingNoteEntity.builder()
+                .branchName("Budget")
+                .warehouseCode(WH)
+                .shippingNo("OUT-BUDGET-1")
+                .itemKindsNumber(PARTS.length)
+                .totalQty(6)
+                .status(NoteStatus.IN_PROGRESS)
+                .requestedAt(OffsetDateTime.now(ZoneOffset.UTC))
+                .assigneeName("WAREHOUSE")
+                .build();
+        for (int i = 0; i < PARTS.length; i++) {
+            note.addLine(ShippingNoteLineEntity.builder()
+                    .productId(PARTS[i])
+                    .productCode("P-" + PARTS[i])
+                    .orderedQty(i + 1)
+                    .pickedQty(i + 1)
+                    .status(LineStatus.READY)
+                    .build());
+        }
+        return noteRepo.save(note).getNoteId();
+    }
+}
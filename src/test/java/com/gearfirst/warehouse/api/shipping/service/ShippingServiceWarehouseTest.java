@@ -41,7 +41,8 @@ class ShippingServiceWarehouseTest {
         inventory = new FakeInventoryService();
         provider = new InventoryBackedOnHandProvider(inventory);
         KafkaTemplate<String, Object> kafka = Mockito.mock(KafkaTemplate.class);
-        service = new ShippingServiceImpl(repo, provider, inventory, null, null, kafka);
+        service = new ShippingServiceImpl(repo, provider, inventory, null, null, kafka,
+                new InMemoryAtpService(provider), new InMemoryReservationService(provider));
     }
 
     @Test
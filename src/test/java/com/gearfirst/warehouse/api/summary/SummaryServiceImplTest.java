@@ -0,0 +1,118 @@
+package com.gearfirst.warehouse.api.summary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.gearfirst.warehouse.api.dto.DailyOpsReportResponse.Ops;
+import com.gearfirst.warehouse.api.summary.persistence.DailyOpsRollup.NoteType;
+import com.gearfirst.warehouse.api.summary.persistence.DailyOpsRollupJdbcRepository;
+import com.gearfirst.warehouse.api.summary.persistence.DailyOpsRollupJdbcRepository.Row;
+import com.gearfirst.warehouse.common.exception.BadRequestException;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryServiceImplTest {
+
+    @Mock
+    DailyOpsRollupJdbcRepository rollupRepository;
+
+    SummaryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SummaryServiceImpl(rollupRepository, 30_000, 16);
+    }
+
+    private static Row row(LocalDate day, NoteType type, long pending, long inProgress, long doneOk, long doneIssue) {
+        return new Row(day, type, pending + inProgress + doneOk + doneIssue, pending, inProgress, doneOk, doneIssue,
+                0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("countNotesByDate: 해당 일자의 집계 행에서 유형별 requested 합을 반환")
+    void byDate_readsRollup() {
+        var day = LocalDate.of(2026, 10, 1);
+        when(rollupRepository.findRange(day, day, null)).thenReturn(List.of(
+                row(day, NoteType.RECEIVING, 2, 0, 1, 0),
+                row(day, NoteType.SHIPPING, 0, 1, 0, 0)));
+
+        var res = service.countNotesByDate("2026-10-01");
+
+        assertEquals(3, res.receivingCount());
+        assertEquals(1, res.shippingCount());
+    }
+
+    @Test
+    @DisplayName("countNotesByRange: 집계 조회 1회, 버킷을 상태별로 펼치고 빈 날짜/상태는 0으로 채운다")
+    void range_groupsPerDayAndStatus() {
+        var from = LocalDate.of(2026, 10, 1);
+        var to = LocalDate.of(2026, 10, 3);
+        when(rollupRepository.findRange(from, to, "WH1")).thenReturn(List.of(
+                row(from, NoteType.RECEIVING, 2, 0, 1, 0),
+                row(to, NoteType.SHIPPING, 0, 0, 0, 4)));
+
+        var res = service.countNotesByRange("2026-10-01", "2026-10-03", " WH1 ");
+
+        assertEquals(3, res.days().size());
+        var d1 = res.days().get(0);
+        assertEquals("2026-10-01", d1.date());
+        assertEquals(3, d1.receivingCount());
+        assertEquals(0, d1.shippingCount());
+        assertEquals(List.of("PENDING", "IN_PROGRESS", "COMPLETED_OK", "COMPLETED_ISSUE"),
+                List.copyOf(d1.receivingByStatus().keySet()));
+        assertEquals(1L, d1.receivingByStatus().get("COMPLETED_OK"));
+        assertEquals(0, res.days().get(1).receivingCount() + res.days().get(1).shippingCount());
+        assertEquals(4L, res.days().get(2).shippingByStatus().get("DELAYED"));
+        assertEquals(4, res.days().get(2).shippingCount());
+    }
+
+    @Test
+    @DisplayName("countNotesByRange: 같은 기간/창고(대소문자 무시)는 TTL 동안 캐시에서 반환")
+    void range_isCached() {
+        when(rollupRepository.findRange(any(), any(), any())).thenReturn(List.of());
+
+        var first = service.countNotesByRange("2026-10-01", "2026-10-31", "wh1");
+        var second = service.countNotesByRange("2026-10-01", "2026-10-31", "WH1");
+
+        assertSame(first, second);
+        verify(rollupRepository, times(1)).findRange(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("dailyOpsReport: 일자별 입고/출고 지표, 집계 행이 없으면 0")
+    void report_mapsRollupRows() {
+        var day = LocalDate.of(2026, 10, 2);
+        when(rollupRepository.findRange(day, day.plusDays(1), null)).thenReturn(List.of(
+                new Row(day, NoteType.SHIPPING, 5, 1, 2, 1, 1, 3, 42, 1)));
+
+        var res = service.dailyOpsReport("2026-10-02", "2026-10-03", null);
+
+        assertEquals(2, res.days().size());
+        assertEquals(new Ops(5, 1, 2, 1, 1, 3, 42, 1), res.days().get(0).shipping());
+        assertSame(Ops.EMPTY, res.days().get(0).receiving());
+        assertSame(Ops.EMPTY, res.days().get(1).shipping());
+    }
+
+    @Test
+    @DisplayName("countNotesByRange/dailyOpsReport: 형식 오류, from > to, 92일 초과는 400")
+    void range_rejectsInvalid() {
+        assertThrows(BadRequestException.class, () -> service.countNotesByRange("2026-10-1", "2026-10-03", null));
+        assertThrows(BadRequestException.class, () -> service.countNotesByRange("2026-10-03", "2026-10-01", null));
+        assertThrows(BadRequestException.class, () -> service.countNotesByRange("2026-01-01", "2026-04-02", null));
+        assertThrows(BadRequestException.class, () -> service.dailyOpsReport("2026-01-01", "2026-04-02", null));
+        verifyNoInteractions(rollupRepository);
+    }
+}
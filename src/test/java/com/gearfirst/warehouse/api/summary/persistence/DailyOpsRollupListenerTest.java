@@ -0,0 +1,134 @@
+package com.gearfirst.warehouse.api.summary.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.gearfirst.warehouse.api.receiving.domain.ReceivingLineStatus;
+import com.gearfirst.warehouse.api.receiving.domain.ReceivingNoteStatus;
+import com.gearfirst.warehouse.api.receiving.persistence.ReceivingNoteJpaRepository;
+import com.gearfirst.warehouse.api.receiving.persistence.entity.ReceivingNoteEntity;
+import com.gearfirst.warehouse.api.receiving.persistence.entity.ReceivingNoteLineEntity;
+import com.gearfirst.warehouse.common.util.DateTimes;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리스너의 upsert는 커밋 직전에 실행되므로 @Transactional(롤백) 없이 실제 커밋으로 검증한다.
+ */
+@SpringBootTest
+class DailyOpsRollupListenerTest {
+
+    private static final String WH = "WH-ROLLUP";
+    private static final LocalDate REQUESTED_DAY = LocalDate.of(2020, 3, 15);
+
+    @Autowired
+    private ReceivingNoteJpaRepository noteRepo;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        cleanUp();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("delete from receiving_note_line where note_id in "
+                + "(select note_id from receiving_note where warehouse_code = ?)", WH);
+        jdbc.update("delete from receiving_note where warehouse_code = ?", WH);
+        jdbc.update("delete from daily_ops_rollup where warehouse_code = ?", WH);
+    }
+
+    @Test
+    @DisplayName("생성 → 진행 → 이슈 완료: 요청일 버킷이 이동하고 완료/지연/수량은 발생일에 더해진다")
+    void tracksLifecycleInSameTransaction() {
+        Long noteId = tx.execute(status -> {
+            var note = noteRepo.save(ReceivingNoteEntity.builder()
+                    .supplierName("Rollup-Supplier")
+                    .warehouseCode(WH)
+                    .itemKindsNumber(2)
+                    .totalQty(13)
+                    .status(ReceivingNoteStatus.PENDING)
+                    // KST 2020-03-15 09:30
+                    .requestedAt(OffsetDateTime.of(2020, 3, 15, 0, 30, 0, 0, ZoneOffset.UTC))
+                    .build());
+            note.addLine(ReceivingNoteLineEntity.builder()
+                    .productId(901L).productLot("LOT-901").productCode("P-901").productName("품목901")
+                    .orderedQty(5).inspectedQty(5).status(ReceivingLineStatus.ACCEPTED).build());
+            note.addLine(ReceivingNoteLineEntity.builder()
+                    .productId(902L).productLot("LOT-902").productCode("P-902").productName("품목902")
+                    .orderedQty(8).inspectedQty(0).status(ReceivingLineStatus.REJECTED).build());
+            return note.getNoteId();
+        });
+        var created = row(REQUESTED_DAY);
+        assertEquals(1L, created.get("requested_count"));
+        assertEquals(1L, created.get("pending_count"));
+
+        setStatus(noteId, ReceivingNoteStatus.IN_PROGRESS);
+        var started = row(REQUESTED_DAY);
+        assertEquals(0L, started.get("pending_count"));
+        assertEquals(1L, started.get("in_progress_count"));
+
+        setStatus(noteId, ReceivingNoteStatus.COMPLETED_ISSUE);
+        var done = row(REQUESTED_DAY);
+        assertEquals(1L, done.get("requested_count"));
+        assertEquals(0L, done.get("in_progress_count"));
+        assertEquals(1L, done.get("done_issue_count"));
+
+        var today = row(DateTimes.kstDateOf(OffsetDateTime.now(ZoneOffset.UTC)));
+        assertEquals(1L, today.get("completed_count"));
+        assertEquals(5L, today.get("units_completed")); // ACCEPTED 라인만
+        assertEquals(1L, today.get("delayed_count"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 집계도 반영되지 않는다")
+    void rollbackLeavesRollupUntouched() {
+        tx.executeWithoutResult(status -> {
+            noteRepo.save(ReceivingNoteEntity.builder()
+                    .supplierName("Rollup-Supplier")
+                    .warehouseCode(WH)
+                    .status(ReceivingNoteStatus.PENDING)
+                    .requestedAt(OffsetDateTime.of(2020, 3, 15, 0, 30, 0, 0, ZoneOffset.UTC))
+                    .build());
+            noteRepo.flush();
+            status.setRollbackOnly();
+        });
+
+        Integer rows = jdbc.queryForObject("select count(*) from daily_ops_rollup where warehouse_code = ?",
+                Integer.class, WH);
+        assertEquals(0, rows);
+    }
+
+    private void setStatus(Long noteId, ReceivingNoteStatus next) {
+        tx.executeWithoutResult(status -> {
+            var note = noteRepo.findById(noteId).orElseThrow();
+            note.setStatus(next);
+            if (next == ReceivingNoteStatus.COMPLETED_OK || next == ReceivingNoteStatus.COMPLETED_ISSUE) {
+                note.setCompletedAt(OffsetDateTime.now(ZoneOffset.UTC));
+            }
+        });
+    }
+
+    private Map<String, Object> row(LocalDate day) {
+        return jdbc.queryForMap("select * from daily_ops_rollup where kst_day = ? and warehouse_code = ? "
+                + "and note_type = 'RECEIVING'", day, WH);
+    }
+}
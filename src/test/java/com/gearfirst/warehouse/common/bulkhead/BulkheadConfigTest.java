@@ -0,0 +1,30 @@
+package com.gearfirst.warehouse.common.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BulkheadConfigTest {
+
+    @Test
+    @DisplayName("기본 상한: 풀을 read-share로 나눠 read + mutation이 풀 크기를 넘지 않는다 (각 그룹 최소 1)")
+    void splitKeepsSumWithinPool() {
+        assertArrayEquals(new int[] {3, 2}, BulkheadConfig.split(5, 0.6));
+        assertArrayEquals(new int[] {6, 4}, BulkheadConfig.split(10, 0.6));
+        assertArrayEquals(new int[] {1, 1}, BulkheadConfig.split(2, 0.9));
+        assertArrayEquals(new int[] {1, 3}, BulkheadConfig.split(4, 0.0));
+        assertArrayEquals(new int[] {3, 1}, BulkheadConfig.split(4, 1.0));
+    }
+
+    @Test
+    @DisplayName("백그라운드 작업 몫(스케줄러 + 완료 worker)을 풀에서 먼저 뺀 뒤 나눈다")
+    void reservesBackgroundConnections() {
+        assertEquals(5, BulkheadConfig.httpConnections(8, 3));
+        assertArrayEquals(new int[] {3, 2}, BulkheadConfig.split(BulkheadConfig.httpConnections(8, 3), 0.6));
+        assertEquals(2, BulkheadConfig.httpConnections(5, 3));
+        assertEquals(1, BulkheadConfig.httpConnections(3, 5));
+        assertEquals(5, BulkheadConfig.httpConnections(5, -1));
+    }
+}
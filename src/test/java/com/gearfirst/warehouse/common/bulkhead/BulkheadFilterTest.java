@@ -0,0 +1,95 @@
+package com.gearfirst.warehouse.common.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class BulkheadFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Bulkhead reads = new Bulkhead("read", 1, Duration.ofMillis(20), registry);
+    private final Bulkhead mutations = new Bulkhead("mutation", 1, Duration.ofMillis(20), registry);
+    private final BulkheadFilter filter = new BulkheadFilter(reads, mutations, new ObjectMapper(), 1);
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        var req = new MockHttpServletRequest(method, "/warehouse" + uri);
+        req.setContextPath("/warehouse");
+        return req;
+    }
+
+    @Test
+    @DisplayName("그룹 상한을 넘는 요청은 대기 시간 후 503 + Retry-After로 거절되고, 다른 그룹은 영향받지 않는다")
+    void rejectsWhenGroupIsFull() throws Exception {
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (var pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 읽기 permit 1개를 점유한 채로 멈춘 요청
+            pool.submit(() -> {
+                filter.doFilter(request("GET", "/api/v1/shipping/1"), new MockHttpServletResponse(),
+                        (rq, rs) -> {
+                            entered.countDown();
+                            try {
+                                release.await(5, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            var rejected = new MockHttpServletResponse();
+            var rejectedChain = new MockFilterChain();
+            filter.doFilter(request("GET", "/api/v1/shipping/2"), rejected, rejectedChain);
+            assertEquals(503, rejected.getStatus());
+            assertEquals("1", rejected.getHeader("Retry-After"));
+            assertEquals(null, rejectedChain.getRequest());
+
+            var mutation = new MockHttpServletResponse();
+            filter.doFilter(request("PATCH", "/api/v1/shipping/2/lines/1"), mutation, new MockFilterChain());
+            assertEquals(200, mutation.getStatus());
+
+            release.countDown();
+        }
+        assertEquals(1, reads.available());
+        assertEquals(1.0, registry.find("warehouse.bulkhead.rejected").tag("group", "read").counter().count());
+    }
+
+    @Test
+    @DisplayName("/api/** 밖의 경로(actuator 등)는 bulkhead를 거치지 않는다")
+    void skipsNonApiPaths() throws Exception {
+        assertTrue(reads.tryAcquire());
+        var resp = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/actuator/health"), resp, new MockFilterChain());
+        assertEquals(200, resp.getStatus());
+        reads.release();
+    }
+
+    @Test
+    @DisplayName("DB를 쓰지 않는 자동완성/SSE 구독 경로는 read permit이 없어도 통과한다")
+    void skipsInMemoryAndStreamingRoutes() throws Exception {
+        assertTrue(reads.tryAcquire());
+        for (String uri : new String[] {"/api/v1/parts/suggest", "/api/v1/warehouses/WH1/note-events"}) {
+            var resp = new MockHttpServletResponse();
+            var chain = new MockFilterChain();
+            filter.doFilter(request("GET", uri), resp, chain);
+            assertEquals(200, resp.getStatus());
+            assertTrue(chain.getRequest() != null);
+        }
+        var busy = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/v1/parts"), busy, new MockFilterChain());
+        assertEquals(503, busy.getStatus());
+        reads.release();
+    }
+}
@@ -0,0 +1,116 @@
+package com.gearfirst.warehouse.common.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.CategorySummaryResponse;
+import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.CreateCategoryRequest;
+import com.gearfirst.warehouse.api.parts.dto.CategoryDtos.UpdateCategoryRequest;
+import com.gearfirst.warehouse.api.parts.persistence.PartCategoryJpaRepository;
+import com.gearfirst.warehouse.api.parts.persistence.entity.PartCategoryEntity;
+import com.gearfirst.warehouse.api.parts.service.PartCategoryService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 카탈로그 2차 캐시: 커밋된 데이터로 확인해야 하므로 @Transactional 없이 실행하고 만든 행은 직접 지운다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private PartCategoryService categoryService;
+
+    @Autowired
+    private PartCategoryJpaRepository categoryRepo;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    @Qualifier("secondLevelCacheMetrics")
+    private MeterBinder cacheMetrics;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() {
+        categoryRepo.deleteAllById(created);
+    }
+
+    private Long create(String prefix) {
+        var name = prefix + "-" + System.nanoTime();
+        Long id = categoryService.create(new CreateCategoryRequest(name, null)).id();
+        created.add(id);
+        return id;
+    }
+
+    private Statistics stats() {
+        return emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("엔티티 캐시: 첫 조회 후 region 적중, JPA 수정은 바로 반영")
+    void entityCache_hitsAfterFirstLoad_andReflectsUpdate() {
+        Long id = create("L2A");
+        emf.getCache().evictAll();
+        stats().clear();
+
+        categoryService.get(id);
+        categoryService.get(id);
+
+        var region = stats().getDomainDataRegionStatistics(SecondLevelCacheConfig.CATEGORY_REGION);
+        assertTrue(region.getPutCount() >= 1);
+        assertTrue(region.getHitCount() >= 1);
+        assertTrue(emf.getCache().contains(PartCategoryEntity.class, id));
+
+        String renamed = "L2A-renamed-" + System.nanoTime();
+        categoryService.update(id, new UpdateCategoryRequest(renamed, "changed"));
+        assertEquals(renamed, categoryService.get(id).name());
+    }
+
+    @Test
+    @DisplayName("쿼리 캐시: 같은 목록 재조회는 적중, 카테고리 추가 시 무효화되어 새 행이 보인다")
+    void queryCache_hits_thenInvalidatedOnInsert() {
+        create("L2B");
+        stats().clear();
+
+        categoryService.list(null);
+        categoryService.list(null);
+        assertTrue(stats().getQueryCacheHitCount() >= 1);
+
+        Long added = create("L2C");
+        List<Long> ids = categoryService.list(null).stream().map(CategorySummaryResponse::id).toList();
+        assertTrue(ids.contains(added));
+    }
+
+    @Test
+    @DisplayName("region별 JCache 통계가 cache.* 메트릭으로 노출된다")
+    void regionStatistics_exposedAsMeters() {
+        Long id = create("L2D");
+        emf.getCache().evictAll();
+        categoryService.get(id);
+
+        var registry = new SimpleMeterRegistry();
+        cacheMetrics.bindTo(registry);
+
+        FunctionCounter puts = registry.find("cache.puts")
+                .tag("cache", SecondLevelCacheConfig.CATEGORY_REGION)
+                .functionCounter();
+        assertNotNull(puts);
+        assertTrue(puts.count() >= 1);
+    }
+}
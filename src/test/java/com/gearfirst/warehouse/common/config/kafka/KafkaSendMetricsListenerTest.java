@@ -0,0 +1,75 @@
+package com.gearfirst.warehouse.common.config.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KafkaSendMetricsListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final KafkaSendMetricsListener listener = new KafkaSendMetricsListener(registry);
+
+    @Test
+    @DisplayName("전송 성공 시 topic별 지연 Timer를 기록한다")
+    void recordsLatencyPerTopic() {
+        var record = new ProducerRecord<Object, Object>("notification", "10", "payload");
+        var metadata = new RecordMetadata(new TopicPartition("notification", 0), 0, 0,
+                System.currentTimeMillis() - 15, 2, 7);
+
+        listener.onSuccess(record, metadata);
+        listener.onSuccess(record, metadata);
+
+        var timer = registry.find(KafkaSendMetricsListener.SEND_TIMER)
+                .tags("topic", "notification", "result", "success").timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 topic/exception별 오류 Counter를 올린다")
+    void countsErrorsPerTopic() {
+        var record = new ProducerRecord<Object, Object>("create-part", null, System.currentTimeMillis(), "P-1", "x");
+        new KafkaSendMetricsListener.SendStartInterceptor().onSend(record);
+
+        listener.onError(record, null, new TimeoutException("expired"));
+
+        var counter = registry.find(KafkaSendMetricsListener.SEND_ERRORS)
+                .tags("topic", "create-part", "exception", "TimeoutException").counter();
+        assertNotNull(counter);
+        assertEquals(1.0, counter.count());
+        assertNotNull(registry.find(KafkaSendMetricsListener.SEND_TIMER).tags("result", "error").timer());
+    }
+
+    @Test
+    @DisplayName("실패 지연은 record.timestamp()가 없어도 인터셉터가 남긴 전송 시작 시각으로 기록한다")
+    void errorLatencyUsesCapturedSendStart() {
+        var record = new ProducerRecord<Object, Object>("notification", "10", "payload");
+        new KafkaSendMetricsListener.SendStartInterceptor().onSend(record);
+
+        listener.onError(record, null, new TimeoutException("expired"));
+
+        var timer = registry.find(KafkaSendMetricsListener.SEND_TIMER)
+                .tags("topic", "notification", "result", "error").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @DisplayName("전송 시작 시각이 없으면 실패 지연은 기록하지 않고 오류 Counter만 올린다")
+    void errorWithoutSendStartSkipsLatency() {
+        var record = new ProducerRecord<Object, Object>("notification", "10", "payload");
+
+        listener.onError(record, null, new TimeoutException("expired"));
+
+        assertNull(registry.find(KafkaSendMetricsListener.SEND_TIMER).tags("result", "error").timer());
+        assertNotNull(registry.find(KafkaSendMetricsListener.SEND_ERRORS).tags("topic", "notification").counter());
+    }
+}
@@ -0,0 +1,109 @@
+package com.gearfirst.warehouse.common.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagMonitor monitor;
+    private ReadReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        when(primary.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        when(replica.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        monitor = new ReplicaLagMonitor(replica, Duration.ofMillis(5000), registry);
+        monitor.update(0);
+        routing = new ReadReplicaRoutingDataSource(primary, replica, monitor, registry);
+        // 생성 시 기본 autoCommit/isolation 확인용으로 primary 커넥션을 한 번 연다
+        clearInvocations(primary, replica);
+    }
+
+    private static void runStatement(Connection con) throws SQLException {
+        con.createStatement();
+        con.close();
+    }
+
+    @Test
+    @DisplayName("readOnly 커넥션은 첫 SQL 시점에 replica 풀에서, 그 외는 primary 풀에서 얻는다")
+    void routesReadOnlyToReplica() throws SQLException {
+        Connection ro = routing.getConnection();
+        ro.setReadOnly(true);
+        runStatement(ro);
+        verify(replica, times(1)).getConnection();
+        verify(primary, never()).getConnection();
+
+        runStatement(routing.getConnection());
+        verify(primary, times(1)).getConnection();
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("복제 지연이 max-staleness를 넘거나 지연 조회에 실패하면 readOnly도 primary로 보낸다")
+    void fallsBackToPrimaryWhenStale() throws SQLException {
+        monitor.update(5001);
+        assertFalse(monitor.isUsable());
+        Connection ro = routing.getConnection();
+        ro.setReadOnly(true);
+        runStatement(ro);
+
+        monitor.update(-1);
+        Connection ro2 = routing.getConnection();
+        ro2.setReadOnly(true);
+        runStatement(ro2);
+
+        verify(replica, never()).getConnection();
+        verify(primary, times(2)).getConnection();
+        assertEquals(2.0, registry.get(ReadReplicaRoutingDataSource.FALLBACK).tag("reason", "stale").counter().count());
+
+        monitor.update(100);
+        assertTrue(monitor.isUsable());
+    }
+
+    @Test
+    @DisplayName("replica 커넥션 획득이 실패하면 primary로 대체한다")
+    void fallsBackToPrimaryWhenReplicaUnavailable() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+        Connection ro = routing.getConnection();
+        ro.setReadOnly(true);
+        runStatement(ro);
+
+        verify(primary, times(1)).getConnection();
+        assertEquals(1.0,
+                registry.get(ReadReplicaRoutingDataSource.FALLBACK).tag("reason", "unavailable").counter().count());
+    }
+
+    @Test
+    @DisplayName("자격 증명을 지정한 readOnly 커넥션은 primary에 같은 자격 증명으로 위임한다")
+    void credentialedReadOnlyConnectionGoesToPrimary() throws SQLException {
+        when(primary.getConnection("app", "secret")).thenAnswer(inv -> mock(Connection.class));
+        Connection ro = routing.getConnection("app", "secret");
+        ro.setReadOnly(true);
+        runStatement(ro);
+
+        verify(primary, times(1)).getConnection("app", "secret");
+        verify(replica, never()).getConnection();
+    }
+}
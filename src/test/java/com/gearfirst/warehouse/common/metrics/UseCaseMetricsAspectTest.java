@@ -0,0 +1,107 @@
+package com.gearfirst.warehouse.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.gearfirst.warehouse.common.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import javax.sql.DataSource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UseCaseMetricsAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UseCaseMetricsAspect aspect = new UseCaseMetricsAspect(registry);
+
+    /** 이름 규칙 확인용 (ShippingServiceImpl → shipping) */
+    static class ShippingServiceImpl {
+    }
+
+    record Req(String warehouseCode) {
+    }
+
+    private static ProceedingJoinPoint joinPoint(String method, String[] names, Object[] args) {
+        var sig = mock(MethodSignature.class);
+        when(sig.getDeclaringType()).thenReturn(ShippingServiceImpl.class);
+        when(sig.getName()).thenReturn(method);
+        when(sig.getParameterNames()).thenReturn(names);
+        var pjp = mock(ProceedingJoinPoint.class);
+        when(pjp.getSignature()).thenReturn(sig);
+        when(pjp.getArgs()).thenReturn(args);
+        return pjp;
+    }
+
+    @Test
+    @DisplayName("warehouseCode 인자/DTO 접근자로 창고 태그를 붙이고 성공 outcome을 기록한다")
+    void tagsWarehouseFromArguments() throws Throwable {
+        var byParam = joinPoint("getNotDone", new String[]{"date", "warehouseCode"}, new Object[]{null, "WH1"});
+        when(byParam.proceed()).thenReturn("ok");
+        var byDto = joinPoint("create", new String[]{"request"}, new Object[]{new Req("WH2")});
+        when(byDto.proceed()).thenReturn(1L);
+
+        aspect.measure(byParam);
+        aspect.measure(byDto);
+
+        assertNotNull(registry.find(UseCaseMetricsAspect.TIMER)
+                .tags("usecase", "shipping.getNotDone", "warehouse", "WH1", "outcome", "success").timer());
+        assertNotNull(registry.find(UseCaseMetricsAspect.TIMER)
+                .tags("usecase", "shipping.create", "warehouse", "WH2", "outcome", "success").timer());
+    }
+
+    @Test
+    @DisplayName("서비스가 알려준 창고 힌트를 쓰고, 예외는 outcome 태그로 남긴 뒤 다시 던진다")
+    void usesHintAndRecordsFailure() throws Throwable {
+        var pjp = joinPoint("complete", new String[]{"noteId", "req"}, new Object[]{1L, null});
+        when(pjp.proceed()).thenAnswer(inv -> {
+            UseCaseMetrics.warehouse("WH3");
+            throw new NotFoundException("Shipping note not found: 1");
+        });
+
+        assertThrows(NotFoundException.class, () -> aspect.measure(pjp));
+
+        var timer = registry.find(UseCaseMetricsAspect.TIMER)
+                .tags("usecase", "shipping.complete", "warehouse", "WH3", "outcome", "NotFoundException").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertNotNull(registry.find(UseCaseMetricsAspect.TIMER).tags("usecase", "shipping.complete").timer());
+    }
+
+    @Test
+    @DisplayName("유스케이스 구간에서 실행된 JDBC 문장 수(배치는 1회)를 기록한다")
+    void countsStatementsPerUseCase() throws Throwable {
+        var ps = mock(PreparedStatement.class);
+        var conn = mock(Connection.class);
+        when(conn.prepareStatement(anyString())).thenReturn(ps);
+        var target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(conn);
+        var ds = new StatementCountingDataSource(target);
+
+        var pjp = joinPoint("checkShippable", new String[]{"noteId"}, new Object[]{7L});
+        when(pjp.proceed()).thenAnswer(inv -> {
+            try (var c = ds.getConnection()) {
+                var st = c.prepareStatement("select 1");
+                st.executeQuery();
+                st.executeQuery();
+                st.addBatch();
+                st.executeBatch();
+            }
+            return null;
+        });
+
+        aspect.measure(pjp);
+
+        var summary = registry.find(UseCaseMetricsAspect.STATEMENTS)
+                .tags("usecase", "shipping.checkShippable", "warehouse", UseCaseMetricsAspect.NONE).summary();
+        assertNotNull(summary);
+        assertEquals(3.0, summary.totalAmount());
+    }
+}
@@ -0,0 +1,152 @@
+package com.gearfirst.warehouse.common.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.dto.NotificationDto;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class NotificationAggregatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OutboxPublisher publisher;
+    private OutboxEventJpaRepository repository;
+    private NotificationAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        publisher = mock(OutboxPublisher.class);
+        repository = mock(OutboxEventJpaRepository.class);
+        PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        aggregator = new NotificationAggregator(publisher, repository, objectMapper, txManager, true, 5000, 3);
+    }
+
+    private NotificationDto completed(long noteId) {
+        return NotificationDto.builder().id(noteId).eventId("e" + noteId).type("부품 출고 완료")
+                .message("부품 출고 요청이 완료되었습니다.").receiver("본사").warehouseCode("WH1").build();
+    }
+
+    private OutboxEventEntity buffered(long noteId) throws Exception {
+        return OutboxEventEntity.builder()
+                .id(noteId)
+                .topic("notification")
+                .messageKey(String.valueOf(noteId))
+                .coalesceKey("본사|부품 출고 완료|WH1")
+                .payloadType(NotificationDto.class.getName())
+                .payload(objectMapper.writeValueAsString(completed(noteId)))
+                .status(OutboxStatus.BUFFERED)
+                .attempts(0)
+                .nextAttemptAt(OffsetDateTime.now(ZoneOffset.UTC))
+                .build();
+    }
+
+    private static OutboxEventJpaRepository.BufferedGroup group(String key, long cnt, OffsetDateTime dueAt) {
+        return new OutboxEventJpaRepository.BufferedGroup() {
+            public String getCoalesceKey() {
+                return key;
+            }
+
+            public long getCnt() {
+                return cnt;
+            }
+
+            public OffsetDateTime getDueAt() {
+                return dueAt;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("완료 알림은 (receiver, type, warehouse) 키로 묶음 대기열에 기록된다")
+    void publishBuffersWithCoalesceKey() {
+        aggregator.publish(completed(7L));
+
+        verify(publisher).buffer(eq("notification"), eq("7"), eq("본사|부품 출고 완료|WH1"), any(), any());
+        verify(publisher, never()).publish(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("그룹의 여러 알림은 count/noteIds를 담은 요약 1건으로 병합되고 원본은 MERGED")
+    void flushGroupMergesIntoSummary() throws Exception {
+        var rows = new ArrayList<>(List.of(buffered(1), buffered(2), buffered(3)));
+        when(repository.lockBuffered(anyString(), anyInt())).thenReturn(rows);
+
+        aggregator.flushGroup("본사|부품 출고 완료|WH1", OffsetDateTime.now(ZoneOffset.UTC));
+
+        var captor = ArgumentCaptor.forClass(Object.class);
+        verify(publisher).publish(eq("notification"), eq("WH1"), captor.capture());
+        var summary = (NotificationDto) captor.getValue();
+        assertEquals(3, summary.getCount());
+        assertEquals(List.of(1L, 2L, 3L), summary.getNoteIds());
+        assertEquals("[WH1] 부품 출고 완료 3건", summary.getMessage());
+        assertEquals(3L, summary.getId());
+        rows.forEach(r -> assertEquals(OutboxStatus.MERGED, r.getStatus()));
+    }
+
+    @Test
+    @DisplayName("그룹에 1건뿐이면 요약 없이 원본을 PENDING으로 전환한다")
+    void singleItemPassesThrough() throws Exception {
+        var row = buffered(9);
+        when(repository.lockBuffered(anyString(), anyInt())).thenReturn(List.of(row));
+
+        aggregator.flushGroup("본사|부품 출고 완료|WH1", OffsetDateTime.now(ZoneOffset.UTC));
+
+        assertEquals(OutboxStatus.PENDING, row.getStatus());
+        verify(publisher, never()).publish(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("window가 지났거나 max-size에 도달한 그룹만 flush한다")
+    void flushesOnTimeOrSize() throws Exception {
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        when(repository.findBufferedGroups(OutboxStatus.BUFFERED)).thenReturn(List.of(
+                group("due", 2, now.minusSeconds(1)),
+                group("full", 3, now.plusSeconds(60)),
+                group("waiting", 2, now.plusSeconds(60))));
+        when(repository.lockBuffered(anyString(), anyInt())).thenReturn(List.of());
+
+        aggregator.flush();
+
+        verify(repository).lockBuffered(eq("due"), eq(3));
+        verify(repository).lockBuffered(eq("full"), eq(3));
+        verify(repository, never()).lockBuffered(eq("waiting"), anyInt());
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 남은 대기 행을 한 번만 내보내고 이후 flush는 DB를 조회하지 않는다")
+    void disabledDrainsOnceThenStopsPolling() throws Exception {
+        PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        var disabled = new NotificationAggregator(publisher, repository, objectMapper, txManager, false, 5000, 3);
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        when(repository.findBufferedGroups(OutboxStatus.BUFFERED))
+                .thenReturn(List.of(group("left", 2, now.plusSeconds(60))));
+        when(repository.lockBuffered(anyString(), anyInt())).thenReturn(List.of());
+
+        disabled.flush();
+        disabled.flush();
+        disabled.flush();
+
+        verify(repository, times(1)).findBufferedGroups(OutboxStatus.BUFFERED);
+        verify(repository).lockBuffered(eq("left"), eq(3));
+    }
+}
@@ -0,0 +1,108 @@
+package com.gearfirst.warehouse.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 두 relay가 lockNextBatch를 겹쳐 실행할 때의 key 순서.
+ * relay A가 key의 첫 이벤트를 잠근 뒤 lease를 커밋하기 전에 relay B가 선택해도 뒤 이벤트가 먼저 나가지 않아야 한다.
+ * 각 relay가 별도 트랜잭션이어야 하므로 @Transactional 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+class OutboxLockOrderingTest {
+
+    private static final String KEY = "OUTBOX-ORDER-TEST";
+
+    @Autowired
+    private OutboxEventJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private TransactionTemplate tx;
+    private Long first;
+    private Long second;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        tx = new TransactionTemplate(txManager);
+        var due = OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1);
+        first = repository.save(event(due)).getId();
+        second = repository.save(event(due)).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("delete from outbox_event where message_key = ?", KEY);
+    }
+
+    private static OutboxEventEntity event(OffsetDateTime due) {
+        return OutboxEventEntity.builder()
+                .topic("test")
+                .messageKey(KEY)
+                .payloadType(String.class.getName())
+                .payload("\"x\"")
+                .nextAttemptAt(due)
+                .build();
+    }
+
+    private List<Long> ours(List<OutboxEventEntity> rows) {
+        return rows.stream().filter(e -> KEY.equals(e.getMessageKey())).map(OutboxEventEntity::getId).toList();
+    }
+
+    private List<Long> relayB(ExecutorService other) throws Exception {
+        return other.submit(() -> tx.execute(status ->
+                ours(repository.lockNextBatch(OffsetDateTime.now(ZoneOffset.UTC), 1000))))
+                .get(30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("A가 첫 이벤트를 잠근 채(lease 커밋 전) B가 선택해도 같은 key의 뒤 이벤트는 선택되지 않는다")
+    void lockedHeadBlocksLaterEventsOfSameKey() throws Exception {
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        try {
+            // relay A: 잠금 → (B 실행) → lease → 커밋
+            List<Long> seenByB = tx.execute(status -> {
+                var now = OffsetDateTime.now(ZoneOffset.UTC);
+                var lockedByA = ours(repository.lockNextBatch(now, 1000));
+                assertThat(lockedByA).containsExactly(first);
+                try {
+                    var b = relayB(other);
+                    repository.lease(lockedByA, now.plusSeconds(30));
+                    return b;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertThat(seenByB).isEmpty();
+
+            // lease 커밋 후에도 첫 이벤트가 PENDING인 동안 뒤 이벤트는 대기
+            assertThat(relayB(other)).isEmpty();
+
+            // 첫 이벤트 전송 완료 후 비로소 뒤 이벤트가 선택된다
+            jdbc.update("update outbox_event set status = 'SENT', sent_at = now() where id = ?", first);
+            assertThat(relayB(other)).containsExactly(second);
+        } finally {
+            other.shutdownNow();
+        }
+    }
+}
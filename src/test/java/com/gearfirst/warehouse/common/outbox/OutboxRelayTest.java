@@ -0,0 +1,140 @@
+package com.gearfirst.warehouse.common.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gearfirst.warehouse.api.dto.NotificationDto;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OutboxEventJpaRepository repository;
+    private KafkaTemplate<String, Object> kafka;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(OutboxEventJpaRepository.class);
+        kafka = mock(KafkaTemplate.class);
+        PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        relay = new OutboxRelay(repository, kafka, objectMapper, txManager,
+                10, 1000, 30000, 1000, 300000, 3, 72);
+    }
+
+    private OutboxEventEntity event(long id, String key, String type) throws Exception {
+        var payload = NotificationDto.builder().id(id).eventId("e" + id).type(type).build();
+        return OutboxEventEntity.builder()
+                .id(id)
+                .topic("notification")
+                .messageKey(key)
+                .payloadType(NotificationDto.class.getName())
+                .payload(objectMapper.writeValueAsString(payload))
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(OffsetDateTime.now(ZoneOffset.UTC))
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 key는 id 순서대로 보내고, 다른 key는 같은 wave에 함께 보낸다")
+    void sendsPerKeyInOrder() throws Exception {
+        var a1 = event(1, "10", "등록");
+        var b1 = event(2, "20", "등록");
+        var a2 = event(3, "10", "완료");
+        var batch = List.of(a1, b1, a2);
+        when(repository.lockNextBatch(any(), anyInt())).thenReturn(batch);
+        when(repository.findAllById(any())).thenReturn(batch);
+        when(kafka.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertEquals(3, relay.drainOnce());
+
+        var order = inOrder(kafka);
+        order.verify(kafka).send(eq("notification"), eq("10"),
+                eq(NotificationDto.builder().id(1L).eventId("e1").type("등록").build()));
+        order.verify(kafka).send(eq("notification"), eq("10"),
+                eq(NotificationDto.builder().id(3L).eventId("e3").type("완료").build()));
+        assertEquals(OutboxStatus.SENT, a1.getStatus());
+        assertEquals(OutboxStatus.SENT, b1.getStatus());
+        assertEquals(OutboxStatus.SENT, a2.getStatus());
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 백오프로 재시도 예약하고 같은 key의 뒤 이벤트는 미룬다")
+    void failureBacksOffAndDefersSameKey() throws Exception {
+        var a1 = event(1, "10", "등록");
+        var a2 = event(2, "10", "완료");
+        var b1 = event(3, "20", "등록");
+        var batch = List.of(a1, a2, b1);
+        when(repository.lockNextBatch(any(), anyInt())).thenReturn(batch);
+        when(repository.findAllById(any())).thenReturn(batch);
+        when(kafka.send(anyString(), eq("10"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(kafka.send(anyString(), eq("20"), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        var before = OffsetDateTime.now(ZoneOffset.UTC);
+        relay.drainOnce();
+
+        assertEquals(OutboxStatus.PENDING, a1.getStatus());
+        assertEquals(1, a1.getAttempts());
+        assertTrue(a1.getNextAttemptAt().isAfter(before));
+        assertTrue(a1.getLastError().contains("broker down"));
+        assertEquals(OutboxStatus.PENDING, a2.getStatus());
+        assertEquals(0, a2.getAttempts());
+        assertEquals(OutboxStatus.SENT, b1.getStatus());
+        verify(kafka, never()).send(anyString(), eq("10"),
+                eq(NotificationDto.builder().id(2L).eventId("e2").type("완료").build()));
+        verify(repository).lease(eq(List.of(2L)), any());
+    }
+
+    @Test
+    @DisplayName("maxAttempts에 도달하거나 역직렬화할 수 없으면 FAILED로 보류한다")
+    void parksAfterMaxAttemptsOrPoison() throws Exception {
+        var retried = event(1, "10", "등록");
+        retried.setAttempts(2);
+        var poison = event(2, "20", "등록");
+        poison.setPayloadType("com.example.Missing");
+        var batch = List.of(retried, poison);
+        when(repository.lockNextBatch(any(), anyInt())).thenReturn(batch);
+        when(repository.findAllById(any())).thenReturn(batch);
+        when(kafka.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+
+        relay.drainOnce();
+
+        assertEquals(OutboxStatus.FAILED, retried.getStatus());
+        assertEquals(3, retried.getAttempts());
+        assertEquals(OutboxStatus.FAILED, poison.getStatus());
+        assertEquals(1, poison.getAttempts());
+    }
+
+    @Test
+    @DisplayName("백오프는 base * 2^(attempts-1), 상한 max")
+    void backoffIsExponentialAndCapped() {
+        assertEquals(Duration.ofSeconds(1), relay.backoff(1));
+        assertEquals(Duration.ofSeconds(8), relay.backoff(4));
+        assertEquals(Duration.ofMinutes(5), relay.backoff(30));
+    }
+}
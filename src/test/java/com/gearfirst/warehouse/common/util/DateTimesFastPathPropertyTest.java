@@ -0,0 +1,97 @@
+package com.gearfirst.warehouse.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** 고정 offset fast path가 기존 ZoneId 기반 출력과 항상 같은지 무작위 입력으로 비교한다 */
+class DateTimesFastPathPropertyTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final long FROM = OffsetDateTime.parse("1900-01-01T00:00:00Z").toEpochSecond();
+    private static final long TO = OffsetDateTime.parse("9999-12-31T23:59:59Z").toEpochSecond();
+
+    private static String reference(OffsetDateTime odt) {
+        return odt.atZoneSameInstant(SEOUL).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    private static int randomNano(Random r, int i) {
+        return switch (i % 4) {
+            case 0 -> 0;
+            case 1 -> r.nextInt(1000) * 1_000_000;
+            case 2 -> r.nextInt(1_000_000) * 1000;
+            default -> r.nextInt(1_000_000_000);
+        };
+    }
+
+    @Test
+    @DisplayName("toKstString: 임의 시각/offset/나노초에 대해 기존 포맷과 동일 (1988년 이전 DST·LMT 구간 포함)")
+    void toKstString_matchesZoneIdFormatting() {
+        Random r = new Random(20261019L);
+        for (int i = 0; i < 200_000; i++) {
+            long sec = FROM + (long) (r.nextDouble() * (TO - FROM));
+            var odt = Instant.ofEpochSecond(sec, randomNano(r, i))
+                    .atOffset(ZoneOffset.ofHours(r.nextInt(37) - 18));
+            assertEquals(reference(odt), DateTimes.toKstString(odt), odt::toString);
+        }
+    }
+
+    @Test
+    @DisplayName("toKstString: 경계값 (DST 종료 직전/직후, 자정, 9999년 말 → 10000년)")
+    void toKstString_edgeCases() {
+        String[] samples = {
+                "1988-10-08T15:59:59.999999999Z",
+                "1988-10-08T16:00:00Z",
+                "1988-10-08T17:00:00Z",
+                "1987-05-10T00:00:00Z",
+                "1970-01-01T00:00:00Z",
+                "2025-11-01T14:59:59.999999999Z",
+                "2025-11-01T15:00:00Z",
+                "2026-10-19T03:15:30.120Z",
+                "2026-10-19T03:15:30.000001Z",
+                "9999-12-31T14:59:59Z",
+                "9999-12-31T15:00:00Z",
+        };
+        for (String s : samples) {
+            var odt = OffsetDateTime.parse(s);
+            assertEquals(reference(odt), DateTimes.toKstString(odt), s);
+        }
+    }
+
+    @Test
+    @DisplayName("toKstDate: 임의 UTC LocalDateTime에 대해 ZoneId 변환과 같은 날짜")
+    void toKstDate_matchesZoneIdConversion() {
+        Random r = new Random(7L);
+        for (int i = 0; i < 100_000; i++) {
+            long sec = FROM + (long) (r.nextDouble() * (TO - FROM));
+            var utc = LocalDateTime.ofEpochSecond(sec, randomNano(r, i), ZoneOffset.UTC);
+            var expected = utc.atOffset(ZoneOffset.UTC).atZoneSameInstant(SEOUL).toLocalDate();
+            assertEquals(expected, DateTimes.toKstDate(utc), utc::toString);
+        }
+    }
+
+    @Test
+    @DisplayName("kstDayBounds: 1900~2100 모든 날짜에서 ZoneId 기반 경계와 동일, 반복 조회는 캐시 인스턴스")
+    void kstDayBounds_matchesZoneIdBounds() {
+        for (var d = LocalDate.of(1900, 1, 1); d.getYear() <= 2100; d = d.plusDays(1)) {
+            var b = DateTimes.kstDayBounds(d);
+            var from = d.atStartOfDay(SEOUL).withZoneSameInstant(ZoneOffset.UTC).toOffsetDateTime();
+            var to = d.plusDays(1).atStartOfDay(SEOUL).minusNanos(1)
+                    .withZoneSameInstant(ZoneOffset.UTC).toOffsetDateTime();
+            assertEquals(from, b.fromInclusive(), d::toString);
+            assertEquals(to, b.toInclusive(), d::toString);
+        }
+        var day = LocalDate.of(2026, 10, 19);
+        assertSame(DateTimes.kstDayBounds(day), DateTimes.kstDayBounds(day));
+    }
+}
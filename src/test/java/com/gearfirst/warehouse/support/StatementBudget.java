@@ -0,0 +1,34 @@
+package com.gearfirst.warehouse.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * 테스트 메서드 1회가 실행할 수 있는 JDBC 문장 수 상한. 초과하면 테스트가 실패한다 (N+1/쿼리 증가 방지).
+ * - 측정 구간: @BeforeEach 이후 테스트 본문(검증용 조회 포함). 시작 시 영속성 컨텍스트를 flush/clear 하여
+ *   시드 데이터가 1차 캐시에서 읽히지 않게 하고, 종료 시 flush 하여 지연된 쓰기까지 센다.
+ * - 클래스에 붙이면 모든 테스트에, 메서드에 붙이면 해당 테스트에만 적용된다 (메서드 우선).
+ * - 계측 DataSource가 필요하다: @SpringBootTest는 기본 등록, @DataJpaTest는 @Import(JdbcMetricsConfig.class).
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+
+    int UNLIMITED = -1;
+
+    int select() default UNLIMITED;
+
+    int insert() default UNLIMITED;
+
+    int update() default UNLIMITED;
+
+    int delete() default UNLIMITED;
+
+    int total() default UNLIMITED;
+}
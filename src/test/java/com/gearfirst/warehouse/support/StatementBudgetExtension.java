@@ -0,0 +1,111 @@
+package com.gearfirst.warehouse.support;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.gearfirst.warehouse.common.metrics.StatementCounter;
+import com.gearfirst.warehouse.common.metrics.StatementCounter.Kind;
+import com.gearfirst.warehouse.common.metrics.StatementCountingDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * {@link StatementBudget} 처리기. 테스트 스레드의 {@link StatementCounter} 증가분을 예산과 비교한다.
+ * (MockMvc/서비스 직접 호출은 같은 스레드에서 실행되므로 그대로 집계된다)
+ */
+public class StatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NS = ExtensionContext.Namespace.create(StatementBudgetExtension.class);
+    private static final String START = "start";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (budget(context) == null) {
+            return;
+        }
+        ApplicationContext app = SpringExtension.getApplicationContext(context);
+        if (!(app.getBean(DataSource.class) instanceof StatementCountingDataSource)) {
+            fail("@StatementBudget requires StatementCountingDataSource "
+                    + "(enable warehouse.metrics.jdbc or @Import(JdbcMetricsConfig.class) in slice tests)");
+        }
+        EntityManager em = transactionalEntityManager(app);
+        if (em != null) {
+            em.flush();
+            em.clear();
+        }
+        context.getStore(NS).put(START, snapshot());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        StatementBudget budget = budget(context);
+        @SuppressWarnings("unchecked")
+        Map<Kind, Long> start = context.getStore(NS).remove(START, Map.class);
+        if (budget == null || start == null) {
+            return;
+        }
+        if (context.getExecutionException().isEmpty()) {
+            EntityManager em = transactionalEntityManager(SpringExtension.getApplicationContext(context));
+            if (em != null) {
+                em.flush();
+            }
+        }
+        Map<Kind, Long> end = snapshot();
+        Map<Kind, Long> used = new EnumMap<>(Kind.class);
+        long total = 0;
+        for (Kind k : Kind.values()) {
+            long n = end.get(k) - start.get(k);
+            used.put(k, n);
+            total += n;
+        }
+
+        List<String> exceeded = new ArrayList<>();
+        check(exceeded, "select", used.get(Kind.SELECT), budget.select());
+        check(exceeded, "insert", used.get(Kind.INSERT), budget.insert());
+        check(exceeded, "update", used.get(Kind.UPDATE), budget.update());
+        check(exceeded, "delete", used.get(Kind.DELETE), budget.delete());
+        check(exceeded, "total", total, budget.total());
+        if (!exceeded.isEmpty()) {
+            fail("Statement budget exceeded in " + context.getDisplayName() + ": " + String.join(", ", exceeded)
+                    + " (executed " + used + ")");
+        }
+    }
+
+    private static StatementBudget budget(ExtensionContext context) {
+        return context.getTestMethod()
+                .flatMap(m -> AnnotationSupport.findAnnotation(m, StatementBudget.class))
+                .or(() -> context.getTestClass()
+                        .flatMap(c -> AnnotationSupport.findAnnotation(c, StatementBudget.class)))
+                .orElse(null);
+    }
+
+    private static void check(List<String> exceeded, String label, long used, int limit) {
+        if (limit != StatementBudget.UNLIMITED && used > limit) {
+            exceeded.add(label + " " + used + " > " + limit);
+        }
+    }
+
+    private static Map<Kind, Long> snapshot() {
+        Map<Kind, Long> out = new EnumMap<>(Kind.class);
+        for (Kind k : Kind.values()) {
+            out.put(k, StatementCounter.current(k));
+        }
+        return out;
+    }
+
+    private static EntityManager transactionalEntityManager(ApplicationContext app) {
+        EntityManagerFactory emf = app.getBeanProvider(EntityManagerFactory.class).getIfAvailable();
+        return emf == null ? null : EntityManagerFactoryUtils.getTransactionalEntityManager(emf);
+    }
+}